@@ -0,0 +1,348 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.concurrent.Task;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.util.Callback;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+/**
+ * {@code BackgroundSortPolicy} is a {@link TableView} sort policy that sorts
+ * large tables on a background thread, so that the user interface doesn't
+ * freeze while hundreds of thousands of rows are compared.
+ * <p>
+ * The sort keys are extracted from the sort column on the JavaFX Application
+ * Thread, as the cell values may be bound to properties that are not thread
+ * safe, but that is a single linear pass. The keys are then sorted into a row
+ * permutation in the background, using a primitive rank-based sort for plain
+ * numeric columns and a stable parallel sort otherwise, and the permutation is
+ * applied to the table's items as a single permutation change on the JavaFX
+ * Application Thread.
+ * <p>
+ * A sort request that is superseded by another one, or by a change to the
+ * table's items, is cancelled and its result is discarded.
+ * <p>
+ * NOTE: Only the primary sort column is used, which matches the single-column
+ *  restriction that {@link XTableView} enforces on sorting.
+ *
+ * @param <TD>
+ *            The data type for the table
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class BackgroundSortPolicy< TD > implements Callback< TableView< TD >, Boolean > {
+
+    /**
+     * The shared thread that drives background sorts; the sorting itself may
+     * fan out to the common fork/join pool.
+     */
+    private static final ExecutorService SORT_EXECUTOR = Executors
+            .newSingleThreadExecutor( runnable -> {
+                final Thread thread = new Thread( runnable, "Table Sorter" ); //$NON-NLS-1$
+                thread.setDaemon( true );
+                return thread;
+            } );
+
+    /**
+     * The sort policy to use for tables that are too small to benefit from
+     * sorting in the background, or whose items can't be reordered directly.
+     */
+    private final Callback< TableView< TD >, Boolean > fallbackSortPolicy;
+
+    /**
+     * The minimum number of rows for which the sort is done in the background.
+     */
+    private final int minimumRowCount;
+
+    /**
+     * The count of sort requests and item changes, used to discard the results
+     * of superseded sorts.
+     */
+    private long sortGeneration;
+
+    /**
+     * The sort that is currently running in the background, if any.
+     */
+    private Task< int[] > sortTask;
+
+    /**
+     * Invalidates the current sort if the items change while it is running.
+     */
+    private final ListChangeListener< TD > itemsChangeListener;
+
+    /**
+     * The items list that is being watched for changes during the sort.
+     */
+    private ObservableList< TD > watchedItems;
+
+    /**
+     * Constructs a {@link BackgroundSortPolicy}.
+     *
+     * @param pFallbackSortPolicy
+     *            The sort policy to use for small tables and for tables whose
+     *            items can't be reordered directly
+     * @param pMinimumRowCount
+     *            The minimum number of rows for which the sort is done in the
+     *            background
+     */
+    public BackgroundSortPolicy( final Callback< TableView< TD >, Boolean > pFallbackSortPolicy,
+                                 final int pMinimumRowCount ) {
+        fallbackSortPolicy = pFallbackSortPolicy;
+        minimumRowCount = pMinimumRowCount;
+
+        sortGeneration = 0L;
+        sortTask = null;
+        itemsChangeListener = change -> cancelSort();
+        watchedItems = null;
+    }
+
+    @Override
+    public Boolean call( final TableView< TD > table ) {
+        // Any sort that is still running has now been superseded.
+        cancelSort();
+
+        // Sorted Lists reorder themselves, and small tables sort fast enough.
+        final ObservableList< TD > items = table.getItems();
+        if ( ( items == null ) || ( items instanceof SortedList )
+                || ( items.size() < minimumRowCount ) ) {
+            return fallbackSortPolicy.call( table );
+        }
+
+        // With no sort column, the rows are left in their current order.
+        final List< TableColumn< TD, ? > > sortOrder = table.getSortOrder();
+        if ( sortOrder.isEmpty() ) {
+            return Boolean.TRUE;
+        }
+
+        // Take a snapshot of the rows and their keys, as only the snapshot is
+        // safe to read off the JavaFX Application Thread.
+        final TableColumn< TD, ? > sortColumn = sortOrder.get( 0 );
+        final List< TD > rows = new ArrayList<>( items );
+        final int rowCount = rows.size();
+        final Object[] sortKeys = new Object[ rowCount ];
+        for ( int rowIndex = 0; rowIndex < rowCount; rowIndex++ ) {
+            sortKeys[ rowIndex ] = sortColumn.getCellData( rows.get( rowIndex ) );
+        }
+
+        @SuppressWarnings("unchecked")
+        final Comparator< Object > comparator = 
+                ( Comparator< Object > ) sortColumn.getComparator();
+        final boolean descending = 
+                sortColumn.getSortType() == TableColumn.SortType.DESCENDING;
+
+        final long requestGeneration = sortGeneration;
+        final Task< int[] > task = new Task< int[] >() {
+            @Override
+            protected int[] call() {
+                return sortPermutation( sortKeys, comparator, descending );
+            }
+        };
+
+        task.setOnSucceeded( evt -> {
+            if ( requestGeneration != sortGeneration ) {
+                return;
+            }
+            stopWatchingItems();
+            sortTask = null;
+
+            // Rank each row by its sorted position, and then apply the ranks
+            // as a single permutation of the items, so that the selection,
+            // the focus and any indices that track the rows are carried along
+            // with them rather than being reset as for a replacement.
+            final int[] permutation = task.getValue();
+            final Map< TD, Integer > sortedPositions = new IdentityHashMap<>( rowCount );
+            for ( int position = 0; position < rowCount; position++ ) {
+                sortedPositions.put( rows.get( permutation[ position ] ),
+                                     Integer.valueOf( position ) );
+            }
+            FXCollections.sort( items,
+                                Comparator.comparingInt( row -> sortedPositions
+                                        .get( row ).intValue() ) );
+        } );
+
+        watchedItems = items;
+        watchedItems.addListener( itemsChangeListener );
+        sortTask = task;
+        SORT_EXECUTOR.execute( task );
+
+        return Boolean.TRUE;
+    }
+
+    private void cancelSort() {
+        sortGeneration++;
+        stopWatchingItems();
+
+        if ( sortTask != null ) {
+            sortTask.cancel();
+            sortTask = null;
+        }
+    }
+
+    private void stopWatchingItems() {
+        if ( watchedItems != null ) {
+            watchedItems.removeListener( itemsChangeListener );
+            watchedItems = null;
+        }
+    }
+
+    /**
+     * Returns the permutation that sorts the supplied keys, as the original
+     * row index for each sorted position. The sort is stable, so rows with
+     * equal keys keep their current relative order.
+     *
+     * @param sortKeys
+     *            The sort keys, one per row
+     * @param comparator
+     *            The comparator for the sort keys
+     * @param descending
+     *            {@code true} if the keys should be in descending order
+     * @return The permutation that sorts the supplied keys
+     */
+    static int[] sortPermutation( final Object[] sortKeys,
+                                  final Comparator< Object > comparator,
+                                  final boolean descending ) {
+        if ( ( comparator == TableColumn.DEFAULT_COMPARATOR )
+                && isPrimitiveNumeric( sortKeys ) ) {
+            return sortNumericPermutation( sortKeys, descending );
+        }
+
+        final Integer[] permutation = new Integer[ sortKeys.length ];
+        for ( int rowIndex = 0; rowIndex < permutation.length; rowIndex++ ) {
+            permutation[ rowIndex ] = Integer.valueOf( rowIndex );
+        }
+
+        final Comparator< Integer > rowComparator = ( row1, row2 ) -> comparator
+                .compare( sortKeys[ row1.intValue() ], sortKeys[ row2.intValue() ] );
+        Arrays.parallelSort( permutation,
+                             descending ? rowComparator.reversed() : rowComparator );
+
+        final int[] rowOrder = new int[ permutation.length ];
+        for ( int i = 0; i < rowOrder.length; i++ ) {
+            rowOrder[ i ] = permutation[ i ].intValue();
+        }
+
+        return rowOrder;
+    }
+
+    /**
+     * Returns {@code true} if all of the keys are non-null numbers of the same
+     * type, that convert to {@code double} without loss of ordering.
+     */
+    private static boolean isPrimitiveNumeric( final Object[] sortKeys ) {
+        if ( sortKeys.length == 0 ) {
+            return false;
+        }
+
+        final Object firstKey = sortKeys[ 0 ];
+        if ( !( ( firstKey instanceof Double ) || ( firstKey instanceof Float )
+                || ( firstKey instanceof Integer ) || ( firstKey instanceof Short )
+                || ( firstKey instanceof Byte ) ) ) {
+            return false;
+        }
+
+        final Class< ? > keyClass = firstKey.getClass();
+        for ( final Object sortKey : sortKeys ) {
+            if ( ( sortKey == null ) || ( sortKey.getClass() != keyClass ) ) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the stable sort permutation for numeric keys, by ranking each
+     * key among the sorted distinct values and then counting rows per rank,
+     * which avoids boxing and per-comparison virtual calls entirely.
+     */
+    private static int[] sortNumericPermutation( final Object[] sortKeys,
+                                                 final boolean descending ) {
+        final int rowCount = sortKeys.length;
+        final double[] values = new double[ rowCount ];
+        for ( int rowIndex = 0; rowIndex < rowCount; rowIndex++ ) {
+            values[ rowIndex ] = ( ( Number ) sortKeys[ rowIndex ] ).doubleValue();
+        }
+
+        // Sort a copy of the values and squeeze out duplicates.
+        final double[] distinctValues = values.clone();
+        Arrays.parallelSort( distinctValues );
+        int distinctCount = 0;
+        for ( int i = 0; i < rowCount; i++ ) {
+            if ( ( i == 0 ) || ( Double.compare( distinctValues[ i ],
+                                                 distinctValues[ distinctCount - 1 ] ) != 0 ) ) {
+                distinctValues[ distinctCount++ ] = distinctValues[ i ];
+            }
+        }
+
+        // Rank each row by where its value sits among the distinct values.
+        final int numberOfRanks = distinctCount;
+        final int[] ranks = new int[ rowCount ];
+        IntStream.range( 0, rowCount ).parallel().forEach( rowIndex -> {
+            final int rank = Arrays.binarySearch( distinctValues,
+                                                  0,
+                                                  numberOfRanks,
+                                                  values[ rowIndex ] );
+            ranks[ rowIndex ] = descending ? ( numberOfRanks - 1 - rank ) : rank;
+        } );
+
+        // Place the rows by rank, in their original order within each rank.
+        final int[] rankStarts = new int[ numberOfRanks + 1 ];
+        for ( final int rank : ranks ) {
+            rankStarts[ rank + 1 ]++;
+        }
+        for ( int rank = 0; rank < numberOfRanks; rank++ ) {
+            rankStarts[ rank + 1 ] += rankStarts[ rank ];
+        }
+        final int[] rowOrder = new int[ rowCount ];
+        for ( int rowIndex = 0; rowIndex < rowCount; rowIndex++ ) {
+            rowOrder[ rankStarts[ ranks[ rowIndex ] ]++ ] = rowIndex;
+        }
+
+        return rowOrder;
+    }
+}
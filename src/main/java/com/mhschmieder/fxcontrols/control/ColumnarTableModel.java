@@ -0,0 +1,359 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code ColumnarTableModel} is a column-oriented backing store for read-only
+ * tables of text-based data, such as the contents of a CSV file.
+ * <p>
+ * Each column is stored as a single array of {@link String} references, and
+ * the cell values are de-duplicated through a string pool while loading, as
+ * delimited data files tend to repeat the same values many times per column.
+ * <p>
+ * The rows that the {@link javafx.scene.control.TableView} sees are just
+ * lightweight index views into the column arrays, so that the heap cost of a
+ * table is close to the cost of its distinct cell values rather than a list
+ * object per row.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class ColumnarTableModel extends TextTableModel {
+
+    /**
+     * The initial number of rows allocated per column, when not known.
+     */
+    private static final int DEFAULT_ROW_CAPACITY = 256;
+
+    /**
+     * The maximum number of distinct strings held by the string pool; beyond
+     * this, new values are stored as-is, as high-cardinality columns (such as
+     * unique identifiers) would otherwise just bloat the pool.
+     */
+    private static final int MAXIMUM_POOL_SIZE = 1 << 16;
+
+    /**
+     * The cell values, indexed first by column and then by row.
+     */
+    private String[][] columns;
+
+    /**
+     * The number of rows currently allocated in each column array.
+     */
+    private int rowCapacity;
+
+    /**
+     * The number of rows that have been appended to this model.
+     */
+    private int rowCount;
+
+    /**
+     * The number of columns, which is the width of the widest row so far.
+     */
+    private int columnCount;
+
+    /**
+     * The pool of distinct cell values, used to share repeated strings.
+     */
+    private Map< String, String > stringPool;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an initially empty {@link ColumnarTableModel}.
+     *
+     * @since 1.0
+     */
+    public ColumnarTableModel() {
+        this( DEFAULT_ROW_CAPACITY );
+    }
+
+    /**
+     * Constructs an initially empty {@link ColumnarTableModel} with room for
+     * the specified number of rows before the column arrays need to grow.
+     *
+     * @param initialRowCapacity
+     *            The number of rows to allocate space for up front
+     *
+     * @since 1.0
+     */
+    public ColumnarTableModel( final int initialRowCapacity ) {
+        // Always call the superclass constructor first!
+        super();
+
+        columns = new String[ 0 ][];
+        rowCapacity = Math.max( 1, initialRowCapacity );
+        rowCount = 0;
+        columnCount = 0;
+        stringPool = new HashMap<>();
+    }
+
+    /**
+     * Constructs a {@link ColumnarTableModel} from the supplied data rows.
+     *
+     * @param dataRows
+     *            The data rows to copy into the columnar store; the rows do not
+     *            need to be padded to the same width
+     *
+     * @since 1.0
+     */
+    public ColumnarTableModel( final Collection< ? extends Collection< String > > dataRows ) {
+        this( dataRows.size() );
+
+        appendRows( dataRows );
+    }
+
+    /**
+     * Constructs a detached {@link ColumnarTableModel} over the specified
+     * column arrays, which are taken over rather than copied.
+     */
+    private ColumnarTableModel( final String[][] pColumns,
+                                final int pRowCount,
+                                final int pColumnCount ) {
+        // Always call the superclass constructor first!
+        super();
+
+        columns = pColumns;
+        rowCapacity = pRowCount;
+        rowCount = pRowCount;
+        columnCount = pColumnCount;
+        stringPool = new HashMap<>();
+    }
+
+    /////////////////// TextTableModel method overrides ///////////////////////
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String getCell( final int rowIndex, final int columnIndex ) {
+        if ( ( rowIndex < 0 ) || ( rowIndex >= rowCount ) ) {
+            throw new IndexOutOfBoundsException( "Row index: " + rowIndex
+                    + ", Row count: " + rowCount );
+        }
+        if ( ( columnIndex < 0 ) || ( columnIndex >= columnCount ) ) {
+            return "";
+        }
+
+        final String cellValue = columns[ columnIndex ][ rowIndex ];
+        return ( cellValue != null ) ? cellValue : "";
+    }
+
+    @Override
+    CellSnapshot makeSnapshot() {
+        // The column arrays are only ever appended to past the row count, or
+        // replaced by copies, so the current ones stay valid for these rows.
+        final String[][] snapshotColumns = Arrays.copyOf( columns, columnCount );
+        final int snapshotRowCount = rowCount;
+
+        return new CellSnapshot() {
+            @Override
+            public int getRowCount() {
+                return snapshotRowCount;
+            }
+
+            @Override
+            public int getColumnCount() {
+                return snapshotColumns.length;
+            }
+
+            @Override
+            public String getCell( final int rowIndex, final int columnIndex ) {
+                final String cellValue = snapshotColumns[ columnIndex ][ rowIndex ];
+                return ( cellValue != null ) ? cellValue : ""; //$NON-NLS-1$
+            }
+        };
+    }
+
+    ////////////////////// Model manipulation methods ////////////////////////
+
+    /**
+     * Appends the supplied data row to the end of this model, widening the
+     * model if this row has more cells than any previous row.
+     *
+     * @param dataRow
+     *            The cell values for the new row, in column order
+     *
+     * @since 1.0
+     */
+    public void appendRow( final Collection< String > dataRow ) {
+        final int firstRowIndex = rowCount;
+        storeRow( dataRow );
+        fireRowsAdded( firstRowIndex, rowCount );
+    }
+
+    /**
+     * Appends the supplied data rows to the end of this model, as a single
+     * change to the observable row list.
+     *
+     * @param dataRows
+     *            The data rows to append, in row order
+     *
+     * @since 1.0
+     */
+    public void appendRows( final Collection< ? extends Collection< String > > dataRows ) {
+        final int firstRowIndex = rowCount;
+        ensureRowCapacity( rowCount + dataRows.size() );
+        for ( final Collection< String > dataRow : dataRows ) {
+            storeRow( dataRow );
+        }
+        fireRowsAdded( firstRowIndex, rowCount );
+    }
+
+    /**
+     * Trims the column arrays to the current row count and releases the
+     * string pool, once no more rows are expected to be appended.
+     * <p>
+     * Rows can still be appended afterwards, but without de-duplication
+     * against the values that were already loaded.
+     *
+     * @since 1.0
+     */
+    public void compact() {
+        if ( rowCapacity > rowCount ) {
+            rowCapacity = Math.max( 1, rowCount );
+            for ( int columnIndex = 0; columnIndex < columnCount; columnIndex++ ) {
+                columns[ columnIndex ] = Arrays.copyOf( columns[ columnIndex ],
+                                                        rowCapacity );
+            }
+        }
+
+        stringPool = new HashMap<>();
+    }
+
+    /**
+     * Replaces the rows of this model with the rows of the source model, and
+     * notifies the observers of the row list with just the changes in the
+     * supplied row difference, so that a table keeps its scroll position and
+     * selection for the rows that were kept or updated.
+     * <p>
+     * The source model's storage is taken over rather than copied, so the
+     * source model must not be used afterwards.
+     *
+     * @param source
+     *            The model to take the new rows from
+     * @param rowDiff
+     *            The difference between the rows of this model and the rows
+     *            of the source model
+     *
+     * @since 1.0
+     */
+    void replaceRows( final ColumnarTableModel source, final TableRowDiff rowDiff ) {
+        // Hold on to the old storage, so the removed rows can be reported.
+        final ColumnarTableModel previousModel = new ColumnarTableModel( columns,
+                                                                         rowCount,
+                                                                         columnCount );
+
+        columns = source.columns;
+        rowCapacity = source.rowCapacity;
+        rowCount = source.rowCount;
+        columnCount = source.columnCount;
+        stringPool = source.stringPool;
+
+        fireRowsChanged( rowDiff, previousModel.getRows() );
+    }
+
+    private void storeRow( final Collection< String > dataRow ) {
+        ensureRowCapacity( rowCount + 1 );
+        ensureColumnCount( dataRow.size() );
+
+        final int rowIndex = rowCount;
+        int columnIndex = 0;
+        for ( final String cellValue : dataRow ) {
+            columns[ columnIndex++ ][ rowIndex ] = pool( cellValue );
+        }
+
+        rowCount++;
+    }
+
+    private String pool( final String cellValue ) {
+        if ( cellValue == null ) {
+            return null;
+        }
+
+        final String pooledValue = stringPool.get( cellValue );
+        if ( pooledValue != null ) {
+            return pooledValue;
+        }
+
+        if ( stringPool.size() < MAXIMUM_POOL_SIZE ) {
+            stringPool.put( cellValue, cellValue );
+        }
+
+        return cellValue;
+    }
+
+    private void ensureRowCapacity( final int minimumRowCapacity ) {
+        if ( minimumRowCapacity <= rowCapacity ) {
+            return;
+        }
+
+        // Grow by half again, as with ArrayList, to amortize the copying.
+        rowCapacity = Math.max( minimumRowCapacity,
+                                rowCapacity + ( rowCapacity >> 1 ) );
+        for ( int columnIndex = 0; columnIndex < columnCount; columnIndex++ ) {
+            columns[ columnIndex ] = Arrays.copyOf( columns[ columnIndex ],
+                                                    rowCapacity );
+        }
+    }
+
+    private void ensureColumnCount( final int minimumColumnCount ) {
+        if ( minimumColumnCount <= columnCount ) {
+            return;
+        }
+
+        // New columns start out blank for all of the rows loaded so far.
+        if ( minimumColumnCount > columns.length ) {
+            columns = Arrays.copyOf( columns,
+                                     Math.max( minimumColumnCount,
+                                               columns.length * 2 ) );
+        }
+        for ( int columnIndex = columnCount; columnIndex < minimumColumnCount; columnIndex++ ) {
+            columns[ columnIndex ] = new String[ rowCapacity ];
+        }
+
+        columnCount = minimumColumnCount;
+    }
+}
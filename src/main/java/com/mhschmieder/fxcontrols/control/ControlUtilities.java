@@ -60,7 +60,6 @@ import javafx.scene.control.Tooltip;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundFill;
 import javafx.scene.layout.CornerRadii;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
@@ -112,6 +111,13 @@ public class ControlUtilities {
      */
     public static final double                          DEFAULT_ICON_INSET              = 4;
 
+    /**
+     * The corner radius for custom button backgrounds, designed to give
+     * slightly rounded corners.
+     */
+    private static final CornerRadii                    BUTTON_CORNER_RADII             =
+            new CornerRadii( 3 );
+
     /**
      *
      */
@@ -755,10 +761,11 @@ public class ControlUtilities {
             return null;
         }
 
-        return new Background( new BackgroundFill(
-                backColor,
-                new CornerRadii( 3 ),
-                Insets.EMPTY ) );
+        // NOTE: The background is shared via the Region Utilities cache, as
+        //  this is invoked on every update of table cells that host buttons.
+        return RegionUtilities.makeRegionBackground( backColor,
+                                                     BUTTON_CORNER_RADII,
+                                                     Insets.EMPTY );
     }
 
     /**
@@ -0,0 +1,200 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import com.mhschmieder.fxcontrols.util.DelimitedTextReader;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * {@code DataTableLoadTask} parses a delimited text file on a background
+ * thread and hands the parsed rows to the JavaFX Application Thread in
+ * bounded batches, so that the first rows of a large file are displayed
+ * almost immediately and the rest stream in while the user is looking.
+ * <p>
+ * The batches start small, to get the first screenful up quickly, and then
+ * double in size to reduce the number of hand-offs for the rest of the file.
+ * Only a few batches are allowed to be in flight at a time, so that a fast
+ * reader cannot flood the event queue faster than the table can take rows.
+ * <p>
+ * Progress is reported as the fraction of the file that has been read, and
+ * the standard {@link Task#cancel()} stops the reader and discards any
+ * batches that haven't been applied yet.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class DataTableLoadTask extends Task< Integer > {
+
+    /**
+     * The number of rows in the first batch, which is about a screenful.
+     */
+    private static final int FIRST_BATCH_SIZE = 64;
+
+    /**
+     * The maximum number of rows in a batch, once the load is under way.
+     */
+    private static final int MAXIMUM_BATCH_SIZE = 8192;
+
+    /**
+     * The maximum number of batches waiting on the JavaFX Application Thread.
+     */
+    private static final int MAXIMUM_PENDING_BATCHES = 4;
+
+    /**
+     * The delimited text file to load.
+     */
+    private final File file;
+
+    /**
+     * The character that separates the cells of a row.
+     */
+    private final char delimiter;
+
+    /**
+     * The character set of the delimited text file.
+     */
+    private final Charset charset;
+
+    /**
+     * The consumer of each batch of rows, invoked on the JavaFX Application
+     * Thread.
+     */
+    private final Consumer< List< List< String > > > batchConsumer;
+
+    /**
+     * The permits for batches that have been posted but not yet applied.
+     */
+    private final Semaphore pendingBatches;
+
+    /**
+     * Constructs a {@link DataTableLoadTask} for the specified file.
+     *
+     * @param pFile
+     *            The delimited text file to load
+     * @param pDelimiter
+     *            The character that separates the cells of a row
+     * @param pCharset
+     *            The character set of the delimited text file
+     * @param pBatchConsumer
+     *            The consumer of each batch of rows, which is always invoked
+     *            on the JavaFX Application Thread
+     */
+    public DataTableLoadTask( final File pFile,
+                              final char pDelimiter,
+                              final Charset pCharset,
+                              final Consumer< List< List< String > > > pBatchConsumer ) {
+        // Always call the superclass constructor first!
+        super();
+
+        file = pFile;
+        delimiter = pDelimiter;
+        charset = pCharset;
+        batchConsumer = pBatchConsumer;
+
+        pendingBatches = new Semaphore( MAXIMUM_PENDING_BATCHES );
+    }
+
+    /**
+     * Returns the total number of rows that were read from the file.
+     *
+     * @return The total number of rows that were read from the file
+     */
+    @Override
+    protected Integer call() throws Exception {
+        final long fileSize = file.length();
+        int rowCount = 0;
+
+        try ( final FileInputStream inputStream = new FileInputStream( file );
+                final DelimitedTextReader reader = new DelimitedTextReader(
+                        new InputStreamReader( inputStream, charset ),
+                        delimiter ) ) {
+            // The channel position tracks how many bytes the decoder has
+            // consumed so far, which is close enough for progress reporting.
+            final FileChannel channel = inputStream.getChannel();
+
+            int batchSize = FIRST_BATCH_SIZE;
+            List< List< String > > batch = new ArrayList<>( batchSize );
+            List< String > row;
+            while ( !isCancelled() && ( ( row = reader.readRow() ) != null ) ) {
+                batch.add( row );
+
+                if ( batch.size() >= batchSize ) {
+                    postBatch( batch );
+                    rowCount += batch.size();
+                    updateProgress( channel.position(), fileSize );
+
+                    batchSize = Math.min( batchSize * 2, MAXIMUM_BATCH_SIZE );
+                    batch = new ArrayList<>( batchSize );
+                }
+            }
+
+            if ( !isCancelled() && !batch.isEmpty() ) {
+                postBatch( batch );
+                rowCount += batch.size();
+            }
+        }
+
+        updateProgress( fileSize, fileSize );
+
+        return Integer.valueOf( rowCount );
+    }
+
+    private void postBatch( final List< List< String > > batch )
+            throws InterruptedException {
+        // Block the reader if the table is falling behind. Cancellation
+        // interrupts the reader, which ends the load here if it is waiting.
+        pendingBatches.acquire();
+
+        Platform.runLater( () -> {
+            try {
+                // Discard any batches that were still queued when cancelled.
+                if ( !isCancelled() ) {
+                    batchConsumer.accept( batch );
+                }
+            }
+            finally {
+                pendingBatches.release();
+            }
+        } );
+    }
+}
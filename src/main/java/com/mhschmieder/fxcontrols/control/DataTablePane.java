@@ -0,0 +1,106 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import javafx.scene.control.ScrollBar;
+import javafx.scene.layout.BorderPane;
+
+/**
+ * {@code DataTablePane} hosts a {@link DataTableView} along with the scroll
+ * bar that scrolls through its data columns in wide table mode, which is laid
+ * out below the table, and only takes up room while it is showing.
+ * <p>
+ * Tables that are never put in wide table mode don't need this pane, and can
+ * be laid out by themselves.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class DataTablePane extends BorderPane {
+
+    // The table that is hosted by this pane.
+    private final DataTableView dataTableView;
+
+    /**
+     * Constructs a {@link DataTablePane} that hosts a new, empty
+     * {@link DataTableView}.
+     *
+     * @since 1.0
+     */
+    public DataTablePane() {
+        this( new DataTableView() );
+    }
+
+    /**
+     * Constructs a {@link DataTablePane} that hosts the specified
+     * {@link DataTableView}.
+     *
+     * @param pDataTableView
+     *            The table to host
+     *
+     * @since 1.0
+     */
+    public DataTablePane( final DataTableView pDataTableView ) {
+        // Always call the superclass constructor first!
+        super();
+
+        dataTableView = pDataTableView;
+
+        try {
+            initPane();
+        }
+        catch ( final Exception ex ) {
+            ex.printStackTrace();
+        }
+    }
+
+    private void initPane() {
+        setCenter( dataTableView );
+
+        // The column scroll bar hides itself when all columns fit, and then
+        // shouldn't leave a gap below the table.
+        final ScrollBar columnScrollBar = dataTableView.getColumnScrollBar();
+        columnScrollBar.managedProperty().bind( columnScrollBar.visibleProperty() );
+        setBottom( columnScrollBar );
+    }
+
+    /**
+     * Returns the table that is hosted by this pane.
+     *
+     * @return The table that is hosted by this pane
+     *
+     * @since 1.0
+     */
+    public DataTableView getDataTableView() {
+        return dataTableView;
+    }
+}
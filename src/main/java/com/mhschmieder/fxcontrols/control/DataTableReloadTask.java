@@ -0,0 +1,170 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import javafx.concurrent.Task;
+
+import java.util.concurrent.Callable;
+
+/**
+ * {@code DataTableReloadTask} reads a new version of the rows of a data table
+ * on a background thread, and works out the row difference from the rows the
+ * table already has, so that the table only needs to apply the rows that were
+ * actually updated, removed or inserted when the task succeeds.
+ * <p>
+ * The current model is only read by this task, and must not be modified by
+ * anyone until the task is done; the table cancels any background load before
+ * starting a reload, and checks that the model is unchanged before applying
+ * the difference.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+final class DataTableReloadTask extends Task< Integer > {
+
+    /**
+     * The model whose rows are being reloaded, or {@code null} to just read
+     * the new rows without working out the difference.
+     */
+    private final ColumnarTableModel currentModel;
+
+    /**
+     * The number of rows of the current model as of the start of the reload.
+     */
+    private final int currentRowCount;
+
+    /**
+     * The index of the column that identifies a row, or -1 to identify rows
+     * by their entire contents.
+     */
+    private final int keyColumn;
+
+    /**
+     * The reader that makes the model holding the new version of the rows.
+     */
+    private final Callable< ColumnarTableModel > modelReader;
+
+    /**
+     * The model holding the new version of the rows, once read.
+     */
+    private volatile ColumnarTableModel reloadedModel;
+
+    /**
+     * The difference between the current rows and the new rows, once known.
+     */
+    private volatile TableRowDiff rowDiff;
+
+    /**
+     * Constructs a {@link DataTableReloadTask} for the specified model.
+     *
+     * @param pCurrentModel
+     *            The model whose rows are being reloaded, or {@code null} to
+     *            just read the new rows without working out the difference
+     * @param pKeyColumn
+     *            The index of the column that identifies a row, or -1 to
+     *            identify rows by their entire contents
+     * @param pModelReader
+     *            The reader that makes the model holding the new version of
+     *            the rows, which is invoked on the background thread
+     */
+    DataTableReloadTask( final ColumnarTableModel pCurrentModel,
+                         final int pKeyColumn,
+                         final Callable< ColumnarTableModel > pModelReader ) {
+        // Always call the superclass constructor first!
+        super();
+
+        currentModel = pCurrentModel;
+        currentRowCount = ( currentModel != null ) ? currentModel.getRowCount() : 0;
+        keyColumn = pKeyColumn;
+        modelReader = pModelReader;
+    }
+
+    /**
+     * Returns the number of rows that were updated, removed or inserted, or
+     * the number of new rows if the difference was not worked out.
+     *
+     * @return The number of rows that were updated, removed or inserted
+     */
+    @Override
+    protected Integer call() throws Exception {
+        final ColumnarTableModel newModel = modelReader.call();
+
+        // Release the string pool, as no more rows will be added.
+        newModel.compact();
+        reloadedModel = newModel;
+
+        if ( ( currentModel == null ) || isCancelled() ) {
+            return Integer.valueOf( newModel.getRowCount() );
+        }
+
+        final TableRowDiff newRowDiff = TableRowDiff.compute( currentModel,
+                                                              currentRowCount,
+                                                              newModel,
+                                                              keyColumn,
+                                                              this::isCancelled );
+        rowDiff = newRowDiff;
+
+        return Integer.valueOf( ( newRowDiff != null )
+            ? newRowDiff.getChangedRowCount()
+            : newModel.getRowCount() );
+    }
+
+    /**
+     * Returns the model whose rows are being reloaded.
+     *
+     * @return The model whose rows are being reloaded, or {@code null} if the
+     *         difference is not being worked out
+     */
+    ColumnarTableModel getCurrentModel() {
+        return currentModel;
+    }
+
+    /**
+     * Returns the model holding the new version of the rows.
+     *
+     * @return The model holding the new version of the rows, or {@code null}
+     *         if the rows haven't been read yet
+     */
+    ColumnarTableModel getReloadedModel() {
+        return reloadedModel;
+    }
+
+    /**
+     * Returns the difference between the current rows and the new rows.
+     *
+     * @return The difference between the current rows and the new rows, or
+     *         {@code null} if it wasn't worked out
+     */
+    TableRowDiff getRowDiff() {
+        return rowDiff;
+    }
+}
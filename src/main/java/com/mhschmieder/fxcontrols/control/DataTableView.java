@@ -30,19 +30,39 @@
  */
 package com.mhschmieder.fxcontrols.control;
 
-import com.mhschmieder.jcommons.util.GlobalUtilities;
+import com.mhschmieder.fxcontrols.util.DelimitedTextReader;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
 import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
-import javafx.collections.FXCollections;
+import javafx.beans.value.ObservableValueBase;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.control.ScrollBar;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableColumn.CellDataFeatures;
+import javafx.scene.control.TablePosition;
 import javafx.scene.control.TableView;
+import javafx.scene.control.TableView.TableViewSelectionModel;
+import javafx.scene.input.ScrollEvent;
 import javafx.util.Callback;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 /**
  * The Data Table View is designed as as read-only table viewer for tabular data
@@ -55,10 +75,77 @@ import java.util.List;
  */
 public class DataTableView extends XTableView< ObservableList< String > > {
 
+    // Read reloaded files in batches of this many rows.
+    private static final int BATCH_SIZE = 8192;
+
+    // The width of every column in wide table mode, which keeps the number of
+    // columns that fit the viewport simple to work out.
+    private static final double WIDE_COLUMN_WIDTH = 100.0d;
+
+    // The number of columns that are materialized beyond the viewport in wide
+    // table mode, to cover partially visible columns.
+    private static final int COLUMN_OVERSCAN = 2;
+
+    // Keep track of the background load, if any, so that it can be cancelled.
+    private Task< Integer > loadTask;
+
+    // Keep track of the current table model, so we can follow its width.
+    private TextTableModel tableModel;
+
+    // Add columns when the current table model turns out to be wider.
+    private final ChangeListener< Number > columnCountListener;
+
+    // Flag for whether the columns are auto-fitted to their contents.
+    private boolean columnAutoFitEnabled;
+
+    // The number of data columns, which in wide table mode can be far more
+    // than the number of table columns.
+    private int dataColumnCount;
+
+    // Flag for whether only the columns in view are materialized.
+    private boolean wideTableModeEnabled;
+
+    // The number of leading data columns that stay in view in wide table mode.
+    private int pinnedColumnCount;
+
+    // The data column that the first scrolled column shows in wide table mode.
+    private final ReadOnlyIntegerWrapper firstScrolledColumn;
+
+    // The columns that follow the pinned columns in wide table mode, which are
+    // pointed at other data columns as the user scrolls.
+    private final List< TableColumn< ObservableList< String >, String > > scrolledColumns;
+
+    // The scroll bar that spans all of the data columns in wide table mode,
+    // which is laid out below the table by the pane that hosts it.
+    private final ScrollBar columnScrollBar;
+
+    // The vertical scroll bar of the rows, if the skin has made one, which
+    // takes up some of the width that the columns are laid out in.
+    private ScrollBar rowScrollBar;
+
+    // Update the scrolled columns when the width that they fit in changes.
+    private final InvalidationListener viewportWidthListener;
+
     public DataTableView() {
         // Always call the superclass constructor first!
         super();
 
+        columnCountListener = ( observable, oldValue, newValue ) -> 
+                appendTableColumns( newValue.intValue() );
+        columnAutoFitEnabled = false;
+        dataColumnCount = 0;
+        wideTableModeEnabled = false;
+        pinnedColumnCount = 0;
+        firstScrolledColumn = new ReadOnlyIntegerWrapper( 0 );
+        scrolledColumns = new ArrayList<>();
+        columnScrollBar = new ScrollBar();
+        rowScrollBar = null;
+        viewportWidthListener = observable -> {
+            if ( wideTableModeEnabled ) {
+                updateScrolledColumns();
+            }
+        };
+
         // Make an initially empty table that gets filled later by CSV file data.
         initTable();
     }
@@ -72,86 +159,816 @@ public class DataTableView extends XTableView< ObservableList< String > > {
         // NOTE: Once we pass in or set a size, leave room for scroll bars.
         // setPrefSize( 760, 340 );
         setColumnResizePolicy( TableView.CONSTRAINED_RESIZE_POLICY );     
+
+        // The column scroll bar is only shown when it has something to do.
+        columnScrollBar.setOrientation( Orientation.HORIZONTAL );
+        columnScrollBar.setUnitIncrement( 1.0d );
+        columnScrollBar.setVisible( false );
+        columnScrollBar.valueProperty().addListener( ( observable, oldValue, newValue ) -> 
+                scrollColumns( pinnedColumnCount + ( int ) Math.round( newValue.doubleValue() ) ) );
+
+        // The scrolled cells follow the first scrolled column by themselves,
+        // but the headers and the selected cells have to be moved along.
+        firstScrolledColumn.addListener( ( observable, oldValue, newValue ) -> {
+            updateScrolledColumnHeaders();
+            remapScrolledCellSelection( oldValue.intValue(), newValue.intValue() );
+        } );
+
+        // The number of scrolled columns follows the width of the table, less
+        // the vertical scroll bar of the rows while it is showing.
+        widthProperty().addListener( viewportWidthListener );
+        skinProperty().addListener( ( observable, oldSkin, newSkin ) -> 
+                updateRowScrollBar() );
+
+        // Horizontal scroll gestures move through the columns, as the table
+        // itself is only about as wide as its viewport in wide table mode.
+        addEventFilter( ScrollEvent.SCROLL, scrollEvent -> {
+            if ( !wideTableModeEnabled || !columnScrollBar.isVisible() ) {
+                return;
+            }
+            final double delta = ( scrollEvent.getDeltaX() != 0.0d ) 
+                ? scrollEvent.getDeltaX()
+                : scrollEvent.isShiftDown() ? scrollEvent.getDeltaY() : 0.0d;
+            if ( delta == 0.0d ) {
+                return;
+            }
+            final double value = columnScrollBar.getValue() - Math.signum( delta );
+            columnScrollBar.setValue( Math.max( columnScrollBar.getMin(),
+                                                Math.min( columnScrollBar.getMax(), value ) ) );
+            scrollEvent.consume();
+        } );
+    }
+
+    /**
+     * Sets whether the columns are auto-fitted to their contents whenever the
+     * contents are replaced, or a load is done, rather than sharing the width
+     * of the table equally.
+     * <p>
+     * Auto-fitting only measures a sample of the rows, so it is quick even for
+     * very large tables; the widths are then left alone as rows stream in or
+     * are reloaded in place, so that the columns don't jump around while the
+     * user is looking.
+     *
+     * @param pColumnAutoFitEnabled
+     *            {@code true} if the columns should be auto-fitted
+     *
+     * @since 1.0
+     */
+    public void setColumnAutoFitEnabled( final boolean pColumnAutoFitEnabled ) {
+        columnAutoFitEnabled = pColumnAutoFitEnabled;
+
+        updateColumnResizePolicy();
+
+        fitColumns();
+    }
+
+    private void updateColumnResizePolicy() {
+        // The constrained policy would override the fitted or fixed widths.
+        setColumnResizePolicy( ( columnAutoFitEnabled || wideTableModeEnabled )
+            ? TableView.UNCONSTRAINED_RESIZE_POLICY
+            : TableView.CONSTRAINED_RESIZE_POLICY );
+    }
+
+    private void fitColumns() {
+        // Wide table mode relies on all of the columns having the same width.
+        if ( columnAutoFitEnabled && !wideTableModeEnabled ) {
+            autoFitColumns();
+        }
+    }
+
+    /**
+     * Sets whether this table is in wide table mode, where only the columns
+     * that are in view are materialized as table columns, so that tables with
+     * thousands of columns are as quick to lay out as narrow tables.
+     * <p>
+     * In wide table mode, all columns have the same fixed width, and the
+     * columns that follow the pinned leading columns are scrolled through in
+     * whole columns via the column scroll bar, which spans all of the data
+     * columns; the pinned columns always stay in view. Horizontal scroll
+     * gestures over the table also scroll the columns.
+     * <p>
+     * Exports, and copies of entire rows, still cover all of the data columns,
+     * as they read them from the rows rather than from the table columns.
+     * <p>
+     * NOTE: The column scroll bar is laid out below the table when it is shown
+     *  in a {@link DataTablePane}, and hides itself when all columns fit.
+     *  Auto-fitting is ignored in this mode, as all of
+     *  the columns have the same width.
+     *
+     * @param pWideTableModeEnabled
+     *            {@code true} if only the columns in view should be
+     *            materialized
+     * @param pPinnedColumnCount
+     *            The number of leading columns that always stay in view
+     *
+     * @since 1.0
+     */
+    public void setWideTableMode( final boolean pWideTableModeEnabled,
+                                  final int pPinnedColumnCount ) {
+        wideTableModeEnabled = pWideTableModeEnabled;
+        pinnedColumnCount = Math.max( 0, pPinnedColumnCount );
+
+        updateColumnResizePolicy();
+
+        // Rebuild the columns for the new mode, keeping the same data.
+        updateTableColumns( dataColumnCount );
+        fitColumns();
+    }
+
+    /**
+     * Returns {@code true} if this table is in wide table mode.
+     *
+     * @return {@code true} if only the columns in view are materialized
+     *
+     * @since 1.0
+     */
+    public boolean isWideTableModeEnabled() {
+        return wideTableModeEnabled;
+    }
+
+    /**
+     * Returns the data column that the first scrolled column shows in wide
+     * table mode, which changes as the user scrolls through the columns.
+     *
+     * @return The data column that the first scrolled column shows
+     *
+     * @since 1.0
+     */
+    public ReadOnlyIntegerProperty firstScrolledColumnProperty() {
+        return firstScrolledColumn.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the scroll bar that scrolls through the data columns in wide
+     * table mode, which the {@link DataTablePane} that hosts this table lays
+     * out below it; the scroll bar hides itself when all columns fit.
+     *
+     * @return The scroll bar that scrolls through the data columns
+     */
+    ScrollBar getColumnScrollBar() {
+        return columnScrollBar;
+    }
+
+    // Follows the vertical scroll bar of the rows of the current skin, as it
+    // takes up some of the table's width while it is showing.
+    private void updateRowScrollBar() {
+        if ( rowScrollBar != null ) {
+            rowScrollBar.visibleProperty().removeListener( viewportWidthListener );
+            rowScrollBar.widthProperty().removeListener( viewportWidthListener );
+            rowScrollBar = null;
+        }
+
+        for ( final Node node : lookupAll( ".scroll-bar" ) ) { //$NON-NLS-1$
+            if ( ( node instanceof ScrollBar ) && ( node != columnScrollBar )
+                    && ( ( ( ScrollBar ) node ).getOrientation() == Orientation.VERTICAL ) ) {
+                rowScrollBar = ( ScrollBar ) node;
+                rowScrollBar.visibleProperty().addListener( viewportWidthListener );
+                rowScrollBar.widthProperty().addListener( viewportWidthListener );
+                break;
+            }
+        }
+
+        if ( wideTableModeEnabled ) {
+            updateScrolledColumns();
+        }
     }
 
+    // Returns the width that the columns are laid out in, which excludes the
+    // table's insets and the vertical scroll bar of the rows.
+    private double getViewportWidth() {
+        double viewportWidth = getWidth() - snappedLeftInset() - snappedRightInset();
+        if ( ( rowScrollBar != null ) && rowScrollBar.isVisible() ) {
+            viewportWidth -= rowScrollBar.getWidth();
+        }
+
+        return Math.max( 0.0d, viewportWidth );
+    }
+
+    /**
+     * Replaces the contents of this table with the supplied data rows.
+     * <p>
+     * The rows are copied into a {@link ColumnarTableModel}, so that the
+     * table only holds one array per column of de-duplicated strings, rather
+     * than an observable list per row. The rows do not need to be padded to
+     * the same width, as short rows display blank trailing cells.
+     *
+     * @param dataRows
+     *            The data rows to display, in row order
+     */
     public void updateTableView( 
             final Collection< Collection< String > > dataRows ) {
-        // Pad the vector of string vectors to the maximum column count.
-        final int maxColumn = GlobalUtilities.padStringsToMaxColumn( dataRows );
+        final ColumnarTableModel columnarTableModel = new ColumnarTableModel( dataRows );
+
+        // Release the string pool, as no more rows will be added.
+        columnarTableModel.compact();
+
+        updateTableView( columnarTableModel );
+    }
+
+    /**
+     * Replaces the contents of this table with the supplied table model.
+     * <p>
+     * Columns are added later on if the model turns out to be wider than it
+     * is now, such as when its rows are still being loaded or indexed.
+     *
+     * @param pTableModel
+     *            The table model whose rows should be displayed
+     */
+    public void updateTableView( final TextTableModel pTableModel ) {
+        // Any load that is still streaming in would otherwise keep appending.
+        cancelLoad();
+
+        final TextTableModel previousTableModel = tableModel;
+        if ( previousTableModel != null ) {
+            previousTableModel.columnCountProperty().removeListener( columnCountListener );
+        }
+        tableModel = pTableModel;
+        tableModel.columnCountProperty().addListener( columnCountListener );
+
+        // Replace the column headers to match the width of the new data.
+        updateTableColumns( tableModel.getColumnCount() );
+
+        // Replace the current Table View rows with lightweight views of the
+        // model's rows. This will cause automatic updates so should refresh
+        // the view on the screen, and only the visible rows are ever built.
+        setItems( tableModel.getRows() );
+
+        // Let go of the resources of the previous model, such as the mapped
+        // segments of a memory-mapped file, now that its rows aren't shown.
+        if ( ( previousTableModel instanceof Closeable ) 
+                && ( previousTableModel != tableModel ) ) {
+            try {
+                ( ( Closeable ) previousTableModel ).close();
+            }
+            catch ( final IOException ioe ) {
+                ioe.printStackTrace();
+            }
+        }
+
+        fitColumns();
+    }
+
+    /**
+     * Replaces the contents of this table with the rows of the specified
+     * delimited text file, which is parsed on a background thread.
+     * <p>
+     * The rows are appended to the table in batches as they are parsed, so the
+     * first screenful is displayed right away, and columns are added on the fly
+     * if a later row turns out to be wider than the rows seen so far.
+     * <p>
+     * The returned task can be used to bind a progress indicator, to find out
+     * when the load is done, and to cancel the load. Starting another load, or
+     * replacing the table contents by other means, cancels this load.
+     *
+     * @param file
+     *            The delimited text file to load
+     * @param delimiter
+     *            The character that separates the cells of a row
+     * @param charset
+     *            The character set of the delimited text file
+     * @return The task that is loading the file, which has already started
+     */
+    public DataTableLoadTask loadTableView( final File file,
+                                            final char delimiter,
+                                            final Charset charset ) {
+        // Start from an empty table, which the loader then fills in.
+        final ColumnarTableModel columnarTableModel = new ColumnarTableModel();
+        updateTableView( columnarTableModel );
+
+        final DataTableLoadTask task = new DataTableLoadTask(
+                file,
+                delimiter,
+                charset,
+                columnarTableModel::appendRows );
+
+        // Release the string pool once all of the rows are in.
+        task.setOnSucceeded( evt -> {
+            columnarTableModel.compact();
+            fitColumns();
+        } );
+
+        startLoad( task );
+
+        return task;
+    }
+
+    /**
+     * Replaces the contents of this table with a read-only view directly onto
+     * the specified delimited text file, which is memory-mapped rather than
+     * loaded, so that even multi-gigabyte files take very little heap.
+     * <p>
+     * The rows are indexed on a background thread and show up as they are
+     * indexed; each row is only decoded when it scrolls into view. If an index
+     * file is supplied, the index is saved there and reused when the same
+     * unmodified file is opened again.
+     *
+     * @param file
+     *            The delimited text file to view
+     * @param delimiter
+     *            The character that separates the cells of a row
+     * @param charset
+     *            The ASCII-compatible character set of the delimited text file
+     * @param indexFile
+     *            The file to save and reuse the row index in, or {@code null}
+     * @return The task that is indexing the file, which has already started
+     * @throws IOException
+     *             If the file cannot be memory-mapped
+     */
+    public Task< Integer > openTableView( final File file,
+                                         final char delimiter,
+                                         final Charset charset,
+                                         final File indexFile ) throws IOException {
+        final MappedTableModel mappedTableModel = new MappedTableModel(
+                file, delimiter, charset );
+        updateTableView( mappedTableModel );
 
-        // Create names for the default column headers.
-        final List< String > headers = new ArrayList<>( maxColumn );
-        for ( int i = 0; i < maxColumn; i++ ) {
-            headers.add( Integer.toString( i + 1 ) );
+        final Task< Integer > task = mappedTableModel.makeIndexTask( indexFile );
+        task.setOnSucceeded( evt -> fitColumns() );
+        startLoad( task );
+
+        return task;
+    }
+
+    /**
+     * Reloads the contents of this table from the supplied data rows, only
+     * applying the rows that actually changed, so that the table keeps its
+     * columns, scroll position and selection.
+     * <p>
+     * The difference from the current rows is worked out on a background
+     * thread, matching rows by the value of the key column, or by their
+     * entire contents if there is no key column. If the table isn't showing
+     * a {@link ColumnarTableModel}, or the number of columns changed, the
+     * table is rebuilt just as it is for {@link #updateTableView}.
+     *
+     * @param dataRows
+     *            The new data rows to display, in row order, which must not be
+     *            modified until the returned task is done
+     * @param keyColumn
+     *            The index of the column that identifies a row, or -1 to
+     *            identify rows by their entire contents
+     * @return The task that is reloading the rows, which has already started
+     *
+     * @since 1.0
+     */
+    public Task< Integer > reloadTableView( 
+            final Collection< ? extends Collection< String > > dataRows,
+            final int keyColumn ) {
+        return startReload( () -> new ColumnarTableModel( dataRows ), keyColumn );
+    }
+
+    /**
+     * Reloads the contents of this table from the specified delimited text
+     * file, only applying the rows that actually changed, so that the table
+     * keeps its columns, scroll position and selection.
+     * <p>
+     * This is intended for viewers that re-read a file whenever it changes,
+     * as it avoids flicker and the cost of rebuilding the entire table when
+     * only a few rows have changed.
+     *
+     * @param file
+     *            The delimited text file to reload
+     * @param delimiter
+     *            The character that separates the cells of a row
+     * @param charset
+     *            The character set of the delimited text file
+     * @param keyColumn
+     *            The index of the column that identifies a row, or -1 to
+     *            identify rows by their entire contents
+     * @return The task that is reloading the file, which has already started
+     *
+     * @since 1.0
+     */
+    public Task< Integer > reloadTableView( final File file,
+                                           final char delimiter,
+                                           final Charset charset,
+                                           final int keyColumn ) {
+        return startReload( () -> readTableModel( file, delimiter, charset ), 
+                            keyColumn );
+    }
+
+    private Task< Integer > startReload( final Callable< ColumnarTableModel > modelReader,
+                                        final int keyColumn ) {
+        // Any load that is still streaming in would modify the current model
+        // while the background thread is comparing against it.
+        cancelLoad();
+
+        // The columns can only be reused if the new rows have the same width,
+        // which is only known once they are read; otherwise just read the rows.
+        final ColumnarTableModel currentModel = ( tableModel instanceof ColumnarTableModel )
+            ? ( ColumnarTableModel ) tableModel
+            : null;
+
+        final DataTableReloadTask task = new DataTableReloadTask( currentModel,
+                                                                  keyColumn,
+                                                                  modelReader );
+        task.setOnSucceeded( evt -> applyReload( task ) );
+
+        startLoad( task );
+
+        return task;
+    }
+
+    private void applyReload( final DataTableReloadTask task ) {
+        // A newer load or reload has taken over in the meantime.
+        if ( task != loadTask ) {
+            return;
+        }
+        loadTask = null;
+
+        final ColumnarTableModel currentModel = task.getCurrentModel();
+        final ColumnarTableModel reloadedModel = task.getReloadedModel();
+        final TableRowDiff rowDiff = task.getRowDiff();
+
+        // Rebuild the table if the difference no longer applies, or if the
+        // columns have to change anyway.
+        if ( ( rowDiff == null ) 
+                || ( tableModel != currentModel )
+                || ( currentModel.getRowCount() != rowDiff.getOldRowCount() )
+                || ( reloadedModel.getColumnCount() != dataColumnCount ) ) {
+            updateTableView( reloadedModel );
+            return;
         }
 
+        if ( rowDiff.isEmpty() ) {
+            return;
+        }
+
+        // Rows that are inserted or removed above the viewport would otherwise
+        // shift the rows that the user is looking at.
+        final int firstVisibleRowIndex = isQuickFilterActive() 
+            ? -1 
+            : getFirstVisibleRowIndex();
+
+        // Only the changed rows are reported, so the table adjusts its
+        // selection and only refreshes the cells that are affected.
+        currentModel.replaceRows( reloadedModel, rowDiff );
+
+        if ( firstVisibleRowIndex >= 0 ) {
+            final int newFirstVisibleRowIndex = rowDiff.getNewRowIndex( firstVisibleRowIndex );
+            if ( ( newFirstVisibleRowIndex >= 0 ) 
+                    && ( newFirstVisibleRowIndex != firstVisibleRowIndex ) ) {
+                scrollTo( newFirstVisibleRowIndex );
+            }
+        }
+    }
+
+    private static ColumnarTableModel readTableModel( final File file,
+                                                      final char delimiter,
+                                                      final Charset charset )
+            throws IOException {
+        final ColumnarTableModel columnarTableModel = new ColumnarTableModel();
+
+        try ( final FileInputStream inputStream = new FileInputStream( file );
+                final DelimitedTextReader reader = new DelimitedTextReader(
+                        new InputStreamReader( inputStream, charset ),
+                        delimiter ) ) {
+            // Append in batches, as each append is a change to the row list.
+            final List< List< String > > batch = new ArrayList<>( BATCH_SIZE );
+            List< String > row;
+            while ( ( row = reader.readRow() ) != null ) {
+                batch.add( row );
+                if ( batch.size() >= BATCH_SIZE ) {
+                    columnarTableModel.appendRows( batch );
+                    batch.clear();
+                }
+            }
+            columnarTableModel.appendRows( batch );
+        }
+
+        return columnarTableModel;
+    }
+
+    @SuppressWarnings("nls")
+    private void startLoad( final Task< Integer > task ) {
+        loadTask = task;
+
+        final Thread loadThread = new Thread( task, "DataTableView Loader" );
+        loadThread.setDaemon( true );
+        loadThread.start();
+    }
+
+    /**
+     * Cancels the background load of a delimited text file, if one is still
+     * in progress; any rows that were already displayed are left as-is.
+     */
+    public void cancelLoad() {
+        if ( loadTask != null ) {
+            loadTask.cancel();
+            loadTask = null;
+        }
+    }
+
+    private void updateTableColumns( final int maxColumn ) {
         // Clear any existing table column headers to prepare for new ones.
-        final ObservableList< TableColumn< ObservableList< String >, ? > > 
-                columns = getColumns();
-        columns.clear();
+        getColumns().clear();
+        scrolledColumns.clear();
+        dataColumnCount = 0;
+        firstScrolledColumn.set( pinnedColumnCount );
+        columnScrollBar.setVisible( false );
+
+        appendTableColumns( maxColumn );
+    }
+
+    private void appendTableColumns( final int maxColumn ) {
+        // Only add the columns beyond the ones that the table already has, as
+        // rows that are streamed in can turn out wider than earlier rows.
+        final int firstColumn = dataColumnCount;
+        if ( maxColumn <= firstColumn ) {
+            return;
+        }
+        dataColumnCount = maxColumn;
+
+        // In wide table mode, the new columns only extend the scroll range.
+        if ( wideTableModeEnabled ) {
+            updateScrolledColumns();
+            return;
+        }
 
         // Convert to a TableView that has no property names due to being
         // non-editable, and has default initial cell width as each column will
-        // be an indeterminate size.
+        // be an indeterminate size. Default column headers are just numbers.
         final ArrayList< TableColumn< ObservableList< String >, String > > 
-                tableColumnCollection = new ArrayList<>( maxColumn );
-        for ( int i = 0; i < maxColumn; i++ ) {
-            // NOTE: We appear to have to use an approach more akin to an SQL
-            //  example that I saw due to the data being random and not having
-            //  property names.
-            // final String columnPropertyName = null; // "";
-            // final TableColumn< ObservableList< String >, String > tableColumn
-            // = getTableColumnForString( headers.get( i ),
-            // 50,
-            // columnPropertyName,
-            // false,
-            // clientProperties );
-
-            final TableColumn< ObservableList< String >, String > 
-                    tableColumn = new TableColumn<>( headers.get( i ) );
-            tableColumn.setMinWidth( 50 );
-            TableUtilities.setTableColumnHeaderProperties( tableColumn );
-
-            // NOTE: Do not allow column reordering or row-sorting as this
-            //  destroys the ability to understand how things relate to one
-            //  another (that is, the relationships of the data).
-            tableColumn.setSortable( false );
-
-            // We are using non property style for making a dynamic table.
-            final int j = i;
-            final Callback< CellDataFeatures< ObservableList< String >, String >, 
-                    ObservableValue< String > > callback = param -> 
-                            new SimpleStringProperty( 
-                                    param.getValue().get( j ).toString() );
-            tableColumn.setCellValueFactory( callback );
+                tableColumnCollection = new ArrayList<>( maxColumn - firstColumn );
+        for ( int i = firstColumn; i < maxColumn; i++ ) {
+            tableColumnCollection.add( makeTableColumn( Integer.toString( i + 1 ), i ) );
+        }
+        getColumns().addAll( tableColumnCollection );
+
+        // Only fit the new columns, so the existing ones stay where they are.
+        if ( columnAutoFitEnabled ) {
+            TableUtilities.autoFitColumns( this, tableColumnCollection );
+        }
+    }
+
+    // Materializes the pinned columns, and enough scrolled columns to fill the
+    // viewport, and then updates the scroll range to span the data columns.
+    private void updateScrolledColumns() {
+        final ObservableList< TableColumn< ObservableList< String >, ? > > 
+                columns = getColumns();
 
-            TableUtilities.setCellAlignment( tableColumn );
+        // The pinned columns always stay in view, so are made just once.
+        final int pinnedCount = Math.min( pinnedColumnCount, dataColumnCount );
+        final int madePinnedCount = columns.size() - scrolledColumns.size();
+        if ( madePinnedCount < pinnedCount ) {
+            final ArrayList< TableColumn< ObservableList< String >, String > > 
+                    pinnedColumns = new ArrayList<>( pinnedCount - madePinnedCount );
+            for ( int i = madePinnedCount; i < pinnedCount; i++ ) {
+                pinnedColumns.add( makeWideColumn( makeTableColumn( Integer.toString( i + 1 ), 
+                                                                    i ) ) );
+            }
+            columns.addAll( madePinnedCount, pinnedColumns );
+        }
 
-            tableColumnCollection.add( tableColumn );
+        // Only make as many scrolled columns as intersect the viewport.
+        final double viewportWidth = Math.max( 0.0d, 
+                getViewportWidth() - ( pinnedCount * WIDE_COLUMN_WIDTH ) );
+        final int scrollableCount = Math.max( 0, dataColumnCount - pinnedCount );
+        final int visibleCount = Math.max( 1, 
+                ( int ) Math.floor( viewportWidth / WIDE_COLUMN_WIDTH ) );
+        final int scrolledCount = Math.min( scrollableCount, 
+                ( int ) Math.ceil( viewportWidth / WIDE_COLUMN_WIDTH ) + COLUMN_OVERSCAN );
+        if ( scrolledColumns.size() > scrolledCount ) {
+            final int excessCount = scrolledColumns.size() - scrolledCount;
+            columns.remove( columns.size() - excessCount, columns.size() );
+            scrolledColumns.subList( scrolledCount, scrolledColumns.size() ).clear();
+        }
+        else if ( scrolledColumns.size() < scrolledCount ) {
+            final ArrayList< TableColumn< ObservableList< String >, String > > 
+                    newColumns = new ArrayList<>( scrolledCount - scrolledColumns.size() );
+            for ( int i = scrolledColumns.size(); i < scrolledCount; i++ ) {
+                newColumns.add( makeScrolledColumn( i ) );
+            }
+            scrolledColumns.addAll( newColumns );
+            columns.addAll( newColumns );
         }
-        columns.addAll( 0, tableColumnCollection );
 
-        // Clear any existing table rows to prepare for new data.
-        final ObservableList< ObservableList< String > > data = getItems();
-        data.clear();
+        // The scroll range spans the data columns that can be scrolled, so
+        // the column count no longer affects the layout of the table itself.
+        final int maximumScroll = Math.max( 0, scrollableCount - visibleCount );
+        columnScrollBar.setMax( maximumScroll );
+        columnScrollBar.setVisibleAmount( visibleCount );
+        columnScrollBar.setBlockIncrement( visibleCount );
+        columnScrollBar.setVisible( maximumScroll > 0 );
 
-        // Replace the current Table View. This will cause automatic updates so
-        // should refresh the view on the screen. Iterate by Row, then Column.
-        dataRows.forEach( dataRow -> {
-            final ObservableList< String > row = FXCollections.observableArrayList();
-            dataRow.forEach( column -> row.add( column ) );
-            data.add( row );
-        } );
+        final int firstColumn = Math.max( pinnedCount, 
+                Math.min( firstScrolledColumn.get(), pinnedCount + maximumScroll ) );
+        columnScrollBar.setValue( firstColumn - pinnedCount );
+        scrollColumns( firstColumn );
+        updateScrolledColumnHeaders();
+    }
+
+    @Override
+    List< TableDataColumn< ObservableList< String > > > getDataColumns() {
+        if ( !wideTableModeEnabled ) {
+            return super.getDataColumns();
+        }
+
+        // Most of the data columns aren't materialized as table columns, so
+        // their cells are read from the rows directly.
+        final List< TableDataColumn< ObservableList< String > > > 
+                dataColumns = new ArrayList<>( dataColumnCount );
+        for ( int i = 0; i < dataColumnCount; i++ ) {
+            final int columnIndex = i;
+            dataColumns.add( new TableDataColumn<>( Integer.toString( i + 1 ),
+                                                    row -> row.get( columnIndex ),
+                                                    String::valueOf ) );
+        }
+
+        return dataColumns;
+    }
+
+    @Override
+    int getDataColumnIndex( final TableColumn< ObservableList< String >, ? > column ) {
+        if ( !wideTableModeEnabled ) {
+            return super.getDataColumnIndex( column );
+        }
+
+        // The scrolled columns show the data columns that they are currently
+        // pointed at, and the pinned columns show the leading data columns.
+        final int scrolledIndex = scrolledColumns.indexOf( column );
+        if ( scrolledIndex >= 0 ) {
+            final int dataColumn = firstScrolledColumn.get() + scrolledIndex;
+            return ( dataColumn < dataColumnCount ) ? dataColumn : -1;
+        }
 
-        // Look at the revised list in the debugger to see why the display is
-        // blank currently even though the data and column headers are there.
-        // NOTE: This proves the data is there, so it must be an issue with
-        //  cell background or the details of the cell factory class used.
-        // TODO: Compare to what we do for other read-only string-based cells.
-        final ObservableList< ObservableList< String > > data2 = getItems();
-        final int numberOfRows = data2.size();
-        if ( numberOfRows < 1 ) {
+        return getColumns().indexOf( column );
+    }
+
+    // Points the scrolled columns at the data columns starting at the
+    // specified data column.
+    private void scrollColumns( final int firstColumn ) {
+        if ( wideTableModeEnabled ) {
+            firstScrolledColumn.set( firstColumn );
+        }
+    }
+
+    private void updateScrolledColumnHeaders() {
+        final int firstColumn = firstScrolledColumn.get();
+        for ( int i = 0, n = scrolledColumns.size(); i < n; i++ ) {
+            final int dataColumn = firstColumn + i;
+            scrolledColumns.get( i ).setText( ( dataColumn < dataColumnCount ) 
+                ? Integer.toString( dataColumn + 1 ) 
+                : "" );
+        }
+    }
+
+    // Keeps the selected cells of the scrolled columns on the same data
+    // columns, which means moving them across the reused table columns, and
+    // dropping the ones that are scrolled out of view.
+    private void remapScrolledCellSelection( final int oldFirstColumn,
+                                             final int newFirstColumn ) {
+        final TableViewSelectionModel< ObservableList< String > > 
+                selectionModel = getSelectionModel();
+        if ( ( selectionModel == null ) || !selectionModel.isCellSelectionEnabled() ) {
             return;
         }
+
+        final List< int[] > remappedCells = new ArrayList<>();
+        for ( final TablePosition< ?, ? > position 
+                : new ArrayList<>( selectionModel.getSelectedCells() ) ) {
+            final int scrolledIndex = scrolledColumns.indexOf( position.getTableColumn() );
+            if ( scrolledIndex < 0 ) {
+                continue;
+            }
+            selectionModel.clearSelection( position.getRow(), 
+                                           scrolledColumns.get( scrolledIndex ) );
+
+            final int remappedIndex = scrolledIndex + oldFirstColumn - newFirstColumn;
+            if ( ( remappedIndex >= 0 ) && ( remappedIndex < scrolledColumns.size() ) ) {
+                remappedCells.add( new int[] { position.getRow(), remappedIndex } );
+            }
+        }
+
+        for ( final int[] remappedCell : remappedCells ) {
+            selectionModel.select( remappedCell[ 0 ], scrolledColumns.get( remappedCell[ 1 ] ) );
+        }
+    }
+
+    private TableColumn< ObservableList< String >, String > makeScrolledColumn(
+            final int scrolledColumnIndex ) {
+        // The cell values follow the first scrolled column, so scrolling only
+        // updates the cells that are showing, rather than remaking them all.
+        final Callback< CellDataFeatures< ObservableList< String >, String >, 
+                ObservableValue< String > > callback = param -> 
+                        new ScrolledCellValue( param.getValue(), scrolledColumnIndex );
+
+        return makeWideColumn( makeTableColumn( "", callback ) );
+    }
+
+    private static TableColumn< ObservableList< String >, String > makeWideColumn(
+            final TableColumn< ObservableList< String >, String > tableColumn ) {
+        // The columns can't be resized, as the number of columns that fit the
+        // viewport is worked out from the fixed width.
+        tableColumn.setPrefWidth( WIDE_COLUMN_WIDTH );
+        tableColumn.setResizable( false );
+        tableColumn.setReorderable( false );
+
+        return tableColumn;
+    }
+
+    private static TableColumn< ObservableList< String >, String > makeTableColumn(
+            final String header,
+            final int columnIndex ) {
+        // We are using non property style for making a dynamic table.
+        final Callback< CellDataFeatures< ObservableList< String >, String >, 
+                ObservableValue< String > > callback = param -> 
+                        new SimpleStringProperty( 
+                                param.getValue().get( columnIndex ) );
+
+        return makeTableColumn( header, callback );
+    }
+
+    private static TableColumn< ObservableList< String >, String > makeTableColumn(
+            final String header,
+            final Callback< CellDataFeatures< ObservableList< String >, String >, 
+                    ObservableValue< String > > callback ) {
+        // NOTE: We appear to have to use an approach more akin to an SQL
+        //  example that I saw due to the data being random and not having
+        //  property names.
+        final TableColumn< ObservableList< String >, String > 
+                tableColumn = new TableColumn<>( header );
+        tableColumn.setMinWidth( 50 );
+        TableUtilities.setTableColumnHeaderProperties( tableColumn );
+
+        // NOTE: Do not allow column reordering or row-sorting as this
+        //  destroys the ability to understand how things relate to one
+        //  another (that is, the relationships of the data).
+        tableColumn.setSortable( false );
+
+        tableColumn.setCellValueFactory( callback );
+
+        TableUtilities.setCellAlignment( tableColumn );
+
+        return tableColumn;
+    }
+
+    // The value of a cell in a scrolled column, which follows the data column
+    // that the scrolled column is pointed at. It only listens to the first
+    // scrolled column while a cell is showing it, so that values that are just
+    // read, such as for exports, don't pile up as listeners.
+    private final class ScrolledCellValue extends ObservableValueBase< String > 
+            implements InvalidationListener {
+        private final ObservableList< String > row;
+        private final int scrolledColumnIndex;
+        private final WeakInvalidationListener weakListener;
+        private int listenerCount;
+
+        ScrolledCellValue( final ObservableList< String > pRow,
+                           final int pScrolledColumnIndex ) {
+            // Always call the superclass constructor first!
+            super();
+
+            row = pRow;
+            scrolledColumnIndex = pScrolledColumnIndex;
+            weakListener = new WeakInvalidationListener( this );
+            listenerCount = 0;
+        }
+
+        @Override
+        public String getValue() {
+            final int dataColumn = firstScrolledColumn.get() + scrolledColumnIndex;
+            return ( dataColumn < dataColumnCount ) ? row.get( dataColumn ) : null;
+        }
+
+        @Override
+        public void invalidated( final Observable observable ) {
+            fireValueChangedEvent();
+        }
+
+        @Override
+        public void addListener( final InvalidationListener listener ) {
+            super.addListener( listener );
+            listenerAdded();
+        }
+
+        @Override
+        public void addListener( final ChangeListener< ? super String > listener ) {
+            super.addListener( listener );
+            listenerAdded();
+        }
+
+        @Override
+        public void removeListener( final InvalidationListener listener ) {
+            super.removeListener( listener );
+            listenerRemoved();
+        }
+
+        @Override
+        public void removeListener( final ChangeListener< ? super String > listener ) {
+            super.removeListener( listener );
+            listenerRemoved();
+        }
+
+        private void listenerAdded() {
+            if ( listenerCount++ == 0 ) {
+                firstScrolledColumn.addListener( weakListener );
+            }
+        }
+
+        private void listenerRemoved() {
+            if ( ( listenerCount > 0 ) && ( --listenerCount == 0 ) ) {
+                firstScrolledColumn.removeListener( weakListener );
+            }
+        }
     }
 }
@@ -30,9 +30,16 @@
  */
 package com.mhschmieder.fxcontrols.control;
 
+import com.mhschmieder.fxcontrols.control.cell.CellValidator;
 import javafx.collections.ObservableList;
 import javafx.scene.control.SelectionMode;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * {@code DynamicXTableView} is a further abstraction of {@link XTableView}
  * that sets up the functionality that is likely to be shared by all multi-row
@@ -47,6 +54,16 @@ import javafx.scene.control.SelectionMode;
  */
 public abstract class DynamicXTableView< TD > extends XTableView< TD > {
 
+    /**
+     * The default memory budget for the undo and redo history of the edits.
+     */
+    public static final long DEFAULT_EDIT_HISTORY_BUDGET = 16L * 1024L * 1024L;
+
+    /**
+     * The validator to invoke once for each row that is changed by a paste.
+     */
+    private CellValidator< TD > rowValidator;
+
     //////////////////////////// Constructors ////////////////////////////////
 
     /**
@@ -80,6 +97,77 @@ public abstract class DynamicXTableView< TD > extends XTableView< TD > {
 
         // Tables that support Add/Delete also support multi-row selection.
         getSelectionModel().setSelectionMode( SelectionMode.MULTIPLE );
+
+        rowValidator = null;
+
+        // Tables that support Add/Delete also support Undo/Redo.
+        // NOTE: This makes the edit history, which the row manipulation
+        //  methods below rely on being there.
+        setEditHistoryBudget( DEFAULT_EDIT_HISTORY_BUDGET );
+    }
+
+    /**
+     * Sets the validator that is invoked once for each row that is changed by
+     * a paste, after all of its pasted cells have been set, so that dependent
+     * cells are recalculated once per row rather than once per pasted cell.
+     *
+     * @param pRowValidator
+     *            The validator for rows changed by a paste, or {@code null}
+     *            if none
+     *
+     * @since 1.0
+     */
+    public final void setRowValidator( final CellValidator< TD > pRowValidator ) {
+        rowValidator = pRowValidator;
+    }
+
+    /**
+     * Pastes the tab-separated text on the clipboard into the editable cells
+     * of this table, starting at the top left selected cell.
+     * <p>
+     * The text is parsed and validated on a background thread, using each
+     * column's parser, and then all of the valid values are applied in one
+     * pass, invoking the row validator once per changed row. Cells that are
+     * not editable, or whose text is not valid, are left unchanged, and text
+     * beyond the last row or column of the table is ignored.
+     * <p>
+     * This is also invoked by the paste shortcut, once the clipboard shortcuts
+     * are enabled via {@link #setClipboardShortcutsEnabled}.
+     *
+     * @since 1.0
+     */
+    public void pasteTableData() {
+        pasteCells( rowValidator );
+    }
+
+    /**
+     * Pastes the clipboard when the paste shortcut is pressed, if the
+     * clipboard shortcuts are enabled.
+     *
+     * @return {@code true}, as the clipboard is always pasted
+     *
+     * @since 1.0
+     */
+    @Override
+    protected boolean pasteShortcutPressed() {
+        pasteTableData();
+        return true;
+    }
+
+    /**
+     * Validates rows whose cells were changed by undo or redo, using the same
+     * validator as for pasted rows, if any.
+     *
+     * @param record
+     *            The record of the row whose cell was changed
+     *
+     * @since 1.0
+     */
+    @Override
+    protected void cellValueReplayed( final TD record ) {
+        if ( rowValidator != null ) {
+            submitCellCommit( record, rowValidator );
+        }
     }
 
     ////////////////////// Table manipulation methods ////////////////////////
@@ -258,6 +346,12 @@ public abstract class DynamicXTableView< TD > extends XTableView< TD > {
      */
     protected final int insertTableRow( final int minimumInsertIndex,
                                         final int maximumLastRowIndex ) {
+        // The quick filtered view is read-only, so rows can only be added,
+        // removed or moved once the filter has been cleared.
+        if ( isQuickFilterActive() ) {
+            return -1;
+        }
+
         // Insert an initially similar or identical row after the selected row,
         // by adding an item to the associated collection (the table syncs up).
         final int selectionIndex = getSelectedRow( minimumInsertIndex );
@@ -267,10 +361,140 @@ public abstract class DynamicXTableView< TD > extends XTableView< TD > {
                                               minimumInsertIndex,
                                               maximumInsertIndex,
                                               maximumLastRowIndex );
+        if ( referenceIndex >= 0 ) {
+            getEditJournal().recordRowsInserted( referenceIndex, 
+                    Collections.singletonList( getItems().get( referenceIndex ) ) );
+        }
 
         return referenceIndex;
     }
 
+    /**
+     * Returns the row index for the first of the newly inserted rows (if
+     * valid), added to the table after the selected row index.
+     * <p>
+     * This method finds the lower-most row selected (or the last row if none
+     * were selected), and inserts the requested number of initially similar
+     * rows right after it, as a single change to the table's items.
+     *
+     * @param rowCount
+     *            The number of rows to insert
+     * @return The row index for the first of the newly inserted rows (if
+     *         valid)
+     *
+     * @since 1.0
+     */
+    public int insertTableRows( final int rowCount ) {
+        final int minimumInsertIndex = 0;
+        final int maximumRowCountIndex = Integer.MAX_VALUE;
+
+        return insertTableRows( minimumInsertIndex, maximumRowCountIndex, rowCount );
+    }
+
+    /**
+     * Returns the row index for the first of the newly inserted rows (if
+     * valid), added to the table after the selected row index.
+     * <p>
+     * The insertion rules are checked once for the whole batch, and the new
+     * rows are added with a single call, so that the table only gets one list
+     * change notification and one relayout no matter how many rows are added.
+     * <p>
+     * If the derived class does not override {@link #makeItemsAt}, this falls
+     * back to inserting the rows one at a time via {@link #addItemAt}.
+     *
+     * @param minimumInsertIndex
+     *            The minimum allowed index for inserting a new row
+     * @param maximumLastRowIndex
+     *            The maximum index that is ever allowed for this table
+     * @param rowCount
+     *            The number of rows to insert
+     * @return The row index for the first of the newly inserted rows (if
+     *         valid)
+     *
+     * @since 1.0
+     */
+    protected final int insertTableRows( final int minimumInsertIndex,
+                                         final int maximumLastRowIndex,
+                                         final int rowCount ) {
+        // The quick filtered view is read-only, so rows can only be added,
+        // removed or moved once the filter has been cleared.
+        if ( isQuickFilterActive() ) {
+            return -1;
+        }
+
+        if ( rowCount < 1 ) {
+            return -1;
+        }
+
+        final int selectionIndex = getSelectedRow( minimumInsertIndex );
+        final int insertIndex = selectionIndex + 1;
+        final int maximumInsertIndex = getLastRowIndex() + 1;
+
+        // The last of the new rows must still fit within the maximum row count,
+        // so the batch is checked as though it was one row taking up the space.
+        final long lastNewRowIndex = ( long ) maximumInsertIndex + rowCount - 1L;
+        if ( ( lastNewRowIndex > maximumLastRowIndex )
+                || !canInsertTableRowAt( insertIndex,
+                                         minimumInsertIndex,
+                                         maximumInsertIndex,
+                                         maximumLastRowIndex ) ) {
+            return -1;
+        }
+
+        final TableEditJournal< TD > editJournal = getEditJournal();
+        final List< TD > newItems = makeItemsAt( insertIndex, rowCount );
+        if ( newItems == null ) {
+            // Fall back to inserting one row at a time, with the bounds growing
+            // by one row per insertion, but still undo them as one edit.
+            editJournal.beginCompoundEdit();
+            for ( int rowIndex = 0; rowIndex < rowCount; rowIndex++ ) {
+                final int referenceIndex = addItemAt( insertIndex + rowIndex,
+                                                      minimumInsertIndex,
+                                                      maximumInsertIndex + rowIndex,
+                                                      maximumLastRowIndex );
+                if ( referenceIndex >= 0 ) {
+                    editJournal.recordRowsInserted( referenceIndex, 
+                            Collections.singletonList( getItems().get( referenceIndex ) ) );
+                }
+            }
+            editJournal.endCompoundEdit();
+        }
+        else {
+            getItems().addAll( insertIndex, newItems );
+            editJournal.recordRowsInserted( insertIndex, newItems );
+        }
+
+        // Select all of the new rows, so that they can be edited or deleted.
+        final TableViewSelectionModel< TD > selectionModel = getSelectionModel();
+        selectionModel.clearSelection();
+        selectionModel.selectRange( insertIndex, insertIndex + rowCount );
+
+        return insertIndex;
+    }
+
+    /**
+     * Returns the specified number of new items for insertion at the specified
+     * index, without inserting them, or {@code null} if not supported.
+     * <p>
+     * Derived classes should override this to make initially similar items to
+     * the row just before the insertion index, so that batch insertion can add
+     * all of the items with one change; the default implementation returns
+     * {@code null}, which makes batch insertion fall back to {@link #addItemAt}.
+     *
+     * @param insertIndex
+     *            The index where the new items will be inserted
+     * @param rowCount
+     *            The number of items to make
+     * @return The specified number of new items, or {@code null} if not
+     *         supported
+     *
+     * @since 1.0
+     */
+    @SuppressWarnings("static-method")
+    protected List< TD > makeItemsAt( final int insertIndex, final int rowCount ) {
+        return null;
+    }
+
     /**
      * Returns the row index for the newly inserted row (if valid), added to the
      * associated collection at the specified index (the table syncs up).
@@ -324,6 +548,32 @@ public abstract class DynamicXTableView< TD > extends XTableView< TD > {
         return referenceIndex;
     }
 
+    /**
+     * Returns the row index to select after deleting the specified rows (if
+     * any were deleted), then selects that row.
+     * <p>
+     * The rows can be in any order and need not be contiguous; they are all
+     * removed as a single change to the table's items.
+     *
+     * @param rowIndices
+     *            The indices of the rows to delete
+     * @return The row index to select after deleting the specified rows (if
+     *         any were deleted)
+     *
+     * @since 1.0
+     */
+    public int deleteTableRows( final int[] rowIndices ) {
+        final int minimumDeleteIndex = 0;
+        final int minimumLastRowIndex = -1;
+        final int referenceIndex = deleteTableRows( rowIndices,
+                                                    minimumDeleteIndex,
+                                                    minimumLastRowIndex );
+
+        selectRow( referenceIndex );
+
+        return referenceIndex;
+    }
+
     /**
      * Returns the row index for the final deleted row (if valid), or the last
      * row if none were selected.
@@ -342,34 +592,12 @@ public abstract class DynamicXTableView< TD > extends XTableView< TD > {
     protected final int deleteTableRows( final int minimumDeleteIndex,
                                          final int minimumLastRowIndex ) {
         // Delete all of the selected table row(s), except the minimum row.
-        //
-        // A comparator is used, to get the selected rows into reverse order.
         int referenceIndex = -1;
         final int[] selectedRowIndices = getSelectedRows();
         if ( ( selectedRowIndices != null ) && ( selectedRowIndices.length > 0 ) ) {
-            int correctedIndex = -1;
-            for ( final int deleteIndex : selectedRowIndices ) {
-                // As the table changes size inside this loop, we have to
-                // refresh the last row index on each iteration.
-                final int maximumDeleteIndex = getLastRowIndex();
-                correctedIndex = removeItemAt( deleteIndex,
-                                               minimumDeleteIndex,
-                                               maximumDeleteIndex,
-                                               minimumLastRowIndex );
-
-                // Make sure we only use the first valid corrected index, as we
-                // handle delete in reverse order and want to use the last
-                // selected row as the reference row.
-                if ( referenceIndex < 0 ) {
-                    referenceIndex = correctedIndex;
-                }
-            }
-
-            // Now adjust the last selected row index for the number of rows
-            // deleted (minus one, as we always try to select the row directly
-            // after the one deleted).
-            final int selectionLength = selectedRowIndices.length;
-            referenceIndex -= ( selectionLength - 1 );
+            referenceIndex = deleteTableRows( selectedRowIndices,
+                                              minimumDeleteIndex,
+                                              minimumLastRowIndex );
         }
         else {
             // If the user didn't select any rows, default to deleting the last
@@ -388,6 +616,180 @@ public abstract class DynamicXTableView< TD > extends XTableView< TD > {
         return referenceIndex;
     }
 
+    /**
+     * Returns the row index to select after deleting the specified rows (if
+     * any were deleted), which is the row that followed the last deleted row.
+     * <p>
+     * The rows can be in any order and need not be contiguous. Each row is
+     * checked against the table bounds as they were before the deletion, so
+     * that the checks do not depend on the order of removal, and rows are
+     * only deleted until the table reaches its minimum row count (starting
+     * from the bottom, just as with deleting one row at a time).
+     * <p>
+     * All of the rows are then removed from the table's items as a single
+     * change, rather than one list change notification and relayout per row.
+     *
+     * @param deleteIndices
+     *            The indices of the rows to delete
+     * @param minimumDeleteIndex
+     *            The minimum allowed index for deleting an existing row
+     * @param minimumLastRowIndex
+     *            The minimum index that is ever allowed for this table
+     * @return The row index to select after deleting the specified rows (if
+     *         any were deleted)
+     *
+     * @since 1.0
+     */
+    protected final int deleteTableRows( final int[] deleteIndices,
+                                         final int minimumDeleteIndex,
+                                         final int minimumLastRowIndex ) {
+        // The quick filtered view is read-only, so rows can only be added,
+        // removed or moved once the filter has been cleared.
+        if ( isQuickFilterActive() ) {
+            return -1;
+        }
+
+        final ObservableList< TD > items = getItems();
+        final int maximumDeleteIndex = getLastRowIndex();
+
+        // Gather the deletable rows from the bottom up, until the table would
+        // be shorter than allowed.
+        final int[] sortedIndices = deleteIndices.clone();
+        Arrays.sort( sortedIndices );
+        final BitSet deletedRows = new BitSet( items.size() );
+        int deletionsAllowed = maximumDeleteIndex - minimumLastRowIndex;
+        for ( int i = sortedIndices.length - 1; ( i >= 0 ) && ( deletionsAllowed > 0 ); i-- ) {
+            final int deleteIndex = sortedIndices[ i ];
+            if ( canDeleteTableRowAt( deleteIndex,
+                                      minimumDeleteIndex,
+                                      maximumDeleteIndex,
+                                      minimumLastRowIndex )
+                    && !deletedRows.get( deleteIndex ) ) {
+                deletedRows.set( deleteIndex );
+                deletionsAllowed--;
+            }
+        }
+
+        final int numberOfDeletedRows = deletedRows.cardinality();
+        if ( numberOfDeletedRows == 0 ) {
+            return -1;
+        }
+
+        // Keep the deleted rows for undo, which restores them in one change.
+        final List< TD > deletedItems = new ArrayList<>( numberOfDeletedRows );
+        for ( int rowIndex = deletedRows.nextSetBit( 0 ); 
+                rowIndex >= 0; 
+                rowIndex = deletedRows.nextSetBit( rowIndex + 1 ) ) {
+            deletedItems.add( items.get( rowIndex ) );
+        }
+
+        getEditJournal().recordRowsRemoved( deletedRows, deletedItems );
+        removeItems( deletedRows );
+
+        // Use the row after the last deleted row as the reference row, adjusted
+        // for the rows deleted above it (minus one, as we always try to select
+        // the row directly after the one deleted).
+        final int lastDeletedRow = deletedRows.length() - 1;
+        return lastDeletedRow - ( numberOfDeletedRows - 1 );
+    }
+
+    /**
+     * Returns the row index for the first row of the moved block (if valid),
+     * after moving a contiguous block of rows to a new position in the table.
+     * <p>
+     * The move is applied as a single change to the table's items, and the
+     * moved rows are selected afterwards.
+     *
+     * @param fromIndex
+     *            The index of the first row in the block to move
+     * @param toIndex
+     *            The index after the last row in the block to move
+     * @param targetIndex
+     *            The index of the row that the block should be moved in front
+     *            of, as of before the move, or the row count to move the block
+     *            to the end of the table
+     * @return The row index for the first row of the moved block (if valid)
+     *
+     * @since 1.0
+     */
+    public int moveTableRows( final int fromIndex,
+                              final int toIndex,
+                              final int targetIndex ) {
+        // The quick filtered view is read-only, so rows can only be added,
+        // removed or moved once the filter has been cleared.
+        if ( isQuickFilterActive() ) {
+            return -1;
+        }
+
+        final ObservableList< TD > items = getItems();
+        final int rowCount = items.size();
+        if ( ( fromIndex < 0 ) || ( toIndex > rowCount ) || ( fromIndex >= toIndex )
+                || ( targetIndex < 0 ) || ( targetIndex > rowCount ) ) {
+            return -1;
+        }
+
+        // Moving a block in front of itself, or right after itself, is a no-op.
+        if ( ( targetIndex >= fromIndex ) && ( targetIndex <= toIndex ) ) {
+            return fromIndex;
+        }
+
+        final List< TD > movedItems = new ArrayList<>( rowCount );
+        final int blockLength = toIndex - fromIndex;
+        final int newFromIndex;
+        if ( targetIndex < fromIndex ) {
+            movedItems.addAll( items.subList( 0, targetIndex ) );
+            movedItems.addAll( items.subList( fromIndex, toIndex ) );
+            movedItems.addAll( items.subList( targetIndex, fromIndex ) );
+            movedItems.addAll( items.subList( toIndex, rowCount ) );
+            newFromIndex = targetIndex;
+        }
+        else {
+            movedItems.addAll( items.subList( 0, fromIndex ) );
+            movedItems.addAll( items.subList( toIndex, targetIndex ) );
+            movedItems.addAll( items.subList( fromIndex, toIndex ) );
+            movedItems.addAll( items.subList( targetIndex, rowCount ) );
+            newFromIndex = targetIndex - blockLength;
+        }
+        items.setAll( movedItems );
+        getEditJournal().recordRowsMoved( fromIndex, toIndex, targetIndex );
+
+        final TableViewSelectionModel< TD > selectionModel = getSelectionModel();
+        selectionModel.clearSelection();
+        selectionModel.selectRange( newFromIndex, newFromIndex + blockLength );
+
+        return newFromIndex;
+    }
+
+    /**
+     * Removes the flagged rows from the table's items as a single change.
+     *
+     * @param deletedRows
+     *            The flags for which rows to remove
+     *
+     * @since 1.0
+     */
+    private void removeItems( final BitSet deletedRows ) {
+        final ObservableList< TD > items = getItems();
+
+        // A single contiguous range can be removed in place; otherwise it is
+        // cheaper to copy the surviving rows than to shift the list per range.
+        final int firstDeletedRow = deletedRows.nextSetBit( 0 );
+        final int lastDeletedRow = deletedRows.length() - 1;
+        if ( deletedRows.nextClearBit( firstDeletedRow ) > lastDeletedRow ) {
+            items.remove( firstDeletedRow, lastDeletedRow + 1 );
+            return;
+        }
+
+        final int rowCount = items.size();
+        final List< TD > keptItems = new ArrayList<>( rowCount - deletedRows.cardinality() );
+        for ( int rowIndex = 0; rowIndex < rowCount; rowIndex++ ) {
+            if ( !deletedRows.get( rowIndex ) ) {
+                keptItems.add( items.get( rowIndex ) );
+            }
+        }
+        items.setAll( keptItems );
+    }
+
     /**
      * Returns the row index for the deleted row (if the row was deleted).
      * <p>
@@ -422,7 +824,13 @@ public abstract class DynamicXTableView< TD > extends XTableView< TD > {
         //
         // This automatically syncs the table to remove the row that displays
         // the specified item.
+        // NOTE: The removal is recorded first, so that the row's editability
+        //  can be restored along with it.
         final ObservableList< TD > items = getItems();
+        final BitSet deletedRows = new BitSet();
+        deletedRows.set( deleteIndex );
+        getEditJournal().recordRowsRemoved( deletedRows, 
+                                            Collections.singletonList( items.get( deleteIndex ) ) );
         items.remove( deleteIndex );
 
         // Return the requested item removal index so that it can be used to
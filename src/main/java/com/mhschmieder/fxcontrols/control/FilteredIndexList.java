@@ -0,0 +1,122 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@code FilteredIndexList} is a read-only view of a subset of a source list,
+ * defined by an ascending array of source indices rather than by a predicate,
+ * so that a filter that was already computed elsewhere can be applied as a
+ * single change without testing every source element again.
+ * <p>
+ * This view does not track changes to the source list on its own; whoever
+ * owns it must supply fresh source indices after each such change.
+ *
+ * @param <E>
+ *            The element type for the list
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+final class FilteredIndexList< E > extends TransformationList< E, E > {
+
+    /**
+     * The source indices of the visible elements, in ascending order.
+     */
+    private int[] sourceIndices;
+
+    /**
+     * Constructs an initially empty {@link FilteredIndexList}.
+     *
+     * @param source
+     *            The source list to filter
+     */
+    FilteredIndexList( final ObservableList< E > source ) {
+        // Always call the superclass constructor first!
+        super( source );
+
+        sourceIndices = new int[ 0 ];
+    }
+
+    /**
+     * Replaces the visible elements with the elements at the supplied source
+     * indices, as a single change.
+     *
+     * @param newSourceIndices
+     *            The source indices of the visible elements, in ascending order
+     *
+     * @since 1.0
+     */
+    void setSourceIndices( final int[] newSourceIndices ) {
+        beginChange();
+        final List< E > removedElements = new ArrayList<>( this );
+        sourceIndices = newSourceIndices;
+        if ( !removedElements.isEmpty() || ( sourceIndices.length > 0 ) ) {
+            nextReplace( 0, sourceIndices.length, removedElements );
+        }
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged( final Change< ? extends E > change ) {
+        // The owner supplies new source indices after every source change,
+        // and the table only listens to this view, so there's nothing to do.
+    }
+
+    @Override
+    public int getSourceIndex( final int index ) {
+        return sourceIndices[ index ];
+    }
+
+    // NOTE: This is only declared abstract in later versions of JavaFX.
+    public int getViewIndex( final int index ) {
+        final int viewIndex = Arrays.binarySearch( sourceIndices, index );
+        return ( viewIndex >= 0 ) ? viewIndex : -1;
+    }
+
+    @Override
+    public E get( final int index ) {
+        return getSource().get( sourceIndices[ index ] );
+    }
+
+    @Override
+    public int size() {
+        return sourceIndices.length;
+    }
+}
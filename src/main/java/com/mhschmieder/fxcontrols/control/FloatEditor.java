@@ -30,6 +30,7 @@
  */
 package com.mhschmieder.fxcontrols.control;
 
+import com.mhschmieder.fxcontrols.util.NumberFormatRegistry;
 import com.mhschmieder.jcommons.util.ClientProperties;
 import javafx.application.Platform;
 import javafx.beans.property.FloatProperty;
@@ -147,12 +148,18 @@ public class FloatEditor extends NumberEditor {
                                    final int minFractionDigitsParse,
                                    final int maxFractionDigitsParse ) {
         // Set the precision for floating-point text formatting.
-        _numberFormat.setMinimumFractionDigits( minFractionDigitsFormat );
-        _numberFormat.setMaximumFractionDigits( maxFractionDigitsFormat );
-
-        // Set the precision for floating-point text formatting.
-        _numberParse.setMinimumFractionDigits( minFractionDigitsParse );
-        _numberParse.setMaximumFractionDigits( maxFractionDigitsParse );
+        _numberFormat = NumberFormatRegistry.getNumberFormat( clientProperties.locale,
+                                                              minFractionDigitsFormat,
+                                                              maxFractionDigitsFormat,
+                                                              true,
+                                                              false );
+
+        // Set the precision for floating-point text parsing.
+        _numberParse = NumberFormatRegistry.getNumberFormat( clientProperties.locale,
+                                                             minFractionDigitsParse,
+                                                             maxFractionDigitsParse,
+                                                             true,
+                                                             false );
 
         // Now it is safe to restrict keyboard input while referencing class
         // variables and potentially local number formatting instances.
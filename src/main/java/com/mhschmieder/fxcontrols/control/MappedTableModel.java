@@ -0,0 +1,608 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import javafx.application.Platform;
+import javafx.concurrent.Task;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code MappedTableModel} is a read-only table model that sits directly on a
+ * memory-mapped delimited text file, such as a multi-gigabyte CSV export.
+ * <p>
+ * Only a compact index of the row offsets is kept on the heap, and it is built
+ * on a background thread so that rows show up as soon as they are indexed.
+ * The cells of a row are decoded from the mapped file when the table asks for
+ * that row, and a small cache of recently decoded rows covers the fact that
+ * the table asks once per visible cell rather than once per row.
+ * <p>
+ * The index can be saved to a separate file, in which case it is reused the
+ * next time the same unmodified data file is opened, skipping the scan.
+ * <p>
+ * Rows may end with a line feed, a carriage return and line feed, or a
+ * carriage return on its own, as with the {@link DelimitedTextReader}.
+ * <p>
+ * The model should be closed once it is no longer shown, so that it lets go
+ * of its mapped segments of the file.
+ * <p>
+ * NOTE: The character set must encode the delimiter, quotes, and line breaks
+ *  as single ASCII bytes, which is the case for UTF-8 and the ISO-8859 family
+ *  but not for UTF-16, as the rows are split before they are decoded.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class MappedTableModel extends TextTableModel implements Closeable {
+
+    /**
+     * The size of each mapped segment of the file, as a single mapping is
+     * limited to two gigabytes.
+     */
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+
+    /**
+     * The size of the buffer used to scan the file while indexing.
+     */
+    private static final int SCAN_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * The number of decoded rows to cache, which covers a full screen of rows.
+     */
+    private static final int ROW_CACHE_SIZE = 256;
+
+    /**
+     * The minimum time between publishing newly indexed rows to the table.
+     */
+    private static final long PUBLISH_INTERVAL_NANOS = 100_000_000L;
+
+    private static final byte QUOTE = '"';
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    /**
+     * The delimited text file that this model is mapped onto.
+     */
+    private final File file;
+
+    /**
+     * The character that separates the cells of a row.
+     */
+    private final char delimiter;
+
+    /**
+     * The character set of the delimited text file.
+     */
+    private final Charset charset;
+
+    /**
+     * The size of the file, as of when it was mapped.
+     */
+    private final long fileSize;
+
+    /**
+     * The read-only mapped segments of the file, in file order, or
+     * {@code null} once this model has been closed.
+     */
+    private MappedByteBuffer[] segments;
+
+    /**
+     * The row offset index, which is replaced if a saved one is found.
+     */
+    private volatile RowOffsetIndex offsetIndex;
+
+    /**
+     * The number of rows and columns that have been published to the table.
+     */
+    private int rowCount;
+    private int columnCount;
+
+    /**
+     * The most recently decoded rows, in access order.
+     */
+    private final Map< Integer, String[] > rowCache;
+
+    /**
+     * Scratch space for un-escaping quoted cells.
+     */
+    private final CellBuffer cellBuffer;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@link MappedTableModel} for the specified file, which is
+     * initially empty until its rows are indexed by {@link #makeIndexTask}.
+     *
+     * @param pFile
+     *            The delimited text file to map
+     * @param pDelimiter
+     *            The character that separates the cells of a row, which must
+     *            be an ASCII character
+     * @param pCharset
+     *            The character set of the delimited text file
+     * @throws IOException
+     *             If the file cannot be mapped
+     * @throws IllegalArgumentException
+     *             If the delimiter or character set cannot be split as bytes
+     *
+     * @since 1.0
+     */
+    @SuppressWarnings("nls")
+    public MappedTableModel( final File pFile,
+                             final char pDelimiter,
+                             final Charset pCharset ) throws IOException {
+        // Always call the superclass constructor first!
+        super();
+
+        final String specialCharacters = "\n\r\"" + pDelimiter;
+        if ( ( pDelimiter > 0x7F ) || !Arrays.equals(
+                specialCharacters.getBytes( pCharset ),
+                specialCharacters.getBytes( StandardCharsets.US_ASCII ) ) ) {
+            throw new IllegalArgumentException(
+                    "Delimiter and character set must be ASCII-compatible" );
+        }
+
+        file = pFile;
+        delimiter = pDelimiter;
+        charset = pCharset;
+
+        // The mappings remain valid after the channel is closed.
+        try ( final RandomAccessFile randomAccessFile = new RandomAccessFile( file, "r" );
+                final FileChannel channel = randomAccessFile.getChannel() ) {
+            fileSize = channel.size();
+            final int segmentCount = ( int ) ( ( fileSize + SEGMENT_SIZE - 1 ) >>> SEGMENT_SHIFT );
+            segments = new MappedByteBuffer[ segmentCount ];
+            for ( int segmentIndex = 0; segmentIndex < segmentCount; segmentIndex++ ) {
+                final long position = ( long ) segmentIndex << SEGMENT_SHIFT;
+                segments[ segmentIndex ] = channel.map( FileChannel.MapMode.READ_ONLY,
+                                                        position,
+                                                        Math.min( SEGMENT_SIZE,
+                                                                  fileSize - position ) );
+            }
+        }
+
+        offsetIndex = new RowOffsetIndex();
+        rowCount = 0;
+        columnCount = 0;
+
+        rowCache = new LinkedHashMap< Integer, String[] >( ROW_CACHE_SIZE, 0.75f, true ) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry( final Map.Entry< Integer, String[] > eldest ) {
+                return size() > ROW_CACHE_SIZE;
+            }
+        };
+
+        cellBuffer = new CellBuffer();
+    }
+
+    /////////////////// TextTableModel method overrides ///////////////////////
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String getCell( final int row, final int column ) {
+        if ( ( row < 0 ) || ( row >= rowCount ) ) {
+            throw new IndexOutOfBoundsException( "Row index: " + row
+                    + ", Row count: " + rowCount );
+        }
+
+        if ( segments == null ) {
+            throw new IllegalStateException( "Table model is closed" );
+        }
+
+        final Integer rowKey = Integer.valueOf( row );
+        String[] cells = rowCache.get( rowKey );
+        if ( cells == null ) {
+            cells = decodeRow( segments, offsetIndex, row, columnCount, cellBuffer );
+            rowCache.put( rowKey, cells );
+        }
+
+        return ( ( column >= 0 ) && ( column < cells.length ) ) ? cells[ column ] : "";
+    }
+
+    @Override
+    CellSnapshot makeSnapshot() {
+        // Published rows never change, so they can be decoded on any thread,
+        // as long as that thread has its own scratch space and row cache.
+        // NOTE: The snapshot holds on to the mapped segments, so that it can
+        //  still be read if this model is closed in the meantime.
+        final MappedByteBuffer[] snapshotSegments = segments;
+        if ( snapshotSegments == null ) {
+            return null;
+        }
+        final RowOffsetIndex snapshotIndex = offsetIndex;
+        final int snapshotRowCount = rowCount;
+        final int snapshotColumnCount = columnCount;
+
+        return new CellSnapshot() {
+            private final CellBuffer snapshotBuffer = new CellBuffer();
+
+            private int cachedRow = -1;
+
+            private String[] cachedCells = null;
+
+            @Override
+            public int getRowCount() {
+                return snapshotRowCount;
+            }
+
+            @Override
+            public int getColumnCount() {
+                return snapshotColumnCount;
+            }
+
+            @Override
+            public String getCell( final int rowIndex, final int columnIndex ) {
+                if ( rowIndex != cachedRow ) {
+                    cachedCells = decodeRow( snapshotSegments,
+                                             snapshotIndex, 
+                                             rowIndex, 
+                                             snapshotColumnCount, 
+                                             snapshotBuffer );
+                    cachedRow = rowIndex;
+                }
+
+                return ( columnIndex < cachedCells.length ) ? cachedCells[ columnIndex ] : ""; //$NON-NLS-1$
+            }
+        };
+    }
+
+    ////////////////////// Closeable method overrides //////////////////////
+
+    /**
+     * Lets go of the mapped segments of the file, once this model is no longer
+     * shown; its cells can't be read after that.
+     * <p>
+     * NOTE: Java offers no safe way to unmap a file explicitly, as any thread
+     *  that is still reading a mapping would crash, so the segments are only
+     *  unmapped once they are garbage collected, after any snapshots that are
+     *  still being read by the quick filter are done with them.
+     *
+     * @since 1.0
+     */
+    @Override
+    public void close() {
+        segments = null;
+        rowCache.clear();
+    }
+
+    //////////////////////////// Indexing methods /////////////////////////////
+
+    /**
+     * Returns a task that indexes the rows of the file on a background thread,
+     * publishing the rows to the table as they are indexed.
+     * <p>
+     * If an index file is supplied and it matches the current data file, it
+     * is used instead of scanning the data file; otherwise the data file is
+     * scanned and the resulting index is saved to the index file for reuse.
+     * <p>
+     * The task is not started; the caller decides which thread runs it.
+     *
+     * @param indexFile
+     *            The file to read and save the row index from and to, or
+     *            {@code null} if the index should not be persisted
+     * @return A task that indexes the rows of the file, whose value is the
+     *         number of rows that were indexed
+     *
+     * @since 1.0
+     */
+    public Task< Integer > makeIndexTask( final File indexFile ) {
+        return new Task< Integer >() {
+            @Override
+            protected Integer call() throws Exception {
+                final RowOffsetIndex savedIndex = readIndex( indexFile );
+                if ( savedIndex != null ) {
+                    offsetIndex = savedIndex;
+                    publishRows( savedIndex.getRowCount(), savedIndex.getColumnCount() );
+                    updateProgress( 1L, 1L );
+                    return Integer.valueOf( savedIndex.getRowCount() );
+                }
+
+                final int indexedRowCount = scanRows();
+                if ( ( indexFile != null ) && !isCancelled() ) {
+                    try {
+                        offsetIndex.write( indexFile, file, delimiter );
+                    }
+                    catch ( final IOException ioe ) {
+                        // Failing to save the index only costs a rescan.
+                        ioe.printStackTrace();
+                    }
+                }
+
+                return Integer.valueOf( indexedRowCount );
+            }
+
+            private int scanRows() throws IOException {
+                final RowOffsetIndex index = offsetIndex;
+                final byte delimiterByte = ( byte ) delimiter;
+                final ByteBuffer buffer = ByteBuffer.allocateDirect( SCAN_BUFFER_SIZE );
+
+                long position = 0L;
+                long lastPublishTime = System.nanoTime();
+                boolean quoted = false;
+                boolean quoteClosed = false;
+                boolean cellStart = true;
+                boolean carriageReturn = false;
+                int rowColumnCount = 1;
+                index.addBoundary( 0L );
+
+                try ( final RandomAccessFile randomAccessFile = new RandomAccessFile( file, "r" );
+                        final FileChannel channel = randomAccessFile.getChannel() ) {
+                    while ( !isCancelled() && ( channel.read( buffer ) > 0 ) ) {
+                        buffer.flip();
+                        while ( buffer.hasRemaining() ) {
+                            final byte b = buffer.get();
+                            position++;
+
+                            // A carriage return on its own ends a row too,
+                            // but the row goes on to include a line feed.
+                            if ( carriageReturn ) {
+                                carriageReturn = false;
+                                if ( b != LINE_FEED ) {
+                                    index.addBoundary( position - 1L );
+                                    index.updateColumnCount( rowColumnCount );
+                                    rowColumnCount = 1;
+                                    cellStart = true;
+                                }
+                            }
+
+                            if ( quoted ) {
+                                // A doubled quote closes and then reopens.
+                                if ( b == QUOTE ) {
+                                    quoted = false;
+                                    quoteClosed = true;
+                                }
+                                continue;
+                            }
+
+                            if ( ( b == QUOTE ) && ( cellStart || quoteClosed ) ) {
+                                quoted = true;
+                                cellStart = false;
+                                quoteClosed = false;
+                                continue;
+                            }
+
+                            quoteClosed = false;
+                            cellStart = false;
+                            if ( b == delimiterByte ) {
+                                rowColumnCount++;
+                                cellStart = true;
+                            }
+                            else if ( b == LINE_FEED ) {
+                                index.addBoundary( position );
+                                index.updateColumnCount( rowColumnCount );
+                                rowColumnCount = 1;
+                                cellStart = true;
+                            }
+                            else if ( b == CARRIAGE_RETURN ) {
+                                carriageReturn = true;
+                            }
+                        }
+                        buffer.clear();
+
+                        final long now = System.nanoTime();
+                        if ( ( now - lastPublishTime ) >= PUBLISH_INTERVAL_NANOS ) {
+                            lastPublishTime = now;
+                            publishRows( index.getRowCount(), index.getColumnCount() );
+                            updateProgress( position, fileSize );
+                        }
+                    }
+                }
+
+                // The last row may end with a carriage return on its own, or
+                // may not have a line terminator at all.
+                if ( !isCancelled() && carriageReturn ) {
+                    index.addBoundary( position );
+                    index.updateColumnCount( rowColumnCount );
+                }
+                else if ( !isCancelled() 
+                        && ( position > index.getRowStart( index.getRowCount() ) ) ) {
+                    index.addBoundary( position );
+                    index.updateColumnCount( rowColumnCount );
+                }
+
+                publishRows( index.getRowCount(), index.getColumnCount() );
+                updateProgress( fileSize, fileSize );
+
+                return index.getRowCount();
+            }
+        };
+    }
+
+    private RowOffsetIndex readIndex( final File indexFile ) {
+        if ( indexFile == null ) {
+            return null;
+        }
+
+        try {
+            return RowOffsetIndex.read( indexFile, file, delimiter );
+        }
+        catch ( final IOException ioe ) {
+            // An unreadable index is no worse than a missing one.
+            ioe.printStackTrace();
+            return null;
+        }
+    }
+
+    private void publishRows( final int indexedRowCount,
+                              final int indexedColumnCount ) {
+        Platform.runLater( () -> {
+            if ( ( segments == null ) || ( indexedRowCount <= rowCount ) ) {
+                return;
+            }
+
+            final int firstRow = rowCount;
+            rowCount = indexedRowCount;
+            columnCount = Math.max( columnCount, indexedColumnCount );
+            fireRowsAdded( firstRow, rowCount );
+        } );
+    }
+
+    //////////////////////////// Decoding methods /////////////////////////////
+
+    private String[] decodeRow( final MappedByteBuffer[] rowSegments,
+                                final RowOffsetIndex index,
+                                final int row,
+                                final int decodedColumnCount,
+                                final CellBuffer buffer ) {
+        final long rowStart = index.getRowStart( row );
+        final byte[] rowBytes = readBytes( rowSegments, rowStart, index.getRowEnd( row ) );
+
+        // Drop the line terminator.
+        int rowLength = rowBytes.length;
+        if ( ( rowLength > 0 ) && ( rowBytes[ rowLength - 1 ] == LINE_FEED ) ) {
+            rowLength--;
+        }
+        if ( ( rowLength > 0 ) && ( rowBytes[ rowLength - 1 ] == CARRIAGE_RETURN ) ) {
+            rowLength--;
+        }
+
+        final String[] cells = new String[ decodedColumnCount ];
+        final byte delimiterByte = ( byte ) delimiter;
+        int cellIndex = 0;
+        int cellStart = 0;
+        int cellLength = 0;
+        boolean quoted = false;
+        boolean escaped = false;
+
+        for ( int i = 0; i <= rowLength; i++ ) {
+            final boolean endOfRow = ( i == rowLength );
+            final byte b = endOfRow ? delimiterByte : rowBytes[ i ];
+
+            if ( quoted && !endOfRow ) {
+                if ( b == QUOTE ) {
+                    if ( ( ( i + 1 ) < rowLength ) && ( rowBytes[ i + 1 ] == QUOTE ) ) {
+                        buffer.put( QUOTE, cellLength++ );
+                        i++;
+                    }
+                    else {
+                        quoted = false;
+                    }
+                }
+                else {
+                    buffer.put( b, cellLength++ );
+                }
+            }
+            else if ( b == delimiterByte ) {
+                if ( cellIndex < cells.length ) {
+                    cells[ cellIndex ] = escaped
+                        ? buffer.toString( cellLength, charset )
+                        : new String( rowBytes, cellStart, i - cellStart, charset );
+                }
+                cellIndex++;
+                cellStart = i + 1;
+                cellLength = 0;
+                escaped = false;
+            }
+            else if ( ( b == QUOTE ) && ( i == cellStart ) && !escaped ) {
+                // Quoted cells are copied out, so that escapes can be removed.
+                quoted = true;
+                escaped = true;
+            }
+            else if ( escaped ) {
+                buffer.put( b, cellLength++ );
+            }
+        }
+
+        for ( int i = cellIndex; i < cells.length; i++ ) {
+            cells[ i ] = "";
+        }
+
+        return cells;
+    }
+
+    private static byte[] readBytes( final MappedByteBuffer[] segments,
+                                     final long start,
+                                     final long end ) {
+        final byte[] bytes = new byte[ ( int ) ( end - start ) ];
+
+        // A row may straddle two mapped segments.
+        long position = start;
+        int offset = 0;
+        while ( offset < bytes.length ) {
+            final int segmentIndex = ( int ) ( position >>> SEGMENT_SHIFT );
+            final int segmentOffset = ( int ) ( position & ( SEGMENT_SIZE - 1 ) );
+            final ByteBuffer segment = segments[ segmentIndex ].duplicate();
+            segment.position( segmentOffset );
+
+            final int length = Math.min( bytes.length - offset, segment.remaining() );
+            segment.get( bytes, offset, length );
+            offset += length;
+            position += length;
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Growable scratch space for un-escaping quoted cells, as only one
+     * thread at a time may use each buffer.
+     */
+    private static final class CellBuffer {
+
+        private byte[] cellBytes = new byte[ 256 ];
+
+        void put( final byte b, final int position ) {
+            if ( position >= cellBytes.length ) {
+                cellBytes = Arrays.copyOf( cellBytes, cellBytes.length * 2 );
+            }
+            cellBytes[ position ] = b;
+        }
+
+        String toString( final int length, final Charset charset ) {
+            return new String( cellBytes, 0, length, charset );
+        }
+    }
+}
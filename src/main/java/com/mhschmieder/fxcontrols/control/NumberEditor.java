@@ -30,6 +30,7 @@
  */
 package com.mhschmieder.fxcontrols.control;
 
+import com.mhschmieder.fxcontrols.util.NumberFormatRegistry;
 import com.mhschmieder.jcommons.lang.StringUtilities;
 import com.mhschmieder.jcommons.util.ClientProperties;
 import javafx.application.Platform;
@@ -80,12 +81,16 @@ public abstract class NumberEditor extends XTextField {
     }
 
     private final void initEditor() {
-        _numberFormat = NumberFormat.getNumberInstance( clientProperties.locale );
+        // Copy the locale's default grouped number format from the registry,
+        // as subclasses may adjust the formatting and parsing separately.
+        _numberFormat = NumberFormatRegistry.getNumberFormat( 
+                clientProperties.locale,
+                NumberFormatRegistry.DEFAULT_FRACTION_DIGITS,
+                NumberFormatRegistry.DEFAULT_FRACTION_DIGITS,
+                true,
+                false );
         _numberParse = ( NumberFormat ) _numberFormat.clone();
 
-        _numberFormat.setGroupingUsed( true );
-        _numberParse.setGroupingUsed( true );
-
         // Use a TextFormatter to wrap and bind the provided number format.
         // NOTE: This stops measurement unit changes from falsely triggering
         // the dirty flag, but also means the formatting is applied but not the
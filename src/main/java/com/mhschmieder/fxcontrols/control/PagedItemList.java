@@ -0,0 +1,411 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableListBase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@code PagedItemList} is a read-only observable list of table items that are
+ * supplied by a {@link TableDataProvider} one page at a time, with only a
+ * bounded number of recently used pages held in memory.
+ * <p>
+ * Asking for a row whose page isn't cached returns a placeholder row, and
+ * fetches the page and its neighbours in the background; when a page arrives,
+ * its rows are reported as updated, so that the table redraws them.
+ * <p>
+ * NOTE: This list must only be used on the JavaFX Application Thread.
+ *
+ * @param <TD>
+ *            The data type for the table
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+final class PagedItemList< TD > extends ObservableListBase< TD > {
+
+    /**
+     * The shared thread that fetches pages from all providers, so that each
+     * provider is only ever called from one thread at a time.
+     */
+    private static final ExecutorService FETCH_EXECUTOR = Executors
+            .newSingleThreadExecutor( runnable -> {
+                final Thread thread = new Thread( runnable, "Table Page Fetcher" ); //$NON-NLS-1$
+                thread.setDaemon( true );
+                return thread;
+            } );
+
+    /**
+     * The number of pages to prefetch on either side of the current page.
+     */
+    private static final int PREFETCH_PAGE_COUNT = 1;
+
+    /**
+     * The source of the rows.
+     */
+    private final TableDataProvider< TD > dataProvider;
+
+    /**
+     * The number of rows per page.
+     */
+    private final int pageSize;
+
+    /**
+     * The maximum number of pages to keep in memory.
+     */
+    private final int maximumCachedPages;
+
+    /**
+     * The cached pages by page index, in least recently used order.
+     */
+    private final Map< Integer, List< TD > > cachedPages;
+
+    /**
+     * The indices of the pages that are being fetched.
+     */
+    private final Set< Integer > pendingPages;
+
+    /**
+     * The number of rows, as of the most recent refresh.
+     */
+    private int rowCount;
+
+    /**
+     * The index of the most recently used page, which is where the user is
+     * looking; pages that are too far away by the time they are due to be
+     * fetched are skipped.
+     */
+    private volatile int currentPage;
+
+    /**
+     * The count of refreshes, used to discard pages that were fetched before
+     * the most recent refresh.
+     */
+    private volatile int generation;
+
+    /**
+     * Constructs a {@link PagedItemList} for the specified provider.
+     *
+     * @param pDataProvider
+     *            The source of the rows
+     * @param pPageSize
+     *            The number of rows per page, which should be at least a
+     *            screenful of rows
+     * @param pMaximumCachedPages
+     *            The maximum number of pages to keep in memory
+     */
+    PagedItemList( final TableDataProvider< TD > pDataProvider,
+                   final int pPageSize,
+                   final int pMaximumCachedPages ) {
+        // Always call the superclass constructor first!
+        super();
+
+        dataProvider = pDataProvider;
+        pageSize = Math.max( 1, pPageSize );
+
+        // Always leave room for the current page and its prefetched neighbours.
+        maximumCachedPages = Math.max( pMaximumCachedPages, 
+                                       ( 2 * PREFETCH_PAGE_COUNT ) + 2 );
+
+        cachedPages = new LinkedHashMap< Integer, List< TD > >( 16, 0.75f, true ) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry( final Map.Entry< Integer, List< TD > > eldest ) {
+                return size() > maximumCachedPages;
+            }
+        };
+        pendingPages = new HashSet<>();
+
+        rowCount = dataProvider.getRowCount();
+        currentPage = 0;
+        generation = 0;
+    }
+
+    @Override
+    public TD get( final int index ) {
+        if ( ( index < 0 ) || ( index >= rowCount ) ) {
+            throw new IndexOutOfBoundsException( Integer.toString( index ) );
+        }
+
+        final int pageIndex = index / pageSize;
+        final List< TD > page = cachedPages.get( Integer.valueOf( pageIndex ) );
+
+        // Only look around for pages to fetch when the user moves to another
+        // page, as the table asks for each visible row on every layout.
+        if ( ( page == null ) || ( pageIndex != currentPage ) ) {
+            currentPage = pageIndex;
+            requestPage( pageIndex );
+            for ( int offset = 1; offset <= PREFETCH_PAGE_COUNT; offset++ ) {
+                requestPage( pageIndex + offset );
+                requestPage( pageIndex - offset );
+            }
+        }
+
+        final int pageOffset = index - ( pageIndex * pageSize );
+        return ( ( page != null ) && ( pageOffset < page.size() ) )
+            ? page.get( pageOffset )
+            : dataProvider.getPlaceholderRow( index );
+    }
+
+    @Override
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * Returns {@code true} if the specified row has been fetched and is still
+     * in memory, rather than being shown as a placeholder.
+     *
+     * @param index
+     *            The index of the row
+     * @return {@code true} if the specified row is in memory
+     */
+    boolean isRowLoaded( final int index ) {
+        return cachedPages.containsKey( Integer.valueOf( index / pageSize ) );
+    }
+
+    /**
+     * Discards all of the cached pages and queries the row count again, such
+     * as after the provider's data has changed, and reports that all of the
+     * rows were replaced.
+     */
+    void refresh() {
+        generation++;
+        cachedPages.clear();
+        pendingPages.clear();
+
+        final int oldRowCount = rowCount;
+        rowCount = dataProvider.getRowCount();
+
+        // The old rows are reported as placeholders, as they are gone anyway.
+        fireChange( new RangeChange( 0, 
+                                     rowCount, 
+                                     Collections.nCopies( oldRowCount, null ),
+                                     false ) );
+    }
+
+    /**
+     * Fetches the specified rows from the provider in the background, whether
+     * or not their pages are cached, for reading rows that may not be in view,
+     * such as when exporting or copying them.
+     * <p>
+     * Each contiguous run of rows is fetched with a single call to the
+     * provider, on the same thread that fetches the pages.
+     *
+     * @param rowIndices
+     *            The indices of the rows to fetch, in ascending order
+     * @return The future for the fetched rows, in the same order
+     */
+    CompletableFuture< List< TD > > fetchRows( final int[] rowIndices ) {
+        return CompletableFuture.supplyAsync( () -> {
+            final List< TD > rows = new ArrayList<>( rowIndices.length );
+            int runStart = 0;
+            while ( runStart < rowIndices.length ) {
+                int runEnd = runStart + 1;
+                while ( ( runEnd < rowIndices.length ) 
+                        && ( rowIndices[ runEnd ] == ( rowIndices[ runEnd - 1 ] + 1 ) ) ) {
+                    runEnd++;
+                }
+
+                try {
+                    rows.addAll( dataProvider.fetchRows( rowIndices[ runStart ], 
+                                                         rowIndices[ runEnd - 1 ] + 1 ) );
+                }
+                catch ( final Exception ex ) {
+                    throw new CompletionException( ex );
+                }
+                runStart = runEnd;
+            }
+
+            return rows;
+        }, FETCH_EXECUTOR );
+    }
+
+    private void requestPage( final int pageIndex ) {
+        if ( ( pageIndex < 0 ) || ( ( ( long ) pageIndex * pageSize ) >= rowCount ) ) {
+            return;
+        }
+
+        final Integer pageKey = Integer.valueOf( pageIndex );
+        if ( cachedPages.containsKey( pageKey ) || !pendingPages.add( pageKey ) ) {
+            return;
+        }
+
+        final int fromIndex = pageIndex * pageSize;
+        final int toIndex = Math.min( fromIndex + pageSize, rowCount );
+        final int fetchGeneration = generation;
+        FETCH_EXECUTOR.execute( () -> {
+            List< TD > rows = null;
+
+            // Skip pages that the user has scrolled well away from while they
+            // were waiting, as they would only be evicted again right away.
+            if ( ( fetchGeneration == generation ) 
+                    && ( Math.abs( pageIndex - currentPage ) <= ( maximumCachedPages / 2 ) ) ) {
+                try {
+                    rows = dataProvider.fetchRows( fromIndex, toIndex );
+                }
+                catch ( final Exception ex ) {
+                    ex.printStackTrace();
+                }
+            }
+
+            final List< TD > fetchedRows = rows;
+            Platform.runLater( () -> pageFetched( pageKey, 
+                                                  fromIndex, 
+                                                  fetchGeneration, 
+                                                  fetchedRows ) );
+        } );
+    }
+
+    private void pageFetched( final Integer pageKey,
+                              final int fromIndex,
+                              final int fetchGeneration,
+                              final List< TD > rows ) {
+        // Pages from before a refresh may be out of date.
+        if ( fetchGeneration != generation ) {
+            return;
+        }
+
+        // A page that was skipped or failed is fetched again on next use.
+        pendingPages.remove( pageKey );
+        if ( rows == null ) {
+            return;
+        }
+
+        cachedPages.put( pageKey, rows );
+
+        // Redraw the rows that were showing placeholders, as a single change.
+        final int toIndex = Math.min( fromIndex + rows.size(), rowCount );
+        if ( fromIndex < toIndex ) {
+            fireChange( new RangeChange( fromIndex, 
+                                         toIndex, 
+                                         Collections.emptyList(), 
+                                         true ) );
+        }
+    }
+
+    /**
+     * A change that covers a single range of rows, which is either updated or
+     * replaced, without copying the rows like the standard change builder does.
+     */
+    private final class RangeChange extends ListChangeListener.Change< TD > {
+
+        private final int from;
+
+        private final int to;
+
+        private final List< TD > removed;
+
+        private final boolean updated;
+
+        private boolean atChange;
+
+        RangeChange( final int pFrom,
+                     final int pTo,
+                     final List< TD > pRemoved,
+                     final boolean pUpdated ) {
+            // Always call the superclass constructor first!
+            super( PagedItemList.this );
+
+            from = pFrom;
+            to = pTo;
+            removed = pRemoved;
+            updated = pUpdated;
+            atChange = false;
+        }
+
+        @Override
+        public boolean next() {
+            if ( atChange ) {
+                return false;
+            }
+            atChange = true;
+            return true;
+        }
+
+        @Override
+        public void reset() {
+            atChange = false;
+        }
+
+        @Override
+        public int getFrom() {
+            checkState();
+            return from;
+        }
+
+        @Override
+        public int getTo() {
+            checkState();
+            return to;
+        }
+
+        @Override
+        public List< TD > getRemoved() {
+            checkState();
+            return removed;
+        }
+
+        @Override
+        public boolean wasUpdated() {
+            checkState();
+            return updated;
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            checkState();
+            return new int[ 0 ];
+        }
+
+        @SuppressWarnings("nls")
+        private void checkState() {
+            if ( !atChange ) {
+                throw new IllegalStateException( "Invalid Change state: next() must be called before inspecting the Change." );
+            }
+        }
+    }
+}
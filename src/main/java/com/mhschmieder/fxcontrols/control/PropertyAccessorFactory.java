@@ -0,0 +1,200 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.control.TableColumn.CellDataFeatures;
+import javafx.util.Callback;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+
+/**
+ * {@code PropertyAccessorFactory} is a cell value factory that looks up a
+ * named property the same way that {@code PropertyValueFactory} does, but that
+ * resolves it to a {@link MethodHandle} once per row class rather than going
+ * through reflection for every cell that is shown.
+ * <p>
+ * The {@code <name>Property()} method is preferred; failing that, the plain
+ * {@code get<Name>()} or {@code is<Name>()} getter is wrapped in a read-only
+ * value, so the cell won't update when the value changes.
+ *
+ * @param <TD>
+ *            The data type for the table
+ * @param <CT>
+ *            The type of the content for all cells in the column
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class PropertyAccessorFactory< TD, CT >
+        implements Callback< CellDataFeatures< TD, CT >, ObservableValue< CT > > {
+
+    /**
+     * The generic signature that resolved methods are adapted to.
+     */
+    private static final MethodType ACCESSOR_TYPE = MethodType
+            .methodType( Object.class, Object.class );
+
+    /**
+     * The name of the property that this factory looks up.
+     */
+    private final String propertyName;
+
+    /**
+     * The row class that the accessor was last resolved for.
+     */
+    private Class< ? > rowClass;
+
+    /**
+     * The accessor for the property on the current row class, or {@code null}
+     * if the row class doesn't have the property.
+     */
+    private MethodHandle accessor;
+
+    /**
+     * Flag for whether the accessor returns the property itself, rather than
+     * the property value.
+     */
+    private boolean accessorIsProperty;
+
+    /**
+     * Constructs a {@link PropertyAccessorFactory} for the named property.
+     *
+     * @param pPropertyName
+     *            The name of the property that this factory looks up
+     */
+    public PropertyAccessorFactory( final String pPropertyName ) {
+        propertyName = pPropertyName;
+
+        rowClass = null;
+        accessor = null;
+        accessorIsProperty = false;
+    }
+
+    /**
+     * Returns the name of the property that this factory looks up.
+     *
+     * @return The name of the property that this factory looks up
+     *
+     * @since 1.0
+     */
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public ObservableValue< CT > call( final CellDataFeatures< TD, CT > cellDataFeatures ) {
+        final TD rowData = cellDataFeatures.getValue();
+        if ( rowData == null ) {
+            return null;
+        }
+
+        // Tables almost always have a single row class, so the accessor is
+        // only resolved again when the class changes.
+        final Class< ? > dataClass = rowData.getClass();
+        if ( dataClass != rowClass ) {
+            resolveAccessor( dataClass );
+        }
+        if ( accessor == null ) {
+            return null;
+        }
+
+        try {
+            final Object result = accessor.invokeExact( ( Object ) rowData );
+            return accessorIsProperty
+                ? ( ObservableValue< CT > ) result
+                : new ReadOnlyObjectWrapper<>( ( CT ) result );
+        }
+        catch ( final Throwable t ) {
+            t.printStackTrace();
+            return null;
+        }
+    }
+
+    @SuppressWarnings("nls")
+    private void resolveAccessor( final Class< ? > dataClass ) {
+        rowClass = dataClass;
+        accessor = null;
+        accessorIsProperty = false;
+
+        if ( ( propertyName == null ) || propertyName.isEmpty() ) {
+            return;
+        }
+
+        final String capitalizedName = propertyName.substring( 0, 1 )
+                .toUpperCase( Locale.ENGLISH ) + propertyName.substring( 1 );
+
+        Method method = findMethod( dataClass, propertyName + "Property" );
+        if ( ( method != null ) 
+                && ObservableValue.class.isAssignableFrom( method.getReturnType() ) ) {
+            accessorIsProperty = true;
+        }
+        else {
+            method = findMethod( dataClass, "get" + capitalizedName );
+            if ( method == null ) {
+                method = findMethod( dataClass, "is" + capitalizedName );
+            }
+        }
+        if ( method == null ) {
+            return;
+        }
+
+        try {
+            // Public methods of non-public row classes need to be opened up,
+            // which is also what reflective invocation would require.
+            if ( !Modifier.isPublic( method.getDeclaringClass().getModifiers() ) ) {
+                method.setAccessible( true );
+            }
+            accessor = MethodHandles.publicLookup().unreflect( method ).asType( ACCESSOR_TYPE );
+        }
+        catch ( final IllegalAccessException | RuntimeException ex ) {
+            ex.printStackTrace();
+            accessorIsProperty = false;
+        }
+    }
+
+    private static Method findMethod( final Class< ? > dataClass, final String methodName ) {
+        try {
+            return dataClass.getMethod( methodName );
+        }
+        catch ( final NoSuchMethodException | SecurityException ex ) {
+            return null;
+        }
+    }
+}
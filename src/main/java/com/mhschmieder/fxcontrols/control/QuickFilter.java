@@ -0,0 +1,657 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * {@code QuickFilter} implements "filter as you type" for a {@link TableView},
+ * by keeping a {@link TableFilterIndex} of the table's visible columns and
+ * swapping a {@link FilteredIndexList} view of the table's items in and out
+ * as the filter text is set and cleared.
+ * <p>
+ * The index is built on a background thread whenever new items are set on the
+ * table. The cell text for the build is gathered on that thread too when the
+ * items are the rows of a {@link TextTableModel} that supports it; otherwise
+ * it is gathered on the JavaFX Application Thread a chunk at a time, so that
+ * the table stays responsive while large tables are indexed.
+ * <p>
+ * The index always covers a leading run of the items, and is then kept up to
+ * date incrementally: small changes are indexed in place, and rows that are
+ * appended (such as while a file is streamed in) are caught up with a chunk
+ * at a time. Rows that aren't indexed yet are scanned when filtering, so the
+ * filtered view is always complete.
+ *
+ * @param <TD>
+ *            The data type for the table
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+final class QuickFilter< TD > {
+
+    /**
+     * The largest number of cells that are read or indexed on the JavaFX
+     * Application Thread at a time; larger jobs are spread across pulses.
+     */
+    private static final int MAXIMUM_CHUNK_CELL_COUNT = 16384;
+
+    /**
+     * The largest number of rows that are caught up with in chunks rather
+     * than by a fresh background build, unless the index is bigger still.
+     */
+    private static final int MAXIMUM_CATCH_UP_ROW_COUNT = 65536;
+
+    /**
+     * The shared thread that builds filter indices in the background.
+     */
+    private static final ExecutorService INDEX_EXECUTOR = Executors
+            .newSingleThreadExecutor( runnable -> {
+                final Thread thread = new Thread( runnable, "Table Filter Indexer" ); //$NON-NLS-1$
+                thread.setDaemon( true );
+                return thread;
+            } );
+
+    /**
+     * The table whose items are filtered.
+     */
+    private final TableView< TD > table;
+
+    /**
+     * The unfiltered items for the table.
+     */
+    private ObservableList< TD > sourceItems;
+
+    /**
+     * The filtered view of the source items, while the filter is applied.
+     */
+    private FilteredIndexList< TD > filteredItems;
+
+    /**
+     * The columns whose cell text is indexed, in index column order, unless
+     * the columns of a table model are indexed instead.
+     */
+    private List< TableColumn< TD, ? > > indexedColumns;
+
+    /**
+     * The number of table model columns that are indexed, or -1 if the
+     * table's columns are indexed instead.
+     */
+    private int indexedModelColumnCount;
+
+    /**
+     * The filter index, which covers as many leading source items as it has
+     * rows, or {@code null} if it is being built.
+     */
+    private TableFilterIndex filterIndex;
+
+    /**
+     * Flag for whether the filter index is being built.
+     */
+    private boolean building;
+
+    /**
+     * The number of leading source items that the current build covers.
+     */
+    private int buildRowCount;
+
+    /**
+     * The cell text that is being gathered for the current build, if it is
+     * being gathered on the JavaFX Application Thread.
+     */
+    private String[][] buildText;
+
+    /**
+     * The number of rows whose cell text has been gathered for the build.
+     */
+    private int extractedRowCount;
+
+    /**
+     * The background part of the current build, if it has been started.
+     */
+    private Task< TableFilterIndex > indexTask;
+
+    /**
+     * The number of builds that have been started, so that chunks and tasks
+     * that belong to a superseded build can tell that they are obsolete.
+     */
+    private int buildGeneration;
+
+    /**
+     * Flag for whether rows covered by the current build changed meanwhile.
+     */
+    private boolean indexStale;
+
+    /**
+     * Flag for whether the next chunk of unindexed rows is scheduled.
+     */
+    private boolean catchUpScheduled;
+
+    /**
+     * The current filter text, which is empty when no filter is applied.
+     */
+    private String filterText;
+
+    /**
+     * Flag for whether this filter is swapping the table's items itself.
+     */
+    private boolean swappingItems;
+
+    /**
+     * Keeps the filter index up to date as the source items change.
+     */
+    private final ListChangeListener< TD > sourceItemsListener;
+
+    /**
+     * Follows replacement of the table's items.
+     */
+    private final ChangeListener< ObservableList< TD > > itemsListener;
+
+    /**
+     * Rebuilds the filter index when the visible columns change.
+     */
+    private final ListChangeListener< TableColumn< TD, ? > > columnsListener;
+
+    /**
+     * Constructs a {@link QuickFilter} for the specified table, and starts
+     * indexing its current items.
+     *
+     * @param pTable
+     *            The table whose items are to be filtered
+     */
+    QuickFilter( final TableView< TD > pTable ) {
+        table = pTable;
+
+        sourceItems = null;
+        filteredItems = null;
+        indexedColumns = new ArrayList<>();
+        indexedModelColumnCount = -1;
+        filterIndex = null;
+        building = false;
+        buildRowCount = 0;
+        buildText = null;
+        extractedRowCount = 0;
+        indexTask = null;
+        buildGeneration = 0;
+        indexStale = false;
+        catchUpScheduled = false;
+        filterText = ""; //$NON-NLS-1$
+        swappingItems = false;
+
+        sourceItemsListener = this::sourceItemsChanged;
+        itemsListener = ( observableValue, oldItems, newItems ) -> {
+            if ( !swappingItems ) {
+                setSourceItems( newItems );
+            }
+        };
+        columnsListener = change -> rebuildIndex();
+
+        table.itemsProperty().addListener( itemsListener );
+        table.getVisibleLeafColumns().addListener( columnsListener );
+        setSourceItems( table.getItems() );
+    }
+
+    /**
+     * Stops filtering and indexing, and restores the unfiltered items.
+     *
+     * @since 1.0
+     */
+    void dispose() {
+        setFilterText( "" ); //$NON-NLS-1$
+        setSourceItems( null );
+        table.itemsProperty().removeListener( itemsListener );
+        table.getVisibleLeafColumns().removeListener( columnsListener );
+    }
+
+    /**
+     * Returns {@code true} if the table is showing a filtered view.
+     *
+     * @return {@code true} if the table is showing a filtered view
+     *
+     * @since 1.0
+     */
+    boolean isActive() {
+        return ( filteredItems != null ) && ( table.getItems() == filteredItems );
+    }
+
+    /**
+     * Returns the unfiltered items for the table.
+     *
+     * @return The unfiltered items for the table
+     *
+     * @since 1.0
+     */
+    ObservableList< TD > getSourceItems() {
+        return sourceItems;
+    }
+
+    /**
+     * Returns the index in the unfiltered items of the row at the specified
+     * index in the table's items.
+     *
+     * @param viewIndex
+     *            The index of the row in the table's items
+     * @return The index of the row in the unfiltered items
+     *
+     * @since 1.0
+     */
+    int getSourceIndex( final int viewIndex ) {
+        return ( isActive() && ( viewIndex >= 0 ) && ( viewIndex < filteredItems.size() ) )
+            ? filteredItems.getSourceIndex( viewIndex )
+            : viewIndex;
+    }
+
+    /**
+     * Sets the filter text, showing only the rows that have a cell containing
+     * it (ignoring case), or all rows if the text is empty.
+     *
+     * @param pFilterText
+     *            The text to filter on
+     *
+     * @since 1.0
+     */
+    void setFilterText( final String pFilterText ) {
+        filterText = ( pFilterText != null ) ? pFilterText : ""; //$NON-NLS-1$
+        applyFilter();
+    }
+
+    private void setSourceItems( final ObservableList< TD > newSourceItems ) {
+        if ( sourceItems != null ) {
+            sourceItems.removeListener( sourceItemsListener );
+        }
+        cancelBuild();
+        filterIndex = null;
+        filteredItems = null;
+
+        // Rows that are paged in from a data provider aren't all in memory,
+        // so they can't be indexed without paging in the entire data set.
+        sourceItems = ( newSourceItems instanceof PagedItemList ) ? null : newSourceItems;
+        if ( sourceItems != null ) {
+            sourceItems.addListener( sourceItemsListener );
+        }
+
+        // The filter is re-applied once the new index has been built, rather
+        // than while the table is still in the middle of replacing its items.
+        rebuildIndex();
+    }
+
+    private void sourceItemsChanged( final Change< ? extends TD > change ) {
+        if ( building ) {
+            // The build only covers the rows that were there when it started,
+            // so rows that are appended meanwhile are caught up with later.
+            while ( change.next() ) {
+                if ( change.getFrom() < buildRowCount ) {
+                    indexStale = true;
+                }
+            }
+
+            // There's no point gathering the rest of the cell text for a build
+            // that is already out of date.
+            if ( indexStale && ( indexTask == null ) ) {
+                rebuildIndex();
+            }
+        }
+        else if ( filterIndex != null ) {
+            boolean rebuildNeeded = false;
+            while ( !rebuildNeeded && change.next() ) {
+                final int from = change.getFrom();
+                if ( change.wasPermutated() ) {
+                    rebuildNeeded = from < filterIndex.getRowCount();
+                }
+                else if ( change.wasUpdated() ) {
+                    reindexRows( from, Math.min( change.getTo(), filterIndex.getRowCount() ) );
+                }
+                else {
+                    if ( change.wasRemoved() && ( from < filterIndex.getRowCount() ) ) {
+                        filterIndex.removeRows( from, 
+                                                Math.min( from + change.getRemovedSize(),
+                                                          filterIndex.getRowCount() ) );
+                    }
+                    if ( change.wasAdded() && ( from < filterIndex.getRowCount() ) ) {
+                        if ( change.getAddedSize() <= getChunkRowCount() ) {
+                            filterIndex.insertRows( from, 
+                                                    extractText( change.getAddedSubList() ) );
+                        }
+                        else {
+                            // The index must stay a leading run of the rows, so
+                            // the rows from here on are caught up with later.
+                            filterIndex.removeRows( from, filterIndex.getRowCount() );
+                        }
+                    }
+                }
+            }
+
+            // A fresh build is cheaper than catching up with most of the rows.
+            final int indexedRowCount = filterIndex.getRowCount();
+            final int unindexedRowCount = sourceItems.size() - indexedRowCount;
+            if ( rebuildNeeded || filterIndex.isMostlyRemoved() || ( unindexedRowCount 
+                    > Math.max( indexedRowCount, MAXIMUM_CATCH_UP_ROW_COUNT ) ) ) {
+                rebuildIndex();
+            }
+            else {
+                scheduleCatchUp();
+            }
+        }
+
+        applyFilter();
+    }
+
+    // Re-indexes the specified rows after their contents were updated.
+    private void reindexRows( final int fromRow, final int toRow ) {
+        if ( fromRow >= toRow ) {
+            return;
+        }
+
+        if ( ( toRow - fromRow ) > getChunkRowCount() ) {
+            filterIndex.removeRows( fromRow, filterIndex.getRowCount() );
+            return;
+        }
+
+        filterIndex.removeRows( fromRow, toRow );
+        filterIndex.insertRows( fromRow, extractText( sourceItems.subList( fromRow, toRow ) ) );
+    }
+
+    private void rebuildIndex() {
+        // Only one build runs at a time, so any build that is still running
+        // is out of date and is abandoned.
+        cancelBuild();
+        filterIndex = null;
+        if ( sourceItems == null ) {
+            return;
+        }
+
+        building = true;
+        buildRowCount = sourceItems.size();
+        indexedColumns = new ArrayList<>( table.getVisibleLeafColumns() );
+
+        // If the rows come from a table model that can be read on another
+        // thread, all of its columns are indexed there; otherwise the cell
+        // values are gathered here, as they may come from properties that are
+        // only safe to read on the JavaFX Application Thread.
+        final int generation = buildGeneration;
+        final TextTableModel tableModel = TextTableModel.getModel( sourceItems );
+        final TextTableModel.CellSnapshot snapshot = ( tableModel != null ) 
+            ? tableModel.makeSnapshot() 
+            : null;
+        if ( snapshot != null ) {
+            indexedModelColumnCount = snapshot.getColumnCount();
+            startIndexTask( generation, () -> extractText( snapshot ) );
+        }
+        else {
+            indexedModelColumnCount = -1;
+            buildText = new String[ indexedColumns.size() ][ buildRowCount ];
+            extractedRowCount = 0;
+            extractChunk( generation );
+        }
+    }
+
+    // Gathers the cell text for the next chunk of rows of the current build,
+    // and then either schedules the next chunk or starts the index build.
+    private void extractChunk( final int generation ) {
+        if ( generation != buildGeneration ) {
+            return;
+        }
+
+        final int fromRow = extractedRowCount;
+        final int toRow = Math.min( buildRowCount, fromRow + getChunkRowCount() );
+        for ( int columnIndex = 0; columnIndex < buildText.length; columnIndex++ ) {
+            final String[] cellText = buildText[ columnIndex ];
+            for ( int rowIndex = fromRow; rowIndex < toRow; rowIndex++ ) {
+                cellText[ rowIndex ] = getCellText( sourceItems.get( rowIndex ), columnIndex );
+            }
+        }
+        extractedRowCount = toRow;
+
+        // Leave room for input events and pulses in between chunks.
+        if ( extractedRowCount < buildRowCount ) {
+            Platform.runLater( () -> extractChunk( generation ) );
+            return;
+        }
+
+        final String[][] columnText = buildText;
+        buildText = null;
+        startIndexTask( generation, () -> columnText );
+    }
+
+    private void startIndexTask( final int generation,
+                                 final Supplier< String[][] > columnTextSupplier ) {
+        final Task< TableFilterIndex > task = new Task< TableFilterIndex >() {
+            @Override
+            protected TableFilterIndex call() {
+                return new TableFilterIndex( columnTextSupplier.get() );
+            }
+        };
+        task.setOnSucceeded( evt -> {
+            if ( generation != buildGeneration ) {
+                return;
+            }
+            building = false;
+            indexTask = null;
+            if ( indexStale ) {
+                rebuildIndex();
+            }
+            else {
+                filterIndex = task.getValue();
+                scheduleCatchUp();
+            }
+            applyFilter();
+        } );
+        task.setOnFailed( evt -> {
+            if ( generation == buildGeneration ) {
+                building = false;
+                indexTask = null;
+            }
+            final Throwable exception = task.getException();
+            if ( exception != null ) {
+                exception.printStackTrace();
+            }
+        } );
+
+        indexTask = task;
+        INDEX_EXECUTOR.execute( task );
+    }
+
+    private void cancelBuild() {
+        buildGeneration++;
+        if ( indexTask != null ) {
+            indexTask.cancel();
+            indexTask = null;
+        }
+        building = false;
+        buildText = null;
+        indexStale = false;
+    }
+
+    // Schedules the indexing of the next chunk of rows past the end of the
+    // index, if there are any.
+    private void scheduleCatchUp() {
+        if ( catchUpScheduled || ( filterIndex == null ) 
+                || ( filterIndex.getRowCount() >= sourceItems.size() ) ) {
+            return;
+        }
+
+        catchUpScheduled = true;
+        Platform.runLater( this::catchUp );
+    }
+
+    // NOTE: The filtered view doesn't change, as rows that aren't indexed yet
+    //  are scanned instead.
+    private void catchUp() {
+        catchUpScheduled = false;
+        if ( ( filterIndex == null ) || ( sourceItems == null ) ) {
+            return;
+        }
+
+        final int fromRow = filterIndex.getRowCount();
+        final int toRow = Math.min( sourceItems.size(), fromRow + getChunkRowCount() );
+        if ( fromRow < toRow ) {
+            filterIndex.insertRows( fromRow, extractText( sourceItems.subList( fromRow, toRow ) ) );
+            scheduleCatchUp();
+        }
+    }
+
+    private void applyFilter() {
+        if ( filterText.isEmpty() || ( sourceItems == null ) ) {
+            if ( isActive() ) {
+                setTableItems( sourceItems );
+            }
+            filteredItems = null;
+            return;
+        }
+
+        if ( filteredItems == null ) {
+            filteredItems = new FilteredIndexList<>( sourceItems );
+        }
+
+        filteredItems.setSourceIndices( findMatches() );
+
+        if ( !isActive() ) {
+            setTableItems( filteredItems );
+        }
+    }
+
+    // Returns the source indices of the rows that match the filter text, by
+    // querying the index for the rows it covers and scanning the rest.
+    private int[] findMatches() {
+        if ( filterIndex == null ) {
+            return scanItems( 0 );
+        }
+
+        final int indexedRowCount = filterIndex.getRowCount();
+        final int[] indexedMatches = filterIndex.query( filterText );
+        if ( indexedRowCount >= sourceItems.size() ) {
+            return indexedMatches;
+        }
+
+        final int[] scannedMatches = scanItems( indexedRowCount );
+        final int[] matches = new int[ indexedMatches.length + scannedMatches.length ];
+        System.arraycopy( indexedMatches, 0, matches, 0, indexedMatches.length );
+        System.arraycopy( scannedMatches, 0, matches, indexedMatches.length, scannedMatches.length );
+
+        return matches;
+    }
+
+    private int[] scanItems( final int fromRow ) {
+        final String lowerCaseFilterText = filterText.toLowerCase( Locale.ROOT );
+        final int columnCount = getIndexedColumnCount();
+        final int rowCount = sourceItems.size();
+        final BitSet matches = new BitSet( rowCount );
+        for ( int rowIndex = fromRow; rowIndex < rowCount; rowIndex++ ) {
+            final TD item = sourceItems.get( rowIndex );
+            for ( int columnIndex = 0; columnIndex < columnCount; columnIndex++ ) {
+                final String cellText = getCellText( item, columnIndex );
+                if ( ( cellText != null ) && cellText
+                        .toLowerCase( Locale.ROOT ).contains( lowerCaseFilterText ) ) {
+                    matches.set( rowIndex );
+                    break;
+                }
+            }
+        }
+
+        return matches.stream().toArray();
+    }
+
+    private String[][] extractText( final List< ? extends TD > rows ) {
+        final int columnCount = getIndexedColumnCount();
+        final int rowCount = rows.size();
+        final String[][] columnText = new String[ columnCount ][ rowCount ];
+        for ( int columnIndex = 0; columnIndex < columnCount; columnIndex++ ) {
+            final String[] cellText = columnText[ columnIndex ];
+            for ( int rowIndex = 0; rowIndex < rowCount; rowIndex++ ) {
+                cellText[ rowIndex ] = getCellText( rows.get( rowIndex ), columnIndex );
+            }
+        }
+
+        return columnText;
+    }
+
+    // NOTE: This runs on the indexing thread, so only reads the snapshot.
+    private static String[][] extractText( final TextTableModel.CellSnapshot snapshot ) {
+        final int columnCount = snapshot.getColumnCount();
+        final int rowCount = snapshot.getRowCount();
+        final String[][] columnText = new String[ columnCount ][ rowCount ];
+
+        // Rows are visited one at a time, as some models decode whole rows.
+        for ( int rowIndex = 0; rowIndex < rowCount; rowIndex++ ) {
+            for ( int columnIndex = 0; columnIndex < columnCount; columnIndex++ ) {
+                columnText[ columnIndex ][ rowIndex ] = snapshot.getCell( rowIndex, columnIndex );
+            }
+        }
+
+        return columnText;
+    }
+
+    private int getIndexedColumnCount() {
+        return ( indexedModelColumnCount >= 0 ) 
+            ? indexedModelColumnCount 
+            : indexedColumns.size();
+    }
+
+    private String getCellText( final TD item, final int columnIndex ) {
+        // The rows of a table model are lists of their cell text.
+        final Object cellValue = ( indexedModelColumnCount >= 0 )
+            ? ( ( List< ? > ) item ).get( columnIndex )
+            : indexedColumns.get( columnIndex ).getCellData( item );
+        return ( cellValue != null ) ? cellValue.toString() : null;
+    }
+
+    // Returns the number of rows to read or index on the JavaFX Application
+    // Thread at a time, so that wide tables use smaller chunks.
+    private int getChunkRowCount() {
+        return Math.max( 1, MAXIMUM_CHUNK_CELL_COUNT / Math.max( 1, getIndexedColumnCount() ) );
+    }
+
+    private void setTableItems( final ObservableList< TD > items ) {
+        swappingItems = true;
+        try {
+            table.setItems( items );
+        }
+        finally {
+            swappingItems = false;
+        }
+    }
+}
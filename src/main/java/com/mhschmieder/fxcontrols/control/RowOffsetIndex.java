@@ -0,0 +1,291 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * {@code RowOffsetIndex} is a compact index of the byte offsets of the row
+ * boundaries in a delimited text file, so that any row can be located in
+ * constant time without keeping the row contents in memory.
+ * <p>
+ * The offsets are delta-encoded in fixed-size blocks: each block stores one
+ * absolute {@code long} offset and each row stores an {@code int} offset from
+ * the start of its block, which is about half the size of a {@code long[]}.
+ * <p>
+ * The index has one more boundary than there are rows, as the end of each
+ * row is the start of the next, so the last boundary is the end of the data.
+ * <p>
+ * NOTE: The index may be appended to on one thread while it is read on
+ *  another, as long as the reader only looks at rows that were published to
+ *  it through some other hand-off, such as {@code Platform.runLater()}.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+final class RowOffsetIndex {
+
+    /**
+     * The number of rows per block, as a power of two.
+     */
+    private static final int BLOCK_SHIFT = 8;
+    private static final int BLOCK_MASK  = ( 1 << BLOCK_SHIFT ) - 1;
+
+    /**
+     * Marker and version for the persisted form of the index.
+     */
+    private static final int INDEX_MAGIC   = 0x524F5749;
+    private static final int INDEX_VERSION = 1;
+
+    /**
+     * The absolute offset of the first boundary in each block.
+     * <p>
+     * NOTE: This is volatile so that a reader on another thread sees the
+     *  contents of a reallocated array along with the new reference.
+     */
+    private volatile long[] blockOffsets;
+
+    /**
+     * The offset of each boundary from the start of its block.
+     */
+    private volatile int[] relativeOffsets;
+
+    /**
+     * The number of boundaries that have been added to this index.
+     */
+    private int boundaryCount;
+
+    /**
+     * The width of the widest row in the indexed data.
+     */
+    private int columnCount;
+
+    /**
+     * Constructs an initially empty {@link RowOffsetIndex}.
+     */
+    RowOffsetIndex() {
+        blockOffsets = new long[ 16 ];
+        relativeOffsets = new int[ 16 << BLOCK_SHIFT ];
+        boundaryCount = 0;
+        columnCount = 0;
+    }
+
+    /**
+     * Returns the number of complete rows in this index.
+     *
+     * @return The number of complete rows in this index
+     */
+    int getRowCount() {
+        return Math.max( 0, boundaryCount - 1 );
+    }
+
+    int getColumnCount() {
+        return columnCount;
+    }
+
+    void updateColumnCount( final int rowColumnCount ) {
+        columnCount = Math.max( columnCount, rowColumnCount );
+    }
+
+    /**
+     * Returns the byte offset of the start of the specified row.
+     *
+     * @param rowIndex
+     *            The index of the row
+     * @return The byte offset of the start of the specified row
+     */
+    long getRowStart( final int rowIndex ) {
+        return getBoundary( rowIndex );
+    }
+
+    /**
+     * Returns the byte offset just past the end of the specified row, which
+     * includes the line terminator, if any.
+     *
+     * @param rowIndex
+     *            The index of the row
+     * @return The byte offset just past the end of the specified row
+     */
+    long getRowEnd( final int rowIndex ) {
+        return getBoundary( rowIndex + 1 );
+    }
+
+    private long getBoundary( final int boundaryIndex ) {
+        return blockOffsets[ boundaryIndex >>> BLOCK_SHIFT ]
+                + relativeOffsets[ boundaryIndex ];
+    }
+
+    /**
+     * Adds the next row boundary, which must not precede the previous one.
+     *
+     * @param offset
+     *            The byte offset of the row boundary
+     * @throws IOException
+     *             If a block of rows spans more than the relative offsets can
+     *             hold, which would take rows of several megabytes each
+     */
+    @SuppressWarnings("nls")
+    void addBoundary( final long offset ) throws IOException {
+        final int boundaryIndex = boundaryCount;
+        final int blockIndex = boundaryIndex >>> BLOCK_SHIFT;
+
+        // Grow both arrays together, before publishing either of them.
+        if ( blockIndex >= blockOffsets.length ) {
+            final int blockCapacity = blockOffsets.length * 2;
+            final int[] grownRelativeOffsets = Arrays.copyOf(
+                    relativeOffsets, blockCapacity << BLOCK_SHIFT );
+            final long[] grownBlockOffsets = Arrays.copyOf(
+                    blockOffsets, blockCapacity );
+            relativeOffsets = grownRelativeOffsets;
+            blockOffsets = grownBlockOffsets;
+        }
+
+        if ( ( boundaryIndex & BLOCK_MASK ) == 0 ) {
+            blockOffsets[ blockIndex ] = offset;
+            relativeOffsets[ boundaryIndex ] = 0;
+        }
+        else {
+            final long relativeOffset = offset - blockOffsets[ blockIndex ];
+            if ( relativeOffset > Integer.MAX_VALUE ) {
+                throw new IOException( "Rows are too long to index near offset "
+                        + offset );
+            }
+            relativeOffsets[ boundaryIndex ] = ( int ) relativeOffset;
+        }
+
+        boundaryCount++;
+    }
+
+    /**
+     * Writes this index to the specified file, along with the size and time
+     * stamp of the indexed data file, so that it can be checked for staleness
+     * when it is read back in.
+     *
+     * @param indexFile
+     *            The file to write the index to
+     * @param dataFile
+     *            The data file that was indexed
+     * @param delimiter
+     *            The delimiter that was used to count the columns
+     * @throws IOException
+     *             If the index file cannot be written
+     */
+    void write( final File indexFile,
+                final File dataFile,
+                final char delimiter ) throws IOException {
+        final int blockCount = ( boundaryCount + BLOCK_MASK ) >>> BLOCK_SHIFT;
+
+        try ( final DataOutputStream outputStream = new DataOutputStream(
+                new BufferedOutputStream( new FileOutputStream( indexFile ) ) ) ) {
+            outputStream.writeInt( INDEX_MAGIC );
+            outputStream.writeInt( INDEX_VERSION );
+            outputStream.writeLong( dataFile.length() );
+            outputStream.writeLong( dataFile.lastModified() );
+            outputStream.writeChar( delimiter );
+            outputStream.writeInt( columnCount );
+            outputStream.writeInt( boundaryCount );
+
+            for ( int blockIndex = 0; blockIndex < blockCount; blockIndex++ ) {
+                outputStream.writeLong( blockOffsets[ blockIndex ] );
+            }
+            for ( int boundaryIndex = 0; boundaryIndex < boundaryCount; boundaryIndex++ ) {
+                outputStream.writeInt( relativeOffsets[ boundaryIndex ] );
+            }
+        }
+    }
+
+    /**
+     * Returns the index that was previously written to the specified file, or
+     * {@code null} if there is none or it no longer matches the data file.
+     *
+     * @param indexFile
+     *            The file to read the index from
+     * @param dataFile
+     *            The data file that the index is expected to describe
+     * @param delimiter
+     *            The delimiter that the index is expected to have used
+     * @return The index that was previously written to the specified file, or
+     *         {@code null} if there is none or it no longer matches the data
+     * @throws IOException
+     *             If the index file exists but cannot be read
+     */
+    static RowOffsetIndex read( final File indexFile,
+                                final File dataFile,
+                                final char delimiter ) throws IOException {
+        if ( !indexFile.isFile() ) {
+            return null;
+        }
+
+        try ( final DataInputStream inputStream = new DataInputStream(
+                new BufferedInputStream( new FileInputStream( indexFile ) ) ) ) {
+            if ( ( inputStream.readInt() != INDEX_MAGIC )
+                    || ( inputStream.readInt() != INDEX_VERSION )
+                    || ( inputStream.readLong() != dataFile.length() )
+                    || ( inputStream.readLong() != dataFile.lastModified() )
+                    || ( inputStream.readChar() != delimiter ) ) {
+                return null;
+            }
+
+            final int columnCount = inputStream.readInt();
+            final int boundaryCount = inputStream.readInt();
+            if ( ( columnCount < 0 ) || ( boundaryCount < 0 ) ) {
+                return null;
+            }
+
+            final int blockCount = ( boundaryCount + BLOCK_MASK ) >>> BLOCK_SHIFT;
+            final long[] blockOffsets = new long[ Math.max( 1, blockCount ) ];
+            for ( int blockIndex = 0; blockIndex < blockCount; blockIndex++ ) {
+                blockOffsets[ blockIndex ] = inputStream.readLong();
+            }
+            final int[] relativeOffsets = new int[ blockOffsets.length << BLOCK_SHIFT ];
+            for ( int boundaryIndex = 0; boundaryIndex < boundaryCount; boundaryIndex++ ) {
+                relativeOffsets[ boundaryIndex ] = inputStream.readInt();
+            }
+
+            final RowOffsetIndex index = new RowOffsetIndex();
+            index.blockOffsets = blockOffsets;
+            index.relativeOffsets = relativeOffsets;
+            index.boundaryCount = boundaryCount;
+            index.columnCount = columnCount;
+
+            return index;
+        }
+    }
+}
@@ -0,0 +1,574 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import com.mhschmieder.fxcontrols.control.cell.CellValidator;
+import com.mhschmieder.fxcontrols.util.DelimitedTextReader;
+import com.mhschmieder.fxcontrols.util.DelimitedTextWriter;
+import javafx.application.Platform;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WritableValue;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TablePosition;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * {@code TableClipboard} copies cell selections of a table to the clipboard
+ * as tab-separated text, and pastes tab-separated text into a table, in the
+ * format that spreadsheet applications use for cell ranges.
+ * <p>
+ * Copying formats the selected cells on the JavaFX Application Thread in
+ * bounded chunks into a buffer that is reused from one copy to the next, so
+ * that copying hundreds of thousands of cells doesn't stall the user
+ * interface; rows that are paged in from a {@link TableDataProvider} and are
+ * not in memory are fetched from the provider in the background first, a
+ * chunk at a time. Pasting parses and validates the text on a background thread,
+ * and then applies all of the values in a single pass.
+ *
+ * @param <TD>
+ *            The data type for the table
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+final class TableClipboard< TD > {
+
+    /**
+     * The shared thread that parses pasted text for all tables.
+     */
+    private static final ExecutorService PASTE_EXECUTOR = Executors
+            .newSingleThreadExecutor( runnable -> {
+                final Thread thread = new Thread( runnable, "Table Paste Parser" ); //$NON-NLS-1$
+                thread.setDaemon( true );
+                return thread;
+            } );
+
+    /**
+     * The number of cells to copy per pass on the JavaFX Application Thread.
+     */
+    private static final int COPY_CHUNK_SIZE = 16384;
+
+    /**
+     * The largest copy buffer that is kept around for the next copy.
+     */
+    private static final int MAXIMUM_RETAINED_CAPACITY = 1 << 20;
+
+    /**
+     * The character that separates the cells of a row on the clipboard.
+     */
+    private static final char DELIMITER = '\t';
+
+    /**
+     * The number of rows to look at for a sample of a column's cell values.
+     */
+    private static final int SAMPLE_ROW_COUNT = 16;
+
+    /**
+     * The marker for pasted text that is not a valid cell value.
+     */
+    private static final Object INVALID_VALUE = new Object();
+
+    /**
+     * The table whose cells are copied and pasted.
+     */
+    private final XTableView< TD > tableView;
+
+    /**
+     * The buffer that the copied text is built in.
+     */
+    private StringBuilder copyBuffer;
+
+    /**
+     * The count of copy requests, used to abandon superseded copies.
+     */
+    private int copyGeneration;
+
+    /**
+     * The count of paste requests, used to discard superseded pastes.
+     */
+    private int pasteGeneration;
+
+    /**
+     * Constructs a {@link TableClipboard} for the specified table.
+     *
+     * @param pTableView
+     *            The table whose cells are copied and pasted
+     */
+    TableClipboard( final XTableView< TD > pTableView ) {
+        tableView = pTableView;
+
+        copyBuffer = new StringBuilder();
+        copyGeneration = 0;
+        pasteGeneration = 0;
+    }
+
+    /**
+     * Copies the selected cells to the clipboard, as the rows and columns
+     * that have selected cells, with blank cells for those that are not
+     * selected; in row selection mode, entire rows are copied.
+     * <p>
+     * Entire rows cover all of the table's data columns, even those that are
+     * not materialized as table columns. Large selections are copied over
+     * several pulses, so the clipboard is only updated once all of the cells
+     * have been formatted.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void copySelectedCells() {
+        final int generation = ++copyGeneration;
+
+        // Selected cells are copied from the data columns that their table
+        // columns show, and selected rows from all of the data columns.
+        final List< TableDataColumn< TD > > dataColumns = tableView.getDataColumns();
+
+        // Take a snapshot of the selection, as it may change during the copy.
+        final ObservableList< TablePosition > selectedCells = 
+                tableView.getSelectionModel().getSelectedCells();
+        final int selectedCellCount = selectedCells.size();
+        final int[] selectedRows = new int[ selectedCellCount ];
+        final int[] selectedColumns = new int[ selectedCellCount ];
+        final BitSet rowFlags = new BitSet();
+        final BitSet columnFlags = new BitSet();
+        for ( int cellIndex = 0; cellIndex < selectedCellCount; cellIndex++ ) {
+            final TablePosition selectedCell = selectedCells.get( cellIndex );
+            final TableColumn< TD, ? > tableColumn = selectedCell.getTableColumn();
+            final int columnPosition = ( tableColumn != null )
+                ? tableView.getDataColumnIndex( tableColumn )
+                : -1;
+            selectedRows[ cellIndex ] = selectedCell.getRow();
+            selectedColumns[ cellIndex ] = columnPosition;
+
+            if ( selectedRows[ cellIndex ] < 0 ) {
+                continue;
+            }
+            if ( tableColumn == null ) {
+                // Row selection.
+                rowFlags.set( selectedRows[ cellIndex ] );
+                columnFlags.set( 0, dataColumns.size() );
+            }
+            else if ( columnPosition >= 0 ) {
+                rowFlags.set( selectedRows[ cellIndex ] );
+                columnFlags.set( columnPosition );
+            }
+            else {
+                // A column that no longer shows any data.
+                selectedRows[ cellIndex ] = -1;
+            }
+        }
+
+        final int[] rows = rowFlags.stream().toArray();
+        final int[] columns = columnFlags.stream().toArray();
+        if ( ( rows.length == 0 ) || ( columns.length == 0 ) ) {
+            return;
+        }
+
+        final BitSet cellFlags = new BitSet( rows.length * columns.length );
+        for ( int cellIndex = 0; cellIndex < selectedCellCount; cellIndex++ ) {
+            if ( selectedRows[ cellIndex ] < 0 ) {
+                continue;
+            }
+            final int rowPosition = Arrays.binarySearch( rows, selectedRows[ cellIndex ] );
+            final int rowOffset = rowPosition * columns.length;
+            if ( selectedColumns[ cellIndex ] < 0 ) {
+                cellFlags.set( rowOffset, rowOffset + columns.length );
+            }
+            else {
+                cellFlags.set( rowOffset 
+                        + Arrays.binarySearch( columns, selectedColumns[ cellIndex ] ) );
+            }
+        }
+
+        final List< TableDataColumn< TD > > copiedColumns = new ArrayList<>( columns.length );
+        for ( final int columnIndex : columns ) {
+            copiedColumns.add( dataColumns.get( columnIndex ) );
+        }
+
+        copyBuffer.setLength( 0 );
+        new CopyChunk( generation, rows, copiedColumns, cellFlags ).run();
+    }
+
+    /**
+     * Pastes the tab-separated text on the clipboard into the table, starting
+     * at the top left selected cell, or the focused cell if none is selected.
+     * <p>
+     * The text is parsed on a background thread with each column's parser,
+     * or based on the type of the column's current cell values otherwise.
+     * Text that doesn't parse, and cells that are not editable, are left
+     * unchanged, as are any rows and columns beyond the end of the table.
+     *
+     * @param rowValidator
+     *            The validator to invoke once for each row that was changed,
+     *            or {@code null} if none
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void pasteCells( final CellValidator< TD > rowValidator ) {
+        final Clipboard clipboard = Clipboard.getSystemClipboard();
+        if ( !clipboard.hasString() ) {
+            return;
+        }
+        final String text = clipboard.getString();
+
+        // Spreadsheets paste at the top left of the selected range.
+        int anchorRow = -1;
+        int anchorColumn = -1;
+        for ( final TablePosition selectedCell : tableView.getSelectionModel().getSelectedCells() ) {
+            final int rowIndex = selectedCell.getRow();
+            final int columnIndex = Math.max( 0, 
+                    tableView.getVisibleLeafIndex( selectedCell.getTableColumn() ) );
+            if ( ( anchorRow < 0 ) || ( rowIndex < anchorRow ) ) {
+                anchorRow = rowIndex;
+            }
+            if ( ( anchorColumn < 0 ) || ( columnIndex < anchorColumn ) ) {
+                anchorColumn = columnIndex;
+            }
+        }
+        if ( anchorRow < 0 ) {
+            final TablePosition< TD, ? > focusedCell = tableView.getFocusModel().getFocusedCell();
+            if ( ( focusedCell == null ) || ( focusedCell.getRow() < 0 ) ) {
+                return;
+            }
+            anchorRow = focusedCell.getRow();
+            anchorColumn = Math.max( 0, 
+                    tableView.getVisibleLeafIndex( focusedCell.getTableColumn() ) );
+        }
+
+        // Work out how to parse each column on this thread, as that needs the
+        // current cell values, but leave the parsing itself to the background.
+        final List< TableColumn< TD, ? > > visibleColumns = tableView.getVisibleLeafColumns();
+        final List< TableColumn< TD, ? > > targetColumns = new ArrayList<>();
+        final List< Function< String, ? > > parsers = new ArrayList<>();
+        for ( int columnIndex = anchorColumn; columnIndex < visibleColumns.size(); columnIndex++ ) {
+            final TableColumn< TD, ? > column = visibleColumns.get( columnIndex );
+            targetColumns.add( column );
+            parsers.add( getParser( column, anchorRow ) );
+        }
+
+        final int generation = ++pasteGeneration;
+        final int firstRow = anchorRow;
+        PASTE_EXECUTOR.execute( () -> {
+            final Object[][] values = parseValues( text, parsers );
+            Platform.runLater( () -> {
+                if ( generation == pasteGeneration ) {
+                    applyValues( firstRow, targetColumns, values, rowValidator );
+                }
+            } );
+        } );
+    }
+
+    private Function< String, ? > getParser( final TableColumn< TD, ? > column,
+                                             final int anchorRow ) {
+        final Function< String, ? > parser = TableUtilities.getColumnParser( column );
+        if ( parser != null ) {
+            return parser;
+        }
+
+        final int rowCount = tableView.getItems().size();
+        for ( int rowIndex = anchorRow; 
+                rowIndex < Math.min( anchorRow + SAMPLE_ROW_COUNT, rowCount ); 
+                rowIndex++ ) {
+            final Object sampleValue = column.getCellData( rowIndex );
+            if ( sampleValue != null ) {
+                return makeDefaultParser( sampleValue );
+            }
+        }
+
+        return null;
+    }
+
+    private static Function< String, ? > makeDefaultParser( final Object sampleValue ) {
+        if ( sampleValue instanceof String ) {
+            return text -> text;
+        }
+        else if ( sampleValue instanceof Double ) {
+            return Double::valueOf;
+        }
+        else if ( sampleValue instanceof Float ) {
+            return Float::valueOf;
+        }
+        else if ( sampleValue instanceof Integer ) {
+            return Integer::valueOf;
+        }
+        else if ( sampleValue instanceof Long ) {
+            return Long::valueOf;
+        }
+        else if ( sampleValue instanceof Short ) {
+            return Short::valueOf;
+        }
+        else if ( sampleValue instanceof Byte ) {
+            return Byte::valueOf;
+        }
+        else if ( sampleValue instanceof Boolean ) {
+            return Boolean::valueOf;
+        }
+
+        // Other types can't be made from text without a column parser.
+        return null;
+    }
+
+    private static Object[][] parseValues( final String text,
+                                           final List< Function< String, ? > > parsers ) {
+        final List< Object[] > rows = new ArrayList<>();
+        try ( final DelimitedTextReader reader = new DelimitedTextReader( 
+                new StringReader( text ), DELIMITER ) ) {
+            List< String > row;
+            while ( ( row = reader.readRow() ) != null ) {
+                final int cellCount = Math.min( row.size(), parsers.size() );
+                final Object[] values = new Object[ cellCount ];
+                for ( int cellIndex = 0; cellIndex < cellCount; cellIndex++ ) {
+                    values[ cellIndex ] = parseValue( row.get( cellIndex ),
+                                                      parsers.get( cellIndex ) );
+                }
+                rows.add( values );
+            }
+        }
+        catch ( final IOException ioe ) {
+            // Reading from a string doesn't fail, but be safe about it.
+            ioe.printStackTrace();
+        }
+
+        return rows.toArray( new Object[ rows.size() ][] );
+    }
+
+    private static Object parseValue( final String text, final Function< String, ? > parser ) {
+        if ( parser == null ) {
+            return INVALID_VALUE;
+        }
+
+        try {
+            final Object value = parser.apply( text );
+            return ( value != null ) ? value : INVALID_VALUE;
+        }
+        catch ( final RuntimeException re ) {
+            return INVALID_VALUE;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyValues( final int firstRow,
+                              final List< TableColumn< TD, ? > > targetColumns,
+                              final Object[][] values,
+                              final CellValidator< TD > rowValidator ) {
+        if ( !tableView.isEditable() ) {
+            return;
+        }
+
+        // Don't let an open editor write its stale value back afterwards.
+        tableView.edit( -1, null );
+
+        final ObservableList< TD > items = tableView.getItems();
+        final int rowCount = Math.min( values.length, items.size() - firstRow );
+
+        // The entire paste is undone and redone as one edit, if the table
+        // has an edit history.
+        final TableEditJournal< TD > editJournal = tableView.getEditJournal();
+        if ( editJournal != null ) {
+            editJournal.beginCompoundEdit();
+        }
+        for ( int rowOffset = 0; rowOffset < rowCount; rowOffset++ ) {
+            final int rowIndex = firstRow + rowOffset;
+            final Object[] rowValues = values[ rowOffset ];
+            boolean rowChanged = false;
+            for ( int columnOffset = 0; columnOffset < rowValues.length; columnOffset++ ) {
+                final Object value = rowValues[ columnOffset ];
+                final TableColumn< TD, ? > column = targetColumns.get( columnOffset );
+                if ( ( value == INVALID_VALUE ) || !column.isEditable()
+                        || !tableView.isCellEditable( rowIndex, column ) ) {
+                    continue;
+                }
+
+                final ObservableValue< ? > cellValue = column.getCellObservableValue( rowIndex );
+                if ( cellValue instanceof WritableValue ) {
+                    final Object oldValue = cellValue.getValue();
+                    ( ( WritableValue< Object > ) cellValue ).setValue( value );
+                    tableView.recordCellEdit( items.get( rowIndex ), column, oldValue, value );
+                    rowChanged = true;
+                }
+            }
+
+            // Validate and recalculate each row once, rather than per cell.
+            if ( rowChanged && ( rowValidator != null ) ) {
+                tableView.submitCellCommit( items.get( rowIndex ), rowValidator );
+            }
+        }
+        if ( editJournal != null ) {
+            editJournal.endCompoundEdit();
+        }
+    }
+
+    /**
+     * One pass of a copy, which formats a bounded number of cells and then
+     * schedules the next pass, until all of the cells are in the buffer.
+     */
+    private final class CopyChunk implements Runnable {
+
+        private final int generation;
+
+        private final int[] rows;
+
+        private final List< TableDataColumn< TD > > columns;
+
+        private final BitSet cellFlags;
+
+        private final PagedItemList< TD > pagedItems;
+
+        private int rowPosition;
+
+        // The rows of the current chunk if they were fetched from the data
+        // provider, or null if they are read from the table.
+        private List< TD > fetchedRows;
+
+        CopyChunk( final int pGeneration,
+                   final int[] pRows,
+                   final List< TableDataColumn< TD > > pColumns,
+                   final BitSet pCellFlags ) {
+            generation = pGeneration;
+            rows = pRows;
+            columns = pColumns;
+            cellFlags = pCellFlags;
+            pagedItems = ( tableView.getItems() instanceof PagedItemList )
+                ? ( PagedItemList< TD > ) tableView.getItems()
+                : null;
+            rowPosition = 0;
+            fetchedRows = null;
+        }
+
+        @Override
+        public void run() {
+            // A newer copy has taken over the buffer.
+            if ( generation != copyGeneration ) {
+                return;
+            }
+
+            final int columnCount = columns.size();
+            final int chunkStart = rowPosition;
+            final int chunkEnd = Math.min( rows.length, 
+                                           chunkStart + ( ( COPY_CHUNK_SIZE + columnCount - 1 ) 
+                                                   / columnCount ) );
+
+            // Paged rows that aren't in memory would otherwise be copied as the
+            // provider's placeholders, so the chunk is fetched first.
+            if ( ( pagedItems != null ) && ( fetchedRows == null ) 
+                    && !isChunkLoaded( chunkStart, chunkEnd ) ) {
+                pagedItems.fetchRows( Arrays.copyOfRange( rows, chunkStart, chunkEnd ) )
+                        .whenComplete( ( chunkRows, exception ) -> Platform.runLater( () -> {
+                    // Leave the clipboard as it was if the rows can't be had.
+                    if ( exception != null ) {
+                        exception.printStackTrace();
+                        return;
+                    }
+
+                    fetchedRows = chunkRows;
+                    run();
+                } ) );
+                return;
+            }
+
+            final List< TD > items = tableView.getItems();
+            final int rowCount = items.size();
+            while ( rowPosition < chunkEnd ) {
+                final int rowIndex = rows[ rowPosition ];
+                final int rowOffset = rowPosition * columnCount;
+                final int fetchedRowIndex = rowPosition - chunkStart;
+                for ( int columnPosition = 0; columnPosition < columnCount; columnPosition++ ) {
+                    if ( columnPosition > 0 ) {
+                        copyBuffer.append( DELIMITER );
+                    }
+                    if ( !cellFlags.get( rowOffset + columnPosition ) ) {
+                        continue;
+                    }
+
+                    // Rows may have been removed since the copy started.
+                    final TableDataColumn< TD > column = columns.get( columnPosition );
+                    Object cellValue = null;
+                    if ( fetchedRows != null ) {
+                        if ( fetchedRowIndex < fetchedRows.size() ) {
+                            cellValue = column.getCellData( fetchedRows.get( fetchedRowIndex ) );
+                        }
+                    }
+                    else if ( rowIndex < rowCount ) {
+                        cellValue = column.getCellData( items.get( rowIndex ) );
+                    }
+
+                    if ( cellValue != null ) {
+                        DelimitedTextWriter.appendCell( 
+                                copyBuffer,
+                                column.getFormatter().apply( cellValue ),
+                                DELIMITER );
+                    }
+                }
+                copyBuffer.append( '\n' );
+
+                rowPosition++;
+            }
+            fetchedRows = null;
+
+            if ( rowPosition < rows.length ) {
+                Platform.runLater( this );
+                return;
+            }
+
+            final ClipboardContent content = new ClipboardContent();
+            content.putString( copyBuffer.toString() );
+            Clipboard.getSystemClipboard().setContent( content );
+
+            // Don't hold on to the memory of an unusually large copy.
+            if ( copyBuffer.capacity() > MAXIMUM_RETAINED_CAPACITY ) {
+                copyBuffer = new StringBuilder();
+            }
+            else {
+                copyBuffer.setLength( 0 );
+            }
+        }
+
+        private boolean isChunkLoaded( final int fromPosition, final int toPosition ) {
+            for ( int position = fromPosition; position < toPosition; position++ ) {
+                if ( ( rows[ position ] < pagedItems.size() ) 
+                        && !pagedItems.isRowLoaded( rows[ position ] ) ) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
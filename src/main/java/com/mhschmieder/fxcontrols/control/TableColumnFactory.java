@@ -30,9 +30,12 @@
  */
 package com.mhschmieder.fxcontrols.control;
 
+import javafx.beans.value.ObservableValue;
 import javafx.scene.control.TableColumn;
 import javafx.scene.paint.Color;
 
+import java.util.function.Function;
+
 /**
  * {@code TableColumnFactory} is a static factory class for making Table Columns
  * with specific parameterization, data types, and initialization behavior plus
@@ -73,14 +76,9 @@ public final class TableColumnFactory {
                                                                              final double columnWidth,
                                                                              final String columnPropertyName,
                                                                              final boolean sortable ) {
-        final TableColumn< TD, Object > tableColumn = new TableColumn<>( columnName );
-        tableColumn.setMinWidth( columnWidth );
-        TableUtilities.setTableColumnHeaderProperties( tableColumn );
-
-        // Conditionally prevent row-sorting of this column as it may destroy
-        // the ability to understand how things relate to one another.
-        tableColumn.setSortable( sortable );
-
+        final TableColumn< TD, Object > tableColumn = makeTableColumn( columnName,
+                                                                       columnWidth,
+                                                                       sortable );
         TableUtilities.setCellValueFactory( tableColumn, columnPropertyName );
 
         return tableColumn;
@@ -109,14 +107,9 @@ public final class TableColumnFactory {
                                                                              final double columnWidth,
                                                                              final String columnPropertyName,
                                                                              final boolean sortable ) {
-        final TableColumn< TD, String > tableColumn = new TableColumn<>( columnName );
-        tableColumn.setMinWidth( columnWidth );
-        TableUtilities.setTableColumnHeaderProperties( tableColumn );
-
-        // Conditionally prevent row-sorting of this column as it may destroy
-        // the ability to understand how things relate to one another.
-        tableColumn.setSortable( sortable );
-
+        final TableColumn< TD, String > tableColumn = makeTableColumn( columnName,
+                                                                       columnWidth,
+                                                                       sortable );
         TableUtilities.setCellValueFactory( tableColumn, columnPropertyName );
 
         return tableColumn;
@@ -145,14 +138,9 @@ public final class TableColumnFactory {
                                                                                final double columnWidth,
                                                                                final String columnPropertyName,
                                                                                final boolean sortable ) {
-        final TableColumn< TD, Integer > tableColumn = new TableColumn<>( columnName );
-        tableColumn.setMinWidth( columnWidth );
-        TableUtilities.setTableColumnHeaderProperties( tableColumn );
-
-        // Conditionally prevent row-sorting of this column as it may destroy
-        // the ability to understand how things relate to one another.
-        tableColumn.setSortable( sortable );
-
+        final TableColumn< TD, Integer > tableColumn = makeTableColumn( columnName,
+                                                                        columnWidth,
+                                                                        sortable );
         TableUtilities.setCellValueFactory( tableColumn, columnPropertyName );
 
         return tableColumn;
@@ -181,14 +169,9 @@ public final class TableColumnFactory {
                                                                          final double columnWidth,
                                                                          final String columnPropertyName,
                                                                          final boolean sortable ) {
-        final TableColumn< TD, Long > tableColumn = new TableColumn<>( columnName );
-        tableColumn.setMinWidth( columnWidth );
-        TableUtilities.setTableColumnHeaderProperties( tableColumn );
-
-        // Conditionally prevent row-sorting of this column as it may destroy
-        // the ability to understand how things relate to one another.
-        tableColumn.setSortable( sortable );
-
+        final TableColumn< TD, Long > tableColumn = makeTableColumn( columnName,
+                                                                     columnWidth,
+                                                                     sortable );
         TableUtilities.setCellValueFactory( tableColumn, columnPropertyName );
 
         return tableColumn;
@@ -217,14 +200,9 @@ public final class TableColumnFactory {
                                                                            final double columnWidth,
                                                                            final String columnPropertyName,
                                                                            final boolean sortable ) {
-        final TableColumn< TD, Float > tableColumn = new TableColumn<>( columnName );
-        tableColumn.setMinWidth( columnWidth );
-        TableUtilities.setTableColumnHeaderProperties( tableColumn );
-
-        // Conditionally prevent row-sorting of this column as it may destroy
-        // the ability to understand how things relate to one another.
-        tableColumn.setSortable( sortable );
-
+        final TableColumn< TD, Float > tableColumn = makeTableColumn( columnName,
+                                                                      columnWidth,
+                                                                      sortable );
         TableUtilities.setCellValueFactory( tableColumn, columnPropertyName );
 
         return tableColumn;
@@ -253,14 +231,9 @@ public final class TableColumnFactory {
                                                                              final double columnWidth,
                                                                              final String columnPropertyName,
                                                                              final boolean sortable ) {
-        final TableColumn< TD, Double > tableColumn = new TableColumn<>( columnName );
-        tableColumn.setMinWidth( columnWidth );
-        TableUtilities.setTableColumnHeaderProperties( tableColumn );
-
-        // Conditionally prevent row-sorting of this column as it may destroy
-        // the ability to understand how things relate to one another.
-        tableColumn.setSortable( sortable );
-
+        final TableColumn< TD, Double > tableColumn = makeTableColumn( columnName,
+                                                                       columnWidth,
+                                                                       sortable );
         TableUtilities.setCellValueFactory( tableColumn, columnPropertyName );
 
         return tableColumn;
@@ -289,14 +262,9 @@ public final class TableColumnFactory {
                                                                                final double columnWidth,
                                                                                final String columnPropertyName,
                                                                                final boolean sortable ) {
-        final TableColumn< TD, Boolean > tableColumn = new TableColumn<>( columnName );
-        tableColumn.setMinWidth( columnWidth );
-        TableUtilities.setTableColumnHeaderProperties( tableColumn );
-
-        // Conditionally prevent row-sorting of this column as it may destroy
-        // the ability to understand how things relate to one another.
-        tableColumn.setSortable( sortable );
-
+        final TableColumn< TD, Boolean > tableColumn = makeTableColumn( columnName,
+                                                                        columnWidth,
+                                                                        sortable );
         TableUtilities.setCellValueFactory( tableColumn, columnPropertyName );
 
         return tableColumn;
@@ -325,7 +293,73 @@ public final class TableColumnFactory {
                                                                            final double columnWidth,
                                                                            final String columnPropertyName,
                                                                            final boolean sortable ) {
-        final TableColumn< TD, Color > tableColumn = new TableColumn<>( columnName );
+        final TableColumn< TD, Color > tableColumn = makeTableColumn( columnName,
+                                                                      columnWidth,
+                                                                      sortable );
+        TableUtilities.setCellValueFactory( tableColumn, columnPropertyName );
+
+        return tableColumn;
+    }
+
+    /**
+     * Returns a {@link TableColumn} for managing values of any type, whose
+     * cell values come from a typed property accessor rather than a property
+     * name, so that no reflection is needed to look the property up.
+     *
+     * @param <TD>
+     *            The data type for the table
+     * @param <CT>
+     *            The type of the content for all cells in the column
+     * @param columnName
+     *            The string to show when the TableColumn is placed within the
+     *            TableView
+     * @param columnWidth
+     *            The minimum width the table column is permitted to be resized
+     *            to
+     * @param columnPropertyAccessor
+     *            The accessor for the table property that this column manages
+     * @param sortable
+     *            If {@code true}, this columns can be used to sort the rows
+     * @return A {@link TableColumn} for managing values of the accessor's type
+     *
+     * @version 1.0
+     */
+    public static < TD, CT > TableColumn< TD, CT > makeTableColumn( final String columnName,
+                                                                    final double columnWidth,
+                                                                    final Function< ? super TD, ? extends ObservableValue< CT > > columnPropertyAccessor,
+                                                                    final boolean sortable ) {
+        final TableColumn< TD, CT > tableColumn = makeTableColumn( columnName,
+                                                                   columnWidth,
+                                                                   sortable );
+        TableUtilities.setCellValueFactory( tableColumn, columnPropertyAccessor );
+
+        return tableColumn;
+    }
+
+    /**
+     * Returns a {@link TableColumn} with the common header, width and sorting
+     * setup, but without a cell value factory.
+     *
+     * @param <TD>
+     *            The data type for the table
+     * @param <CT>
+     *            The type of the content for all cells in the column
+     * @param columnName
+     *            The string to show when the TableColumn is placed within the
+     *            TableView
+     * @param columnWidth
+     *            The minimum width the table column is permitted to be resized
+     *            to
+     * @param sortable
+     *            If {@code true}, this columns can be used to sort the rows
+     * @return A {@link TableColumn} with the common setup applied
+     *
+     * @version 1.0
+     */
+    private static < TD, CT > TableColumn< TD, CT > makeTableColumn( final String columnName,
+                                                                     final double columnWidth,
+                                                                     final boolean sortable ) {
+        final TableColumn< TD, CT > tableColumn = new TableColumn<>( columnName );
         tableColumn.setMinWidth( columnWidth );
         TableUtilities.setTableColumnHeaderProperties( tableColumn );
 
@@ -333,8 +367,6 @@ public final class TableColumnFactory {
         // the ability to understand how things relate to one another.
         tableColumn.setSortable( sortable );
 
-        TableUtilities.setCellValueFactory( tableColumn, columnPropertyName );
-
         return tableColumn;
     }
 
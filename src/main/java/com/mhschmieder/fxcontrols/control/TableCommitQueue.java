@@ -0,0 +1,285 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import com.mhschmieder.fxcontrols.control.cell.AsyncCellValidator;
+import com.mhschmieder.fxcontrols.control.cell.CellValidator;
+import javafx.application.Platform;
+import javafx.scene.control.TableCell;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * {@code TableCommitQueue} collects the cell commits of a table, so that the
+ * validators that push edited values into the row records are run once per
+ * batch rather than once per edit.
+ * <p>
+ * Commits are queued until the next pass of the JavaFX Application Thread,
+ * and repeated commits to the same row and column within a batch are merged,
+ * so that pasting, filling, and fast keyboard entry only trigger a single
+ * validation per edited cell. Validators that implement
+ * {@link AsyncCellValidator} are run on a shared background thread, and only
+ * the result of the latest validation of a cell is applied.
+ *
+ * @param <TD>
+ *            The data type for the table
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+final class TableCommitQueue< TD > {
+
+    /**
+     * The shared thread that runs asynchronous validations for all tables.
+     */
+    private static final ExecutorService VALIDATION_EXECUTOR = Executors
+            .newSingleThreadExecutor( runnable -> {
+                final Thread thread = new Thread( runnable, "Table Validator" ); //$NON-NLS-1$
+                thread.setDaemon( true );
+                return thread;
+            } );
+
+    /**
+     * The queued commits, by row and column, in the order they were made.
+     */
+    private final Map< CommitKey, Runnable > pendingCommits;
+
+    /**
+     * The count of each cell's latest asynchronous validation, so that the
+     * results of superseded validations can be discarded.
+     */
+    private final Map< CommitKey, Long > latestValidations;
+
+    /**
+     * The count of asynchronous validations that have been started.
+     */
+    private long validationGeneration;
+
+    /**
+     * Flag for whether a flush of the queued commits is already scheduled.
+     */
+    private boolean flushScheduled;
+
+    /**
+     * The handler to notify with the rows of each batch of commits, if any.
+     */
+    private Consumer< List< TD > > onCommitsFlushed;
+
+    /**
+     * Constructs an empty {@link TableCommitQueue}.
+     */
+    TableCommitQueue() {
+        pendingCommits = new LinkedHashMap<>();
+        latestValidations = new HashMap<>();
+        validationGeneration = 0L;
+        flushScheduled = false;
+        onCommitsFlushed = null;
+    }
+
+    /**
+     * Sets the handler to notify once per batch of commits, with the distinct
+     * rows that were validated, so that dependent recalculations can be made
+     * once per batch rather than once per edit.
+     *
+     * @param pOnCommitsFlushed
+     *            The handler to notify with the rows of each batch of commits,
+     *            or {@code null} if none
+     */
+    void setOnCommitsFlushed( final Consumer< List< TD > > pOnCommitsFlushed ) {
+        onCommitsFlushed = pOnCommitsFlushed;
+    }
+
+    /**
+     * Queues the validation of a committed cell, replacing any commit of the
+     * same row and column that is still queued.
+     * <p>
+     * The commit is prepared right away, via
+     * {@link CellValidator#prepareCommit} or
+     * {@link AsyncCellValidator#prepareValidation}, so that it captures the
+     * committed value before the table cell can be reused for another row.
+     *
+     * @param record
+     *            The record corresponding to the edited row
+     * @param validator
+     *            The validator that pushes the edited value into the record
+     */
+    void submit( final TD record, final CellValidator< TD > validator ) {
+        // Table cells are reused for different rows, so commits are merged by
+        // their column where known, and otherwise by their validator.
+        final Object field = ( validator instanceof TableCell )
+            ? ( ( TableCell< ?, ? > ) validator ).getTableColumn()
+            : validator;
+        final CommitKey commitKey = new CommitKey( record, ( field != null ) ? field : validator );
+
+        final Runnable commit = ( validator instanceof AsyncCellValidator )
+            ? prepareValidation( commitKey, record, ( AsyncCellValidator< TD, ? > ) validator )
+            : validator.prepareCommit( record );
+
+        // Move merged commits to the end, so that they run in edit order.
+        pendingCommits.remove( commitKey );
+        pendingCommits.put( commitKey, commit );
+
+        if ( !flushScheduled ) {
+            flushScheduled = true;
+            Platform.runLater( this::flush );
+        }
+    }
+
+    /**
+     * Runs the validations of all of the queued commits now, rather than
+     * waiting for the next pass of the JavaFX Application Thread.
+     */
+    void flush() {
+        flushScheduled = false;
+        if ( pendingCommits.isEmpty() ) {
+            return;
+        }
+
+        // Take the batch first, as validators may commit further cells.
+        final List< Map.Entry< CommitKey, Runnable > > commits = 
+                new ArrayList<>( pendingCommits.entrySet() );
+        pendingCommits.clear();
+
+        final Map< TD, Boolean > flushedRecords = new IdentityHashMap<>( commits.size() );
+        final List< TD > records = new ArrayList<>( commits.size() );
+        for ( final Map.Entry< CommitKey, Runnable > commit : commits ) {
+            @SuppressWarnings("unchecked") final TD record = ( TD ) commit.getKey().record;
+            commit.getValue().run();
+
+            if ( flushedRecords.put( record, Boolean.TRUE ) == null ) {
+                records.add( record );
+            }
+        }
+
+        if ( onCommitsFlushed != null ) {
+            onCommitsFlushed.accept( Collections.unmodifiableList( records ) );
+        }
+    }
+
+    /**
+     * Discards the queued commits, and the results of any validations that
+     * are still running, such as when the table's rows are replaced.
+     */
+    void clear() {
+        pendingCommits.clear();
+        latestValidations.clear();
+    }
+
+    // Prepares the validation of a committed cell now, returning what starts
+    // its computation in the background once the batch is flushed.
+    private < VR > Runnable prepareValidation( final CommitKey commitKey,
+                                               final TD record,
+                                               final AsyncCellValidator< TD, VR > validator ) {
+        final Callable< VR > validation = validator.prepareValidation( record );
+        return () -> startValidation( commitKey, record, validator, validation );
+    }
+
+    private < VR > void startValidation( final CommitKey commitKey,
+                                         final TD record,
+                                         final AsyncCellValidator< TD, VR > validator,
+                                         final Callable< VR > validation ) {
+        final Long generation = Long.valueOf( ++validationGeneration );
+        latestValidations.put( commitKey, generation );
+
+        VALIDATION_EXECUTOR.execute( () -> {
+            VR validationResult = null;
+            Exception validationException = null;
+            try {
+                validationResult = validation.call();
+            }
+            catch ( final Exception ex ) {
+                validationException = ex;
+            }
+
+            final VR result = validationResult;
+            final Exception exception = validationException;
+            Platform.runLater( () -> {
+                // Only apply the latest validation of the cell.
+                if ( !generation.equals( latestValidations.get( commitKey ) ) ) {
+                    return;
+                }
+                latestValidations.remove( commitKey );
+
+                if ( exception != null ) {
+                    exception.printStackTrace();
+                }
+                else {
+                    validator.applyValidation( record, result );
+                }
+            } );
+        } );
+    }
+
+    /**
+     * The key for a committed cell, which compares rows by identity, as the
+     * records may define equality by value.
+     */
+    private static final class CommitKey {
+
+        private final Object record;
+        private final Object field;
+
+        CommitKey( final Object pRecord, final Object pField ) {
+            record = pRecord;
+            field = pField;
+        }
+
+        @Override
+        public boolean equals( final Object other ) {
+            if ( this == other ) {
+                return true;
+            }
+            if ( !( other instanceof CommitKey ) ) {
+                return false;
+            }
+
+            final CommitKey otherKey = ( CommitKey ) other;
+            return ( record == otherKey.record ) && ( field == otherKey.field );
+        }
+
+        @Override
+        public int hashCode() {
+            return ( 31 * System.identityHashCode( record ) ) 
+                    + System.identityHashCode( field );
+        }
+    }
+}
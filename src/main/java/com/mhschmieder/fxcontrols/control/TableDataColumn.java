@@ -0,0 +1,157 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * {@code TableDataColumn} is one column of a table's data, as it is exported
+ * and copied, which is usually shown by a visible leaf column of the table,
+ * but need not be materialized as a {@link TableColumn} at all, such as the
+ * columns that are not in view in the wide table mode of a {@link
+ * DataTableView}.
+ *
+ * @param <TD>
+ *            The data type for the table
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+final class TableDataColumn< TD > {
+
+    /**
+     * The name of the column.
+     */
+    private final String header;
+
+    /**
+     * The function that gets the column's cell value from a row.
+     */
+    private final Function< TD, Object > cellValueGetter;
+
+    /**
+     * The formatter for the column's non-null cell values.
+     */
+    private final Function< Object, String > formatter;
+
+    /**
+     * Constructs a {@link TableDataColumn} with the specified name, cell values
+     * and formatter.
+     *
+     * @param pHeader
+     *            The name of the column
+     * @param pCellValueGetter
+     *            The function that gets the column's cell value from a row
+     * @param pFormatter
+     *            The formatter for the column's non-null cell values
+     */
+    TableDataColumn( final String pHeader,
+                     final Function< TD, Object > pCellValueGetter,
+                     final Function< Object, String > pFormatter ) {
+        header = pHeader;
+        cellValueGetter = pCellValueGetter;
+        formatter = pFormatter;
+    }
+
+    /**
+     * Returns the data columns of the specified table, in display order, which
+     * are its visible leaf columns unless it is an {@link XTableView} that only
+     * materializes some of its data columns.
+     *
+     * @param <TD>
+     *            The data type for the table
+     * @param tableView
+     *            The table whose data columns are returned
+     * @return The data columns of the specified table
+     */
+    static < TD > List< TableDataColumn< TD > > forTable( final TableView< TD > tableView ) {
+        return ( tableView instanceof XTableView )
+            ? ( ( XTableView< TD > ) tableView ).getDataColumns()
+            : forColumns( tableView.getVisibleLeafColumns() );
+    }
+
+    /**
+     * Returns the data columns that are shown by the specified table columns,
+     * formatting each one with its column formatter, if any.
+     *
+     * @param <TD>
+     *            The data type for the table
+     * @param tableColumns
+     *            The table columns that show the data columns
+     * @return The data columns that are shown by the table columns
+     */
+    static < TD > List< TableDataColumn< TD > > forColumns( 
+            final List< TableColumn< TD, ? > > tableColumns ) {
+        final List< TableDataColumn< TD > > dataColumns = new ArrayList<>( tableColumns.size() );
+        for ( final TableColumn< TD, ? > tableColumn : tableColumns ) {
+            dataColumns.add( new TableDataColumn<>( tableColumn.getText(),
+                                                    tableColumn::getCellData,
+                                                    TableUtilities.getCellFormatter( tableColumn ) ) );
+        }
+
+        return dataColumns;
+    }
+
+    /**
+     * Returns the name of the column.
+     *
+     * @return The name of the column
+     */
+    String getHeader() {
+        return header;
+    }
+
+    /**
+     * Returns the column's cell value for the specified row.
+     *
+     * @param row
+     *            The row to get the cell value from
+     * @return The column's cell value for the row
+     */
+    Object getCellData( final TD row ) {
+        return cellValueGetter.apply( row );
+    }
+
+    /**
+     * Returns the formatter for the column's non-null cell values.
+     *
+     * @return The formatter for the column's non-null cell values
+     */
+    Function< Object, String > getFormatter() {
+        return formatter;
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import java.util.List;
+
+/**
+ * Defines the service provider interface for a source of table rows that is
+ * too large to hold in memory at once, such as a local file or an embedded
+ * database, and which is therefore read a page of rows at a time.
+ * <p>
+ * The table only keeps a bounded number of recently used pages, and asks for
+ * the pages around the visible rows on a background thread, showing
+ * placeholder rows until they arrive.
+ * <p>
+ * NOTE: The row count is queried on the JavaFX Application Thread, so it
+ *  should be cheap; the rows themselves are always fetched on a single
+ *  background thread, so implementations don't need to be thread safe as long
+ *  as they aren't shared with other code.
+ *
+ * @param <TD>
+ *            The data type for the table
+ */
+public interface TableDataProvider< TD > {
+
+    /**
+     * Returns the total number of rows that this provider can supply.
+     *
+     * @return The total number of rows that this provider can supply
+     */
+    int getRowCount();
+
+    /**
+     * Fetches the specified range of rows, which is invoked on a background
+     * thread.
+     *
+     * @param fromIndex
+     *            The index of the first row to fetch
+     * @param toIndex
+     *            The index after the last row to fetch
+     * @return The rows in the specified range, in row order
+     * @throws Exception
+     *             If the rows cannot be fetched, in which case they will be
+     *             requested again once they scroll back into view
+     */
+    List< TD > fetchRows( final int fromIndex, final int toIndex ) throws Exception;
+
+    /**
+     * Returns the row to show in place of the specified row until its page has
+     * been fetched.
+     * <p>
+     * The default implementation returns {@code null}, so cell value factories
+     * must be able to deal with a {@code null} row unless this is overridden.
+     *
+     * @param rowIndex
+     *            The index of the row that is not available yet
+     * @return The placeholder row for the specified row
+     */
+    default TD getPlaceholderRow( final int rowIndex ) {
+        return null;
+    }
+}
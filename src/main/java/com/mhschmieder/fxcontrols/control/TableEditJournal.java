@@ -0,0 +1,760 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WritableValue;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TableColumn;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@code TableEditJournal} is the undo and redo history of a table's edits,
+ * which records each edit as a compact delta rather than as a snapshot of the
+ * table, and is bounded by an estimate of the memory that it holds on to.
+ * <p>
+ * Cell edits are recorded by row record and column, along with the old and
+ * new values, so that they stay valid when the rows are sorted or filtered;
+ * consecutive commits to the same cell in quick succession, such as while
+ * typing, are merged into one edit. Row insertions and removals are recorded
+ * as index ranges along with the affected rows, so that undoing the removal
+ * of any number of rows is a single change to the table's items.
+ * <p>
+ * When the estimated size of the history exceeds its budget, the oldest edits
+ * are discarded first.
+ *
+ * @param <TD>
+ *            The data type for the table
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+final class TableEditJournal< TD > {
+
+    /**
+     * The longest pause between commits to a cell that are merged into one
+     * edit, in nanoseconds.
+     */
+    private static final long MERGE_INTERVAL_NANOS = 1_000_000_000L;
+
+    /**
+     * The estimated size of an edit, before counting the values or rows that
+     * it holds on to.
+     */
+    private static final long EDIT_BYTES = 48L;
+
+    /**
+     * The estimated size of a reference to a row that the edit holds on to.
+     * <p>
+     * NOTE: This also accounts for the row itself, which is otherwise only
+     *  held on to by the history once it is removed from the table.
+     */
+    private static final long ROW_BYTES = 64L;
+
+    /**
+     * The table whose edits are recorded.
+     */
+    private final XTableView< TD > tableView;
+
+    /**
+     * The edits that can be undone, from oldest to newest.
+     */
+    private final Deque< Edit > undoEdits;
+
+    /**
+     * The edits that can be redone, from newest to oldest.
+     */
+    private final Deque< Edit > redoEdits;
+
+    /**
+     * The estimated size of all of the recorded edits, in bytes.
+     */
+    private long historyBytes;
+
+    /**
+     * The maximum estimated size of the recorded edits, in bytes.
+     */
+    private long byteBudget;
+
+    /**
+     * The edit that is gathering the edits of a compound change, if any.
+     */
+    private CompoundEdit compoundEdit;
+
+    /**
+     * The nesting depth of compound changes.
+     */
+    private int compoundDepth;
+
+    /**
+     * Flag for whether edits are being undone or redone, so are not recorded.
+     */
+    private boolean replaying;
+
+    /**
+     * The flags for whether there are edits to undo and to redo.
+     */
+    private final ReadOnlyBooleanWrapper undoAvailable;
+    private final ReadOnlyBooleanWrapper redoAvailable;
+
+    /**
+     * Constructs an empty {@link TableEditJournal} for the specified table.
+     *
+     * @param pTableView
+     *            The table whose edits are recorded
+     * @param pByteBudget
+     *            The maximum estimated size of the recorded edits, in bytes
+     */
+    TableEditJournal( final XTableView< TD > pTableView, final long pByteBudget ) {
+        tableView = pTableView;
+        byteBudget = pByteBudget;
+
+        undoEdits = new ArrayDeque<>();
+        redoEdits = new ArrayDeque<>();
+        historyBytes = 0L;
+        compoundEdit = null;
+        compoundDepth = 0;
+        replaying = false;
+        undoAvailable = new ReadOnlyBooleanWrapper( false );
+        redoAvailable = new ReadOnlyBooleanWrapper( false );
+    }
+
+    ReadOnlyBooleanProperty undoAvailableProperty() {
+        return undoAvailable.getReadOnlyProperty();
+    }
+
+    ReadOnlyBooleanProperty redoAvailableProperty() {
+        return redoAvailable.getReadOnlyProperty();
+    }
+
+    long getByteBudget() {
+        return byteBudget;
+    }
+
+    /**
+     * Sets the maximum estimated size of the recorded edits, discarding the
+     * oldest edits if they no longer fit.
+     *
+     * @param pByteBudget
+     *            The maximum estimated size of the recorded edits, in bytes
+     */
+    void setByteBudget( final long pByteBudget ) {
+        byteBudget = pByteBudget;
+        trimHistory();
+    }
+
+    /**
+     * Returns {@code true} if edits are currently being undone or redone.
+     *
+     * @return {@code true} if edits are currently being undone or redone
+     */
+    boolean isReplaying() {
+        return replaying;
+    }
+
+    /**
+     * Discards all of the recorded edits, such as when the table's rows are
+     * replaced by other means.
+     */
+    void clear() {
+        undoEdits.clear();
+        redoEdits.clear();
+        historyBytes = 0L;
+        compoundEdit = null;
+        compoundDepth = 0;
+        updateAvailability();
+    }
+
+    /**
+     * Starts gathering the following edits into one edit, until the matching
+     * call to {@link #endCompoundEdit}; calls may be nested.
+     */
+    void beginCompoundEdit() {
+        if ( compoundDepth++ == 0 ) {
+            compoundEdit = new CompoundEdit();
+        }
+    }
+
+    /**
+     * Ends gathering edits into one edit, and records it if it isn't empty.
+     */
+    void endCompoundEdit() {
+        if ( ( compoundDepth == 0 ) || ( --compoundDepth > 0 ) ) {
+            return;
+        }
+
+        final CompoundEdit edit = compoundEdit;
+        compoundEdit = null;
+        if ( !edit.edits.isEmpty() ) {
+            addEdit( edit );
+        }
+    }
+
+    /**
+     * Records the commit of a new value to a cell.
+     *
+     * @param record
+     *            The record of the edited row
+     * @param column
+     *            The column of the edited cell
+     * @param oldValue
+     *            The value of the cell before the commit
+     * @param newValue
+     *            The value of the cell after the commit
+     */
+    void recordCellEdit( final TD record,
+                         final TableColumn< TD, ? > column,
+                         final Object oldValue,
+                         final Object newValue ) {
+        if ( replaying || ( record == null ) || ( column == null ) 
+                || Objects.equals( oldValue, newValue ) ) {
+            return;
+        }
+
+        // Merge quick successive commits to the same cell, keeping the value
+        // from before the first of them.
+        final long commitTime = System.nanoTime();
+        final Edit lastEdit = ( compoundEdit != null ) 
+            ? compoundEdit.getLastEdit() 
+            : undoEdits.peekLast();
+        if ( ( lastEdit != null ) && redoEdits.isEmpty() ) {
+            final long oldBytes = lastEdit.bytes;
+            if ( lastEdit.mergeCellEdit( record, column, newValue, commitTime ) ) {
+                resizeEdit( lastEdit, oldBytes );
+                return;
+            }
+        }
+
+        addEdit( new CellEdit( record, column, oldValue, newValue, commitTime ) );
+    }
+
+    /**
+     * Records the insertion of a contiguous range of rows.
+     *
+     * @param insertIndex
+     *            The index of the first inserted row
+     * @param rows
+     *            The inserted rows
+     */
+    void recordRowsInserted( final int insertIndex, final List< TD > rows ) {
+        if ( replaying || rows.isEmpty() ) {
+            return;
+        }
+
+        addEdit( new RowsEdit( true, new int[] { insertIndex }, new ArrayList<>( rows ) ) );
+    }
+
+    /**
+     * Records the removal of rows, which need not be contiguous.
+     * <p>
+     * This must be called before the rows are removed, so that the rows'
+     * editability can be restored along with them.
+     *
+     * @param removedRows
+     *            The flags for which rows are removed, as indexed before the
+     *            removal
+     * @param rows
+     *            The removed rows, in index order
+     */
+    void recordRowsRemoved( final BitSet removedRows, final List< TD > rows ) {
+        if ( replaying || rows.isEmpty() ) {
+            return;
+        }
+
+        final int[] removedIndices = removedRows.stream().toArray();
+        final RowsEdit rowsEdit = new RowsEdit( false, removedIndices, new ArrayList<>( rows ) );
+        rowsEdit.rowFlags = copyRowFlags( removedIndices );
+        addEdit( rowsEdit );
+    }
+
+    /**
+     * Records the move of a contiguous block of rows.
+     *
+     * @param fromIndex
+     *            The index of the first row in the moved block
+     * @param toIndex
+     *            The index after the last row in the moved block
+     * @param targetIndex
+     *            The index of the row that the block was moved in front of,
+     *            as of before the move
+     */
+    void recordRowsMoved( final int fromIndex, final int toIndex, final int targetIndex ) {
+        if ( replaying ) {
+            return;
+        }
+
+        addEdit( new MoveEdit( fromIndex, toIndex, targetIndex ) );
+    }
+
+    /**
+     * Undoes the most recent edit, if any.
+     *
+     * @return {@code true} if an edit was undone
+     */
+    boolean undo() {
+        // The quick filtered view is read-only.
+        if ( tableView.isQuickFilterActive() ) {
+            return false;
+        }
+
+        final Edit edit = undoEdits.pollLast();
+        if ( edit == null ) {
+            return false;
+        }
+
+        replay( edit, true );
+        redoEdits.addLast( edit );
+        updateAvailability();
+
+        return true;
+    }
+
+    /**
+     * Redoes the most recently undone edit, if any.
+     *
+     * @return {@code true} if an edit was redone
+     */
+    boolean redo() {
+        if ( tableView.isQuickFilterActive() ) {
+            return false;
+        }
+
+        final Edit edit = redoEdits.pollLast();
+        if ( edit == null ) {
+            return false;
+        }
+
+        replay( edit, false );
+        undoEdits.addLast( edit );
+        updateAvailability();
+
+        return true;
+    }
+
+    private void replay( final Edit edit, final boolean undo ) {
+        // Cancel any editing, so that an open editor doesn't write a stale
+        // value back over the replayed one.
+        tableView.edit( -1, null );
+
+        replaying = true;
+        try {
+            if ( undo ) {
+                edit.undo();
+            }
+            else {
+                edit.redo();
+            }
+        }
+        finally {
+            replaying = false;
+        }
+    }
+
+    private void addEdit( final Edit edit ) {
+        if ( byteBudget <= 0L ) {
+            return;
+        }
+
+        if ( compoundEdit != null ) {
+            compoundEdit.edits.add( edit );
+            compoundEdit.bytes += edit.bytes;
+            return;
+        }
+
+        // A new edit makes the undone edits unreachable.
+        for ( final Edit redoEdit : redoEdits ) {
+            historyBytes -= redoEdit.bytes;
+        }
+        redoEdits.clear();
+
+        undoEdits.addLast( edit );
+        historyBytes += edit.bytes;
+        trimHistory();
+        updateAvailability();
+    }
+
+    private void resizeEdit( final Edit edit, final long oldBytes ) {
+        if ( compoundEdit != null ) {
+            compoundEdit.bytes += edit.bytes - oldBytes;
+            return;
+        }
+
+        historyBytes += edit.bytes - oldBytes;
+        trimHistory();
+        updateAvailability();
+    }
+
+    private void trimHistory() {
+        // Discard the oldest edits first; an edit that doesn't fit on its own
+        // is discarded as well, as it would otherwise exceed the budget.
+        while ( ( historyBytes > byteBudget ) && !redoEdits.isEmpty() ) {
+            historyBytes -= redoEdits.pollFirst().bytes;
+        }
+        while ( ( historyBytes > byteBudget ) && !undoEdits.isEmpty() ) {
+            historyBytes -= undoEdits.pollFirst().bytes;
+        }
+        updateAvailability();
+    }
+
+    private void updateAvailability() {
+        undoAvailable.set( !undoEdits.isEmpty() );
+        redoAvailable.set( !redoEdits.isEmpty() );
+    }
+
+    // Copies the editability flags of the specified rows, for when they are
+    // put back, unless the table has no editability policy to copy them from.
+    private TableEditabilityPolicy< TD > copyRowFlags( final int[] rowIndices ) {
+        final TableEditabilityPolicy< TD > editabilityPolicy = 
+                tableView.getEditabilityPolicyIfMade();
+        return ( editabilityPolicy != null ) 
+            ? editabilityPolicy.copyRowFlags( rowIndices ) 
+            : null;
+    }
+
+    private static long estimateBytes( final Object value ) {
+        if ( value == null ) {
+            return 0L;
+        }
+        if ( value instanceof String ) {
+            return 40L + ( 2L * ( ( String ) value ).length() );
+        }
+
+        // Boxed primitives, enums and shared values.
+        return 16L;
+    }
+
+    /**
+     * One recorded edit, which knows how to undo and redo itself.
+     */
+    private abstract class Edit {
+
+        long bytes;
+
+        // Merges a later commit to the same cell into this edit, if possible.
+        boolean mergeCellEdit( final TD record,
+                               final TableColumn< TD, ? > column,
+                               final Object newValue,
+                               final long commitTime ) {
+            return false;
+        }
+
+        abstract void undo();
+
+        abstract void redo();
+    }
+
+    /**
+     * An edit that gathers the edits of a compound change, such as a paste.
+     */
+    private final class CompoundEdit extends Edit {
+
+        final List< Edit > edits;
+
+        CompoundEdit() {
+            edits = new ArrayList<>();
+            bytes = EDIT_BYTES;
+        }
+
+        Edit getLastEdit() {
+            return edits.isEmpty() ? null : edits.get( edits.size() - 1 );
+        }
+
+        @Override
+        void undo() {
+            for ( int i = edits.size() - 1; i >= 0; i-- ) {
+                edits.get( i ).undo();
+            }
+        }
+
+        @Override
+        void redo() {
+            for ( final Edit edit : edits ) {
+                edit.redo();
+            }
+        }
+    }
+
+    /**
+     * An edit of one cell, which is found by its row record and column.
+     */
+    private final class CellEdit extends Edit {
+
+        final TD record;
+        final TableColumn< TD, ? > column;
+        final Object oldValue;
+        Object newValue;
+        long commitTime;
+
+        CellEdit( final TD pRecord,
+                  final TableColumn< TD, ? > pColumn,
+                  final Object pOldValue,
+                  final Object pNewValue,
+                  final long pCommitTime ) {
+            record = pRecord;
+            column = pColumn;
+            oldValue = pOldValue;
+            newValue = pNewValue;
+            commitTime = pCommitTime;
+            bytes = estimateBytes();
+        }
+
+        @Override
+        boolean mergeCellEdit( final TD pRecord,
+                               final TableColumn< TD, ? > pColumn,
+                               final Object pNewValue,
+                               final long pCommitTime ) {
+            if ( ( record != pRecord ) || ( column != pColumn ) 
+                    || ( ( pCommitTime - commitTime ) >= MERGE_INTERVAL_NANOS ) ) {
+                return false;
+            }
+
+            newValue = pNewValue;
+            commitTime = pCommitTime;
+            bytes = estimateBytes();
+
+            return true;
+        }
+
+        long estimateBytes() {
+            return EDIT_BYTES + TableEditJournal.estimateBytes( oldValue )
+                    + TableEditJournal.estimateBytes( newValue );
+        }
+
+        @Override
+        void undo() {
+            setCellValue( oldValue );
+        }
+
+        @Override
+        void redo() {
+            setCellValue( newValue );
+        }
+
+        @SuppressWarnings("unchecked")
+        private void setCellValue( final Object value ) {
+            final ObservableValue< ? > cellValue = column.getCellObservableValue( record );
+            if ( cellValue instanceof WritableValue ) {
+                ( ( WritableValue< Object > ) cellValue ).setValue( value );
+                tableView.cellValueReplayed( record );
+            }
+        }
+    }
+
+    /**
+     * An insertion or removal of rows, which is undone and redone as a single
+     * change to the table's items no matter how many rows are affected.
+     */
+    private final class RowsEdit extends Edit {
+
+        final boolean insertion;
+        final int[] rowIndices;
+        final List< TD > rows;
+
+        // The editability of the rows while they are out of the table, if any
+        // of them are uneditable.
+        TableEditabilityPolicy< TD > rowFlags;
+
+        RowsEdit( final boolean pInsertion, final int[] pRowIndices, final List< TD > pRows ) {
+            insertion = pInsertion;
+            rowIndices = pRowIndices;
+            rows = pRows;
+            rowFlags = null;
+            bytes = EDIT_BYTES + ( 4L * rowIndices.length ) + ( ROW_BYTES * rows.size() );
+        }
+
+        @Override
+        void undo() {
+            if ( insertion ) {
+                removeRows();
+            }
+            else {
+                insertRows();
+            }
+        }
+
+        @Override
+        void redo() {
+            if ( insertion ) {
+                insertRows();
+            }
+            else {
+                removeRows();
+            }
+        }
+
+        private void insertRows() {
+            final ObservableList< TD > items = tableView.getItems();
+            final int rowCount = items.size();
+
+            final int[] restoredIndices = new int[ rows.size() ];
+            if ( insertion ) {
+                final int insertIndex = Math.min( rowIndices[ 0 ], rowCount );
+                items.addAll( insertIndex, rows );
+                for ( int position = 0; position < restoredIndices.length; position++ ) {
+                    restoredIndices[ position ] = insertIndex + position;
+                }
+                restoreRowFlags( restoredIndices );
+                selectRows( insertIndex, rows.size() );
+                return;
+            }
+
+            // Put the rows back where they were, in one change.
+            final int newRowCount = rowCount + rows.size();
+            final List< TD > mergedItems = new ArrayList<>( newRowCount );
+            int keptIndex = 0;
+            int restoredIndex = 0;
+            for ( int rowIndex = 0; rowIndex < newRowCount; rowIndex++ ) {
+                if ( ( restoredIndex < rows.size() ) 
+                        && ( ( rowIndices[ restoredIndex ] <= rowIndex ) 
+                                || ( keptIndex >= rowCount ) ) ) {
+                    restoredIndices[ restoredIndex ] = rowIndex;
+                    mergedItems.add( rows.get( restoredIndex++ ) );
+                }
+                else {
+                    mergedItems.add( items.get( keptIndex++ ) );
+                }
+            }
+            items.setAll( mergedItems );
+            restoreRowFlags( restoredIndices );
+
+            selectRows( Math.min( rowIndices[ 0 ], newRowCount - 1 ), 1 );
+        }
+
+        private void removeRows() {
+            final ObservableList< TD > items = tableView.getItems();
+
+            // Find the rows by identity, as they may have been sorted since.
+            final Map< TD, Integer > removedItems = new IdentityHashMap<>( rows.size() );
+            for ( int position = 0; position < rows.size(); position++ ) {
+                removedItems.put( rows.get( position ), position );
+            }
+            final int rowCount = items.size();
+            final BitSet removedRows = new BitSet( rowCount );
+            final int[] removedIndices = new int[ rows.size() ];
+            Arrays.fill( removedIndices, -1 );
+            for ( int rowIndex = 0; rowIndex < rowCount; rowIndex++ ) {
+                final Integer position = removedItems.get( items.get( rowIndex ) );
+                if ( position != null ) {
+                    removedRows.set( rowIndex );
+                    removedIndices[ position.intValue() ] = rowIndex;
+                }
+            }
+
+            final int firstRemovedRow = removedRows.nextSetBit( 0 );
+            if ( firstRemovedRow < 0 ) {
+                return;
+            }
+
+            // Keep the rows' editability, for when they are put back.
+            rowFlags = copyRowFlags( removedIndices );
+
+            // A single contiguous range can be removed in place.
+            final int lastRemovedRow = removedRows.length() - 1;
+            if ( removedRows.nextClearBit( firstRemovedRow ) > lastRemovedRow ) {
+                items.remove( firstRemovedRow, lastRemovedRow + 1 );
+            }
+            else {
+                final List< TD > keptItems = new ArrayList<>( rowCount - removedRows.cardinality() );
+                for ( int rowIndex = 0; rowIndex < rowCount; rowIndex++ ) {
+                    if ( !removedRows.get( rowIndex ) ) {
+                        keptItems.add( items.get( rowIndex ) );
+                    }
+                }
+                items.setAll( keptItems );
+            }
+
+            tableView.selectRow( Math.min( firstRemovedRow, items.size() - 1 ) );
+        }
+
+        private void restoreRowFlags( final int[] restoredIndices ) {
+            if ( rowFlags != null ) {
+                tableView.getEditabilityPolicy().restoreRowFlags( rowFlags, restoredIndices );
+            }
+        }
+
+        private void selectRows( final int firstRow, final int rowCount ) {
+            tableView.getSelectionModel().clearSelection();
+            tableView.getSelectionModel().selectRange( firstRow, firstRow + rowCount );
+        }
+    }
+
+    /**
+     * A move of a contiguous block of rows.
+     */
+    private final class MoveEdit extends Edit {
+
+        final int fromIndex;
+        final int toIndex;
+        final int targetIndex;
+
+        MoveEdit( final int pFromIndex, final int pToIndex, final int pTargetIndex ) {
+            fromIndex = pFromIndex;
+            toIndex = pToIndex;
+            targetIndex = pTargetIndex;
+            bytes = EDIT_BYTES;
+        }
+
+        @Override
+        void undo() {
+            // Move the block back in front of the row that followed it.
+            final int blockLength = toIndex - fromIndex;
+            if ( targetIndex < fromIndex ) {
+                moveRows( targetIndex, targetIndex + blockLength, toIndex );
+            }
+            else {
+                moveRows( targetIndex - blockLength, targetIndex, fromIndex );
+            }
+        }
+
+        @Override
+        void redo() {
+            moveRows( fromIndex, toIndex, targetIndex );
+        }
+
+        private void moveRows( final int from, final int to, final int target ) {
+            if ( tableView instanceof DynamicXTableView ) {
+                ( ( DynamicXTableView< TD > ) tableView ).moveTableRows( from, to, target );
+            }
+        }
+    }
+}
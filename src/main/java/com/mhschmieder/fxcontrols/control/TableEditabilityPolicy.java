@@ -0,0 +1,490 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import javafx.collections.ListChangeListener;
+import javafx.scene.control.TableColumn;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code TableEditabilityPolicy} tracks which rows of a table are excluded
+ * from editing, either for all columns or for specific columns, so that cells
+ * can check their editability in constant time when editing starts.
+ * <p>
+ * Rows are editable unless they have been marked otherwise. The flags are
+ * kept by each row's index in the table's unfiltered items, and
+ * {@link XTableView} keeps them with their rows as the items change, whether
+ * rows are inserted, removed, moved, or sorted (in place or in the
+ * background). When rows are replaced by other rows, as when a table is
+ * reloaded, the new rows take on the flags of the rows they replaced.
+ *
+ * @param <TD>
+ *            The data type for the table
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class TableEditabilityPolicy< TD > {
+
+    /**
+     * Flags for the rows that are uneditable in all columns.
+     */
+    private BitSet uneditableRows;
+
+    /**
+     * Flags for the rows that are uneditable in specific columns.
+     */
+    private final Map< TableColumn< TD, ? >, BitSet > uneditableColumnRows;
+
+    /**
+     * Constructs a {@link TableEditabilityPolicy} with all rows editable.
+     */
+    public TableEditabilityPolicy() {
+        uneditableRows = new BitSet();
+        uneditableColumnRows = new IdentityHashMap<>();
+    }
+
+    /**
+     * Returns {@code true} if the specified cell is allowed to be edited.
+     *
+     * @param rowIndex
+     *            The row index of the cell, in the table's unfiltered items
+     * @param column
+     *            The column of the cell
+     * @return {@code true} if the specified cell is allowed to be edited
+     *
+     * @since 1.0
+     */
+    public boolean isEditable( final int rowIndex, final TableColumn< TD, ? > column ) {
+        if ( ( rowIndex < 0 ) || uneditableRows.get( rowIndex ) ) {
+            return false;
+        }
+
+        final BitSet columnRows = uneditableColumnRows.get( column );
+        return ( columnRows == null ) || !columnRows.get( rowIndex );
+    }
+
+    /**
+     * Sets whether a range of rows is editable in all columns.
+     *
+     * @param fromIndex
+     *            The index of the first row in the range
+     * @param toIndex
+     *            The index after the last row in the range
+     * @param editable
+     *            {@code true} if the rows should be editable
+     *
+     * @since 1.0
+     */
+    public void setRowsEditable( final int fromIndex,
+                                 final int toIndex,
+                                 final boolean editable ) {
+        uneditableRows.set( fromIndex, toIndex, !editable );
+    }
+
+    /**
+     * Sets whether the specified rows are editable in all columns.
+     *
+     * @param rowIndices
+     *            The indices of the rows
+     * @param editable
+     *            {@code true} if the rows should be editable
+     *
+     * @since 1.0
+     */
+    public void setRowsEditable( final Iterable< Integer > rowIndices,
+                                 final boolean editable ) {
+        setRowsEditable( uneditableRows, rowIndices, editable );
+    }
+
+    /**
+     * Sets whether a range of rows is editable in the specified column.
+     *
+     * @param column
+     *            The column that the rule applies to
+     * @param fromIndex
+     *            The index of the first row in the range
+     * @param toIndex
+     *            The index after the last row in the range
+     * @param editable
+     *            {@code true} if the rows should be editable
+     *
+     * @since 1.0
+     */
+    public void setRowsEditable( final TableColumn< TD, ? > column,
+                                 final int fromIndex,
+                                 final int toIndex,
+                                 final boolean editable ) {
+        getColumnRows( column ).set( fromIndex, toIndex, !editable );
+    }
+
+    /**
+     * Sets whether the specified rows are editable in the specified column.
+     *
+     * @param column
+     *            The column that the rule applies to
+     * @param rowIndices
+     *            The indices of the rows
+     * @param editable
+     *            {@code true} if the rows should be editable
+     *
+     * @since 1.0
+     */
+    public void setRowsEditable( final TableColumn< TD, ? > column,
+                                 final Iterable< Integer > rowIndices,
+                                 final boolean editable ) {
+        setRowsEditable( getColumnRows( column ), rowIndices, editable );
+    }
+
+    /**
+     * Makes all rows editable again, in all columns.
+     *
+     * @since 1.0
+     */
+    public void clear() {
+        uneditableRows.clear();
+        uneditableColumnRows.clear();
+    }
+
+    /**
+     * Keeps the row flags with their rows after a change to the table's
+     * unfiltered items.
+     * <p>
+     * Rows that are replaced in a single change (such as by a background sort
+     * or a multi-row move or removal) are matched up by identity, as long as
+     * at least one of the new rows was already in the table; otherwise the
+     * new rows take on the flags of the rows they replaced, by position.
+     *
+     * @param change
+     *            The change to the table's unfiltered items
+     *
+     * @since 1.0
+     */
+    void itemsChanged( final ListChangeListener.Change< ? extends TD > change ) {
+        while ( change.next() ) {
+            // Most tables have no uneditable rows, so don't pay for them.
+            if ( isEmpty() ) {
+                continue;
+            }
+
+            final int fromIndex = change.getFrom();
+            if ( change.wasPermutated() ) {
+                final int[] newIndices = new int[ change.getTo() - fromIndex ];
+                for ( int i = 0; i < newIndices.length; i++ ) {
+                    newIndices[ i ] = change.getPermutation( fromIndex + i );
+                }
+                uneditableRows = permuteRows( uneditableRows, fromIndex, newIndices );
+                uneditableColumnRows.replaceAll( ( column, columnRows ) -> 
+                    permuteRows( columnRows, fromIndex, newIndices ) );
+            }
+            else if ( change.wasReplaced() ) {
+                final int[] oldOffsets = getReplacedOffsets( fromIndex, 
+                                                             change.getRemoved(), 
+                                                             change.getAddedSubList() );
+                final int removedCount = change.getRemovedSize();
+                final int addedCount = change.getAddedSize();
+                uneditableRows = replaceRows( uneditableRows, 
+                                              fromIndex, 
+                                              removedCount, 
+                                              addedCount, 
+                                              oldOffsets );
+                uneditableColumnRows.replaceAll( ( column, columnRows ) -> 
+                    replaceRows( columnRows, fromIndex, removedCount, addedCount, oldOffsets ) );
+            }
+            else if ( change.wasRemoved() ) {
+                final BitSet removedRows = new BitSet();
+                removedRows.set( fromIndex, fromIndex + change.getRemovedSize() );
+                rowsRemoved( removedRows );
+            }
+            else if ( change.wasAdded() ) {
+                rowsInserted( fromIndex, change.getAddedSize() );
+            }
+        }
+    }
+
+    /**
+     * Returns the flags of the specified rows, to be restored with
+     * {@link #restoreRowFlags} if the rows are put back after being removed.
+     *
+     * @param rowIndices
+     *            The indices of the rows, or -1 for rows that aren't in the
+     *            table
+     * @return The flags of the specified rows, indexed by their position in
+     *         the array of indices, or {@code null} if all of them are
+     *         editable
+     *
+     * @since 1.0
+     */
+    TableEditabilityPolicy< TD > copyRowFlags( final int[] rowIndices ) {
+        if ( isEmpty() ) {
+            return null;
+        }
+
+        final TableEditabilityPolicy< TD > rowFlags = new TableEditabilityPolicy<>();
+        copyRows( uneditableRows, rowFlags.uneditableRows, rowIndices );
+        uneditableColumnRows.forEach( ( column, columnRows ) -> 
+            copyRows( columnRows, rowFlags.getColumnRows( column ), rowIndices ) );
+
+        return rowFlags.isEmpty() ? null : rowFlags;
+    }
+
+    /**
+     * Restores the flags of rows that were put back into the table.
+     *
+     * @param rowFlags
+     *            The flags of the rows, as returned by {@link #copyRowFlags}
+     * @param rowIndices
+     *            The indices of the rows now, in the same order as when the
+     *            flags were copied
+     *
+     * @since 1.0
+     */
+    void restoreRowFlags( final TableEditabilityPolicy< TD > rowFlags,
+                          final int[] rowIndices ) {
+        restoreRows( rowFlags.uneditableRows, uneditableRows, rowIndices );
+        rowFlags.uneditableColumnRows.forEach( ( column, columnRows ) -> 
+            restoreRows( columnRows, getColumnRows( column ), rowIndices ) );
+    }
+
+    /**
+     * Shifts the row flags down to make room for rows that were inserted; the
+     * new rows are editable.
+     *
+     * @param insertIndex
+     *            The index of the first inserted row
+     * @param rowCount
+     *            The number of inserted rows
+     *
+     * @since 1.0
+     */
+    private void rowsInserted( final int insertIndex, final int rowCount ) {
+        uneditableRows = insertRows( uneditableRows, insertIndex, rowCount );
+        uneditableColumnRows.replaceAll( ( column, columnRows ) -> 
+            insertRows( columnRows, insertIndex, rowCount ) );
+    }
+
+    /**
+     * Drops the flags for rows that were removed, and shifts the flags for the
+     * rows after them up to close the gaps.
+     *
+     * @param removedRows
+     *            The flags for the rows that were removed, by their indices
+     *            from before the removal
+     *
+     * @since 1.0
+     */
+    private void rowsRemoved( final BitSet removedRows ) {
+        uneditableRows = removeRows( uneditableRows, removedRows );
+        uneditableColumnRows.replaceAll( ( column, columnRows ) -> 
+            removeRows( columnRows, removedRows ) );
+    }
+
+    // Returns true if no row is flagged as uneditable at all.
+    private boolean isEmpty() {
+        if ( !uneditableRows.isEmpty() ) {
+            return false;
+        }
+        for ( final BitSet columnRows : uneditableColumnRows.values() ) {
+            if ( !columnRows.isEmpty() ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Returns true if any row in the specified range is flagged as uneditable.
+    private boolean hasFlags( final int fromIndex, final int toIndex ) {
+        if ( hasFlags( uneditableRows, fromIndex, toIndex ) ) {
+            return true;
+        }
+        for ( final BitSet columnRows : uneditableColumnRows.values() ) {
+            if ( hasFlags( columnRows, fromIndex, toIndex ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Returns the offset within the replaced rows that each new row came from,
+    // or -1 for new rows that weren't among them; or null if the new rows
+    // should simply take on the flags of the replaced rows, by position.
+    private int[] getReplacedOffsets( final int fromIndex,
+                                      final List< ? extends TD > removedRows,
+                                      final List< ? extends TD > addedRows ) {
+        // Only the flags inside the replaced range can move around.
+        if ( !hasFlags( fromIndex, fromIndex + removedRows.size() ) ) {
+            return null;
+        }
+
+        final Map< Object, Integer > removedOffsets = new IdentityHashMap<>( removedRows.size() );
+        for ( int offset = 0; offset < removedRows.size(); offset++ ) {
+            removedOffsets.put( removedRows.get( offset ), offset );
+        }
+
+        final int[] oldOffsets = new int[ addedRows.size() ];
+        boolean rowsMatched = false;
+        for ( int offset = 0; offset < oldOffsets.length; offset++ ) {
+            final Integer oldOffset = removedOffsets.get( addedRows.get( offset ) );
+            oldOffsets[ offset ] = ( oldOffset != null ) ? oldOffset.intValue() : -1;
+            rowsMatched |= ( oldOffset != null );
+        }
+
+        return rowsMatched ? oldOffsets : null;
+    }
+
+    private BitSet getColumnRows( final TableColumn< TD, ? > column ) {
+        return uneditableColumnRows.computeIfAbsent( column, key -> new BitSet() );
+    }
+
+    private static void setRowsEditable( final BitSet rows,
+                                         final Iterable< Integer > rowIndices,
+                                         final boolean editable ) {
+        for ( final Integer rowIndex : rowIndices ) {
+            if ( ( rowIndex != null ) && ( rowIndex.intValue() >= 0 ) ) {
+                rows.set( rowIndex.intValue(), !editable );
+            }
+        }
+    }
+
+    private static void copyRows( final BitSet rows,
+                                  final BitSet copiedRows,
+                                  final int[] rowIndices ) {
+        for ( int position = 0; position < rowIndices.length; position++ ) {
+            if ( ( rowIndices[ position ] >= 0 ) && rows.get( rowIndices[ position ] ) ) {
+                copiedRows.set( position );
+            }
+        }
+    }
+
+    private static void restoreRows( final BitSet copiedRows,
+                                     final BitSet rows,
+                                     final int[] rowIndices ) {
+        for ( int position = copiedRows.nextSetBit( 0 ); 
+                ( position >= 0 ) && ( position < rowIndices.length );
+                position = copiedRows.nextSetBit( position + 1 ) ) {
+            rows.set( rowIndices[ position ] );
+        }
+    }
+
+    private static BitSet insertRows( final BitSet rows,
+                                      final int insertIndex,
+                                      final int rowCount ) {
+        if ( insertIndex >= rows.length() ) {
+            return rows;
+        }
+
+        final BitSet shiftedRows = rows.get( 0, insertIndex );
+        for ( int rowIndex = rows.nextSetBit( insertIndex ); rowIndex >= 0;
+                rowIndex = rows.nextSetBit( rowIndex + 1 ) ) {
+            shiftedRows.set( rowIndex + rowCount );
+        }
+
+        return shiftedRows;
+    }
+
+    private static BitSet removeRows( final BitSet rows, final BitSet removedRows ) {
+        final BitSet shiftedRows = new BitSet( rows.length() );
+        int removedCount = 0;
+        int nextRemovedRow = removedRows.nextSetBit( 0 );
+        for ( int rowIndex = rows.nextSetBit( 0 ); rowIndex >= 0;
+                rowIndex = rows.nextSetBit( rowIndex + 1 ) ) {
+            // Count the removed rows up to this one, to know how far it moves.
+            while ( ( nextRemovedRow >= 0 ) && ( nextRemovedRow < rowIndex ) ) {
+                removedCount++;
+                nextRemovedRow = removedRows.nextSetBit( nextRemovedRow + 1 );
+            }
+            if ( !removedRows.get( rowIndex ) ) {
+                shiftedRows.set( rowIndex - removedCount );
+            }
+        }
+
+        return shiftedRows;
+    }
+
+    private static boolean hasFlags( final BitSet rows,
+                                     final int fromIndex,
+                                     final int toIndex ) {
+        final int rowIndex = rows.nextSetBit( fromIndex );
+        return ( rowIndex >= 0 ) && ( rowIndex < toIndex );
+    }
+
+    private static BitSet permuteRows( final BitSet rows,
+                                       final int fromIndex,
+                                       final int[] newIndices ) {
+        final int toIndex = fromIndex + newIndices.length;
+        if ( !hasFlags( rows, fromIndex, toIndex ) ) {
+            return rows;
+        }
+
+        final BitSet permutedRows = ( BitSet ) rows.clone();
+        permutedRows.clear( fromIndex, toIndex );
+        for ( int rowIndex = rows.nextSetBit( fromIndex ); 
+                ( rowIndex >= 0 ) && ( rowIndex < toIndex );
+                rowIndex = rows.nextSetBit( rowIndex + 1 ) ) {
+            permutedRows.set( newIndices[ rowIndex - fromIndex ] );
+        }
+
+        return permutedRows;
+    }
+
+    private static BitSet replaceRows( final BitSet rows,
+                                       final int fromIndex,
+                                       final int removedCount,
+                                       final int addedCount,
+                                       final int[] oldOffsets ) {
+        if ( rows.length() <= fromIndex ) {
+            return rows;
+        }
+
+        final BitSet replacedRows = rows.get( 0, fromIndex );
+        for ( int offset = 0; offset < addedCount; offset++ ) {
+            final int oldOffset = ( oldOffsets != null ) 
+                ? oldOffsets[ offset ] 
+                : ( ( offset < removedCount ) ? offset : -1 );
+            if ( ( oldOffset >= 0 ) && rows.get( fromIndex + oldOffset ) ) {
+                replacedRows.set( fromIndex + offset );
+            }
+        }
+
+        final int shift = addedCount - removedCount;
+        for ( int rowIndex = rows.nextSetBit( fromIndex + removedCount ); rowIndex >= 0;
+                rowIndex = rows.nextSetBit( rowIndex + 1 ) ) {
+            replacedRows.set( rowIndex + shift );
+        }
+
+        return replacedRows;
+    }
+}
@@ -0,0 +1,278 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import com.mhschmieder.fxcontrols.util.DelimitedTextWriter;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
+import javafx.scene.control.TableView;
+
+import java.io.File;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.FutureTask;
+import java.util.stream.IntStream;
+
+/**
+ * {@code TableExportTask} writes the contents of a table to a delimited text
+ * file, such as CSV or TSV, on a background thread, so that exporting a large
+ * table doesn't freeze the user interface or build the entire file as one
+ * string in memory.
+ * <p>
+ * The cell values are gathered from the table's data columns on the
+ * JavaFX Application Thread, a bounded block of rows at a time, as they may be
+ * bound to properties that are not thread safe. Each block is then formatted,
+ * quoted and encoded on the background thread, and streamed to the file
+ * through a buffered channel.
+ * <p>
+ * Rows that are paged in from a {@link TableDataProvider} are fetched from the
+ * provider a block at a time, as most of them aren't in memory, and only their
+ * cell values are then gathered on the JavaFX Application Thread.
+ * <p>
+ * Cells are formatted with the column formatter set by {@link
+ * TableUtilities#setColumnFormatter}, if any, and otherwise as plain text.
+ * <p>
+ * Progress is reported as the fraction of rows written, and the standard
+ * {@link Task#cancel()} stops the export and deletes the partial file.
+ *
+ * @param <TD>
+ *            The data type for the table
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class TableExportTask< TD > extends Task< Integer > {
+
+    /**
+     * The number of rows to gather from the table at a time.
+     */
+    private static final int BLOCK_SIZE = 4096;
+
+    /**
+     * The table whose contents are exported.
+     */
+    private final TableView< TD > tableView;
+
+    /**
+     * The table's items if they are paged in from a data provider, or
+     * {@code null} if the rows are all in memory.
+     */
+    private final PagedItemList< TD > pagedItems;
+
+    /**
+     * The data columns to export, in display order.
+     */
+    private final List< TableDataColumn< TD > > columns;
+
+    /**
+     * The file to export the table contents to.
+     */
+    private final File file;
+
+    /**
+     * The character that separates the cells of a row.
+     */
+    private final char delimiter;
+
+    /**
+     * The character set of the delimited text file.
+     */
+    private final Charset charset;
+
+    /**
+     * Flag for whether the column names are written as the first row.
+     */
+    private final boolean headerIncluded;
+
+    /**
+     * The number of rows in the table as of the most recent block.
+     */
+    private volatile int totalRowCount;
+
+    /**
+     * Constructs a {@link TableExportTask} for the data columns of the
+     * specified table, which are its visible leaf columns unless it is a
+     * {@link DataTableView} in wide table mode, where they are all of its data
+     * columns rather than just the ones in view; this must be invoked on the
+     * JavaFX Application Thread.
+     *
+     * @param pTableView
+     *            The table whose contents are exported
+     * @param pFile
+     *            The file to export the table contents to
+     * @param pDelimiter
+     *            The character that separates the cells of a row
+     * @param pCharset
+     *            The character set of the delimited text file
+     * @param pHeaderIncluded
+     *            {@code true} if the column names should be written as the
+     *            first row
+     */
+    public TableExportTask( final TableView< TD > pTableView,
+                            final File pFile,
+                            final char pDelimiter,
+                            final Charset pCharset,
+                            final boolean pHeaderIncluded ) {
+        // Always call the superclass constructor first!
+        super();
+
+        tableView = pTableView;
+        file = pFile;
+        delimiter = pDelimiter;
+        charset = pCharset;
+        headerIncluded = pHeaderIncluded;
+        totalRowCount = tableView.getItems().size();
+        pagedItems = ( tableView.getItems() instanceof PagedItemList )
+            ? ( PagedItemList< TD > ) tableView.getItems()
+            : null;
+
+        // Take the columns as they are now, in case the user rearranges them
+        // during the export.
+        columns = TableDataColumn.forTable( tableView );
+    }
+
+    /**
+     * Returns the total number of rows that were written to the file, not
+     * counting the column names.
+     *
+     * @return The total number of rows that were written to the file
+     */
+    @Override
+    protected Integer call() throws Exception {
+        final int columnCount = columns.size();
+        int rowCount = 0;
+        boolean completed = false;
+
+        try ( final DelimitedTextWriter writer = new DelimitedTextWriter(
+                FileChannel.open( file.toPath(),
+                                  StandardOpenOption.CREATE,
+                                  StandardOpenOption.TRUNCATE_EXISTING,
+                                  StandardOpenOption.WRITE ),
+                delimiter,
+                charset ) ) {
+            final String[] row = new String[ columnCount ];
+            if ( headerIncluded ) {
+                for ( int columnIndex = 0; columnIndex < columnCount; columnIndex++ ) {
+                    row[ columnIndex ] = columns.get( columnIndex ).getHeader();
+                }
+                writer.writeRow( row );
+            }
+
+            Object[][] block;
+            while ( !isCancelled() && ( ( block = getBlock( rowCount ) ) != null ) ) {
+                for ( final Object[] cellValues : block ) {
+                    for ( int columnIndex = 0; columnIndex < columnCount; columnIndex++ ) {
+                        final Object cellValue = cellValues[ columnIndex ];
+                        row[ columnIndex ] = ( cellValue != null )
+                            ? columns.get( columnIndex ).getFormatter().apply( cellValue )
+                            : null;
+                    }
+                    writer.writeRow( row );
+                }
+
+                rowCount += block.length;
+                updateProgress( rowCount, Math.max( rowCount, totalRowCount ) );
+            }
+
+            completed = !isCancelled();
+        }
+        finally {
+            // Don't leave a truncated file behind that looks like an export.
+            if ( !completed ) {
+                Files.deleteIfExists( file.toPath() );
+            }
+        }
+
+        return Integer.valueOf( rowCount );
+    }
+
+    /**
+     * Gathers the cell values of the next block of rows on the JavaFX
+     * Application Thread, or returns {@code null} once all rows are written.
+     */
+    private Object[][] getBlock( final int fromIndex ) throws Exception {
+        // Paged rows would otherwise be exported as the provider's placeholders
+        // for the rows that aren't in memory, so the block is fetched first.
+        List< TD > fetchedRows = null;
+        if ( pagedItems != null ) {
+            final int toIndex = Math.min( fromIndex + BLOCK_SIZE, totalRowCount );
+            if ( fromIndex >= toIndex ) {
+                return null;
+            }
+            fetchedRows = pagedItems.fetchRows( IntStream.range( fromIndex, toIndex ).toArray() )
+                    .get();
+        }
+
+        final List< TD > rows = fetchedRows;
+        final FutureTask< Object[][] > blockTask = new FutureTask<>( () -> {
+            // Rows may be added or removed while the export is under way.
+            final int rowCount = ( pagedItems != null ) 
+                ? pagedItems.size() 
+                : tableView.getItems().size();
+            totalRowCount = rowCount;
+            if ( fromIndex >= rowCount ) {
+                return null;
+            }
+
+            // Fail rather than write a truncated file if the provider has
+            // no rows where the table still has some.
+            final int toIndex = Math.min( fromIndex + ( ( rows != null ) ? rows.size() : BLOCK_SIZE ), 
+                                          rowCount );
+            if ( toIndex <= fromIndex ) {
+                throw new IllegalStateException( "No rows were fetched from row " + fromIndex ); //$NON-NLS-1$
+            }
+
+            final List< TD > items = tableView.getItems();
+            final int columnCount = columns.size();
+            final Object[][] block = new Object[ toIndex - fromIndex ][];
+            for ( int rowIndex = fromIndex; rowIndex < toIndex; rowIndex++ ) {
+                final Object[] cellValues = new Object[ columnCount ];
+                for ( int columnIndex = 0; columnIndex < columnCount; columnIndex++ ) {
+                    final TableDataColumn< TD > column = columns.get( columnIndex );
+                    cellValues[ columnIndex ] = column.getCellData( ( rows != null )
+                        ? rows.get( rowIndex - fromIndex )
+                        : items.get( rowIndex ) );
+                }
+                block[ rowIndex - fromIndex ] = cellValues;
+            }
+
+            return block;
+        } );
+
+        // Cancellation interrupts the export thread if it is waiting here.
+        Platform.runLater( blockTask );
+        return blockTask.get();
+    }
+}
@@ -0,0 +1,423 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@code TableFilterIndex} is a per-column trigram index over the text of a
+ * table's cells, for answering "filter as you type" queries without scanning
+ * every cell of every row on each keystroke.
+ * <p>
+ * Each row gets a stable identifier when it is indexed, so that rows can be
+ * inserted and removed incrementally without renumbering the posting lists;
+ * the mapping from identifiers back to table positions is rebuilt lazily.
+ * <p>
+ * Matching is case-insensitive substring matching. Queries that are shorter
+ * than a trigram fall back to a scan of the indexed (lower-cased) cell text.
+ * <p>
+ * This class is not thread-safe; it is meant to be built on a background
+ * thread and then handed off to the JavaFX Application Thread for queries
+ * and incremental updates.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class TableFilterIndex {
+
+    /**
+     * The length of the character n-grams that are indexed.
+     */
+    private static final int GRAM_LENGTH = 3;
+
+    /**
+     * The initial capacity of a posting list.
+     */
+    private static final int INITIAL_POSTING_CAPACITY = 4;
+
+    /**
+     * The number of indexed columns.
+     */
+    private final int columnCount;
+
+    /**
+     * The posting lists, keyed by column index and packed trigram; each
+     * posting list holds the identifiers of the rows in ascending order.
+     */
+    private final Map< Long, PostingList > postingLists;
+
+    /**
+     * The lower-cased cell text, indexed by column and then by row identifier,
+     * used to verify trigram matches and to answer short queries.
+     */
+    private String[][] cellText;
+
+    /**
+     * The number of row identifiers that have been handed out.
+     */
+    private int identifierCount;
+
+    /**
+     * The row identifiers in table order.
+     */
+    private int[] rowIdentifiers;
+
+    /**
+     * The number of rows currently in the table.
+     */
+    private int rowCount;
+
+    /**
+     * The table position for each row identifier, or -1 for removed rows;
+     * only valid while the positions are up to date.
+     */
+    private int[] rowPositions;
+
+    /**
+     * Flag for whether the row positions need to be rebuilt.
+     */
+    private boolean rowPositionsInvalid;
+
+    /**
+     * Constructs a {@link TableFilterIndex} for the supplied cell text.
+     * <p>
+     * This is the expensive part of indexing, so should be done off the
+     * JavaFX Application Thread.
+     *
+     * @param columnText
+     *            The cell text, indexed by column and then by row; {@code null}
+     *            cells are treated as empty
+     */
+    public TableFilterIndex( final String[][] columnText ) {
+        columnCount = columnText.length;
+        postingLists = new HashMap<>();
+
+        final int initialRowCount = ( columnCount > 0 ) ? columnText[ 0 ].length : 0;
+        cellText = new String[ columnCount ][ initialRowCount ];
+        identifierCount = 0;
+        rowIdentifiers = new int[ initialRowCount ];
+        rowCount = 0;
+        rowPositions = new int[ initialRowCount ];
+        rowPositionsInvalid = true;
+
+        insertRows( 0, columnText );
+    }
+
+    /**
+     * Returns the number of rows currently in the index.
+     *
+     * @return The number of rows currently in the index
+     *
+     * @since 1.0
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Indexes a block of rows that was inserted into the table.
+     *
+     * @param position
+     *            The table position of the first inserted row
+     * @param columnText
+     *            The cell text for the inserted rows, indexed by column and
+     *            then by row
+     *
+     * @since 1.0
+     */
+    public void insertRows( final int position, final String[][] columnText ) {
+        final int insertedRowCount = ( columnCount > 0 ) ? columnText[ 0 ].length : 0;
+        if ( insertedRowCount == 0 ) {
+            return;
+        }
+
+        ensureCapacity( identifierCount + insertedRowCount, rowCount + insertedRowCount );
+
+        // Identifiers are handed out in ascending order, so appending them to
+        // the posting lists keeps each list sorted.
+        final int firstIdentifier = identifierCount;
+        for ( int columnIndex = 0; columnIndex < columnCount; columnIndex++ ) {
+            for ( int i = 0; i < insertedRowCount; i++ ) {
+                final String text = columnText[ columnIndex ][ i ];
+                final String lowerCaseText = ( text != null )
+                    ? text.toLowerCase( Locale.ROOT )
+                    : ""; //$NON-NLS-1$
+                final int rowIdentifier = firstIdentifier + i;
+                cellText[ columnIndex ][ rowIdentifier ] = lowerCaseText;
+                indexText( columnIndex, rowIdentifier, lowerCaseText );
+            }
+        }
+        identifierCount += insertedRowCount;
+
+        System.arraycopy( rowIdentifiers,
+                          position,
+                          rowIdentifiers,
+                          position + insertedRowCount,
+                          rowCount - position );
+        for ( int i = 0; i < insertedRowCount; i++ ) {
+            rowIdentifiers[ position + i ] = firstIdentifier + i;
+        }
+        rowCount += insertedRowCount;
+        rowPositionsInvalid = true;
+    }
+
+    /**
+     * Removes a block of rows that was removed from the table.
+     * <p>
+     * The posting lists are left as they are, as removed rows are skipped
+     * when answering queries; the index should be rebuilt once a large share
+     * of its rows have been removed.
+     *
+     * @param fromPosition
+     *            The table position of the first removed row
+     * @param toPosition
+     *            The table position after the last removed row
+     *
+     * @since 1.0
+     */
+    public void removeRows( final int fromPosition, final int toPosition ) {
+        for ( int position = fromPosition; position < toPosition; position++ ) {
+            final int rowIdentifier = rowIdentifiers[ position ];
+            for ( int columnIndex = 0; columnIndex < columnCount; columnIndex++ ) {
+                cellText[ columnIndex ][ rowIdentifier ] = null;
+            }
+        }
+
+        System.arraycopy( rowIdentifiers,
+                          toPosition,
+                          rowIdentifiers,
+                          fromPosition,
+                          rowCount - toPosition );
+        rowCount -= toPosition - fromPosition;
+        rowPositionsInvalid = true;
+    }
+
+    /**
+     * Returns {@code true} if more than half of the indexed rows have since
+     * been removed, in which case a rebuild would save memory and query time.
+     *
+     * @return {@code true} if the index would benefit from being rebuilt
+     *
+     * @since 1.0
+     */
+    public boolean isMostlyRemoved() {
+        return ( identifierCount - rowCount ) > rowCount;
+    }
+
+    /**
+     * Returns the table positions of the rows that have any cell containing
+     * the query text, in ascending order.
+     *
+     * @param queryText
+     *            The text to look for, ignoring case
+     * @return The table positions of the matching rows, in ascending order
+     *
+     * @since 1.0
+     */
+    public int[] query( final String queryText ) {
+        return query( queryText, -1 );
+    }
+
+    /**
+     * Returns the table positions of the rows whose cell in the specified
+     * column contains the query text, in ascending order.
+     *
+     * @param queryText
+     *            The text to look for, ignoring case
+     * @param columnIndex
+     *            The index of the column to look in, or -1 for all columns
+     * @return The table positions of the matching rows, in ascending order
+     *
+     * @since 1.0
+     */
+    public int[] query( final String queryText, final int columnIndex ) {
+        updateRowPositions();
+
+        final String lowerCaseQuery = queryText.toLowerCase( Locale.ROOT );
+        final int firstColumn = ( columnIndex < 0 ) ? 0 : columnIndex;
+        final int lastColumn = ( columnIndex < 0 ) ? columnCount - 1 : columnIndex;
+
+        final BitSet matches = new BitSet( rowCount );
+        for ( int column = firstColumn; column <= lastColumn; column++ ) {
+            if ( lowerCaseQuery.length() < GRAM_LENGTH ) {
+                scanColumn( column, lowerCaseQuery, matches );
+            }
+            else {
+                searchColumn( column, lowerCaseQuery, matches );
+            }
+        }
+
+        return matches.stream().toArray();
+    }
+
+    /**
+     * Marks the matching rows of a column by scanning its cell text.
+     */
+    private void scanColumn( final int columnIndex,
+                             final String lowerCaseQuery,
+                             final BitSet matches ) {
+        final String[] columnCells = cellText[ columnIndex ];
+        for ( int position = 0; position < rowCount; position++ ) {
+            if ( columnCells[ rowIdentifiers[ position ] ].contains( lowerCaseQuery ) ) {
+                matches.set( position );
+            }
+        }
+    }
+
+    /**
+     * Marks the matching rows of a column by intersecting the posting lists
+     * for each trigram of the query, then verifying the surviving candidates.
+     */
+    private void searchColumn( final int columnIndex,
+                               final String lowerCaseQuery,
+                               final BitSet matches ) {
+        final int gramCount = lowerCaseQuery.length() - GRAM_LENGTH + 1;
+        final PostingList[] queryPostings = new PostingList[ gramCount ];
+        for ( int i = 0; i < gramCount; i++ ) {
+            queryPostings[ i ] = postingLists
+                    .get( makeKey( columnIndex, lowerCaseQuery, i ) );
+            if ( queryPostings[ i ] == null ) {
+                return;
+            }
+        }
+
+        // Walk the shortest posting list, as any match must be in all of them.
+        Arrays.sort( queryPostings, ( postings1, postings2 ) -> Integer
+                .compare( postings1.size, postings2.size ) );
+        final PostingList candidates = queryPostings[ 0 ];
+        final String[] columnCells = cellText[ columnIndex ];
+        candidateLoop: for ( int i = 0; i < candidates.size; i++ ) {
+            final int rowIdentifier = candidates.rowIdentifiers[ i ];
+            final int position = rowPositions[ rowIdentifier ];
+            if ( ( position < 0 ) || matches.get( position ) ) {
+                continue;
+            }
+            for ( int j = 1; j < gramCount; j++ ) {
+                if ( !queryPostings[ j ].contains( rowIdentifier ) ) {
+                    continue candidateLoop;
+                }
+            }
+
+            // Trigrams can match out of order, so check the actual text.
+            if ( columnCells[ rowIdentifier ].contains( lowerCaseQuery ) ) {
+                matches.set( position );
+            }
+        }
+    }
+
+    private void indexText( final int columnIndex,
+                            final int rowIdentifier,
+                            final String lowerCaseText ) {
+        final int gramCount = lowerCaseText.length() - GRAM_LENGTH + 1;
+        for ( int i = 0; i < gramCount; i++ ) {
+            final Long key = makeKey( columnIndex, lowerCaseText, i );
+            PostingList postings = postingLists.get( key );
+            if ( postings == null ) {
+                postings = new PostingList();
+                postingLists.put( key, postings );
+            }
+            postings.add( rowIdentifier );
+        }
+    }
+
+    private void updateRowPositions() {
+        if ( !rowPositionsInvalid ) {
+            return;
+        }
+
+        Arrays.fill( rowPositions, 0, identifierCount, -1 );
+        for ( int position = 0; position < rowCount; position++ ) {
+            rowPositions[ rowIdentifiers[ position ] ] = position;
+        }
+        rowPositionsInvalid = false;
+    }
+
+    private void ensureCapacity( final int minimumIdentifierCount,
+                                 final int minimumRowCount ) {
+        if ( minimumIdentifierCount > rowPositions.length ) {
+            final int capacity = Math.max( minimumIdentifierCount,
+                                           rowPositions.length + ( rowPositions.length >> 1 ) );
+            rowPositions = Arrays.copyOf( rowPositions, capacity );
+            for ( int columnIndex = 0; columnIndex < columnCount; columnIndex++ ) {
+                cellText[ columnIndex ] = Arrays.copyOf( cellText[ columnIndex ], capacity );
+            }
+        }
+        if ( minimumRowCount > rowIdentifiers.length ) {
+            final int capacity = Math.max( minimumRowCount,
+                                           rowIdentifiers.length + ( rowIdentifiers.length >> 1 ) );
+            rowIdentifiers = Arrays.copyOf( rowIdentifiers, capacity );
+        }
+    }
+
+    /**
+     * Returns the posting list key for the trigram at the specified offset,
+     * packing the column index and the three characters into a single value.
+     */
+    private static Long makeKey( final int columnIndex,
+                                 final String text,
+                                 final int offset ) {
+        final long key = ( ( long ) columnIndex << 48 )
+                | ( ( long ) text.charAt( offset ) << 32 )
+                | ( ( long ) text.charAt( offset + 1 ) << 16 )
+                | text.charAt( offset + 2 );
+        return Long.valueOf( key );
+    }
+
+    /**
+     * A growable, ascending list of row identifiers.
+     */
+    private static final class PostingList {
+
+        private int[] rowIdentifiers = new int[ INITIAL_POSTING_CAPACITY ];
+
+        private int size = 0;
+
+        void add( final int rowIdentifier ) {
+            // A trigram can occur more than once in the same cell.
+            if ( ( size > 0 ) && ( rowIdentifiers[ size - 1 ] == rowIdentifier ) ) {
+                return;
+            }
+            if ( size == rowIdentifiers.length ) {
+                rowIdentifiers = Arrays.copyOf( rowIdentifiers, size << 1 );
+            }
+            rowIdentifiers[ size++ ] = rowIdentifier;
+        }
+
+        boolean contains( final int rowIdentifier ) {
+            return Arrays.binarySearch( rowIdentifiers, 0, size, rowIdentifier ) >= 0;
+        }
+    }
+}
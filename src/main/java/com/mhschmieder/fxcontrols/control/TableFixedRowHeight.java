@@ -0,0 +1,191 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.Region;
+import javafx.stage.Screen;
+
+/**
+ * {@code TableFixedRowHeight} measures the row height of a table once from the
+ * rows that are showing, as laid out in the active font and CSS, and then
+ * fixes it for all rows.
+ * <p>
+ * This saves the table from laying out each row to find its height, which is
+ * mostly of benefit when scrolling large tables. The row height is only
+ * re-measured when the font, CSS or screen resolution changes, so this is only
+ * appropriate for tables whose rows are all the same height.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+final class TableFixedRowHeight {
+
+    /**
+     * The table whose row height is fixed.
+     */
+    private final TableView< ? > tableView;
+
+    /**
+     * Flag for whether the row height is measured once and then fixed.
+     */
+    private boolean enabled;
+
+    /**
+     * Flag for whether the row height needs to be measured after next layout.
+     */
+    private boolean measurePending;
+
+    /**
+     * Listener that invalidates the row height on font, CSS or DPI changes.
+     */
+    private final InvalidationListener rowHeightInvalidator;
+
+    /**
+     * Constructs a {@link TableFixedRowHeight} for the specified table, which
+     * is initially disabled.
+     *
+     * @param pTableView
+     *            The table whose row height is fixed
+     */
+    TableFixedRowHeight( final TableView< ? > pTableView ) {
+        tableView = pTableView;
+
+        enabled = false;
+        measurePending = false;
+        rowHeightInvalidator = observable -> invalidateRowHeight();
+
+        // The fixed row height only depends on the font and CSS in effect and
+        // on the screen resolution, so is only re-measured when they change.
+        // NOTE: JavaFX 8 has no output scale property, so we treat changes
+        //  to the screen configuration as potential changes to the DPI.
+        tableView.getStylesheets().addListener( rowHeightInvalidator );
+        tableView.styleProperty().addListener( rowHeightInvalidator );
+        tableView.sceneProperty().addListener( ( observableValue, oldScene, newScene ) -> {
+            if ( oldScene != null ) {
+                oldScene.getStylesheets().removeListener( rowHeightInvalidator );
+            }
+            if ( newScene != null ) {
+                newScene.getStylesheets().addListener( rowHeightInvalidator );
+            }
+            invalidateRowHeight();
+        } );
+        if ( tableView.getScene() != null ) {
+            tableView.getScene().getStylesheets().addListener( rowHeightInvalidator );
+        }
+        Screen.getScreens().addListener( 
+                new WeakInvalidationListener( rowHeightInvalidator ) );
+        tableView.needsLayoutProperty().addListener( 
+                ( observableValue, wasLayoutNeeded, layoutNeeded ) -> {
+            if ( !layoutNeeded && measurePending ) {
+                measureRowHeight();
+            }
+        } );
+    }
+
+    /**
+     * Sets whether the row height is measured once and then fixed.
+     *
+     * @param pEnabled
+     *            {@code true} if the row height should be measured and fixed
+     */
+    void setEnabled( final boolean pEnabled ) {
+        if ( enabled == pEnabled ) {
+            return;
+        }
+
+        enabled = pEnabled;
+        if ( enabled ) {
+            invalidateRowHeight();
+        }
+        else {
+            measurePending = false;
+            tableView.setFixedCellSize( Region.USE_COMPUTED_SIZE );
+        }
+    }
+
+    /**
+     * Returns {@code true} if the row height is measured once and then fixed.
+     *
+     * @return {@code true} if the row height is measured once and then fixed
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Re-measures the fixed row height after the next layout pass.
+     * <p>
+     * This is only needed for changes that affect the row height without
+     * changing the CSS of the table or its scene, such as a font change that
+     * is applied to the scene's root node as an inline style, or cell graphics
+     * that have changed size.
+     */
+    void remeasure() {
+        invalidateRowHeight();
+    }
+
+    /**
+     * Schedules the fixed row height to be measured after the next layout.
+     * <p>
+     * The rows are laid out at their own heights for that layout, as rows
+     * only report the fixed cell size while one is set.
+     */
+    private void invalidateRowHeight() {
+        if ( enabled ) {
+            measurePending = true;
+            tableView.setFixedCellSize( Region.USE_COMPUTED_SIZE );
+            tableView.requestLayout();
+        }
+    }
+
+    /**
+     * Measures the rows that are showing and fixes the row height to fit the
+     * tallest of them.
+     * <p>
+     * If there are no rows to measure yet, the measurement stays pending until
+     * a later layout pass shows some.
+     */
+    private void measureRowHeight() {
+        final double rowHeight = TableUtilities.measureRowHeight( tableView );
+        if ( rowHeight <= 0.0d ) {
+            return;
+        }
+
+        measurePending = false;
+        if ( rowHeight != tableView.getFixedCellSize() ) {
+            tableView.setFixedCellSize( rowHeight );
+        }
+    }
+}
@@ -0,0 +1,505 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@code TableRowDiff} is the row-level difference between two versions of a
+ * {@link TextTableModel}, as the shortest practical run-length encoded script
+ * of kept, updated, removed and inserted rows that turns the old rows into the
+ * new rows.
+ * <p>
+ * Rows are matched either by the value of a key column, or by their entire
+ * contents if there is no key column. Matched rows that stay in order are kept
+ * (or updated, if a key column matched but other cells changed); all other
+ * rows are removed or inserted, with unmatched rows that sit in the same place
+ * on both sides treated as updates, so that an edited row stays selected.
+ * <p>
+ * The difference only reads the models, so it can be computed on a background
+ * thread as long as neither model is modified in the meantime.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+final class TableRowDiff {
+
+    /**
+     * The run type for rows that are unchanged.
+     */
+    static final int KEEP = 0;
+
+    /**
+     * The run type for rows that stay in place but have changed cells.
+     */
+    static final int UPDATE = 1;
+
+    /**
+     * The run type for old rows that are removed.
+     */
+    static final int REMOVE = 2;
+
+    /**
+     * The run type for new rows that are inserted.
+     */
+    static final int INSERT = 3;
+
+    /**
+     * The number of rows to process between checks for cancellation.
+     */
+    private static final int CANCELLATION_INTERVAL = 4096;
+
+    /**
+     * The number of rows in the old version of the model.
+     */
+    private final int oldRowCount;
+
+    /**
+     * The number of rows in the new version of the model.
+     */
+    private final int newRowCount;
+
+    /**
+     * The type of each run, in row order.
+     */
+    private int[] runTypes;
+
+    /**
+     * The number of rows in each run, in row order.
+     */
+    private int[] runLengths;
+
+    /**
+     * The number of runs in the script.
+     */
+    private int runCount;
+
+    /**
+     * The number of rows that are updated, removed or inserted.
+     */
+    private int changedRowCount;
+
+    private TableRowDiff( final int pOldRowCount, final int pNewRowCount ) {
+        oldRowCount = pOldRowCount;
+        newRowCount = pNewRowCount;
+
+        runTypes = new int[ 16 ];
+        runLengths = new int[ 16 ];
+        runCount = 0;
+        changedRowCount = 0;
+    }
+
+    /**
+     * Computes the difference between the first rows of the old model and
+     * all of the rows of the new model.
+     *
+     * @param oldModel
+     *            The old version of the model
+     * @param oldRowCount
+     *            The number of rows of the old model to compare
+     * @param newModel
+     *            The new version of the model
+     * @param keyColumn
+     *            The index of the column that identifies a row, or -1 to
+     *            identify rows by their entire contents
+     * @param cancelled
+     *            Reports whether the computation should be abandoned
+     * @return The difference, or {@code null} if it was cancelled
+     */
+    static TableRowDiff compute( final TextTableModel oldModel,
+                                 final int oldRowCount,
+                                 final TextTableModel newModel,
+                                 final int keyColumn,
+                                 final BooleanSupplier cancelled ) {
+        final int newRowCount = newModel.getRowCount();
+        final int columnCount = Math.max( oldModel.getColumnCount(),
+                                          newModel.getColumnCount() );
+
+        // Chain the new rows by key, in row order, so that duplicate keys are
+        // matched up with the old rows first come, first served.
+        final Map< RowKey, Integer > firstNewRows = new HashMap<>( 2 * newRowCount );
+        final int[] nextNewRows = new int[ newRowCount ];
+        for ( int newRow = newRowCount - 1; newRow >= 0; newRow-- ) {
+            final Integer nextNewRow = firstNewRows.put( 
+                    new RowKey( newModel, newRow, keyColumn, columnCount ),
+                    Integer.valueOf( newRow ) );
+            nextNewRows[ newRow ] = ( nextNewRow != null ) ? nextNewRow.intValue() : -1;
+
+            if ( ( ( newRow % CANCELLATION_INTERVAL ) == 0 ) && cancelled.getAsBoolean() ) {
+                return null;
+            }
+        }
+
+        final int[] oldToNew = new int[ oldRowCount ];
+        for ( int oldRow = 0; oldRow < oldRowCount; oldRow++ ) {
+            final RowKey rowKey = new RowKey( oldModel, oldRow, keyColumn, columnCount );
+            final Integer newRow = firstNewRows.get( rowKey );
+            if ( newRow == null ) {
+                oldToNew[ oldRow ] = -1;
+            }
+            else {
+                oldToNew[ oldRow ] = newRow.intValue();
+                final int nextNewRow = nextNewRows[ newRow.intValue() ];
+                if ( nextNewRow < 0 ) {
+                    firstNewRows.remove( rowKey );
+                }
+                else {
+                    firstNewRows.put( rowKey, Integer.valueOf( nextNewRow ) );
+                }
+            }
+
+            if ( ( ( oldRow % CANCELLATION_INTERVAL ) == 0 ) && cancelled.getAsBoolean() ) {
+                return null;
+            }
+        }
+
+        // Only keep the longest run of matches that are in the same order on
+        // both sides; any other matches are rows that moved, which become a
+        // removal and an insertion.
+        final int[] newToOld = keepOrderedMatches( oldToNew, newRowCount );
+
+        if ( cancelled.getAsBoolean() ) {
+            return null;
+        }
+
+        final TableRowDiff rowDiff = new TableRowDiff( oldRowCount, newRowCount );
+        int oldRow = 0;
+        int newRow = 0;
+        while ( ( oldRow < oldRowCount ) || ( newRow < newRowCount ) ) {
+            int oldEnd = oldRow;
+            while ( ( oldEnd < oldRowCount ) && ( oldToNew[ oldEnd ] < 0 ) ) {
+                oldEnd++;
+            }
+            int newEnd = newRow;
+            while ( ( newEnd < newRowCount ) && ( newToOld[ newEnd ] < 0 ) ) {
+                newEnd++;
+            }
+
+            // Unmatched rows in the same gap on both sides are paired up as
+            // updates, and only the excess is removed or inserted.
+            final int removedCount = oldEnd - oldRow;
+            final int insertedCount = newEnd - newRow;
+            rowDiff.addRun( UPDATE, Math.min( removedCount, insertedCount ) );
+            rowDiff.addRun( REMOVE, removedCount - insertedCount );
+            rowDiff.addRun( INSERT, insertedCount - removedCount );
+            oldRow = oldEnd;
+            newRow = newEnd;
+
+            if ( ( oldRow < oldRowCount ) && ( newRow < newRowCount ) ) {
+                final boolean rowChanged = ( keyColumn >= 0 ) 
+                        && !rowsEqual( oldModel, oldRow, newModel, newRow, columnCount );
+                rowDiff.addRun( rowChanged ? UPDATE : KEEP, 1 );
+                oldRow++;
+                newRow++;
+            }
+
+            if ( ( ( newRow % CANCELLATION_INTERVAL ) == 0 ) && cancelled.getAsBoolean() ) {
+                return null;
+            }
+        }
+
+        return rowDiff;
+    }
+
+    /**
+     * Returns the number of runs in the script.
+     *
+     * @return The number of runs in the script
+     */
+    int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Returns the type of the specified run.
+     *
+     * @param runIndex
+     *            The index of the run
+     * @return The type of the run, as one of {@link #KEEP}, {@link #UPDATE},
+     *         {@link #REMOVE} or {@link #INSERT}
+     */
+    int getRunType( final int runIndex ) {
+        return runTypes[ runIndex ];
+    }
+
+    /**
+     * Returns the number of rows in the specified run.
+     *
+     * @param runIndex
+     *            The index of the run
+     * @return The number of rows in the run
+     */
+    int getRunLength( final int runIndex ) {
+        return runLengths[ runIndex ];
+    }
+
+    /**
+     * Returns the number of rows in the old version of the model.
+     *
+     * @return The number of rows in the old version of the model
+     */
+    int getOldRowCount() {
+        return oldRowCount;
+    }
+
+    /**
+     * Returns the number of rows in the new version of the model.
+     *
+     * @return The number of rows in the new version of the model
+     */
+    int getNewRowCount() {
+        return newRowCount;
+    }
+
+    /**
+     * Returns the number of rows that are updated, removed or inserted.
+     *
+     * @return The number of rows that are updated, removed or inserted
+     */
+    int getChangedRowCount() {
+        return changedRowCount;
+    }
+
+    /**
+     * Returns {@code true} if the new rows are the same as the old rows.
+     *
+     * @return {@code true} if the new rows are the same as the old rows
+     */
+    boolean isEmpty() {
+        return changedRowCount == 0;
+    }
+
+    /**
+     * Returns the index in the new rows of the specified old row, or of the
+     * next row that survives if the old row is removed.
+     *
+     * @param oldRowIndex
+     *            The index of the row in the old rows
+     * @return The corresponding index in the new rows, which is clamped to the
+     *         last new row, or -1 if there are no new rows
+     */
+    int getNewRowIndex( final int oldRowIndex ) {
+        int oldRow = 0;
+        int newRow = 0;
+        for ( int runIndex = 0; runIndex < runCount; runIndex++ ) {
+            final int runLength = runLengths[ runIndex ];
+            switch ( runTypes[ runIndex ] ) {
+            case KEEP:
+            case UPDATE:
+                if ( oldRowIndex < ( oldRow + runLength ) ) {
+                    return newRow + ( oldRowIndex - oldRow );
+                }
+                oldRow += runLength;
+                newRow += runLength;
+                break;
+            case REMOVE:
+                if ( oldRowIndex < ( oldRow + runLength ) ) {
+                    return Math.min( newRow, newRowCount - 1 );
+                }
+                oldRow += runLength;
+                break;
+            case INSERT:
+                newRow += runLength;
+                break;
+            default:
+                break;
+            }
+        }
+
+        return newRowCount - 1;
+    }
+
+    private void addRun( final int runType, final int runLength ) {
+        if ( runLength <= 0 ) {
+            return;
+        }
+
+        if ( runType != KEEP ) {
+            changedRowCount += runLength;
+        }
+
+        // Extend the previous run if it is of the same type.
+        if ( ( runCount > 0 ) && ( runTypes[ runCount - 1 ] == runType ) ) {
+            runLengths[ runCount - 1 ] += runLength;
+            return;
+        }
+
+        if ( runCount == runTypes.length ) {
+            runTypes = Arrays.copyOf( runTypes, runCount * 2 );
+            runLengths = Arrays.copyOf( runLengths, runCount * 2 );
+        }
+        runTypes[ runCount ] = runType;
+        runLengths[ runCount ] = runLength;
+        runCount++;
+    }
+
+    /**
+     * Drops every match that is not part of the longest run of matches that
+     * are in increasing order on both sides, and returns the inverse mapping.
+     */
+    private static int[] keepOrderedMatches( final int[] oldToNew, final int newRowCount ) {
+        final int oldRowCount = oldToNew.length;
+
+        // Patience sorting: tails holds the old row that ends the best
+        // increasing sequence of each length, and previous links them up.
+        final int[] tails = new int[ oldRowCount ];
+        final int[] previous = new int[ oldRowCount ];
+        int longest = 0;
+        for ( int oldRow = 0; oldRow < oldRowCount; oldRow++ ) {
+            final int newRow = oldToNew[ oldRow ];
+            if ( newRow < 0 ) {
+                continue;
+            }
+
+            int low = 0;
+            int high = longest;
+            while ( low < high ) {
+                final int middle = ( low + high ) >>> 1;
+                if ( oldToNew[ tails[ middle ] ] < newRow ) {
+                    low = middle + 1;
+                }
+                else {
+                    high = middle;
+                }
+            }
+
+            previous[ oldRow ] = ( low > 0 ) ? tails[ low - 1 ] : -1;
+            tails[ low ] = oldRow;
+            if ( low == longest ) {
+                longest++;
+            }
+        }
+
+        final boolean[] ordered = new boolean[ oldRowCount ];
+        for ( int oldRow = ( longest > 0 ) ? tails[ longest - 1 ] : -1; 
+                oldRow >= 0; 
+                oldRow = previous[ oldRow ] ) {
+            ordered[ oldRow ] = true;
+        }
+
+        final int[] newToOld = new int[ newRowCount ];
+        Arrays.fill( newToOld, -1 );
+        for ( int oldRow = 0; oldRow < oldRowCount; oldRow++ ) {
+            if ( ordered[ oldRow ] ) {
+                newToOld[ oldToNew[ oldRow ] ] = oldRow;
+            }
+            else {
+                oldToNew[ oldRow ] = -1;
+            }
+        }
+
+        return newToOld;
+    }
+
+    private static boolean rowsEqual( final TextTableModel oldModel,
+                                      final int oldRow,
+                                      final TextTableModel newModel,
+                                      final int newRow,
+                                      final int columnCount ) {
+        for ( int columnIndex = 0; columnIndex < columnCount; columnIndex++ ) {
+            if ( !oldModel.getCell( oldRow, columnIndex )
+                    .equals( newModel.getCell( newRow, columnIndex ) ) ) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * The identity of a row, which is either the value of its key column or
+     * its entire contents, compared in place rather than copied.
+     */
+    private static final class RowKey {
+
+        private final TextTableModel model;
+
+        private final int rowIndex;
+
+        private final int keyColumn;
+
+        private final int columnCount;
+
+        private final int hash;
+
+        RowKey( final TextTableModel pModel,
+                final int pRowIndex,
+                final int pKeyColumn,
+                final int pColumnCount ) {
+            model = pModel;
+            rowIndex = pRowIndex;
+            keyColumn = pKeyColumn;
+            columnCount = pColumnCount;
+
+            if ( keyColumn >= 0 ) {
+                hash = model.getCell( rowIndex, keyColumn ).hashCode();
+            }
+            else {
+                int rowHash = 1;
+                for ( int columnIndex = 0; columnIndex < columnCount; columnIndex++ ) {
+                    rowHash = ( 31 * rowHash ) + model.getCell( rowIndex, columnIndex ).hashCode();
+                }
+                hash = rowHash;
+            }
+        }
+
+        @Override
+        public boolean equals( final Object other ) {
+            if ( this == other ) {
+                return true;
+            }
+            if ( !( other instanceof RowKey ) ) {
+                return false;
+            }
+
+            final RowKey otherKey = ( RowKey ) other;
+            if ( hash != otherKey.hash ) {
+                return false;
+            }
+
+            if ( keyColumn >= 0 ) {
+                return model.getCell( rowIndex, keyColumn )
+                        .equals( otherKey.model.getCell( otherKey.rowIndex, keyColumn ) );
+            }
+
+            return rowsEqual( model, rowIndex, otherKey.model, otherKey.rowIndex, columnCount );
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -30,21 +30,42 @@
  */
 package com.mhschmieder.fxcontrols.control;
 
+import com.mhschmieder.fxcontrols.util.TextWidthCache;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
+import javafx.event.EventHandler;
+import javafx.geometry.Orientation;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.control.Label;
+import javafx.scene.control.ScrollBar;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableColumn.CellDataFeatures;
 import javafx.scene.control.TableRow;
 import javafx.scene.control.TableView;
-import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
 import javafx.scene.input.ClipboardContent;
+import javafx.scene.input.DragEvent;
 import javafx.scene.input.Dragboard;
 import javafx.scene.input.TransferMode;
 import javafx.scene.layout.StackPane;
+import javafx.scene.text.Font;
 import javafx.util.Callback;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 /**
  * {@code TableUtilities} is a static utilities class for ensuring a reduction
@@ -62,6 +83,66 @@ public final class TableUtilities {
      */
     private TableUtilities() {}
 
+    /**
+     * The key for caching the most recent drag image in a table's properties.
+     */
+    private static final String DRAG_IMAGE_KEY = "TableUtilities.dragImage"; //$NON-NLS-1$
+
+    /**
+     * The key for storing a column's formatter in the column's properties.
+     */
+    private static final String COLUMN_FORMATTER_KEY = "TableUtilities.columnFormatter"; //$NON-NLS-1$
+
+    /**
+     * The key for storing a column's parser in the column's properties.
+     */
+    private static final String COLUMN_PARSER_KEY = "TableUtilities.columnParser"; //$NON-NLS-1$
+
+    /**
+     * The number of rows at the top and at the bottom of a table that are
+     * always measured when auto-fitting columns.
+     */
+    private static final int AUTO_FIT_END_ROW_COUNT = 32;
+
+    /**
+     * The number of randomly chosen rows that are measured when auto-fitting
+     * columns.
+     */
+    private static final int AUTO_FIT_RANDOM_ROW_COUNT = 64;
+
+    /**
+     * The number of randomly chosen rows whose cell strings are compared by
+     * length when auto-fitting columns, to find the likely widest cells.
+     */
+    private static final int AUTO_FIT_CANDIDATE_ROW_COUNT = 1024;
+
+    /**
+     * The number of longest candidate cell strings that are measured when
+     * auto-fitting columns.
+     */
+    private static final int AUTO_FIT_LONGEST_CELL_COUNT = 8;
+
+    /**
+     * The padding around the cell text when the table's cells aren't showing.
+     */
+    private static final double AUTO_FIT_CELL_PADDING = 12.0d;
+
+    /**
+     * The padding around the header text, with room for the sort arrow.
+     */
+    private static final double AUTO_FIT_HEADER_PADDING = 24.0d;
+
+    /**
+     * The distance from the top or bottom edge of a table within which a drag
+     * auto-scrolls the table.
+     */
+    private static final double DRAG_AUTO_SCROLL_MARGIN = 24.0d;
+
+    /**
+     * The time between auto-scroll steps while dragging near a table edge.
+     */
+    private static final double DRAG_AUTO_SCROLL_INTERVAL_MILLIS = 50.0d;
+
     /**
      * Sets the column header properties on the supplied {@link TableColumn}.
      *
@@ -78,7 +159,10 @@ public final class TableUtilities {
         //
         // Consider increasing this size once we get multi-row headers properly
         // painting the full background of adjacent single-row headers.
-        final Label tableColumnHeader = new Label( column.getText() );
+        // NOTE: The header follows the column text, as some columns are
+        //  reused for other data, such as in wide table views.
+        final Label tableColumnHeader = new Label();
+        tableColumnHeader.textProperty().bind( column.textProperty() );
 
         tableColumnHeader.getStyleClass().add( "table-column-header" );
 
@@ -107,11 +191,348 @@ public final class TableUtilities {
      */
     public static < TD, CT > void setCellValueFactory( final TableColumn< TD, CT > tableColumn,
                                                        final String columnPropertyName ) {
+        // The property is resolved once per row class rather than reflectively
+        // per cell, as that cost adds up when scrolling through wide tables.
         final Callback< CellDataFeatures< TD, CT >, ObservableValue< CT > > callback =
-                                                                                     new PropertyValueFactory<>( columnPropertyName );
+                                                                                     new PropertyAccessorFactory<>( columnPropertyName );
         tableColumn.setCellValueFactory( callback );
     }
 
+    /**
+     * Sets the cell value factory on the supplied {@link TableColumn}, using
+     * a typed accessor for the property that the column manages.
+     *
+     * @param <TD>
+     *            The data type for the table
+     * @param <CT>
+     *            The type of the content for all cells in this
+     *            {@link TableColumn}
+     * @param tableColumn
+     *            The {@link TableColumn} whose cell value factory should be set
+     * @param columnPropertyAccessor
+     *            The accessor for the table property that this column manages,
+     *            usually a method reference such as {@code Row::nameProperty}
+     *
+     * @version 1.0
+     */
+    public static < TD, CT > void setCellValueFactory( final TableColumn< TD, CT > tableColumn,
+                                                       final Function< ? super TD, ? extends ObservableValue< CT > > columnPropertyAccessor ) {
+        tableColumn.setCellValueFactory( cellDataFeatures -> {
+            final TD rowData = cellDataFeatures.getValue();
+            return ( rowData != null ) ? columnPropertyAccessor.apply( rowData ) : null;
+        } );
+    }
+
+    /**
+     * Sets the formatter that turns the supplied {@link TableColumn}'s cell
+     * values into text, which is used when exporting the table's contents and
+     * by the cells made by {@link #setCellAlignment}.
+     * <p>
+     * NOTE: Exports run on a background thread, so the formatter must be
+     *  thread safe; number formats from the Number Format Registry are.
+     *
+     * @param <TD>
+     *            The data type for the table
+     * @param <CT>
+     *            The type of the content for all cells in this
+     *            {@link TableColumn}
+     * @param tableColumn
+     *            The {@link TableColumn} whose formatter should be set
+     * @param formatter
+     *            The formatter for the column's non-null cell values, or
+     *            {@code null} to use the cell values' own text
+     *
+     * @version 1.0
+     */
+    public static < TD, CT > void setColumnFormatter( final TableColumn< TD, CT > tableColumn,
+                                                      final Function< ? super CT, String > formatter ) {
+        if ( formatter != null ) {
+            tableColumn.getProperties().put( COLUMN_FORMATTER_KEY, formatter );
+        }
+        else {
+            tableColumn.getProperties().remove( COLUMN_FORMATTER_KEY );
+        }
+    }
+
+    /**
+     * Returns the formatter that turns the supplied {@link TableColumn}'s cell
+     * values into text.
+     *
+     * @param <TD>
+     *            The data type for the table
+     * @param <CT>
+     *            The type of the content for all cells in this
+     *            {@link TableColumn}
+     * @param tableColumn
+     *            The {@link TableColumn} whose formatter should be returned
+     * @return The formatter for the column's non-null cell values, or
+     *         {@code null} if the cell values' own text is used
+     *
+     * @version 1.0
+     */
+    @SuppressWarnings("unchecked")
+    public static < TD, CT > Function< ? super CT, String > getColumnFormatter( 
+            final TableColumn< TD, CT > tableColumn ) {
+        return ( Function< ? super CT, String > ) tableColumn.getProperties()
+                .get( COLUMN_FORMATTER_KEY );
+    }
+
+    /**
+     * Returns the formatter for the supplied {@link TableColumn}'s non-null
+     * cell values, falling back to the cell values' own text, for code that
+     * handles cell values without knowing the column's content type.
+     */
+    @SuppressWarnings("unchecked")
+    static < TD > Function< Object, String > getCellFormatter( final TableColumn< TD, ? > tableColumn ) {
+        final Function< ?, String > formatter = getColumnFormatter( tableColumn );
+        return ( formatter != null )
+            ? ( Function< Object, String > ) formatter
+            : String::valueOf;
+    }
+
+    /**
+     * Sets the parser that turns text into the supplied {@link TableColumn}'s
+     * cell values, which is used when pasting text into the table.
+     * <p>
+     * The parser should throw a runtime exception, such as a {@link
+     * NumberFormatException}, for text that is not a valid cell value, in
+     * which case the cell is left unchanged.
+     * <p>
+     * NOTE: Pasted text is parsed on a background thread, so the parser must
+     *  be thread safe; number formats from the Number Format Registry are.
+     *
+     * @param <TD>
+     *            The data type for the table
+     * @param <CT>
+     *            The type of the content for all cells in this
+     *            {@link TableColumn}
+     * @param tableColumn
+     *            The {@link TableColumn} whose parser should be set
+     * @param parser
+     *            The parser for the column's cell values, or {@code null} to
+     *            parse the text based on the type of the current cell values
+     *
+     * @version 1.0
+     */
+    public static < TD, CT > void setColumnParser( final TableColumn< TD, CT > tableColumn,
+                                                   final Function< String, ? extends CT > parser ) {
+        if ( parser != null ) {
+            tableColumn.getProperties().put( COLUMN_PARSER_KEY, parser );
+        }
+        else {
+            tableColumn.getProperties().remove( COLUMN_PARSER_KEY );
+        }
+    }
+
+    /**
+     * Returns the parser that turns text into the supplied {@link
+     * TableColumn}'s cell values.
+     *
+     * @param <TD>
+     *            The data type for the table
+     * @param <CT>
+     *            The type of the content for all cells in this
+     *            {@link TableColumn}
+     * @param tableColumn
+     *            The {@link TableColumn} whose parser should be returned
+     * @return The parser for the column's cell values, or {@code null} if
+     *         none has been set
+     *
+     * @version 1.0
+     */
+    @SuppressWarnings("unchecked")
+    public static < TD, CT > Function< String, ? extends CT > getColumnParser( 
+            final TableColumn< TD, CT > tableColumn ) {
+        return ( Function< String, ? extends CT > ) tableColumn.getProperties()
+                .get( COLUMN_PARSER_KEY );
+    }
+
+    /**
+     * Sets the preferred widths of the supplied columns to fit their header
+     * and cell text, based on a sample of the rows rather than every row, so
+     * that even very large tables are auto-fitted quickly.
+     * <p>
+     * The sample consists of the first and last rows, a random selection of
+     * rows, and the longest cell strings among a larger random selection of
+     * rows, which are found by string length alone. The widths are measured
+     * through the {@link TextWidthCache}, in the font of the table's cells.
+     * Small tables are measured in full.
+     * <p>
+     * NOTE: Column widths set this way are mostly overridden by the
+     *  constrained resize policy, so this is best used with the unconstrained
+     *  resize policy.
+     *
+     * @param <TD>
+     *            The data type for the table
+     * @param tableView
+     *            The table that owns the columns
+     * @param tableColumns
+     *            The columns to auto-fit
+     *
+     * @version 1.0
+     */
+    public static < TD > void autoFitColumns( 
+            final TableView< TD > tableView,
+            final List< ? extends TableColumn< TD, ? > > tableColumns ) {
+        final int rowCount = tableView.getItems().size();
+
+        // Rows that are paged in from a data provider are only measured if
+        // they are already loaded, rather than fetching pages to measure.
+        final IntPredicate rowLoaded = ( tableView instanceof XTableView )
+            ? ( ( XTableView< TD > ) tableView )::isRowLoaded
+            : rowIndex -> true;
+
+        // Use the same rows for all columns, and the same rows from one
+        // auto-fit to the next, so that the widths don't jump around.
+        final Random random = new Random( rowCount );
+        final BitSet sampleRows = new BitSet( rowCount );
+        final BitSet candidateRows = new BitSet( rowCount );
+        if ( rowCount <= AUTO_FIT_CANDIDATE_ROW_COUNT ) {
+            sampleRows.set( 0, rowCount );
+        }
+        else {
+            sampleRows.set( 0, AUTO_FIT_END_ROW_COUNT );
+            sampleRows.set( rowCount - AUTO_FIT_END_ROW_COUNT, rowCount );
+            for ( int i = 0; i < AUTO_FIT_RANDOM_ROW_COUNT; i++ ) {
+                sampleRows.set( random.nextInt( rowCount ) );
+            }
+            random.ints( AUTO_FIT_CANDIDATE_ROW_COUNT, 0, rowCount )
+                    .forEach( candidateRows::set );
+        }
+
+        // Gather the cell text of the sampled rows once, row by row in row
+        // order, and then measure each column from that, so that rows that
+        // are decoded on demand are only decoded once rather than once per
+        // column, and don't thrash the data model's cache of recent rows.
+        final int columnCount = tableColumns.size();
+        final List< Function< Object, String > > formatters = new ArrayList<>( columnCount );
+        for ( final TableColumn< TD, ? > tableColumn : tableColumns ) {
+            formatters.add( getCellFormatter( tableColumn ) );
+        }
+        final List< TD > items = tableView.getItems();
+        final BitSet gatheredRows = ( BitSet ) sampleRows.clone();
+        gatheredRows.or( candidateRows );
+        final List< String[] > sampleCells = new ArrayList<>( sampleRows.cardinality() );
+        final List< String[] > candidateCells = new ArrayList<>( candidateRows.cardinality() );
+        for ( int rowIndex = gatheredRows.nextSetBit( 0 ); 
+                rowIndex >= 0; 
+                rowIndex = gatheredRows.nextSetBit( rowIndex + 1 ) ) {
+            if ( rowLoaded.test( rowIndex ) ) {
+                final TD item = items.get( rowIndex );
+                final String[] rowCells = new String[ columnCount ];
+                for ( int columnIndex = 0; columnIndex < columnCount; columnIndex++ ) {
+                    rowCells[ columnIndex ] = getCellText( tableColumns.get( columnIndex ), 
+                                                           item, 
+                                                           formatters.get( columnIndex ) );
+                }
+                if ( sampleRows.get( rowIndex ) ) {
+                    sampleCells.add( rowCells );
+                }
+                if ( candidateRows.get( rowIndex ) ) {
+                    candidateCells.add( rowCells );
+                }
+            }
+        }
+
+        // Measure in the font of the table's cells, if any are showing.
+        Font font = Font.getDefault();
+        double cellPadding = AUTO_FIT_CELL_PADDING;
+        final Node cellNode = tableView.lookup( ".table-cell" ); //$NON-NLS-1$
+        if ( cellNode instanceof TableCell ) {
+            final TableCell< ?, ? > tableCell = ( TableCell< ?, ? > ) cellNode;
+            font = tableCell.getFont();
+            cellPadding = tableCell.getInsets().getLeft() 
+                    + tableCell.getInsets().getRight() + 2.0d;
+        }
+
+        final String[] longestCells = new String[ AUTO_FIT_LONGEST_CELL_COUNT ];
+        for ( int columnIndex = 0; columnIndex < columnCount; columnIndex++ ) {
+            final TableColumn< TD, ? > tableColumn = tableColumns.get( columnIndex );
+
+            double columnWidth = TextWidthCache.getTextWidth( font, tableColumn.getText() ) 
+                    + AUTO_FIT_HEADER_PADDING;
+            for ( final String[] rowCells : sampleCells ) {
+                columnWidth = Math.max( columnWidth, 
+                                        TextWidthCache.getTextWidth( font, 
+                                                                     rowCells[ columnIndex ] )
+                                                + cellPadding );
+            }
+
+            // Only measure the longest of the candidate strings, as string
+            // length is a cheap and usually good proxy for rendered width.
+            Arrays.fill( longestCells, null );
+            for ( final String[] rowCells : candidateCells ) {
+                insertLongestCell( longestCells, rowCells[ columnIndex ] );
+            }
+            for ( final String cellText : longestCells ) {
+                columnWidth = Math.max( columnWidth, 
+                                        TextWidthCache.getTextWidth( font, cellText ) 
+                                                + cellPadding );
+            }
+
+            tableColumn.setPrefWidth( Math.max( tableColumn.getMinWidth(),
+                                                Math.min( Math.ceil( columnWidth ),
+                                                          tableColumn.getMaxWidth() ) ) );
+        }
+    }
+
+    private static < TD > String getCellText( final TableColumn< TD, ? > tableColumn,
+                                              final TD item,
+                                              final Function< Object, String > formatter ) {
+        final Object cellValue = tableColumn.getCellData( item );
+        return ( cellValue != null ) ? formatter.apply( cellValue ) : null;
+    }
+
+    /**
+     * Returns the row height that fits the rows that the supplied table is
+     * showing, in the table's current font and CSS, for use as a fixed cell
+     * size.
+     * <p>
+     * The rows are measured as laid out, so that graphics and editors in their
+     * cells are taken into account, which means that the table must not have
+     * a fixed cell size at the time, as the rows would simply report that.
+     *
+     * @param tableView
+     *            The {@link TableView} whose row height should be measured
+     * @return The height of the tallest row that is showing, or a negative
+     *         value if the table isn't showing any rows to measure yet
+     */
+    static double measureRowHeight( final TableView< ? > tableView ) {
+        double rowHeight = -1.0d;
+        for ( final Node node : tableView.lookupAll( ".table-row-cell" ) ) { //$NON-NLS-1$
+            // Skip the rows of any tables nested inside the cells, and the
+            // empty rows that fill out the viewport.
+            if ( node instanceof TableRow ) {
+                final TableRow< ? > tableRow = ( TableRow< ? > ) node;
+                if ( ( tableRow.getTableView() == tableView ) && !tableRow.isEmpty() 
+                        && tableRow.isVisible() ) {
+                    rowHeight = Math.max( rowHeight, tableRow.prefHeight( -1.0d ) );
+                }
+            }
+        }
+
+        return ( rowHeight > 0.0d ) ? Math.ceil( rowHeight ) : -1.0d;
+    }
+
+    private static void insertLongestCell( final String[] longestCells, final String cellText ) {
+        if ( cellText == null ) {
+            return;
+        }
+
+        // Keep the strings in descending order of length, dropping the last.
+        final int length = cellText.length();
+        for ( int i = 0; i < longestCells.length; i++ ) {
+            if ( cellText.equals( longestCells[ i ] ) ) {
+                return;
+            }
+            if ( ( longestCells[ i ] == null ) || ( length > longestCells[ i ].length() ) ) {
+                System.arraycopy( longestCells, i, longestCells, i + 1, longestCells.length - i - 1 );
+                longestCells[ i ] = cellText;
+                return;
+            }
+        }
+    }
+
     /**
      * Sets the cell alignment on the supplied {@link TableColumn}.
      * <p>
@@ -133,7 +554,25 @@ public final class TableUtilities {
             final TableCell< TD, CT > cell = new TableCell< TD, CT >() {
                 @SuppressWarnings("nls")
                 private String getString() {
-                    return getItem() == null ? "" : getItem().toString();
+                    final CT item = getItem();
+                    if ( item == null ) {
+                        return "";
+                    }
+
+                    final Function< ? super CT, String > formatter = 
+                            getColumnFormatter( tableColumn );
+                    final String text = ( formatter != null ) 
+                        ? formatter.apply( item ) 
+                        : item.toString();
+
+                    // Fixed row heights only fit one line of text.
+                    final TableView< TD > tableView = getTableView();
+                    if ( ( tableView != null ) && ( tableView.getFixedCellSize() > 0.0d )
+                            && ( ( text.indexOf( '\n' ) >= 0 ) || ( text.indexOf( '\r' ) >= 0 ) ) ) {
+                        return text.replace( "\r\n", " " ).replace( '\n', ' ' ).replace( '\r', ' ' );
+                    }
+
+                    return text;
                 }
 
                 @Override
@@ -156,19 +595,21 @@ public final class TableUtilities {
                 = makeDragDropRowFactory( tableView );
 
         tableView.setRowFactory( callback );
+
+        // Scroll the table while dragging near its top or bottom edge, so that
+        // rows can be dropped well outside the initially visible rows.
+        addDragAutoScrollSupport( tableView );
     }
 
     public static < TD > Callback< TableView< TD >, TableRow< TD > > makeDragDropRowFactory( 
             final TableView< TD > tableView ) {
         // Define a custom row factory to allow drag and drop of table rows.
-        // TODO: Determine whether this supports multi-select, and, if so,
-        //  whether the selected rows can be discontiguous. We want to avoid
-        //  losing rows during a multi9-row drop, if dragging upwards or well
-        //  past the end of the last table row. Lots of edge cases to test!
+        // NOTE: Multi-row selections can be dragged, including discontiguous
+        //  ones, as long as the drag starts on one of the selected rows.
         return ( table ) -> { return makeDragDropTableRow( table ); };
     }
 
-    public static < TD > TableRow makeDragDropTableRow( final TableView< TD > table ) {
+    public static < TD > TableRow< TD > makeDragDropTableRow( final TableView< TD > table ) {
         final TableRow< TD > row = new TableRow<>();
 
         // Enable row to be draggable.
@@ -215,11 +656,32 @@ public final class TableUtilities {
         return row;
     }
 
+    @SuppressWarnings("nls")
     public static < TD > void setDragRowIndex( final TableRow< TD > row, final Dragboard db ) {
-        // Save the row index of the row to be dragged.
-        final ClipboardContent cc = new ClipboardContent();
+        // Save the row indices of the rows to be dragged, which are all of the
+        // selected rows if the drag started on one of them, as a comma
+        // separated list since the Dragboard doesn't support POJO's.
         final int index = row.getIndex();
-        cc.putString( String.valueOf( index ) );
+        final TableView< TD > table = row.getTableView();
+        final ObservableList< Integer > selectedIndices = ( table != null )
+            ? table.getSelectionModel().getSelectedIndices()
+            : null;
+
+        final StringBuilder dragIndices = new StringBuilder();
+        if ( ( selectedIndices != null ) && selectedIndices.contains( index ) ) {
+            for ( final Integer selectedIndex : selectedIndices ) {
+                if ( dragIndices.length() > 0 ) {
+                    dragIndices.append( ',' );
+                }
+                dragIndices.append( selectedIndex.intValue() );
+            }
+        }
+        else {
+            dragIndices.append( index );
+        }
+
+        final ClipboardContent cc = new ClipboardContent();
+        cc.putString( dragIndices.toString() );
         db.setContent( cc );
     }
 
@@ -235,17 +697,45 @@ public final class TableUtilities {
         }
 
         // Start the visual feedback of live row dragging.
-        // TODO: Review whether we should cache the image reference.
         // NOTE: Support Copy or Move so we can add a moved row before deleting.
         final Dragboard db = row.startDragAndDrop( TransferMode.COPY_OR_MOVE );
-        db.setDragView( row.snapshot( null, null ) );
+        db.setDragView( getDragImage( row ) );
 
-        // Save the row index of the row to be dragged.
+        // Save the row indices of the row(s) to be dragged.
         setDragRowIndex( row, db );
 
         return true;
     }
 
+    /**
+     * Returns a snapshot of the supplied {@link TableRow} for use as the drag
+     * image, re-using the previous drag image's pixel buffer for this table
+     * when it is big enough, as all the rows of a table are much the same size.
+     *
+     * @param <TD>
+     *            The data type for the table
+     * @param row
+     *            The {@link TableRow} that is being dragged
+     * @return A snapshot of the supplied {@link TableRow}
+     *
+     * @version 1.0
+     */
+    private static < TD > Image getDragImage( final TableRow< TD > row ) {
+        final TableView< TD > table = row.getTableView();
+        if ( table == null ) {
+            return row.snapshot( null, null );
+        }
+
+        final Object cachedImage = table.getProperties().get( DRAG_IMAGE_KEY );
+        final WritableImage dragImage = row.snapshot( null, 
+                ( cachedImage instanceof WritableImage ) 
+                    ? ( WritableImage ) cachedImage 
+                    : null );
+        table.getProperties().put( DRAG_IMAGE_KEY, dragImage );
+
+        return dragImage;
+    }
+
     public static < TD > boolean endDrag( final TableView< TD > table,
                                           final TableRow< TD > row,
                                           final Dragboard db ) {
@@ -254,39 +744,215 @@ public final class TableUtilities {
             return false;
         }
 
-        // Exit early for efficiency, if the drag index is invalid.
-        final int dragIndex = Integer.parseInt( db.getString() );
-        if ( dragIndex < 0 ) {
+        // Exit early for efficiency, if the drag indices are invalid, such as
+        // when text from another application is dropped on the table.
+        final ObservableList< TD > rows = table.getItems();
+        final int rowCount = rows.size();
+        final BitSet dragIndices = new BitSet( rowCount );
+        try {
+            for ( final String dragIndex : db.getString().split( "," ) ) { //$NON-NLS-1$
+                final int index = Integer.parseInt( dragIndex.trim() );
+                if ( ( index < 0 ) || ( index >= rowCount ) ) {
+                    return false;
+                }
+                dragIndices.set( index );
+            }
+        }
+        catch ( final NumberFormatException nfe ) {
+            return false;
+        }
+        if ( dragIndices.isEmpty() ) {
             return false;
         }
 
         // Calculate the drop index based on the mouse position, as that
         // triggers which row receives this callback. Default to the "end
         // of the table" to add as first row, if empty.
-        final ObservableList< TD > rows = table.getItems();
-        final int dropIndex = !row.isEmpty() ? row.getIndex() : rows.size();
+        final int dropIndex = !row.isEmpty() ? row.getIndex() : rowCount;
+        if ( dropIndex < 0 ) {
+            return false;
+        }
 
-        // If the drop index is invalid or the same as the drag index,
-        // there is nothing to do, so we don't redundantly "move" the row.
-        if ( ( dropIndex < 0 ) || ( dragIndex == dropIndex ) ) {
+        // The dragged rows go in front of the drop row, so the insertion point
+        // moves up by the number of dragged rows that were above the drop row.
+        final int numberOfDraggedRows = dragIndices.cardinality();
+        final int insertIndex = dropIndex - dragIndices.get( 0, dropIndex ).cardinality();
+
+        // If the dragged rows are a contiguous block that ends up where it
+        // started, there is nothing to do, so we don't redundantly "move" it.
+        final int firstDragIndex = dragIndices.nextSetBit( 0 );
+        if ( ( insertIndex == firstDragIndex ) 
+                && ( dragIndices.nextClearBit( firstDragIndex ) 
+                        == ( firstDragIndex + numberOfDraggedRows ) ) ) {
             return false;
         }
         
-        // Move (add/remove) the row within the backing list data model.
-        // NOTE: Dragboard doesn't support POJO's, so we must manually
-        //  grab the row to "add" to the drop location by first removing it.
-        // NOTE: We are experimenting with adding first, by grabbing the row
-        //  and allowing Copy as well as Move, for temporary pre-delete state.
-        final TD rowData = rows.get( dragIndex );
-        rows.add( dropIndex, rowData );
-        final int removeIndex = ( dragIndex < dropIndex ) 
-                ? dragIndex 
-                : dragIndex + 1;
-        rows.remove( removeIndex );
-
-        // Update the selection to the selected row at its new position.
-        table.getSelectionModel().select( dropIndex );
+        // Dynamic tables move the rows themselves, so that the move can be
+        // undone; otherwise we move the rows within the backing list data
+        // model, as one change.
+        if ( table instanceof DynamicXTableView ) {
+            final DynamicXTableView< TD > dynamicTable = ( DynamicXTableView< TD > ) table;
+            if ( dynamicTable.isQuickFilterActive() ) {
+                return false;
+            }
+            moveDraggedRows( dynamicTable, dragIndices, dropIndex );
+        }
+        else {
+            moveDraggedRows( rows, dragIndices, insertIndex );
+        }
+
+        // Update the selection to the dragged rows at their new position.
+        final TableView.TableViewSelectionModel< TD > selectionModel 
+                = table.getSelectionModel();
+        selectionModel.clearSelection();
+        selectionModel.selectRange( insertIndex, insertIndex + numberOfDraggedRows );
 
         return true;
     }
+
+    // Moves the dragged rows in front of the insertion point, as one change.
+    private static < TD > void moveDraggedRows( final ObservableList< TD > rows,
+                                                final BitSet dragIndices,
+                                                final int insertIndex ) {
+        final int rowCount = rows.size();
+        final int numberOfDraggedRows = dragIndices.cardinality();
+
+        // NOTE: Dragboard doesn't support POJO's, so we must manually
+        //  grab the rows to "add" to the drop location from the row indices.
+        final List< TD > draggedRows = new ArrayList<>( numberOfDraggedRows );
+        final List< TD > otherRows = new ArrayList<>( rowCount - numberOfDraggedRows );
+        for ( int rowIndex = 0; rowIndex < rowCount; rowIndex++ ) {
+            if ( dragIndices.get( rowIndex ) ) {
+                draggedRows.add( rows.get( rowIndex ) );
+            }
+            else {
+                otherRows.add( rows.get( rowIndex ) );
+            }
+        }
+        otherRows.addAll( insertIndex, draggedRows );
+        rows.setAll( otherRows );
+    }
+
+    // Moves the dragged rows in front of the first row at or after the drop
+    // row that isn't dragged, one contiguous block at a time but as one edit.
+    // The blocks below that row are moved first, from the top down, and then
+    // the blocks above it, from the bottom up, so that the blocks that are
+    // still to be moved keep their indices.
+    private static < TD > void moveDraggedRows( final DynamicXTableView< TD > table,
+                                                final BitSet dragIndices,
+                                                final int dropIndex ) {
+        final int anchorIndex = dragIndices.nextClearBit( dropIndex );
+
+        final TableEditJournal< TD > editJournal = table.getEditJournal();
+        editJournal.beginCompoundEdit();
+        try {
+            int targetIndex = anchorIndex;
+            int blockStart = dragIndices.nextSetBit( anchorIndex );
+            while ( blockStart >= 0 ) {
+                final int blockEnd = dragIndices.nextClearBit( blockStart );
+                table.moveTableRows( blockStart, blockEnd, targetIndex );
+                targetIndex += blockEnd - blockStart;
+                blockStart = dragIndices.nextSetBit( blockEnd );
+            }
+
+            targetIndex = anchorIndex;
+            int blockEnd = dragIndices.previousSetBit( anchorIndex - 1 ) + 1;
+            while ( blockEnd > 0 ) {
+                final int blockStartIndex = dragIndices.previousClearBit( blockEnd - 1 ) + 1;
+                table.moveTableRows( blockStartIndex, blockEnd, targetIndex );
+                targetIndex -= blockEnd - blockStartIndex;
+                blockEnd = dragIndices.previousSetBit( blockStartIndex - 1 ) + 1;
+            }
+        }
+        finally {
+            editJournal.endCompoundEdit();
+        }
+    }
+
+    /**
+     * Adds support for scrolling the supplied {@link TableView} while rows are
+     * dragged near its top or bottom edge, continuing for as long as the drag
+     * stays there, whether or not the mouse is moving.
+     *
+     * @param <TD>
+     *            The data type for the table
+     * @param tableView
+     *            The {@link TableView} to add drag auto-scroll support to
+     *
+     * @version 1.0
+     */
+    public static < TD > void addDragAutoScrollSupport( final TableView< TD > tableView ) {
+        // The scroll direction is shared with the timeline: -1 for up, +1 for
+        // down, and zero for no scrolling. The scroll bar is looked up once
+        // per drag, rather than on every tick of the timeline.
+        final int[] scrollDirection = new int[ 1 ];
+        final ScrollBar[] scrollBar = new ScrollBar[ 1 ];
+        final Timeline autoScrollTimeline = new Timeline( new KeyFrame( 
+                Duration.millis( DRAG_AUTO_SCROLL_INTERVAL_MILLIS ), 
+                evt -> {
+                    if ( scrollBar[ 0 ] == null ) {
+                        return;
+                    }
+                    if ( scrollDirection[ 0 ] < 0 ) {
+                        scrollBar[ 0 ].decrement();
+                    }
+                    else if ( scrollDirection[ 0 ] > 0 ) {
+                        scrollBar[ 0 ].increment();
+                    }
+                } ) );
+        autoScrollTimeline.setCycleCount( Animation.INDEFINITE );
+
+        tableView.addEventFilter( DragEvent.DRAG_OVER, event -> {
+            final double y = event.getY();
+            final double height = tableView.getHeight();
+            if ( y < DRAG_AUTO_SCROLL_MARGIN ) {
+                scrollDirection[ 0 ] = -1;
+            }
+            else if ( y > ( height - DRAG_AUTO_SCROLL_MARGIN ) ) {
+                scrollDirection[ 0 ] = 1;
+            }
+            else {
+                scrollDirection[ 0 ] = 0;
+            }
+
+            if ( scrollDirection[ 0 ] == 0 ) {
+                autoScrollTimeline.stop();
+            }
+            else if ( autoScrollTimeline.getStatus() != Animation.Status.RUNNING ) {
+                if ( scrollBar[ 0 ] == null ) {
+                    scrollBar[ 0 ] = getVerticalScrollBar( tableView );
+                }
+                autoScrollTimeline.play();
+            }
+        } );
+
+        // Let go of the scroll bar once the drag is over, as the skin may
+        // have been replaced by the next drag.
+        final EventHandler< DragEvent > dragEndHandler = event -> {
+            autoScrollTimeline.stop();
+            scrollBar[ 0 ] = null;
+        };
+        tableView.addEventFilter( DragEvent.DRAG_EXITED, dragEndHandler );
+        tableView.addEventFilter( DragEvent.DRAG_DROPPED, dragEndHandler );
+        tableView.addEventFilter( DragEvent.DRAG_DONE, dragEndHandler );
+    }
+
+    private static ScrollBar getVerticalScrollBar( final TableView< ? > tableView ) {
+        // The scroll bars belong to the skin's virtual flow, which is looked
+        // up via CSS; only its own children are checked, so that the scroll
+        // bars of any controls inside the cells are never mistaken for it.
+        final Node virtualFlow = tableView.lookup( ".virtual-flow" ); //$NON-NLS-1$
+        if ( !( virtualFlow instanceof Parent ) ) {
+            return null;
+        }
+
+        for ( final Node node : ( ( Parent ) virtualFlow ).getChildrenUnmodifiable() ) {
+            if ( ( node instanceof ScrollBar ) 
+                    && ( ( ( ScrollBar ) node ).getOrientation() == Orientation.VERTICAL ) ) {
+                return ( ScrollBar ) node;
+            }
+        }
+
+        return null;
+    }
 }
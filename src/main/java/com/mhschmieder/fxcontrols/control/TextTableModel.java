@@ -0,0 +1,399 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+import java.util.List;
+
+/**
+ * {@code TextTableModel} is an abstract base class for read-only backing
+ * stores of text-based tabular data, such as the contents of a CSV file, that
+ * are presented to a {@link javafx.scene.control.TableView} without holding
+ * an observable list per row.
+ * <p>
+ * Derived classes decide how the cells are stored, and this class turns that
+ * into an observable list of lightweight row views that are only made when
+ * the table asks for a row, so only the visible rows ever cost anything.
+ * <p>
+ * NOTE: Rows may be narrower than the widest row; derived classes report the
+ *  missing trailing cells as blank strings, so data never needs to be padded.
+ * <p>
+ * NOTE: Once the row list is attached to a table, the model must only be
+ *  modified on the JavaFX Application Thread.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public abstract class TextTableModel {
+
+    /**
+     * The observable list of row views that is handed to the table.
+     */
+    private final RowList rowList;
+
+    /**
+     * The number of columns as of the most recent change to the row list.
+     */
+    private final ReadOnlyIntegerWrapper columnCount;
+
+    /**
+     * The number of times that the rows were changed other than by appending,
+     * which is stamped on each row view, so that views that were made before
+     * a change are not equal to views of the same row that are made after it.
+     */
+    private long rowsVersion;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an initially empty {@link TextTableModel}.
+     *
+     * @since 1.0
+     */
+    protected TextTableModel() {
+        rowList = new RowList();
+        columnCount = new ReadOnlyIntegerWrapper( 0 );
+        rowsVersion = 0L;
+    }
+
+    ////////////////////// Abstract model accessors //////////////////////////
+
+    /**
+     * Returns the number of rows in this model.
+     *
+     * @return The number of rows in this model
+     *
+     * @since 1.0
+     */
+    public abstract int getRowCount();
+
+    /**
+     * Returns the number of columns in this model, which is the width of the
+     * widest row that is known so far.
+     *
+     * @return The number of columns in this model
+     *
+     * @since 1.0
+     */
+    public abstract int getColumnCount();
+
+    /**
+     * Returns the value of the specified cell, or a blank string if the row
+     * was narrower than the column count.
+     *
+     * @param rowIndex
+     *            The index of the row containing the cell
+     * @param columnIndex
+     *            The index of the column containing the cell
+     * @return The value of the specified cell, or a blank string if the row
+     *         was narrower than the column count
+     *
+     * @since 1.0
+     */
+    public abstract String getCell( final int rowIndex, final int columnIndex );
+
+    ////////////////// Accessor methods for private data /////////////////////
+
+    /**
+     * Returns the observable list of row views for this model, which is the
+     * list to hand to {@link javafx.scene.control.TableView#setItems}.
+     * <p>
+     * The list is read-only; each call to {@code get()} returns a new, cheap
+     * view of that row, and views of the same row are considered equal until
+     * the rows are next changed other than by appending, so that a table sees
+     * the rows that were updated in place as new items and shows them again.
+     *
+     * @return The observable list of row views for this model
+     *
+     * @since 1.0
+     */
+    public final ObservableList< ObservableList< String > > getRows() {
+        return rowList;
+    }
+
+    /**
+     * Returns the model whose row list is the supplied list, if any.
+     *
+     * @param rows
+     *            The list that may be the row list of a model
+     * @return The model whose row list is the supplied list, or {@code null}
+     *         if the list is not the row list of a model
+     *
+     * @since 1.0
+     */
+    static TextTableModel getModel( final List< ? > rows ) {
+        return ( rows instanceof TextTableModel.RowList ) 
+            ? ( ( TextTableModel.RowList ) rows ).owner() 
+            : null;
+    }
+
+    /**
+     * Returns a read-only view of the rows that are in this model now, which
+     * can be read on a background thread while the model carries on changing
+     * on the JavaFX Application Thread, or {@code null} if this model can
+     * only be read on the JavaFX Application Thread.
+     * <p>
+     * This must be invoked on the JavaFX Application Thread.
+     *
+     * @return A view of the current rows that can be read on a background
+     *         thread, or {@code null} if that is not supported
+     *
+     * @since 1.0
+     */
+    CellSnapshot makeSnapshot() {
+        // By default, models can only be read on the JavaFX Application Thread.
+        return null;
+    }
+
+    /**
+     * Returns the observable column count, which is updated along with each
+     * change to the row list, so that a table can add columns as the model
+     * turns out to be wider than it was at first.
+     *
+     * @return The observable column count
+     *
+     * @since 1.0
+     */
+    public final ReadOnlyIntegerProperty columnCountProperty() {
+        return columnCount.getReadOnlyProperty();
+    }
+
+    ////////////////////// Model notification methods ////////////////////////
+
+    /**
+     * Notifies the observers of the row list that the specified range of rows
+     * was appended, and publishes the current column count.
+     *
+     * @param fromIndex
+     *            The index of the first row that was appended
+     * @param toIndex
+     *            The index after the last row that was appended
+     *
+     * @since 1.0
+     */
+    protected final void fireRowsAdded( final int fromIndex, final int toIndex ) {
+        // Publish the wider column set first, so that a table has the columns
+        // in place before it lays out the new rows.
+        columnCount.set( getColumnCount() );
+
+        rowList.fireRowsAdded( fromIndex, toIndex );
+    }
+
+    /**
+     * Notifies the observers of the row list that the rows were changed as
+     * described by the specified row difference, as a single change, and
+     * publishes the current column count.
+     *
+     * @param rowDiff
+     *            The row difference that has already been applied to the model
+     * @param previousRows
+     *            The rows as they were before the change, which are reported
+     *            as the removed rows
+     *
+     * @since 1.0
+     */
+    final void fireRowsChanged( final TableRowDiff rowDiff,
+                                final List< ObservableList< String > > previousRows ) {
+        columnCount.set( getColumnCount() );
+
+        // Views of rows that were updated in place must no longer match the
+        // views that the table is showing, or the table won't refresh them.
+        if ( !rowDiff.isEmpty() ) {
+            rowsVersion++;
+        }
+
+        rowList.fireRowsChanged( rowDiff, previousRows );
+    }
+
+    /**
+     * A read-only view of the rows of a model as of when it was made.
+     */
+    interface CellSnapshot {
+
+        /**
+         * Returns the number of rows in this snapshot.
+         *
+         * @return The number of rows in this snapshot
+         */
+        int getRowCount();
+
+        /**
+         * Returns the number of columns in this snapshot.
+         *
+         * @return The number of columns in this snapshot
+         */
+        int getColumnCount();
+
+        /**
+         * Returns the value of the specified cell, or a blank string if the
+         * row was narrower than the column count.
+         *
+         * @param rowIndex
+         *            The index of the row containing the cell
+         * @param columnIndex
+         *            The index of the column containing the cell
+         * @return The value of the specified cell
+         */
+        String getCell( final int rowIndex, final int columnIndex );
+    }
+
+    /**
+     * The read-only observable list of row views that backs the table.
+     */
+    private final class RowList extends ObservableListBase< ObservableList< String > > {
+
+        @Override
+        public ObservableList< String > get( final int index ) {
+            if ( ( index < 0 ) || ( index >= getRowCount() ) ) {
+                throw new IndexOutOfBoundsException( Integer.toString( index ) );
+            }
+
+            return new RowView( index, rowsVersion );
+        }
+
+        @Override
+        public int size() {
+            return getRowCount();
+        }
+
+        TextTableModel owner() {
+            return TextTableModel.this;
+        }
+
+        void fireRowsAdded( final int fromIndex, final int toIndex ) {
+            if ( fromIndex >= toIndex ) {
+                return;
+            }
+
+            beginChange();
+            nextAdd( fromIndex, toIndex );
+            endChange();
+        }
+
+        void fireRowsChanged( final TableRowDiff rowDiff,
+                              final List< ObservableList< String > > previousRows ) {
+            if ( rowDiff.isEmpty() ) {
+                return;
+            }
+
+            // Walk the script in row order, tracking the position in the list
+            // as it is being changed, which is what the change builder expects.
+            beginChange();
+            int index = 0;
+            int previousIndex = 0;
+            for ( int runIndex = 0; runIndex < rowDiff.getRunCount(); runIndex++ ) {
+                final int runLength = rowDiff.getRunLength( runIndex );
+                switch ( rowDiff.getRunType( runIndex ) ) {
+                case TableRowDiff.KEEP:
+                    index += runLength;
+                    previousIndex += runLength;
+                    break;
+                case TableRowDiff.UPDATE:
+                    for ( int i = 0; i < runLength; i++ ) {
+                        nextUpdate( index++ );
+                    }
+                    previousIndex += runLength;
+                    break;
+                case TableRowDiff.REMOVE:
+                    nextRemove( index, previousRows.subList( previousIndex, 
+                                                             previousIndex + runLength ) );
+                    previousIndex += runLength;
+                    break;
+                case TableRowDiff.INSERT:
+                    nextAdd( index, index + runLength );
+                    index += runLength;
+                    break;
+                default:
+                    break;
+                }
+            }
+            endChange();
+        }
+    }
+
+    /**
+     * A lightweight, read-only view of one row of the model.
+     * <p>
+     * The width of the view tracks the column count of the model, so that a
+     * row that is narrower than a later row still reports blank cells for the
+     * new columns.
+     */
+    private final class RowView extends ObservableListBase< String > {
+
+        private final int rowIndex;
+
+        private final long version;
+
+        RowView( final int pRowIndex, final long pVersion ) {
+            rowIndex = pRowIndex;
+            version = pVersion;
+        }
+
+        @Override
+        public String get( final int index ) {
+            return getCell( rowIndex, index );
+        }
+
+        @Override
+        public int size() {
+            return getColumnCount();
+        }
+
+        @Override
+        public boolean equals( final Object other ) {
+            if ( this == other ) {
+                return true;
+            }
+            if ( !( other instanceof TextTableModel.RowView ) ) {
+                return false;
+            }
+
+            final RowView otherRow = ( RowView ) other;
+            return ( rowIndex == otherRow.rowIndex ) && ( version == otherRow.version )
+                    && ( owner() == otherRow.owner() );
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * ( 31 * System.identityHashCode( owner() ) + Long.hashCode( version ) )
+                    + rowIndex;
+        }
+
+        private TextTableModel owner() {
+            return TextTableModel.this;
+        }
+    }
+}
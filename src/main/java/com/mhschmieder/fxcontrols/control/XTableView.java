@@ -30,16 +30,36 @@
  */
 package com.mhschmieder.fxcontrols.control;
 
+import com.mhschmieder.fxcontrols.control.cell.CellValidator;
 import com.mhschmieder.fxcontrols.util.RegionUtilities;
-import javafx.collections.transformation.SortedList;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.collections.ListChangeListener;
+import javafx.event.EventHandler;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
 import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableRow;
 import javafx.scene.control.TableView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
+import javafx.util.Callback;
 import org.apache.commons.math3.util.FastMath;
 
-import java.util.Comparator;
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * {@code XTableView} is a concrete base class that serves as a specialization
@@ -55,11 +75,146 @@ import java.util.Comparator;
  */
 public class XTableView< TD > extends TableView< TD > {
 
+    /**
+     * The key combinations for copying the selected cells to the clipboard,
+     * and for pasting the clipboard into the table.
+     */
+    private static final KeyCombination COPY_KEY_COMBINATION = new KeyCodeCombination( 
+            KeyCode.C, KeyCombination.SHORTCUT_DOWN );
+    private static final KeyCombination PASTE_KEY_COMBINATION = new KeyCodeCombination( 
+            KeyCode.V, KeyCombination.SHORTCUT_DOWN );
+
+    /**
+     * The key combinations for undoing and redoing edits.
+     */
+    private static final KeyCombination UNDO_KEY_COMBINATION = new KeyCodeCombination( 
+            KeyCode.Z, KeyCombination.SHORTCUT_DOWN );
+    private static final KeyCombination REDO_KEY_COMBINATION = new KeyCodeCombination( 
+            KeyCode.Z, KeyCombination.SHORTCUT_DOWN, KeyCombination.SHIFT_DOWN );
+    private static final KeyCombination ALTERNATE_REDO_KEY_COMBINATION = new KeyCodeCombination( 
+            KeyCode.Y, KeyCombination.SHORTCUT_DOWN );
+
     /**
      * Flag for whether auto-selection is enabled, when nothing is selected.
      */
     private final boolean autoSelectionEnabled;
 
+    /**
+     * Flags for which rows are currently selected, rebuilt on demand after
+     * the selection changes.
+     */
+    private final BitSet selectedRowFlags;
+
+    /**
+     * Cached selected row indices in reverse order, or {@code null} if none
+     * are selected; only valid while the selection index is up to date.
+     */
+    private int[] selectedRowIndices;
+
+    /**
+     * Flag for whether the selection index needs to be rebuilt.
+     */
+    private boolean selectionIndexInvalid;
+
+    /**
+     * The sort policy that was in effect before background sorting was set up.
+     */
+    private Callback< TableView< TD >, Boolean > defaultSortPolicy;
+
+    /**
+     * The "filter as you type" support for this table, if it is enabled.
+     */
+    private QuickFilter< TD > quickFilter;
+
+    /**
+     * Cached editable visible leaf columns in display order, for keyboard
+     * navigation between editable cells; only valid while the navigation
+     * index is up to date.
+     */
+    private final List< TableColumn< TD, ? > > editableColumns;
+
+    /**
+     * The visible leaf columns whose editability is being watched.
+     */
+    private final List< TableColumn< TD, ? > > navigationColumns;
+
+    /**
+     * Cached position of each column in the editable column order.
+     */
+    private final Map< TableColumn< TD, ? >, Integer > editableColumnPositions;
+
+    /**
+     * Flag for whether the column navigation index needs to be rebuilt.
+     */
+    private boolean navigationIndexInvalid;
+
+    /**
+     * Listener that invalidates the column navigation index on column changes.
+     */
+    private final InvalidationListener navigationIndexInvalidator;
+
+    /**
+     * The policy for which rows and cells are excluded from editing, made when
+     * first used.
+     */
+    private TableEditabilityPolicy< TD > editabilityPolicy;
+
+    /**
+     * Listener that keeps the editability policy's flags with their rows.
+     */
+    private final ListChangeListener< TD > editabilityPolicyUpdater;
+
+    /**
+     * The clipboard support for this table, made when first used.
+     */
+    private TableClipboard< TD > tableClipboard;
+
+    /**
+     * The handler for the clipboard shortcuts, or {@code null} if they are
+     * not enabled.
+     */
+    private EventHandler< KeyEvent > clipboardShortcutHandler;
+
+    /**
+     * The queue that batches cell commits, or {@code null} if commits are
+     * validated immediately.
+     */
+    private TableCommitQueue< TD > tableCommitQueue;
+
+    /**
+     * The handler to notify with the rows of each batch of cell commits.
+     */
+    private Consumer< List< TD > > onCellCommitsFlushed;
+
+    /**
+     * The undo and redo history of the edits to this table, made when first
+     * used.
+     */
+    private TableEditJournal< TD > editJournal;
+
+    /**
+     * The handler for the undo and redo shortcuts, or {@code null} if the
+     * edit history is turned off.
+     */
+    private EventHandler< KeyEvent > undoShortcutHandler;
+
+    /**
+     * The unfiltered items that the edit history and editability policy
+     * apply to.
+     */
+    private ObservableList< TD > journaledItems;
+
+    /**
+     * The fixed row height of this table, or {@code null} if the row height
+     * has never been fixed.
+     */
+    private TableFixedRowHeight fixedRowHeight;
+
+    /**
+     * Listener that invalidates the selection index on selection changes.
+     */
+    private final InvalidationListener selectionIndexInvalidator;
+
     //////////////////////////// Constructors ////////////////////////////////
 
     /**
@@ -84,6 +239,28 @@ public class XTableView< TD > extends TableView< TD > {
 
         autoSelectionEnabled = autoSelectionIsEnabled;
 
+        selectedRowFlags = new BitSet();
+        selectedRowIndices = null;
+        selectionIndexInvalid = true;
+        selectionIndexInvalidator = observable -> selectionIndexInvalid = true;
+        defaultSortPolicy = null;
+        quickFilter = null;
+        tableClipboard = null;
+        clipboardShortcutHandler = null;
+        tableCommitQueue = null;
+        onCellCommitsFlushed = null;
+        editJournal = null;
+        undoShortcutHandler = null;
+        journaledItems = null;
+        fixedRowHeight = null;
+        editabilityPolicy = null;
+        editabilityPolicyUpdater = change -> editabilityPolicy.itemsChanged( change );
+        editableColumns = new ArrayList<>();
+        navigationColumns = new ArrayList<>();
+        editableColumnPositions = new IdentityHashMap<>();
+        navigationIndexInvalid = true;
+        navigationIndexInvalidator = observable -> navigationIndexInvalid = true;
+
         try {
             initTable();
         }
@@ -119,8 +296,65 @@ public class XTableView< TD > extends TableView< TD > {
         placeholder.setBackground( background );
         setPlaceholder( placeholder );
 
+        // Keep track of selection changes, so that the selected rows are only
+        // gathered once per change rather than on every query, as the queries
+        // are often made repeatedly from menu and action enablement listeners.
+        // NOTE: We have to follow replacement of the selection model as well.
+        getSelectionModel().getSelectedIndices().addListener(
+                selectionIndexInvalidator );
+        selectionModelProperty().addListener( 
+                ( observableValue, oldSelectionModel, newSelectionModel ) -> {
+            if ( oldSelectionModel != null ) {
+                oldSelectionModel.getSelectedIndices().removeListener(
+                        selectionIndexInvalidator );
+            }
+            if ( newSelectionModel != null ) {
+                newSelectionModel.getSelectedIndices().addListener(
+                        selectionIndexInvalidator );
+            }
+            selectionIndexInvalid = true;
+        } );
+
+        // Keep track of column changes, so that keyboard navigation between
+        // editable cells doesn't have to walk the column hierarchy per key.
+        getVisibleLeafColumns().addListener( navigationIndexInvalidator );
+
+        // The edit history no longer applies once the rows are replaced, but
+        // it does still apply while the rows are only quick filtered.
+        // NOTE: The editability flags follow the unfiltered rows for the same
+        //  reason, so that sorting and filtering don't apply them to others.
+        journaledItems = getItems();
+        itemsProperty().addListener( ( observableValue, oldItems, newItems ) -> {
+            final ObservableList< TD > unfilteredItems = getUnfilteredItems();
+            if ( unfilteredItems != journaledItems ) {
+                if ( ( journaledItems != null ) && ( editabilityPolicy != null ) ) {
+                    journaledItems.removeListener( editabilityPolicyUpdater );
+                }
+                journaledItems = unfilteredItems;
+                if ( ( journaledItems != null ) && ( editabilityPolicy != null ) ) {
+                    journaledItems.addListener( editabilityPolicyUpdater );
+                }
+                if ( editJournal != null ) {
+                    editJournal.clear();
+                }
+
+                // Commits that are still queued are for rows that are gone.
+                if ( tableCommitQueue != null ) {
+                    tableCommitQueue.clear();
+                }
+            }
+        } );
+
         // Prevent multi-column table sorting (when shift-clicking columns).
+        // NOTE: The background sort policy also relies on this restriction.
+        // NOTE: Rows that are paged in from a data provider can't be sorted
+        //  in place, as that would page in the entire data set.
         setOnSort( sortEvent -> {
+            if ( getItems() instanceof PagedItemList ) {
+                sortEvent.consume();
+                return;
+            }
+
             while ( getSortOrder().size() > 1 ) {
                 getSortOrder().remove( 1 );
             }
@@ -160,6 +394,738 @@ public class XTableView< TD > extends TableView< TD > {
         getSelectionModel().cellSelectionEnabledProperty().set( true );
     }
 
+    /**
+     * Returns the policy for which rows and cells are excluded from editing.
+     *
+     * @return The policy for which rows and cells are excluded from editing
+     *
+     * @since 1.0
+     */
+    public final TableEditabilityPolicy< TD > getEditabilityPolicy() {
+        if ( editabilityPolicy == null ) {
+            editabilityPolicy = new TableEditabilityPolicy<>();
+            if ( journaledItems != null ) {
+                journaledItems.addListener( editabilityPolicyUpdater );
+            }
+        }
+
+        return editabilityPolicy;
+    }
+
+    /**
+     * Returns the policy for which rows and cells are excluded from editing,
+     * without making one if there is none yet.
+     *
+     * @return The policy for which rows and cells are excluded from editing,
+     *         or {@code null} if every cell is editable
+     */
+    final TableEditabilityPolicy< TD > getEditabilityPolicyIfMade() {
+        return editabilityPolicy;
+    }
+
+    /**
+     * Returns {@code true} if the editability policy allows the specified cell
+     * to be edited.
+     * <p>
+     * The row index is that of the row as shown, which is mapped back to its
+     * index in the unfiltered items while a quick filter is applied.
+     *
+     * @param rowIndex
+     *            The row index of the cell
+     * @param column
+     *            The column of the cell
+     * @return {@code true} if the editability policy allows the specified cell
+     *         to be edited
+     *
+     * @since 1.0
+     */
+    public final boolean isCellEditable( final int rowIndex,
+                                         final TableColumn< TD, ? > column ) {
+        if ( editabilityPolicy == null ) {
+            return true;
+        }
+
+        final int sourceIndex = ( quickFilter != null ) 
+            ? quickFilter.getSourceIndex( rowIndex ) 
+            : rowIndex;
+        return editabilityPolicy.isEditable( sourceIndex, column );
+    }
+
+    /**
+     * Sets whether large tables are sorted on a background thread rather than
+     * on the JavaFX Application Thread, to avoid freezing the user interface.
+     * <p>
+     * Tables with fewer rows than the specified minimum are still sorted in
+     * place, as that is faster than handing them off to another thread.
+     *
+     * @param backgroundSortEnabled
+     *            {@code true} if large tables should be sorted in the background
+     * @param minimumRowCount
+     *            The minimum number of rows for which the sort is done in the
+     *            background
+     *
+     * @since 1.0
+     */
+    public final void setBackgroundSortEnabled( final boolean backgroundSortEnabled,
+                                                final int minimumRowCount ) {
+        // Always wrap the original policy, rather than a previous wrapper.
+        if ( defaultSortPolicy == null ) {
+            defaultSortPolicy = getSortPolicy();
+        }
+
+        setSortPolicy( backgroundSortEnabled
+            ? new BackgroundSortPolicy<>( defaultSortPolicy, minimumRowCount )
+            : defaultSortPolicy );
+    }
+
+    /**
+     * Sets whether this table supports "filter as you type", in which case an
+     * index of the text of the visible columns is built in the background
+     * whenever new items are set on the table, and is then kept up to date as
+     * rows are added and removed.
+     *
+     * @param quickFilterEnabled
+     *            {@code true} if this table should support quick filtering
+     *
+     * @since 1.0
+     */
+    public final void setQuickFilterEnabled( final boolean quickFilterEnabled ) {
+        if ( quickFilterEnabled && ( quickFilter == null ) ) {
+            quickFilter = new QuickFilter<>( this );
+        }
+        else if ( !quickFilterEnabled && ( quickFilter != null ) ) {
+            quickFilter.dispose();
+            quickFilter = null;
+        }
+    }
+
+    /**
+     * Sets the quick filter text, so that only the rows that have a visible
+     * cell containing the text (ignoring case) are shown, or all rows if the
+     * text is empty.
+     * <p>
+     * While a filter is applied, the table shows a read-only view of its
+     * unfiltered items.
+     *
+     * @param quickFilterText
+     *            The text to filter the rows on
+     *
+     * @since 1.0
+     */
+    public final void setQuickFilterText( final String quickFilterText ) {
+        if ( quickFilter != null ) {
+            quickFilter.setFilterText( quickFilterText );
+        }
+    }
+
+    /**
+     * Returns {@code true} if the table is currently showing a quick filtered
+     * view of its items.
+     *
+     * @return {@code true} if the table is currently showing a quick filtered
+     *         view of its items
+     *
+     * @since 1.0
+     */
+    public final boolean isQuickFilterActive() {
+        return ( quickFilter != null ) && quickFilter.isActive();
+    }
+
+    /**
+     * Returns the unfiltered items for the table, which are the same as the
+     * table's items unless a quick filter is active.
+     *
+     * @return The unfiltered items for the table
+     *
+     * @since 1.0
+     */
+    public final ObservableList< TD > getUnfilteredItems() {
+        return isQuickFilterActive() ? quickFilter.getSourceItems() : getItems();
+    }
+
+    /**
+     * Sets the items of this table to the rows of the specified data provider,
+     * which are fetched a page at a time in the background as they scroll into
+     * view, so that tables over tens of millions of rows can be browsed with
+     * bounded memory.
+     * <p>
+     * Only the most recently used pages are kept in memory, along with the
+     * pages on either side of the one being viewed. Rows whose page hasn't
+     * arrived yet are shown as the provider's placeholder rows.
+     * <p>
+     * As the rows are not all in memory, the table can't be sorted or quick
+     * filtered while it is showing a data provider; the quick filter is turned
+     * off, and sorting is left to the provider, if it supports it at all.
+     *
+     * @param dataProvider
+     *            The source of the rows
+     * @param pageSize
+     *            The number of rows per page, which should be at least a
+     *            screenful of rows
+     * @param maximumCachedPages
+     *            The maximum number of pages to keep in memory
+     *
+     * @since 1.0
+     */
+    public final void setDataProvider( final TableDataProvider< TD > dataProvider,
+                                       final int pageSize,
+                                       final int maximumCachedPages ) {
+        setQuickFilterEnabled( false );
+
+        setItems( new PagedItemList<>( dataProvider, pageSize, maximumCachedPages ) );
+    }
+
+    /**
+     * Discards the rows that were fetched from the data provider and queries
+     * its row count again, such as after its data has changed.
+     * <p>
+     * This has no effect unless the table is showing a data provider.
+     *
+     * @since 1.0
+     */
+    public final void refreshDataProvider() {
+        final ObservableList< TD > items = getItems();
+        if ( items instanceof PagedItemList ) {
+            ( ( PagedItemList< TD > ) items ).refresh();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the specified row is in memory, which is always
+     * the case unless the table is showing a data provider and the row's page
+     * hasn't been fetched yet (or has since been evicted).
+     *
+     * @param rowIndex
+     *            The index of the row
+     * @return {@code true} if the specified row is in memory
+     *
+     * @since 1.0
+     */
+    public final boolean isRowLoaded( final int rowIndex ) {
+        final ObservableList< TD > items = getItems();
+        return !( items instanceof PagedItemList )
+                || ( ( PagedItemList< TD > ) items ).isRowLoaded( rowIndex );
+    }
+
+    /**
+     * Exports the contents of the visible columns of this table to the
+     * specified delimited text file, such as CSV or TSV, on a background
+     * thread, formatting each cell with its column formatter, if any.
+     * <p>
+     * The returned task can be used to bind a progress indicator, to find out
+     * when the export is done, and to cancel the export, in which case the
+     * partial file is deleted.
+     *
+     * @param file
+     *            The file to export the table contents to
+     * @param delimiter
+     *            The character that separates the cells of a row
+     * @param charset
+     *            The character set of the delimited text file
+     * @param headerIncluded
+     *            {@code true} if the column names should be written as the
+     *            first row
+     * @return The task that is exporting the table, which has already started
+     *
+     * @since 1.0
+     */
+    @SuppressWarnings("nls")
+    public final TableExportTask< TD > exportTableData( final File file,
+                                                        final char delimiter,
+                                                        final Charset charset,
+                                                        final boolean headerIncluded ) {
+        final TableExportTask< TD > task = new TableExportTask<>( this,
+                                                                  file,
+                                                                  delimiter,
+                                                                  charset,
+                                                                  headerIncluded );
+
+        final Thread exportThread = new Thread( task, "Table Exporter" );
+        exportThread.setDaemon( true );
+        exportThread.start();
+
+        return task;
+    }
+
+    /**
+     * Copies the selected cells to the clipboard as tab-separated text, which
+     * spreadsheet applications paste as a range of cells; in row selection
+     * mode, the selected rows are copied in their entirety.
+     * <p>
+     * Each cell is formatted with its column formatter, if any. Very large
+     * selections are copied over several pulses, so that the user interface
+     * doesn't stall, and the clipboard is updated once they are all copied.
+     *
+     * @since 1.0
+     */
+    public final void copySelectedCells() {
+        getTableClipboard().copySelectedCells();
+    }
+
+    /**
+     * Pastes the tab-separated text on the clipboard into the editable cells
+     * of this table, starting at the top left selected cell; the text is
+     * parsed on a background thread, and then applied all at once.
+     *
+     * @param rowValidator
+     *            The validator to invoke once for each row that was changed,
+     *            or {@code null} if none
+     */
+    final void pasteCells( final CellValidator< TD > rowValidator ) {
+        getTableClipboard().pasteCells( rowValidator );
+    }
+
+    private TableClipboard< TD > getTableClipboard() {
+        if ( tableClipboard == null ) {
+            tableClipboard = new TableClipboard<>( this );
+        }
+
+        return tableClipboard;
+    }
+
+    /**
+     * Sets whether the selected cells are copied with the platform's usual
+     * shortcut, along with pasting for tables that support it, unless a cell
+     * editor is open, as that handles its own copy and paste.
+     * <p>
+     * The shortcuts are off by default, so that they don't override those of
+     * the application's own Copy and Paste actions.
+     *
+     * @param clipboardShortcutsEnabled
+     *            {@code true} if this table should handle the clipboard
+     *            shortcuts
+     *
+     * @since 1.0
+     */
+    public final void setClipboardShortcutsEnabled( final boolean clipboardShortcutsEnabled ) {
+        if ( clipboardShortcutsEnabled == isClipboardShortcutsEnabled() ) {
+            return;
+        }
+
+        if ( clipboardShortcutsEnabled ) {
+            clipboardShortcutHandler = keyEvent -> {
+                if ( getEditingCell() != null ) {
+                    return;
+                }
+                if ( COPY_KEY_COMBINATION.match( keyEvent ) ) {
+                    copySelectedCells();
+                    keyEvent.consume();
+                }
+                else if ( PASTE_KEY_COMBINATION.match( keyEvent ) && pasteShortcutPressed() ) {
+                    keyEvent.consume();
+                }
+            };
+            addEventHandler( KeyEvent.KEY_PRESSED, clipboardShortcutHandler );
+        }
+        else {
+            removeEventHandler( KeyEvent.KEY_PRESSED, clipboardShortcutHandler );
+            clipboardShortcutHandler = null;
+        }
+    }
+
+    /**
+     * Returns {@code true} if this table handles the clipboard shortcuts.
+     *
+     * @return {@code true} if this table handles the clipboard shortcuts
+     *
+     * @since 1.0
+     */
+    public final boolean isClipboardShortcutsEnabled() {
+        return clipboardShortcutHandler != null;
+    }
+
+    /**
+     * Called when the paste shortcut is pressed while the clipboard shortcuts
+     * are enabled, so that derived classes that support pasting can paste.
+     * <p>
+     * Nothing is pasted by default.
+     *
+     * @return {@code true} if the clipboard is being pasted
+     *
+     * @since 1.0
+     */
+    protected boolean pasteShortcutPressed() {
+        return false;
+    }
+
+    /**
+     * Returns the data columns that exports and copies take their cells from,
+     * in display order, which are the visible leaf columns unless a derived
+     * class only materializes some of its data columns as table columns.
+     *
+     * @return The data columns of this table, in display order
+     */
+    List< TableDataColumn< TD > > getDataColumns() {
+        return TableDataColumn.forColumns( getVisibleLeafColumns() );
+    }
+
+    /**
+     * Returns the index of the data column that the specified table column
+     * shows, among those returned by {@link #getDataColumns}.
+     *
+     * @param column
+     *            The table column to look up
+     * @return The index of the data column that the table column shows, or -1
+     *         if it doesn't show one
+     */
+    int getDataColumnIndex( final TableColumn< TD, ? > column ) {
+        return getVisibleLeafIndex( column );
+    }
+
+    /**
+     * Sets whether cell commits are batched, so that the validators that push
+     * edited values into the row records run once per pass of the JavaFX
+     * Application Thread, with repeated edits of the same cell merged, rather
+     * than immediately for every edit.
+     * <p>
+     * NOTE: Batched commits are prepared as they are submitted, via
+     *  {@link CellValidator#prepareCommit}, which must capture any state of
+     *  the table cell that the commit needs, as the cell may have been reused
+     *  for another row by the time that the commit runs.
+     *
+     * @param cellCommitBatchingEnabled
+     *            {@code true} if cell commits should be batched
+     *
+     * @since 1.0
+     */
+    public final void setCellCommitBatchingEnabled( final boolean cellCommitBatchingEnabled ) {
+        if ( cellCommitBatchingEnabled == isCellCommitBatchingEnabled() ) {
+            return;
+        }
+
+        if ( cellCommitBatchingEnabled ) {
+            tableCommitQueue = new TableCommitQueue<>();
+            tableCommitQueue.setOnCommitsFlushed( onCellCommitsFlushed );
+        }
+        else {
+            // Don't lose the commits that are still queued.
+            tableCommitQueue.flush();
+            tableCommitQueue = null;
+        }
+    }
+
+    /**
+     * Returns {@code true} if cell commits are batched.
+     *
+     * @return {@code true} if cell commits are batched
+     *
+     * @since 1.0
+     */
+    public final boolean isCellCommitBatchingEnabled() {
+        return tableCommitQueue != null;
+    }
+
+    /**
+     * Sets the handler to notify once per batch of cell commits, with the
+     * distinct rows that were validated, so that recalculations that depend on
+     * many rows can be made once per batch rather than once per edit.
+     *
+     * @param pOnCellCommitsFlushed
+     *            The handler to notify with the rows of each batch of cell
+     *            commits, or {@code null} if none
+     *
+     * @since 1.0
+     */
+    public final void setOnCellCommitsFlushed( 
+            final Consumer< List< TD > > pOnCellCommitsFlushed ) {
+        onCellCommitsFlushed = pOnCellCommitsFlushed;
+
+        if ( tableCommitQueue != null ) {
+            tableCommitQueue.setOnCommitsFlushed( onCellCommitsFlushed );
+        }
+    }
+
+    /**
+     * Validates a committed cell of the specified row, either immediately or
+     * as part of the next batch, depending on whether batching is enabled.
+     *
+     * @param record
+     *            The record corresponding to the edited row
+     * @param validator
+     *            The validator that pushes the edited value into the record
+     *
+     * @since 1.0
+     */
+    public final void submitCellCommit( final TD record, 
+                                        final CellValidator< TD > validator ) {
+        if ( tableCommitQueue != null ) {
+            tableCommitQueue.submit( record, validator );
+        }
+        else {
+            validator.setBeanProperty( record );
+        }
+    }
+
+    /**
+     * Validates all of the batched cell commits now, such as before saving, as
+     * otherwise they are validated on the next pass of the JavaFX Application
+     * Thread.
+     *
+     * @since 1.0
+     */
+    public final void flushCellCommits() {
+        if ( tableCommitQueue != null ) {
+            tableCommitQueue.flush();
+        }
+    }
+
+    /**
+     * Sets the memory budget for the undo and redo history of this table's
+     * edits, discarding the oldest edits once the budget is exceeded; a budget
+     * of zero turns the history off, which is the default.
+     * <p>
+     * The history records cell commits, pastes, and the row insertions,
+     * removals and moves of dynamic tables, as compact deltas; the budget is
+     * checked against an estimate of the memory that they hold on to. While
+     * the history is on, edits are undone and redone with the platform's usual
+     * shortcuts, unless a cell editor is open, as that handles its own undo
+     * and redo.
+     * <p>
+     * NOTE: Changes that are made directly to the table's items, rather than
+     *  through this table, are not recorded, so the history should be cleared
+     *  after making them.
+     *
+     * @param editHistoryBudget
+     *            The maximum estimated size of the edit history, in bytes
+     *
+     * @since 1.0
+     */
+    public final void setEditHistoryBudget( final long editHistoryBudget ) {
+        final long byteBudget = Math.max( 0L, editHistoryBudget );
+        if ( ( byteBudget > 0L ) || ( editJournal != null ) ) {
+            makeEditJournal().setByteBudget( byteBudget );
+        }
+
+        if ( ( byteBudget > 0L ) && ( undoShortcutHandler == null ) ) {
+            undoShortcutHandler = keyEvent -> {
+                if ( getEditingCell() != null ) {
+                    return;
+                }
+                if ( UNDO_KEY_COMBINATION.match( keyEvent ) ) {
+                    undoEdit();
+                    keyEvent.consume();
+                }
+                else if ( REDO_KEY_COMBINATION.match( keyEvent ) 
+                        || ALTERNATE_REDO_KEY_COMBINATION.match( keyEvent ) ) {
+                    redoEdit();
+                    keyEvent.consume();
+                }
+            };
+            addEventHandler( KeyEvent.KEY_PRESSED, undoShortcutHandler );
+        }
+        else if ( ( byteBudget <= 0L ) && ( undoShortcutHandler != null ) ) {
+            removeEventHandler( KeyEvent.KEY_PRESSED, undoShortcutHandler );
+            undoShortcutHandler = null;
+        }
+    }
+
+    /**
+     * Returns the memory budget for the undo and redo history of this table's
+     * edits.
+     *
+     * @return The maximum estimated size of the edit history, in bytes
+     *
+     * @since 1.0
+     */
+    public final long getEditHistoryBudget() {
+        return ( editJournal != null ) ? editJournal.getByteBudget() : 0L;
+    }
+
+    /**
+     * Discards the undo and redo history of this table's edits.
+     *
+     * @since 1.0
+     */
+    public final void clearEditHistory() {
+        if ( editJournal != null ) {
+            editJournal.clear();
+        }
+    }
+
+    /**
+     * Undoes the most recent edit to this table, if any.
+     *
+     * @return {@code true} if an edit was undone
+     *
+     * @since 1.0
+     */
+    public final boolean undoEdit() {
+        return ( editJournal != null ) && editJournal.undo();
+    }
+
+    /**
+     * Redoes the most recently undone edit to this table, if any.
+     *
+     * @return {@code true} if an edit was redone
+     *
+     * @since 1.0
+     */
+    public final boolean redoEdit() {
+        return ( editJournal != null ) && editJournal.redo();
+    }
+
+    /**
+     * Returns the property for whether there is an edit to undo, which is
+     * meant for enabling Undo actions.
+     *
+     * @return The property for whether there is an edit to undo
+     *
+     * @since 1.0
+     */
+    public final ReadOnlyBooleanProperty undoAvailableProperty() {
+        return makeEditJournal().undoAvailableProperty();
+    }
+
+    /**
+     * Returns the property for whether there is an edit to redo, which is
+     * meant for enabling Redo actions.
+     *
+     * @return The property for whether there is an edit to redo
+     *
+     * @since 1.0
+     */
+    public final ReadOnlyBooleanProperty redoAvailableProperty() {
+        return makeEditJournal().redoAvailableProperty();
+    }
+
+    /**
+     * Records the commit of a new value to a cell in the edit history.
+     * <p>
+     * This is invoked by the toolkit's table cells, and only needs to be
+     * invoked directly by custom cells that commit values by other means.
+     *
+     * @param record
+     *            The record of the edited row
+     * @param column
+     *            The column of the edited cell
+     * @param oldValue
+     *            The value of the cell before the commit
+     * @param newValue
+     *            The value of the cell after the commit
+     *
+     * @since 1.0
+     */
+    public final void recordCellEdit( final TD record,
+                                      final TableColumn< TD, ? > column,
+                                      final Object oldValue,
+                                      final Object newValue ) {
+        if ( getEditHistoryBudget() > 0L ) {
+            editJournal.recordCellEdit( record, column, oldValue, newValue );
+        }
+    }
+
+    /**
+     * Returns the undo and redo history of the edits to this table.
+     *
+     * @return The undo and redo history of the edits to this table, or
+     *         {@code null} if it has never been turned on
+     */
+    final TableEditJournal< TD > getEditJournal() {
+        return editJournal;
+    }
+
+    private TableEditJournal< TD > makeEditJournal() {
+        if ( editJournal == null ) {
+            editJournal = new TableEditJournal<>( this, 0L );
+        }
+
+        return editJournal;
+    }
+
+    /**
+     * Called after undoing or redoing the edit of a cell in the specified row,
+     * so that derived classes can validate and recalculate the row.
+     * <p>
+     * There is nothing to do by default.
+     *
+     * @param record
+     *            The record of the row whose cell was changed
+     *
+     * @since 1.0
+     */
+    protected void cellValueReplayed( final TD record ) {}
+
+    /**
+     * Sets whether the row height is measured once from the rows that are
+     * showing, as laid out in the active font and CSS, and then fixed for all
+     * rows; this is off by default.
+     * <p>
+     * This saves the table from laying out each row to find its height, which
+     * is mostly of benefit when scrolling large tables. The row height is
+     * only re-measured when the font, CSS or screen resolution changes, so
+     * this is only appropriate for tables whose rows are all the same height.
+     * <p>
+     * NOTE: The cells made by {@link TableUtilities#setCellAlignment} show
+     *  multi-line text on one line while the row height is fixed.
+     *
+     * @param fixedRowHeightEnabled
+     *            {@code true} if the row height should be measured and fixed
+     *
+     * @since 1.0
+     */
+    public final void setFixedRowHeightEnabled( final boolean fixedRowHeightEnabled ) {
+        if ( fixedRowHeightEnabled && ( fixedRowHeight == null ) ) {
+            fixedRowHeight = new TableFixedRowHeight( this );
+        }
+
+        if ( fixedRowHeight != null ) {
+            fixedRowHeight.setEnabled( fixedRowHeightEnabled );
+        }
+    }
+
+    /**
+     * Returns {@code true} if the row height is measured once and then fixed.
+     *
+     * @return {@code true} if the row height is measured once and then fixed
+     *
+     * @since 1.0
+     */
+    public final boolean isFixedRowHeightEnabled() {
+        return ( fixedRowHeight != null ) && fixedRowHeight.isEnabled();
+    }
+
+    /**
+     * Re-measures the fixed row height after the next layout pass.
+     * <p>
+     * This is only needed for changes that affect the row height without
+     * changing the CSS of the table or its scene, such as a font change that
+     * is applied to the scene's root node as an inline style, or cell graphics
+     * that have changed size.
+     *
+     * @since 1.0
+     */
+    public final void remeasureRowHeight() {
+        if ( fixedRowHeight != null ) {
+            fixedRowHeight.remeasure();
+        }
+    }
+
+    /**
+     * Sets the preferred widths of the visible columns to fit their header and
+     * cell text, measuring a sample of the rows rather than every row.
+     * <p>
+     * NOTE: This is best used with the unconstrained resize policy, as the
+     *  constrained resize policy mostly overrides the preferred widths.
+     *
+     * @since 1.0
+     */
+    public final void autoFitColumns() {
+        TableUtilities.autoFitColumns( this, getVisibleLeafColumns() );
+    }
+
+    /**
+     * Sets the preferred width of the specified column to fit its header and
+     * cell text, measuring a sample of the rows rather than every row.
+     *
+     * @param column
+     *            The column to auto-fit
+     *
+     * @since 1.0
+     */
+    public final void autoFitColumn( final TableColumn< TD, ? > column ) {
+        TableUtilities.autoFitColumns( this, Collections.singletonList( column ) );
+    }
+
     /**
      * Returns a {@link TableColumn} that is offset from the provided
      * {@link TableColumn}. It is up to the caller to provide a valid offset.
@@ -182,6 +1148,139 @@ public class XTableView< TD > extends TableView< TD > {
         return getVisibleLeafColumn( newColumnIndex );
     }
 
+    /**
+     * Returns the next or previous editable visible column from the provided
+     * {@link TableColumn}, wrapping around at either end.
+     *
+     * @param column
+     *            The {@link TableColumn} to navigate from
+     * @param forward
+     *            {@code true} to navigate to the next column; {@code false} to
+     *            navigate to the previous column
+     * @return The next or previous editable visible column, or {@code null}
+     *         if the provided column is not an editable visible column
+     *
+     * @since 1.0
+     */
+    public final TableColumn< TD, ? > getAdjacentEditableColumn( final TableColumn< TD, ? > column,
+                                                                 final boolean forward ) {
+        final int position = getEditableColumnPosition( column );
+        if ( position < 0 ) {
+            return null;
+        }
+
+        final int numberOfColumns = editableColumns.size();
+        final int adjacentPosition = forward
+            ? ( ( position + 1 ) % numberOfColumns )
+            : ( ( position + numberOfColumns - 1 ) % numberOfColumns );
+
+        return editableColumns.get( adjacentPosition );
+    }
+
+    /**
+     * Starts editing the next or previous editable cell from the specified
+     * cell, moving on to the next or previous row when the end of a row is
+     * reached, and selecting the new cell. Cells that the editability policy
+     * doesn't allow to be edited are skipped.
+     *
+     * @param rowIndex
+     *            The row index of the cell to navigate from
+     * @param column
+     *            The {@link TableColumn} of the cell to navigate from
+     * @param forward
+     *            {@code true} to navigate to the next cell; {@code false} to
+     *            navigate to the previous cell
+     * @return {@code true} if editing moved to another cell; {@code false} if
+     *         the cell is not editable or there is no cell to move to
+     *
+     * @since 1.0
+     */
+    public final boolean editAdjacentCell( final int rowIndex,
+                                           final TableColumn< TD, ? > column,
+                                           final boolean forward ) {
+        final int position = getEditableColumnPosition( column );
+        if ( position < 0 ) {
+            return false;
+        }
+
+        // Wrap to the adjacent row at the ends of a row, but not past the ends
+        // of the table, skipping any cells that the editability policy locks.
+        final int numberOfColumns = editableColumns.size();
+        final int lastRowIndex = getLastRowIndex();
+        int adjacentPosition = position;
+        int adjacentRowIndex = rowIndex;
+        TableColumn< TD, ? > adjacentColumn;
+        do {
+            adjacentPosition += forward ? 1 : -1;
+            if ( adjacentPosition >= numberOfColumns ) {
+                adjacentPosition = 0;
+                adjacentRowIndex++;
+            }
+            else if ( adjacentPosition < 0 ) {
+                adjacentPosition = numberOfColumns - 1;
+                adjacentRowIndex--;
+            }
+            if ( ( adjacentRowIndex < 0 ) || ( adjacentRowIndex > lastRowIndex ) ) {
+                return false;
+            }
+
+            adjacentColumn = editableColumns.get( adjacentPosition );
+        }
+        while ( !isCellEditable( adjacentRowIndex, adjacentColumn ) );
+
+        getSelectionModel().clearAndSelect( adjacentRowIndex, adjacentColumn );
+        scrollToColumn( adjacentColumn );
+        edit( adjacentRowIndex, adjacentColumn );
+
+        return true;
+    }
+
+    /**
+     * Returns the position of the provided column in the editable column
+     * order, rebuilding the navigation index first if the columns changed.
+     *
+     * @param column
+     *            The {@link TableColumn} to look up
+     * @return The position of the column in the editable column order, or -1
+     *         if it is not an editable visible column
+     *
+     * @since 1.0
+     */
+    private int getEditableColumnPosition( final TableColumn< TD, ? > column ) {
+        if ( navigationIndexInvalid ) {
+            updateNavigationIndex();
+        }
+
+        final Integer position = editableColumnPositions.get( column );
+        return ( position != null ) ? position.intValue() : -1;
+    }
+
+    /**
+     * Rebuilds the editable column order from the visible leaf columns, and
+     * makes sure that editability changes also invalidate it.
+     *
+     * @since 1.0
+     */
+    private void updateNavigationIndex() {
+        for ( final TableColumn< TD, ? > column : navigationColumns ) {
+            column.editableProperty().removeListener( navigationIndexInvalidator );
+        }
+        navigationColumns.clear();
+        editableColumns.clear();
+        editableColumnPositions.clear();
+
+        for ( final TableColumn< TD, ? > column : getVisibleLeafColumns() ) {
+            column.editableProperty().addListener( navigationIndexInvalidator );
+            navigationColumns.add( column );
+            if ( column.isEditable() ) {
+                editableColumnPositions.put( column, Integer.valueOf( editableColumns.size() ) );
+                editableColumns.add( column );
+            }
+        }
+
+        navigationIndexInvalid = false;
+    }
+
     ////////////////////// Table manipulation methods ////////////////////////
 
     /**
@@ -209,18 +1308,65 @@ public class XTableView< TD > extends TableView< TD > {
         return getItems().size() - 1;
     }
 
+    /**
+     * Returns the index of the first row that is currently shown on screen,
+     * even if it is only partially visible.
+     * <p>
+     * This is mostly useful for restoring the scroll position after the items
+     * change in ways that would otherwise move the rows in the viewport.
+     *
+     * @return The index of the first row that is currently shown on screen,
+     *         or -1 if no rows are shown
+     *
+     * @since 1.0
+     */
+    @SuppressWarnings("nls")
+    public final int getFirstVisibleRowIndex() {
+        // Table rows that are not in the viewport are either hidden or empty,
+        // as the virtual flow keeps them around for reuse.
+        int firstVisibleRowIndex = -1;
+        for ( final Node node : lookupAll( ".table-row-cell" ) ) {
+            if ( !( node instanceof TableRow ) || !node.isVisible() ) {
+                continue;
+            }
+
+            final TableRow< ? > tableRow = ( TableRow< ? > ) node;
+            final int rowIndex = tableRow.getIndex();
+            if ( !tableRow.isEmpty() && ( rowIndex >= 0 )
+                    && ( ( firstVisibleRowIndex < 0 ) || ( rowIndex < firstVisibleRowIndex ) ) ) {
+                firstVisibleRowIndex = rowIndex;
+            }
+        }
+
+        return firstVisibleRowIndex;
+    }
+
     /**
      * Returns the number of selected rows, or zero if none selected.
      *
      * @return The number of selected rows, or zero if none selected
      */
     public final int getNumberOfSelectedRows() {
-        final int[] selectedRowIndices = getSelectedRows();
-        final int numberOfSelectedRows = ( selectedRowIndices != null )
-            ? selectedRowIndices.length
-            : 0;
+        // Count the cached row flags, rather than copying the row indices.
+        updateSelectionIndex();
+
+        return selectedRowFlags.cardinality();
+    }
+
+    /**
+     * Returns {@code true} if the specified row is selected, whether as a
+     * whole row or by way of any of its cells.
+     *
+     * @param rowIndex
+     *            The index of the table row to check
+     * @return {@code true} if the specified row is selected
+     *
+     * @since 1.0
+     */
+    public final boolean isRowSelected( final int rowIndex ) {
+        updateSelectionIndex();
 
-        return numberOfSelectedRows;
+        return ( rowIndex >= 0 ) && selectedRowFlags.get( rowIndex );
     }
 
     /**
@@ -233,6 +1379,11 @@ public class XTableView< TD > extends TableView< TD > {
      * the associated table changes (such as via row deletion or insertion)
      * after the Sorted List is fetched. An unexpected property, not discussed
      * in the official JavaFX API documentation!
+     * <p>
+     * The indices are cached until the selection next changes, so repeated
+     * calls are cheap, and each call returns its own copy that the caller is
+     * free to modify. Rows that have more than one selected cell are only
+     * listed once.
      *
      * @return A list of the selected table row indices, or {@code null} if none
      *         selected
@@ -240,27 +1391,51 @@ public class XTableView< TD > extends TableView< TD > {
      * @since 1.0
      */
     public final int[] getSelectedRows() {
-        // Get the selected row indices in reverse order, so that all indices
-        // remain valid if we delete rows one at a time.
+        updateSelectionIndex();
+
+        return ( selectedRowIndices != null ) ? selectedRowIndices.clone() : null;
+    }
+
+    /**
+     * Rebuilds the selected row flags and the reverse-ordered selected row
+     * indices, if the selection has changed since they were last built.
+     *
+     * @since 1.0
+     */
+    private void updateSelectionIndex() {
+        if ( !selectionIndexInvalid ) {
+            return;
+        }
+
+        // Flag the selected rows, which also removes duplicates when several
+        // cells of the same row are selected.
+        selectedRowFlags.clear();
         final TableViewSelectionModel< TD > selectionModel = getSelectionModel();
-        final SortedList< Integer > sortedRows = selectionModel.getSelectedIndices()
-                .sorted( Comparator.reverseOrder() );
-        if ( ( sortedRows == null ) || sortedRows.isEmpty() ) {
-            return null;
+        if ( selectionModel != null ) {
+            for ( final Integer selectedIndex : selectionModel.getSelectedIndices() ) {
+                final int rowIndex = selectedIndex.intValue();
+                if ( rowIndex >= 0 ) {
+                    selectedRowFlags.set( rowIndex );
+                }
+            }
         }
 
-        // Convert to standard integers, as the SortedList can actually change
-        // after-the-fact to add (not even replace) indices that reflect
-        // real-time changes to the table.
-        //
-        // We should search for a common utility method that does this.
-        final int numberOfSelectedRows = sortedRows.size();
-        final int[] selectedRows = new int[ numberOfSelectedRows ];
-        for ( int rowIndex = 0; rowIndex < numberOfSelectedRows; rowIndex++ ) {
-            selectedRows[ rowIndex ] = sortedRows.get( rowIndex ).intValue();
+        // Get the selected row indices in reverse order, so that all indices
+        // remain valid if we delete rows one at a time.
+        final int numberOfSelectedRows = selectedRowFlags.cardinality();
+        if ( numberOfSelectedRows > 0 ) {
+            selectedRowIndices = new int[ numberOfSelectedRows ];
+            int rowIndex = selectedRowFlags.length();
+            for ( int i = 0; i < numberOfSelectedRows; i++ ) {
+                rowIndex = selectedRowFlags.previousSetBit( rowIndex - 1 );
+                selectedRowIndices[ i ] = rowIndex;
+            }
+        }
+        else {
+            selectedRowIndices = null;
         }
 
-        return selectedRows;
+        selectionIndexInvalid = false;
     }
 
     /**
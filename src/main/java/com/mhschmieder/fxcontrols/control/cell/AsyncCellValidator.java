@@ -0,0 +1,94 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control.cell;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Defines a {@link CellValidator} whose validation is too expensive to run on
+ * the JavaFX Application Thread, so is split into a quick preparation step, a
+ * background computation, and a quick step that applies the result.
+ * <p>
+ * When the table batches its cell commits, the computation runs on a shared
+ * background thread and the result is posted back, and results for edits that
+ * have since been superseded by newer edits of the same cell are discarded;
+ * otherwise the three steps simply run in sequence.
+ * <p>
+ * NOTE: Classes that derive from {@link XTableCell} inherit its no-op
+ *  implementation of {@link #setBeanProperty}, so should override it to call
+ *  {@link #validateImmediately} instead.
+ *
+ * @param <RT> The object type that will be targeted for validation
+ * @param <VR> The type of the validation result
+ */
+public interface AsyncCellValidator< RT, VR > extends CellValidator< RT > {
+
+    /**
+     * Prepares the validation of the selected row, on the JavaFX Application
+     * Thread, returning the computation to run in the background.
+     * <p>
+     * NOTE: The returned computation must not access the record's properties
+     *  or the scene graph, so should work from values captured here instead.
+     * 
+     * @param selectedRecord The record corresponding to the edited row
+     * @return The computation that produces the validation result
+     */
+    Callable< VR > prepareValidation( final RT selectedRecord );
+
+    /**
+     * Applies the validation result to the selected row, on the JavaFX
+     * Application Thread, usually by setting bean properties.
+     * 
+     * @param selectedRecord The record corresponding to the edited row
+     * @param validationResult The result of the background computation
+     */
+    void applyValidation( final RT selectedRecord, final VR validationResult );
+
+    /**
+     * Validates the selected row without leaving the current thread.
+     * 
+     * @param selectedRecord The record corresponding to the edited row
+     */
+    default void validateImmediately( final RT selectedRecord ) {
+        try {
+            final VR validationResult = prepareValidation( selectedRecord ).call();
+            applyValidation( selectedRecord, validationResult );
+        }
+        catch ( final Exception ex ) {
+            ex.printStackTrace();
+        }
+    }
+
+    @Override
+    default void setBeanProperty( final RT selectedRecord ) {
+        validateImmediately( selectedRecord );
+    }
+}
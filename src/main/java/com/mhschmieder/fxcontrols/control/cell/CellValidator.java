@@ -30,6 +30,7 @@
  */
 package com.mhschmieder.fxcontrols.control.cell;
 
+import com.mhschmieder.fxcontrols.control.XTableView;
 import javafx.collections.ObservableList;
 import javafx.scene.control.TableRow;
 import javafx.scene.control.TableView;
@@ -66,7 +67,15 @@ public interface CellValidator< RT > {
             if ( !items.isEmpty() && ( selectedIndex >= 0 ) 
                     && ( selectedIndex < items.size() ) ) {
                 final RT selectedRecord = items.get( selectedIndex );
-                setBeanProperty( selectedRecord );
+
+                // Let tables that batch their cell commits decide when.
+                if ( tableView instanceof XTableView ) {
+                    ( ( XTableView< RT > ) tableView ).submitCellCommit( 
+                            selectedRecord, this );
+                }
+                else {
+                    setBeanProperty( selectedRecord );
+                }
             }
         }
     }
@@ -84,4 +93,22 @@ public interface CellValidator< RT > {
      *                       the table; more specifically, a list item
      */
     void setBeanProperty( final RT selectedRecord );
+
+    /**
+     * Returns the commit of the edited value to the selected row, for tables
+     * that batch their cell commits and so run it on a later pass of the
+     * JavaFX Application Thread, by which time a table cell may have been
+     * reused for another row.
+     * <p>
+     * NOTE: The default implementation simply calls {@link #setBeanProperty}
+     *  when the commit runs, so is only safe for validators that read nothing
+     *  but the record; validators that also read their own state must capture
+     *  it here instead.
+     * 
+     * @param selectedRecord The record corresponding to the edited row
+     * @return The commit of the edited value, to be run later
+     */
+    default Runnable prepareCommit( final RT selectedRecord ) {
+        return () -> setBeanProperty( selectedRecord );
+    }
 }
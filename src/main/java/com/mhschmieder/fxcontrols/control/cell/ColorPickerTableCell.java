@@ -32,13 +32,21 @@ package com.mhschmieder.fxcontrols.control.cell;
 
 import com.mhschmieder.fxcontrols.control.XColorPicker;
 import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.TableView.TableViewSelectionModel;
+import javafx.scene.input.MouseButton;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
 
 /**
  * This is a wrapper for the logic that is specific to Color Pickers.
+ * <p>
+ * Cells display their color as a lightweight swatch, so that scrolling costs
+ * about the same as for a plain text column; the Color Picker is only shown in
+ * the cell that is currently being edited, and is shared by all cells in the
+ * column, as only one cell edits at a time.
  *
  * @version 1.0
  *
@@ -46,9 +54,31 @@ import javafx.scene.paint.Color;
  */
 public abstract class ColorPickerTableCell< RT > extends XTableCell< RT, Color > {
 
+    // The key for sharing a column's Color Picker in the column's properties.
+    private static final String SHARED_PICKER_KEY = "ColorPickerTableCell.sharedPicker"; //$NON-NLS-1$
+
+    // The height of the color swatch, which matches the Color Picker's icon.
+    private static final double SWATCH_HEIGHT = 16.0d;
+
+    // The amount by which the swatch and Color Picker are narrower than the
+    // cell, to account for insets and margins.
+    private static final double CELL_INSET = 8.0d;
+
     // This is a custom cell so we declare our own Color Picker to handle it.
+    // NOTE: This is shared by all cells in the column, and is only attached to
+    //  a cell while it is being edited; use getColorPicker().
     protected XColorPicker _colorPicker;
 
+    // The column's shared Color Picker, which tracks the cell that is using it.
+    private SharedCellControl< XColorPicker > sharedPicker;
+
+    // The swatch that displays the color when the cell is not being edited.
+    private final Rectangle swatch;
+
+    // Cache the Table Column and tooltip text for making the Color Picker.
+    private final TableColumn< RT, Color > tableColumn;
+    private final String tooltipText;
+
     // NOTE: It is better to pass in the Table Column than to query at
     // run-time, as the latter can result in null pointer exceptions during
     // initialization, due to order-dependency.
@@ -56,36 +86,46 @@ public abstract class ColorPickerTableCell< RT > extends XTableCell< RT, Color >
         // Always call the superclass constructor first!
         super();
 
+        tableColumn = column;
+        this.tooltipText = tooltipText;
+
+        // The Color Picker to be used for actual editing is made lazily and
+        // shared per column, as most cells never edit.
+        _colorPicker = null;
+        sharedPicker = null;
+
+        swatch = new Rectangle( 0.0d, SWATCH_HEIGHT );
+
         try {
-            initTableCell( column, tooltipText );
+            initTableCell( column );
         }
         catch ( final Exception ex ) {
             ex.printStackTrace();
         }
     }
 
-    private final void initTableCell( final TableColumn< RT, Color > column,
-                                      final String tooltipText ) {
-        // Make the Color Picker with initial specified selection state.
-        _colorPicker = new XColorPicker( tooltipText );
-        _colorPicker.setMaxWidth( Double.MAX_VALUE );
-
-        // Try to make the Color Picker fill the entire Table Cell.
+    private final void initTableCell( final TableColumn< RT, Color > column ) {
+        // Try to make the swatch fill the entire Table Cell.
         // NOTE: We have to account for insets and margins though.
-        // NOTE: Setting height causes incremental growth per click!
-        _colorPicker.minWidthProperty().bind( widthProperty().subtract( 8.0d ) );
-        _colorPicker.prefWidthProperty().bind( widthProperty() );
-
-        _colorPicker.editableProperty().bind( column.editableProperty() );
-        _colorPicker.disableProperty().bind( column.editableProperty().not() );
-
-        // It is safer to manually show the Color Picker and put it into editing
-        // mode, than to deal with the complexities of the base class
-        // implementation, as the Color Picker has a very different workflow and
-        // event model from a standard supported control like a Text Field.
-        _colorPicker.setOnShowing( evt -> {
+        swatch.widthProperty().bind( widthProperty().subtract( CELL_INSET ) );
+        swatch.setStroke( Color.GRAY );
+        swatch.setStrokeWidth( 0.5d );
+
+        // It is safer to manually put the cell into editing mode, than to rely
+        // on the base class implementation (which requires the row to already
+        // be selected), as users expect a single click on the swatch to bring
+        // up the Color Picker just as it would with an embedded Color Picker.
+        setOnMouseClicked( mouseEvent -> {
+            if ( ( mouseEvent.getButton() != MouseButton.PRIMARY ) || isEmpty()
+                    || isEditing() || !column.isEditable() ) {
+                return;
+            }
+
             // Bring up the Color Picker to edit the Color value.
             final TableView< RT > tableView = getTableView();
+            if ( ( tableView == null ) || !tableView.isEditable() ) {
+                return;
+            }
             final TableViewSelectionModel< RT > selectionModel = tableView.getSelectionModel();
             final int selectedIndex = getTableRow().getIndex();
             selectionModel.select( selectedIndex );
@@ -93,24 +133,105 @@ public abstract class ColorPickerTableCell< RT > extends XTableCell< RT, Color >
             tableView.edit( selectedIndexCorrected, column );
         } );
 
+        // We always want to show the color value as a color swatch.
+        setContentDisplay( ContentDisplay.GRAPHIC_ONLY );
+    }
+
+    /**
+     * Returns the Color Picker for this cell's column, making and sharing it
+     * on first use.
+     *
+     * @return The Color Picker for this cell's column
+     */
+    protected final XColorPicker getColorPicker() {
+        if ( sharedPicker == null ) {
+            sharedPicker = SharedCellControl.forColumn( tableColumn,
+                                                        SHARED_PICKER_KEY,
+                                                        this::makeColorPicker,
+                                                        ColorPickerTableCell::initSharedPicker );
+            _colorPicker = sharedPicker.getControl();
+        }
+
+        return _colorPicker;
+    }
+
+    // Returns true if this cell is the one that is using the shared picker.
+    private boolean isPickerOwner() {
+        return ( sharedPicker != null ) && sharedPicker.isOwnedBy( this );
+    }
+
+    private final XColorPicker makeColorPicker() {
+        // Make the Color Picker with initial specified selection state.
+        final XColorPicker colorPicker = new XColorPicker( tooltipText );
+        colorPicker.setMaxWidth( Double.MAX_VALUE );
+
+        colorPicker.editableProperty().bind( tableColumn.editableProperty() );
+        colorPicker.disableProperty().bind( tableColumn.editableProperty().not() );
+
+        return colorPicker;
+    }
+
+    // NOTE: This is invoked once per shared Color Picker, and the handlers
+    //  always act on the cell that most recently started editing with it.
+    private static void initSharedPicker( final SharedCellControl< XColorPicker > picker ) {
         // Register a callback to handle user actions that commit a choice.
-        // NOTE: This covers direct clicks in the palette, and confirmation of
-        // custom colors, but deliberately avoids cases where the user canceled
-        // the custom color pop-up or the main palette (via mouse focus), so
-        // that we do not unnecessarily sync or commit unchanged values (which
-        // could possibly falsely trigger the project-level dirty flag).
-        _colorPicker.setOnAction( evt -> {
+        // NOTE: This covers direct clicks in the palette, and confirmation
+        // of custom colors, but deliberately avoids cases where the user
+        // canceled the custom color pop-up or the main palette (via mouse
+        // focus), so that we do not unnecessarily sync or commit unchanged
+        // values (which could possibly falsely trigger the project-level
+        // dirty flag).
+        picker.getControl().setOnAction( evt -> {
             // Save the edits from the Color Picker to the property bean.
-            saveEdits();
+            final TableCell< ?, ? > owner = picker.getOwner();
+            if ( owner instanceof ColorPickerTableCell ) {
+                ( ( ColorPickerTableCell< ? > ) owner ).saveEdits();
+            }
         } );
 
-        // We always want to show the color value along with a color icon.
-        setContentDisplay( ContentDisplay.GRAPHIC_ONLY );
+        // End the edit if the palette is closed without choosing a color.
+        picker.cancelEditOnHidden();
+    }
+
+    @Override
+    public void startEdit() {
+        super.startEdit();
+        if ( !isEditing() ) {
+            return;
+        }
+
+        // Sync the Color Picker to the current value before taking it over,
+        // as the Color Picker fires an action when its value changes, and that
+        // must not be mistaken for a choice made by the user.
+        final XColorPicker colorPicker = getColorPicker();
+        sharedPicker.release( sharedPicker.getOwner() );
+        colorPicker.setValue( getItem() );
+
+        // Take over the column's Color Picker for the duration of the edit,
+        // and show the palette once it has been laid out in the cell.
+        sharedPicker.attach( this, CELL_INSET );
+        sharedPicker.showPopupLater( this );
+    }
+
+    @Override
+    public void cancelEdit() {
+        super.cancelEdit();
+
+        // Hand the Color Picker back, and go back to displaying the swatch.
+        releaseColorPicker();
+        updateSwatch( getItem(), isEmpty() );
+    }
+
+    // Detaches the shared Color Picker from this cell, if it is attached.
+    private void releaseColorPicker() {
+        if ( sharedPicker != null ) {
+            sharedPicker.release( this );
+        }
     }
 
     private final void saveEdits() {
         // Get the current displayed value of the Color Picker.
-        final Color color = _colorPicker.getValue();
+        final Color color = getColorPicker().getValue();
 
         // Commit the edited Color value, and sync to the property bean.
         setValue( color );
@@ -121,17 +242,29 @@ public abstract class ColorPickerTableCell< RT > extends XTableCell< RT, Color >
         // Make sure the table cell knows the current state.
         super.updateItem( item, empty );
 
-        // Display the current state for the Color Picker.
-        // NOTE: We avoid displaying anything in empty rows.
-        if ( empty ) {
+        // Keep showing the Color Picker while this cell is being edited.
+        if ( !empty && isEditing() && isPickerOwner() ) {
             setText( null );
+            setGraphic( sharedPicker.getControl() );
+            return;
+        }
+
+        // Once editing has ended, the Color Picker is no longer needed here.
+        releaseColorPicker();
+        updateSwatch( item, empty );
+    }
+
+    // Displays the current state as a color swatch.
+    // NOTE: We avoid displaying anything in empty rows.
+    private void updateSwatch( final Color item, final boolean empty ) {
+        setText( null );
+
+        if ( empty || ( item == null ) ) {
             setGraphic( null );
         }
         else {
-            _colorPicker.setValue( item );
-
-            setText( null );
-            setGraphic( _colorPicker );
+            swatch.setFill( item );
+            setGraphic( swatch );
         }
     }
 }
@@ -53,14 +53,10 @@ public class DoubleEditorTableCell< RT, VT > extends NumberEditorTableCell< RT,
                                   final boolean pAllowedToBeBlank,
                                   final ClientProperties pClientProperties ) {
         // Always call the superclass constructor first!
-        super( pUneditableRows, pAllowedToBeBlank, pClientProperties );
+        // NOTE: Use two decimal places of precision for doubles.
+        super( pUneditableRows, pAllowedToBeBlank, pClientProperties, 2 );
 
         cachedValue = new SimpleDoubleProperty( 0.0d );
-
-        // Use two decimal places of precision for doubles, in the default
-        // locale.
-        _numberFormat.setMaximumFractionDigits( 2 );
-        _numberFormat.setParseIntegerOnly( false );
     }
     
     @Override
@@ -71,12 +67,12 @@ public class DoubleEditorTableCell< RT, VT > extends NumberEditorTableCell< RT,
 
     @Override
     protected Double getEditorValue() {
-        final String textValue = textField.getText();
+        final String textValue = getTextField().getText();
         if ( textValue == null ) {
             return null;
         }
         
-        final double doubleValue = ( ( DoubleEditor ) textField ).fromString( textValue );
+        final double doubleValue = ( ( DoubleEditor ) getTextField() ).fromString( textValue );
         
         return Double.valueOf( doubleValue );
     }
@@ -91,7 +87,7 @@ public class DoubleEditorTableCell< RT, VT > extends NumberEditorTableCell< RT,
         // This text goes to the editor, so we don't want to clutter the user's
         // editing session with measurement units, but do need localization.
         final String stringValue 
-            = ( ( DoubleEditor ) textField ).toFormattedString( doubleValue );
+            = ( ( DoubleEditor ) getTextField() ).toFormattedString( doubleValue );
         
         return stringValue;
     }
@@ -103,7 +99,7 @@ public class DoubleEditorTableCell< RT, VT > extends NumberEditorTableCell< RT,
             return "";
         }
         
-        final String textValue = ( ( DoubleEditor ) textField ).toString( doubleValue );
+        final String textValue = toDisplayText( doubleValue.doubleValue() );
         
         return textValue;
     }
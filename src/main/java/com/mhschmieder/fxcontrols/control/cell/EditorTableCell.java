@@ -30,20 +30,28 @@
  */
 package com.mhschmieder.fxcontrols.control.cell;
 
+import com.mhschmieder.fxcontrols.control.XTableView;
 import com.mhschmieder.jcommons.util.ClientProperties;
 import javafx.application.Platform;
+import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 
-import java.awt.Point;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public abstract class EditorTableCell< RT, VT > extends XTableCell< RT, VT > {
 
-    // This is a custom cell so we declare our own Text Field to handle it.
-    protected TextField textField;
+    // The key for sharing a column's editor in the column's properties.
+    private static final String SHARED_EDITOR_KEY = "EditorTableCell.sharedEditor"; //$NON-NLS-1$
+
+    // The key for noting which uneditable rows a column has handed over.
+    private static final String UNEDITABLE_ROWS_KEY = "EditorTableCell.uneditableRows"; //$NON-NLS-1$
+
+    // The column's shared editor, which tracks the cell that is using it.
+    private SharedCellControl< TextField > sharedEditor;
 
     protected List< Integer > uneditableRows;
 
@@ -63,18 +71,66 @@ public abstract class EditorTableCell< RT, VT > extends XTableCell< RT, VT > {
         blankTextAllowed = pBlankTextAllowed;
         clientProperties = pClientProperties;
 
-        // Make a custom Text Field control to be used for actual editing.
-        textField = makeTextField();
-        
-        // Initialize the Text Field for editing.
-        initTextField();
+        // The custom Text Field control to be used for actual editing is made
+        // lazily and shared per column, as most cells never edit.
+        sharedEditor = null;
+
+        // Hand the uneditable rows over to the table's editability policy as
+        // soon as this cell is attached to its column in a table, so that the
+        // rows are flagged before they can be sorted, filtered or moved.
+        tableViewProperty().addListener( observable -> handOverUneditableRows() );
+        tableColumnProperty().addListener( observable -> handOverUneditableRows() );
+
+        // Make sure the item property is clamped to allowed values, then
+        // update the text field to be in sync with the adjusted value.
+        itemProperty().addListener( ( observableValue, oldValue, newValue ) -> {
+            if ( newValue == null ) {
+                setText( "" );
+            }
+            else {
+                // Update the displayed text to match the cached value.
+                updateText();
+            }
+        } );
+    }
+
+    /**
+     * Returns the Text Field for this cell's column, making and sharing it on
+     * first use.
+     *
+     * @return The Text Field for this cell's column
+     */
+    protected final TextField getTextField() {
+        if ( sharedEditor == null ) {
+            // Share the editor via the column, once the cell is attached to
+            // one; cells that aren't attached yet get their own editor.
+            sharedEditor = SharedCellControl.forColumn( getTableColumn(),
+                                                        SHARED_EDITOR_KEY,
+                                                        this::makeTextField,
+                                                        EditorTableCell::initSharedEditor );
+        }
+
+        return sharedEditor.getControl();
+    }
+
+    // Returns true if this cell is the one that is using the shared editor.
+    private boolean isEditorOwner() {
+        return ( sharedEditor != null ) && sharedEditor.isOwnedBy( this );
+    }
+
+    // Returns the cell that is using the shared editor, if any.
+    private static EditorTableCell< ?, ? > getEditorOwner( 
+            final SharedCellControl< TextField > editor ) {
+        final TableCell< ?, ? > owner = editor.getOwner();
+        return ( owner instanceof EditorTableCell ) ? ( EditorTableCell< ?, ? > ) owner : null;
     }
 
-    // NOTE: This is primarily invoked dynamically from the startEdit()
-    //  method so that we can guarantee we capture focus events that should
-    //  commit edits (e.g. mouse movement, TAB key, and ENTER key).
-    protected void initTextField() {
-        textField.setMinWidth( getWidth() - ( getGraphicTextGap() * 2.0d ) );
+    // NOTE: This is invoked once per shared editor, and the handlers always
+    //  act on the cell that most recently started editing with it, so that we
+    //  can guarantee we capture focus events that should commit edits (e.g.
+    //  mouse movement, TAB key, and ENTER key), even after editing has ended.
+    private static void initSharedEditor( final SharedCellControl< TextField > editor ) {
+        final TextField textField = editor.getControl();
 
         // Validate committed input (via ENTER) and adjust to allowed values.
         textField.setOnAction( evt -> {
@@ -82,13 +138,13 @@ public abstract class EditorTableCell< RT, VT > extends XTableCell< RT, VT > {
             textField.commitValue();
 
             // Save edits from the Text Field to the property bean.
-            saveEdits();
+            saveEditorEdits( editor );
 
             // Post-process after caching the new value, due to order
             // dependency of the text adjustments in various callbacks.
             Platform.runLater( () -> {
                 // Update the displayed text to match the last cached value.
-                updateText();
+                updateEditorText( editor );
 
                 // Reselect the adjusted text, to mimic Focus Gained.
                 textField.selectAll();
@@ -105,20 +161,20 @@ public abstract class EditorTableCell< RT, VT > extends XTableCell< RT, VT > {
                 ( observableValue, wasFocused, isNowFocused ) -> {
             if ( isNowFocused ) {
                 // Update the displayed text to match the last cached value.
-                updateText();
+                updateEditorText( editor );
             }
             else {
                 // Commit the current selection as-is, without giving up focus.
                 textField.commitValue();
 
                 // Save edits from the Text Field to the property bean.
-                saveEdits();
+                saveEditorEdits( editor );
 
                 // Post-process after caching the new value, due to order
                 // dependency of the text adjustments in various callbacks.
                 Platform.runLater( () -> {
                     // Update the displayed text to match the last cached value.
-                    updateText();
+                    updateEditorText( editor );
                 } );
             }
         } );
@@ -140,7 +196,7 @@ public abstract class EditorTableCell< RT, VT > extends XTableCell< RT, VT > {
                 // dependency of the text adjustments in various callbacks.
                 Platform.runLater( () -> {
                     // Update the displayed text to match the reverted value.
-                    updateText();
+                    updateEditorText( editor );
 
                     // Reselect the updated text, to mimic Focus Gained.
                     textField.selectAll();
@@ -148,29 +204,31 @@ public abstract class EditorTableCell< RT, VT > extends XTableCell< RT, VT > {
 
                 break;
             case TAB:
-                // NOTE: Nothing to do, as Text Input Controls commit edits and
-                //  then release focus when the TAB key is pressed, so the Focus
-                //  Lost handler is where value restrictions should be applied.
+                // Move editing to the adjacent editable cell, if the table
+                // supports it; otherwise Text Input Controls commit edits and
+                // then release focus when the TAB key is pressed, so the Focus
+                // Lost handler is where value restrictions should be applied.
+                if ( editEditorAdjacentCell( editor, !keyEvent.isShiftDown() ) ) {
+                    keyEvent.consume();
+                }
                 break;
             // $CASES-OMITTED$
             default:
                 break;
             }
         } );
-        
-        // Make sure the item property is clamped to allowed values, then
-        // update the text field to be in sync with the adjusted value.
-        itemProperty().addListener( ( observableValue, oldValue, newValue ) -> {
-            if ( newValue == null ) {
-                setText( "" );
-            }
-            else {
-                // Update the displayed text to match the cached value.
-                updateText();
-            }
-        } );
     }
-    
+
+    /**
+     * Makes the Text Field that all of the cells in this cell's column share
+     * for editing; the editing handlers are installed after it is made.
+     * <p>
+     * NOTE: This is invoked once per column, on whichever cell first needs to
+     *  edit, so any customization here must not assume that this cell is the
+     *  one that is editing.
+     *
+     * @return The Text Field to share for editing this cell's column
+     */
     protected TextField makeTextField() {
         // Default implementation in case of no downstream override.
         return new TextField();
@@ -206,6 +264,12 @@ public abstract class EditorTableCell< RT, VT > extends XTableCell< RT, VT > {
     }
 
     private final void endEdits() {
+        // Hand the shared editor back, as the edits no longer apply to this
+        // cell once its editing session has ended.
+        if ( sharedEditor != null ) {
+            sharedEditor.release( this );
+        }
+
         // Get the last cached item value as text.
         final String textValue = getTextValue();
 
@@ -265,21 +329,44 @@ public abstract class EditorTableCell< RT, VT > extends XTableCell< RT, VT > {
         adjustValue();
     }
 
+    // Saves the edits in the shared editor to this cell, if it is still
+    // editing; otherwise the edits no longer apply to this cell's row.
+    private void savePendingEdits() {
+        if ( !isEditing() ) {
+            return;
+        }
+
+        // Commit the current selection as-is, and save it to the property bean.
+        final TextField editor = getTextField();
+        editor.commitValue();
+        saveEdits();
+    }
+
     @Override
     public void startEdit() {
         if ( !isEmpty() ) {
             // Don't allow editing if this row is excluded from editability.
-            if ( ( uneditableRows != null ) && !uneditableRows.isEmpty() ) {
-                final int currentRow = getTableRow().getIndex();
-                for ( final int uneditableRow : uneditableRows ) {
-                    if ( currentRow == uneditableRow ) {
-                        return;
-                    }
-                }
+            if ( !isRowEditable( getIndex() ) ) {
+                return;
+            }
+
+            // Save whatever was typed for the cell that is still using the
+            // shared editor, as we are about to take over the editor and the
+            // base class is about to end its editing session.
+            final TextField editor = getTextField();
+            final EditorTableCell< ?, ? > previousOwner = getEditorOwner( sharedEditor );
+            if ( ( previousOwner != null ) && ( previousOwner != this ) ) {
+                previousOwner.savePendingEdits();
             }
 
             // Deal with the default behavior before our specialized handling.
             super.startEdit();
+            if ( !isEditing() ) {
+                return;
+            }
+
+            // Take over the column's shared editor, sized to this cell.
+            sharedEditor.attach( this, getGraphicTextGap() * 2.0d );
 
             // When we start editing, we need the Text Field to match and
             // display the last valid cached value.
@@ -288,11 +375,45 @@ public abstract class EditorTableCell< RT, VT > extends XTableCell< RT, VT > {
             // Select the updated text, to make it obvious we started editing.
             //Platform.runLater( () -> {
                 //textField.requestFocus();
-                textField.selectAll();
+                editor.selectAll();
             //} );
         }
     }
 
+    // Returns true if the table's editability policy allows this cell's row
+    // to be edited.
+    private boolean isRowEditable( final int rowIndex ) {
+        final TableView< RT > tableView = getTableView();
+        if ( !( tableView instanceof XTableView ) ) {
+            return ( uneditableRows == null ) || !uneditableRows.contains( rowIndex );
+        }
+
+        return ( ( XTableView< RT > ) tableView ).isCellEditable( rowIndex, 
+                                                                 getTableColumn() );
+    }
+
+    // Hands the rows that were excluded via the constructor over to the
+    // table's policy, as only the table can keep them with their rows when
+    // rows are inserted, deleted or sorted.
+    private void handOverUneditableRows() {
+        final TableView< RT > tableView = getTableView();
+        final TableColumn< RT, VT > tableColumn = getTableColumn();
+        if ( ( uneditableRows == null ) || !( tableView instanceof XTableView ) 
+                || ( tableColumn == null ) ) {
+            return;
+        }
+
+        // All cells in a column share the same list, and it must only be
+        // applied once, as the policy may have moved the rows since then.
+        final Map< Object, Object > columnProperties = tableColumn.getProperties();
+        if ( columnProperties.get( UNEDITABLE_ROWS_KEY ) != uneditableRows ) {
+            columnProperties.put( UNEDITABLE_ROWS_KEY, uneditableRows );
+            ( ( XTableView< RT > ) tableView ).getEditabilityPolicy()
+                    .setRowsEditable( tableColumn, uneditableRows, false );
+        }
+        uneditableRows = null;
+    }
+
     private final void updateEdits() {
         // When we start or update editing, we need the Text Field to match and
         // display the last valid cached value.
@@ -301,7 +422,7 @@ public abstract class EditorTableCell< RT, VT > extends XTableCell< RT, VT > {
         // During editing, we want to see the textField, not the displayed
         // text from the previous editing session.
         setText( null );
-        setGraphic( textField );
+        setGraphic( getTextField() );
     }
 
     @Override
@@ -337,6 +458,11 @@ public abstract class EditorTableCell< RT, VT > extends XTableCell< RT, VT > {
     }
 
     public final void updateText() {
+        // Only the cell that is using the shared editor may change its text.
+        if ( !isEditorOwner() ) {
+            return;
+        }
+
         // Get the most recently committed value.
         final String currentValue = getString();
 
@@ -345,102 +471,47 @@ public abstract class EditorTableCell< RT, VT > extends XTableCell< RT, VT > {
                 && ( !currentValue.trim().isEmpty() 
                         || blankTextAllowed ) ) {
             // Update the text textField to match the last valid cached value.
-            textField.setText( currentValue );
+            getTextField().setText( currentValue );
         }
     }
 
-    private TableColumn< RT, ? > getNextColumn( final boolean forward ) {
-        final List< TableColumn< RT, ? > > columns = new ArrayList<>();
-        for ( TableColumn< RT, ? > column : getTableView().getColumns() ) {
-            columns.addAll( getLeaves( column ) );
+    // Moves editing to the next or previous editable cell of the table,
+    // after saving the edits to this cell.
+    private boolean editAdjacentCell( final boolean forward ) {
+        final TableView< RT > tableView = getTableView();
+        if ( !( tableView instanceof XTableView ) ) {
+            return false;
         }
 
-        // There is no other column that supports editing, if only one column.
-        if ( columns.size() < 2 ) {
-            return null;
-        }
+        // Commit the current selection as-is, and save it to the property bean.
+        getTextField().commitValue();
+        saveEdits();
 
-        int currentIndex = columns.indexOf( getTableColumn() );
-        int nextIndex = currentIndex;
-        if ( forward ) {
-            nextIndex++;
-            if ( nextIndex > columns.size() - 1 ) {
-                nextIndex = 0;
-            }
-        } else {
-            nextIndex--;
-            if ( nextIndex < 0 ) {
-                nextIndex = columns.size() - 1;
-            }
-        }
-
-        return columns.get( nextIndex );
+        return ( ( XTableView< RT > ) tableView ).editAdjacentCell( getIndex(),
+                                                                   getTableColumn(),
+                                                                   forward );
     }
 
-    private Point getNextCellPosition( boolean forward ) {
-        int columnCount = getTableView().getColumns().size();
-        int rowCount = getTableView().getItems().size();
-        int currentRow = getTableRow().getIndex();
-        int newRow = currentRow;
-        int newColumn = 0;
-
-        List< TableColumn< RT, ?>> columns = new ArrayList<>();
-        for ( TableColumn< RT, ? > column : getTableView().getColumns() ) {
-            columns.addAll( getLeaves( column ) );
-        }
-        
-        int currentColumn = columns.indexOf( getTableColumn() );
-        newColumn = currentColumn;
-
-        if ( currentColumn == 0 && currentRow == 0 && !forward ) {
-            System.out.println("not moving : cant go backward");
-            return null;
-        }
-
-        if ( currentColumn == columnCount-1 && currentRow == rowCount-1 && forward ) {
-            System.out.println("not moving : cant go forward");
-            return null;
+    // Saves the edits in the shared editor to the cell that is using it.
+    // NOTE: Once the owner's editing session has ended, its row may already
+    //  have been reused for a different record, so edits are dropped.
+    private static void saveEditorEdits( final SharedCellControl< TextField > editor ) {
+        final EditorTableCell< ?, ? > owner = getEditorOwner( editor );
+        if ( ( owner != null ) && owner.isEditing() ) {
+            owner.saveEdits();
         }
+    }
 
-        if ( forward ) {
-            if ( currentColumn == columnCount-1 ) {
-                newColumn = 0;
-                newRow ++;
-            }
-            else {
-                newColumn++;
-            }
+    private static void updateEditorText( final SharedCellControl< TextField > editor ) {
+        final EditorTableCell< ?, ? > owner = getEditorOwner( editor );
+        if ( owner != null ) {
+            owner.updateText();
         }
-        else {
-            if  (currentColumn == 0 ) {
-                newRow--;
-                newColumn = columnCount - 1;
-            }
-            else {
-                newColumn--;
-            }
-        }
-
-        System.out.println("from "+currentColumn+","+currentRow+" to "+newColumn+","+newRow+"");
-
-        return new Point( newColumn,newRow );
     }
 
-    private List< TableColumn< RT, ? > > getLeaves(
-            final TableColumn< RT, ? > root ) {
-        final List< TableColumn< RT, ? > > columns = new ArrayList<>();
-        if ( root.getColumns().isEmpty() ) {
-            // We only want the leaves that are editable, for tab traversal.
-            if ( root.isEditable() ) {
-                columns.add( root );
-            }
-            return columns;
-        }
-        
-        for ( TableColumn< RT, ? > column : root.getColumns() ) {
-            columns.addAll( getLeaves( column ) );
-        }
-        
-        return columns;
+    private static boolean editEditorAdjacentCell( final SharedCellControl< TextField > editor,
+                                                   final boolean forward ) {
+        final EditorTableCell< ?, ? > owner = getEditorOwner( editor );
+        return ( owner != null ) && owner.editAdjacentCell( forward );
     }
 }
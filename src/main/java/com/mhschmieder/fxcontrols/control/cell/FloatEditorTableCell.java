@@ -53,14 +53,10 @@ public class FloatEditorTableCell< RT, VT > extends NumberEditorTableCell< RT, F
                                  final boolean pAllowedToBeBlank,
                                  final ClientProperties pClientProperties ) {
         // Always call the superclass constructor first!
-        super( pUneditableRows, pAllowedToBeBlank, pClientProperties );
+        // NOTE: Use two decimal places of precision for floats.
+        super( pUneditableRows, pAllowedToBeBlank, pClientProperties, 2 );
 
         cachedValue = new SimpleFloatProperty( 0.0f );
-
-        // Use two decimal places of precision for floats, in the default
-        // locale.
-        _numberFormat.setMaximumFractionDigits( 2 );
-        _numberFormat.setParseIntegerOnly( false );
     }
 
    
@@ -72,12 +68,12 @@ public class FloatEditorTableCell< RT, VT > extends NumberEditorTableCell< RT, F
 
     @Override
     protected Float getEditorValue() {
-        final String textValue = textField.getText();
+        final String textValue = getTextField().getText();
         if ( textValue == null ) {
             return null;
         }
         
-        final float floatValue = ( ( FloatEditor ) textField ).fromString( textValue );
+        final float floatValue = ( ( FloatEditor ) getTextField() ).fromString( textValue );
         
         return Float.valueOf( floatValue );
     }
@@ -92,7 +88,7 @@ public class FloatEditorTableCell< RT, VT > extends NumberEditorTableCell< RT, F
         // This text goes to the editor, so we don't want to clutter the user's
         // editing session with measurement units, but do need localization.
         final String stringValue 
-            = ( ( FloatEditor ) textField ).toFormattedString( floatValue );
+            = ( ( FloatEditor ) getTextField() ).toFormattedString( floatValue );
         
         return stringValue;
     }
@@ -104,7 +100,7 @@ public class FloatEditorTableCell< RT, VT > extends NumberEditorTableCell< RT, F
             return "";
         }
         
-        final String textValue = ( ( FloatEditor ) textField ).toString( floatValue );
+        final String textValue = toDisplayText( floatValue.doubleValue() );
         
         return textValue;
     }
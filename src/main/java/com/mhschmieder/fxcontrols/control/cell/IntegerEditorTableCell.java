@@ -53,13 +53,10 @@ public class IntegerEditorTableCell< RT, VT > extends NumberEditorTableCell< RT,
                                    final boolean pAllowedToBeBlank,
                                    final ClientProperties pClientProperties ) {
         // Always call the superclass constructor first!
-        super( pUneditableRows, pAllowedToBeBlank, pClientProperties );
+        // NOTE: Integers are shown without any decimal places.
+        super( pUneditableRows, pAllowedToBeBlank, pClientProperties, 0 );
 
         cachedValue = new SimpleIntegerProperty( 0 );
-
-        // Make sure we show the integers in the default locale.
-        _numberFormat.setMaximumFractionDigits( 0 );
-        _numberFormat.setParseIntegerOnly( true );
     }
     
     @Override
@@ -70,12 +67,12 @@ public class IntegerEditorTableCell< RT, VT > extends NumberEditorTableCell< RT,
 
     @Override
     protected Integer getEditorValue() {
-        final String textValue = textField.getText();
+        final String textValue = getTextField().getText();
         if ( textValue == null ) {
             return null;
         }
         
-        final int intValue = ( ( IntegerEditor ) textField ).fromString( textValue );
+        final int intValue = ( ( IntegerEditor ) getTextField() ).fromString( textValue );
         
         return Integer.valueOf( intValue );
     }
@@ -90,7 +87,7 @@ public class IntegerEditorTableCell< RT, VT > extends NumberEditorTableCell< RT,
         // This text goes to the editor, so we don't want to clutter the user's
         // editing session with measurement units, but do need localization.
         final String stringValue 
-            = ( ( IntegerEditor ) textField ).toFormattedString( intValue );
+            = ( ( IntegerEditor ) getTextField() ).toFormattedString( intValue );
         
         return stringValue;
     }
@@ -102,7 +99,7 @@ public class IntegerEditorTableCell< RT, VT > extends NumberEditorTableCell< RT,
             return "";
         }
         
-        final String textValue = ( ( IntegerEditor ) textField ).toString( intValue );
+        final String textValue = toDisplayText( intValue.longValue() );
         
         return textValue;
     }
@@ -99,7 +99,7 @@ public class LabelEditorTableCell< RT, VT > extends EditorTableCell< RT, String
 
     @Override
     protected String getEditorValue() {
-        return textField.getText();
+        return getTextField().getText();
     }
 
     @Override
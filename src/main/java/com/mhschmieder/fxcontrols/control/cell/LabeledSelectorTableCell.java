@@ -0,0 +1,287 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control.cell;
+
+import com.mhschmieder.fxcontrols.control.ListViewUtilities;
+import com.mhschmieder.fxcontrols.control.XComboBox;
+import com.mhschmieder.jcommons.lang.Labeled;
+import com.mhschmieder.jcommons.util.ClientProperties;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TableView.TableViewSelectionModel;
+import javafx.scene.input.MouseButton;
+import javafx.util.StringConverter;
+
+/**
+ * This is a wrapper for the logic that is common to Table Cells that choose
+ * a value from a fixed set of {@link Labeled} values, such as enums.
+ * <p>
+ * Cells display the label of their value as plain text, so that scrolling
+ * costs the same as for a plain text column; the selector is only shown in the
+ * cell that is currently being edited, and is shared by all cells in the
+ * column, as only one cell edits at a time.
+ *
+ * @param <RT> The type of the table rows
+ * @param <VT> The type of the labeled values
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public abstract class LabeledSelectorTableCell< RT, VT extends Labeled< ? > >
+        extends XTableCell< RT, VT > {
+
+    // The key for sharing a column's selector in the column's properties.
+    private static final String SHARED_SELECTOR_KEY = "LabeledSelectorTableCell.sharedSelector"; //$NON-NLS-1$
+
+    // The amount by which the selector is narrower than the cell, to account
+    // for insets and margins.
+    private static final double CELL_INSET = 8.0d;
+
+    // The column's shared selector, which tracks the cell that is using it.
+    private SharedCellControl< XComboBox< VT > > sharedSelector;
+
+    // Cache the Table Column and selector settings for making the selector.
+    private final TableColumn< RT, VT > tableColumn;
+    private final String tooltipText;
+    private final ClientProperties clientProperties;
+    private final VT[] supportedValues;
+    private final VT defaultValue;
+
+    // NOTE: It is better to pass in the Table Column than to query at
+    // run-time, as the latter can result in null pointer exceptions during
+    // initialization, due to order-dependency.
+    protected LabeledSelectorTableCell( final TableColumn< RT, VT > column,
+                                        final String pTooltipText,
+                                        final ClientProperties pClientProperties,
+                                        final VT[] pSupportedValues,
+                                        final VT pDefaultValue ) {
+        // Always call the superclass constructor first!
+        super();
+
+        tableColumn = column;
+        tooltipText = pTooltipText;
+        clientProperties = pClientProperties;
+        supportedValues = pSupportedValues;
+        defaultValue = pDefaultValue;
+
+        // The selector to be used for actual editing is made lazily and
+        // shared per column, as most cells never edit.
+        sharedSelector = null;
+
+        try {
+            initTableCell( column );
+        }
+        catch ( final Exception e ) {
+            e.printStackTrace();
+        }
+    }
+
+    private void initTableCell( final TableColumn< RT, VT > column ) {
+        // It is safer to manually put the cell into editing mode, than to rely
+        // on the base class implementation (which requires the row to already
+        // be selected), as users expect a single click on the label to bring
+        // up the selector just as it would with an embedded selector.
+        setOnMouseClicked( mouseEvent -> {
+            if ( ( mouseEvent.getButton() != MouseButton.PRIMARY ) || isEmpty()
+                    || isEditing() || !column.isEditable() ) {
+                return;
+            }
+
+            final TableView< RT > tableView = getTableView();
+            if ( ( tableView == null ) || !tableView.isEditable() ) {
+                return;
+            }
+            final TableViewSelectionModel< RT > selectionModel = tableView.getSelectionModel();
+            final int selectedIndex = getTableRow().getIndex();
+            selectionModel.select( selectedIndex );
+            final int selectedIndexCorrected = selectionModel.getSelectedIndex();
+            tableView.edit( selectedIndexCorrected, column );
+        } );
+    }
+
+    /**
+     * Returns the selector for this cell's column, making and sharing it on
+     * first use.
+     *
+     * @return The selector for this cell's column
+     */
+    protected final XComboBox< VT > getSelector() {
+        if ( sharedSelector == null ) {
+            sharedSelector = SharedCellControl.forColumn( tableColumn,
+                                                          SHARED_SELECTOR_KEY,
+                                                          this::makeSelector,
+                                                          LabeledSelectorTableCell::initSharedSelector );
+        }
+
+        return sharedSelector.getControl();
+    }
+
+    // Returns true if this cell is the one that is using the shared selector.
+    private boolean isSelectorOwner() {
+        return ( sharedSelector != null ) && sharedSelector.isOwnedBy( this );
+    }
+
+    private XComboBox< VT > makeSelector() {
+        final XComboBox< VT > comboBox = ListViewUtilities.makeLabeledSelector(
+                clientProperties,
+                supportedValues,
+                tooltipText,
+                defaultValue );
+
+        comboBox.setEditable( false );
+
+        // NOTE: We are including a string converter due to errors occurring
+        //  during runtime that are thrown when setting the new value during
+        //  edit commits. This syntax must change once moving beyond Java 8.
+        comboBox.setConverter( new StringConverter< VT >() {
+            @Override
+            public String toString( final VT value ) {
+                return value == null ? "" : value.label();
+            }
+
+            @Override
+            public VT fromString( final String string ) {
+                // Find the value whose label matches.
+                for ( final VT value : supportedValues ) {
+                    if ( value.label().equals( string ) ) {
+                        return value;
+                    }
+                }
+                return defaultValue;
+            }
+        } );
+
+        comboBox.setMaxWidth( Double.MAX_VALUE );
+
+        comboBox.editableProperty().bind( tableColumn.editableProperty() );
+        comboBox.disableProperty().bind( tableColumn.editableProperty().not() );
+
+        return comboBox;
+    }
+
+    // NOTE: This is invoked once per shared selector, and the handlers always
+    //  act on the cell that most recently started editing with it.
+    private static < VT extends Labeled< ? > > void initSharedSelector( 
+            final SharedCellControl< XComboBox< VT > > selector ) {
+        // Register a callback to handle user choices.
+        final XComboBox< VT > comboBox = selector.getControl();
+        comboBox.setOnAction( event -> {
+            final TableCell< ?, ? > owner = selector.getOwner();
+            if ( owner instanceof LabeledSelectorTableCell ) {
+                @SuppressWarnings("unchecked") final LabeledSelectorTableCell< ?, VT > 
+                    selectorOwner = ( LabeledSelectorTableCell< ?, VT > ) owner;
+                selectorOwner.saveEdits( comboBox.getValue() );
+            }
+        } );
+
+        // End the edit if the choices are closed without choosing a value.
+        selector.cancelEditOnHidden();
+    }
+
+    /**
+     * Saves the value chosen in the selector.
+     * <p>
+     * By default the value is committed and synced to the property bean.
+     *
+     * @param value The value that was chosen in the selector
+     */
+    protected void saveEdits( final VT value ) {
+        setValue( value );
+    }
+
+    @Override
+    public void startEdit() {
+        super.startEdit();
+        if ( !isEditing() ) {
+            return;
+        }
+
+        // Sync the selector to the current value before taking it over, as
+        // the selector fires an action when its value changes, and that must
+        // not be mistaken for a choice made by the user.
+        final XComboBox< VT > comboBox = getSelector();
+        sharedSelector.release( sharedSelector.getOwner() );
+        comboBox.setValue( getItem() );
+
+        // Take over the column's selector for the duration of the edit, and
+        // show the choices once it has been laid out in the cell.
+        sharedSelector.attach( this, CELL_INSET );
+        sharedSelector.showPopupLater( this );
+    }
+
+    @Override
+    public void cancelEdit() {
+        super.cancelEdit();
+
+        // Hand the selector back, and go back to displaying the label.
+        releaseSelector();
+        updateLabel( getItem(), isEmpty() );
+    }
+
+    // Detaches the shared selector from this cell, if it is attached.
+    private void releaseSelector() {
+        if ( sharedSelector != null ) {
+            sharedSelector.release( this );
+        }
+    }
+
+    @Override
+    public void updateItem( final VT item, final boolean empty ) {
+        // Make sure the table cell knows the current state.
+        super.updateItem( item, empty );
+
+        // Keep showing the selector while this cell is being edited.
+        if ( !empty && isEditing() && isSelectorOwner() ) {
+            setText( null );
+            setGraphic( sharedSelector.getControl() );
+            return;
+        }
+
+        // Once editing has ended, the selector is no longer needed here.
+        releaseSelector();
+        updateLabel( item, empty );
+    }
+
+    // Displays the current state as the label of the value.
+    // NOTE: We avoid displaying anything in empty rows.
+    private void updateLabel( final VT item, final boolean empty ) {
+        setGraphic( null );
+
+        if ( empty || ( item == null ) ) {
+            setText( null );
+        }
+        else {
+            setText( item.label() );
+        }
+    }
+}
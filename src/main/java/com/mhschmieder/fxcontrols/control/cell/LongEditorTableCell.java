@@ -53,13 +53,10 @@ public class LongEditorTableCell< RT, VT > extends NumberEditorTableCell< RT, Lo
                                 final boolean pAllowedToBeBlank,
                                 final ClientProperties pClientProperties ) {
         // Always call the superclass constructor first!
-        super( pUneditableRows, pAllowedToBeBlank, pClientProperties );
+        // NOTE: Longs are shown without any decimal places.
+        super( pUneditableRows, pAllowedToBeBlank, pClientProperties, 0 );
 
         cachedValue = new SimpleLongProperty( 0L );
-
-        // Make sure we show the longs in the default locale.
-        _numberFormat.setMaximumFractionDigits( 0 );
-        _numberFormat.setParseIntegerOnly( true );
     }
     
     @Override
@@ -70,12 +67,12 @@ public class LongEditorTableCell< RT, VT > extends NumberEditorTableCell< RT, Lo
 
     @Override
     protected Long getEditorValue() {
-        final String textValue = textField.getText();
+        final String textValue = getTextField().getText();
         if ( textValue == null ) {
             return null;
         }
         
-        final long longValue = ( ( LongEditor ) textField ).fromString( textValue );
+        final long longValue = ( ( LongEditor ) getTextField() ).fromString( textValue );
         
         return Long.valueOf( longValue );
     }
@@ -90,7 +87,7 @@ public class LongEditorTableCell< RT, VT > extends NumberEditorTableCell< RT, Lo
         // This text goes to the editor, so we don't want to clutter the user's
         // editing session with measurement units, but do need localization.
         final String stringValue 
-            = ( ( LongEditor ) textField ).toFormattedString( longValue );
+            = ( ( LongEditor ) getTextField() ).toFormattedString( longValue );
         
         return stringValue;
     }
@@ -102,7 +99,7 @@ public class LongEditorTableCell< RT, VT > extends NumberEditorTableCell< RT, Lo
             return "";
         }
         
-        final String textValue = ( ( LongEditor ) textField ).toString( longValue );
+        final String textValue = toDisplayText( longValue.longValue() );
         
         return textValue;
     }
@@ -30,10 +30,11 @@
  */
 package com.mhschmieder.fxcontrols.control.cell;
 
+import com.mhschmieder.fxcontrols.util.NumberFormatRegistry;
+import com.mhschmieder.fxcontrols.util.SharedNumberFormat;
 import com.mhschmieder.jcommons.util.ClientProperties;
 import javafx.geometry.Pos;
 
-import java.text.NumberFormat;
 import java.util.List;
 
 public abstract class NumberEditorTableCell< RT, Number > extends EditorTableCell< RT, Number > {
@@ -42,7 +43,9 @@ public abstract class NumberEditorTableCell< RT, Number > extends EditorTableCel
     @SuppressWarnings("nls") protected String _measurementUnit = "";
 
     // Cache a number formatter for displaying the numeric values.
-    protected final NumberFormat              _numberFormat;
+    // NOTE: This is shared with all other cells that use the same format, via
+    //  the Number Format Registry, so is immutable.
+    protected final SharedNumberFormat        _numberFormat;
 
     public NumberEditorTableCell( final boolean pAllowedToBeBlank,
                                   final ClientProperties pClientProperties ) {
@@ -52,16 +55,33 @@ public abstract class NumberEditorTableCell< RT, Number > extends EditorTableCel
     public NumberEditorTableCell( final List< Integer > pUneditableRows,
                                   final boolean pAllowedToBeBlank,
                                   final ClientProperties pClientProperties ) {
+        this( pUneditableRows, 
+              pAllowedToBeBlank, 
+              pClientProperties, 
+              NumberFormatRegistry.DEFAULT_FRACTION_DIGITS );
+    }
+
+    protected NumberEditorTableCell( final List< Integer > pUneditableRows,
+                                     final boolean pAllowedToBeBlank,
+                                     final ClientProperties pClientProperties,
+                                     final int maximumFractionDigits ) {
         // Always call the superclass constructor first!
         super( pUneditableRows, pAllowedToBeBlank, pClientProperties );
 
         // Generally, we prefer numeric fields to be centered.
         setAlignment( Pos.CENTER );
 
-        // Make sure we show the numbers in the user's locale.
-        _numberFormat = NumberFormat.getNumberInstance( pClientProperties.locale );
-        _numberFormat.setMinimumFractionDigits( 0 );
-        _numberFormat.setMinimumIntegerDigits( 1 );
+        // Make sure we show the numbers in the user's locale, sharing the
+        // format with all other cells that use the same configuration.
+        // NOTE: Whole numbers are also parsed as whole numbers.
+        _numberFormat = NumberFormatRegistry.getSharedNumberFormat( 
+                pClientProperties.locale,
+                null,
+                0,
+                maximumFractionDigits,
+                true,
+                maximumFractionDigits == 0,
+                "" ); //$NON-NLS-1$
     }
 
     @Override
@@ -94,6 +114,18 @@ public abstract class NumberEditorTableCell< RT, Number > extends EditorTableCel
         return unadjustedValue;
     }
 
+    // Formats a number for display, with its measurement unit.
+    // NOTE: Most cells never edit, so this avoids making the column's editor
+    //  just to format the displayed text.
+    protected final String toDisplayText( final double value ) {
+        return _numberFormat.format( value ) + _measurementUnit;
+    }
+
+    // Formats a whole number for display, with its measurement unit.
+    protected final String toDisplayText( final long value ) {
+        return _numberFormat.format( value ) + _measurementUnit;
+    }
+
     public final void setMeasurementUnit( final String measurementUnit ) {
         _measurementUnit = measurementUnit;
     }
@@ -0,0 +1,278 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control.cell;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.scene.Scene;
+import javafx.scene.control.ComboBoxBase;
+import javafx.scene.control.Control;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.stage.Window;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * {@code SharedCellControl} is the editing control that is shared by all of
+ * the cells in a table column, as only one cell edits at a time, along with the
+ * cell that most recently started editing with it.
+ * <p>
+ * The control is kept in the column's properties, so that it is only made
+ * once per column, when a cell first needs it, and it is only attached to a
+ * cell while that cell is editing. Handlers that are installed on the control
+ * should act on its current owner, rather than on the cell that made it.
+ *
+ * @param <C>
+ *            The type of the shared control
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+final class SharedCellControl< C extends Control > {
+
+    /**
+     * The control that is shared by the cells of the column.
+     */
+    private final C control;
+
+    /**
+     * The cell that most recently started editing with the control, or
+     * {@code null} if it has been released.
+     */
+    private TableCell< ?, ? > owner;
+
+    /**
+     * Constructs a {@link SharedCellControl} for the specified control, which
+     * is not yet owned by any cell.
+     *
+     * @param pControl
+     *            The control to share
+     */
+    private SharedCellControl( final C pControl ) {
+        control = pControl;
+        owner = null;
+    }
+
+    /**
+     * Returns the shared control of the specified column, making it and
+     * sharing it via the column's properties on first use.
+     * <p>
+     * Cells that aren't attached to a column yet get a control of their own.
+     *
+     * @param <C>
+     *            The type of the shared control
+     * @param column
+     *            The column whose cells share the control, or {@code null}
+     * @param key
+     *            The key for the control in the column's properties
+     * @param controlFactory
+     *            The factory for the control, if it needs to be made
+     * @param controlInitializer
+     *            The initializer for the handlers of a newly made control
+     * @return The shared control of the specified column
+     *
+     * @since 1.0
+     */
+    @SuppressWarnings("unchecked")
+    static < C extends Control > SharedCellControl< C > forColumn( 
+            final TableColumn< ?, ? > column,
+            final String key,
+            final Supplier< C > controlFactory,
+            final Consumer< SharedCellControl< C > > controlInitializer ) {
+        final Object columnControl = ( column != null ) ? column.getProperties().get( key ) : null;
+        if ( columnControl instanceof SharedCellControl ) {
+            return ( SharedCellControl< C > ) columnControl;
+        }
+
+        final SharedCellControl< C > sharedControl = new SharedCellControl<>( controlFactory.get() );
+        controlInitializer.accept( sharedControl );
+        if ( column != null ) {
+            column.getProperties().put( key, sharedControl );
+        }
+
+        return sharedControl;
+    }
+
+    /**
+     * Returns the shared control.
+     *
+     * @return The shared control
+     *
+     * @since 1.0
+     */
+    C getControl() {
+        return control;
+    }
+
+    /**
+     * Returns the cell that most recently started editing with the control.
+     *
+     * @return The cell that most recently started editing with the control,
+     *         or {@code null} if it has been released
+     *
+     * @since 1.0
+     */
+    TableCell< ?, ? > getOwner() {
+        return owner;
+    }
+
+    /**
+     * Returns {@code true} if the specified cell is the one that is using the
+     * control.
+     *
+     * @param cell
+     *            The cell to check
+     * @return {@code true} if the specified cell is using the control
+     *
+     * @since 1.0
+     */
+    boolean isOwnedBy( final TableCell< ?, ? > cell ) {
+        return ( owner != null ) && ( owner == cell );
+    }
+
+    /**
+     * Hands the control to the specified cell for the duration of its edit,
+     * showing it in place of the cell's text.
+     *
+     * @param cell
+     *            The cell that is starting to edit
+     * @param widthInset
+     *            The amount by which the control is narrower than the cell,
+     *            to account for insets and margins
+     *
+     * @since 1.0
+     */
+    void attach( final TableCell< ?, ? > cell, final double widthInset ) {
+        owner = cell;
+
+        // Try to make the control fill the entire Table Cell.
+        // NOTE: Setting height causes incremental growth per click!
+        control.minWidthProperty().bind( cell.widthProperty().subtract( widthInset ) );
+
+        cell.setText( null );
+        cell.setGraphic( control );
+    }
+
+    /**
+     * Takes the control back from the specified cell, if it is attached to
+     * it, closing its pop-up if it has one.
+     *
+     * @param cell
+     *            The cell that is done editing
+     *
+     * @since 1.0
+     */
+    void release( final TableCell< ?, ? > cell ) {
+        if ( !isOwnedBy( cell ) ) {
+            return;
+        }
+
+        owner = null;
+        if ( control instanceof ComboBoxBase ) {
+            ( ( ComboBoxBase< ? > ) control ).hide();
+        }
+        control.minWidthProperty().unbind();
+    }
+
+    /**
+     * Shows the control's pop-up once the control has been laid out in the
+     * specified cell, as long as the edit wasn't ended or handed over in the
+     * meantime.
+     *
+     * @param cell
+     *            The cell that started editing
+     *
+     * @since 1.0
+     */
+    void showPopupLater( final TableCell< ?, ? > cell ) {
+        if ( !( control instanceof ComboBoxBase ) ) {
+            return;
+        }
+
+        Platform.runLater( () -> {
+            if ( cell.isEditing() && isOwnedBy( cell ) ) {
+                ( ( ComboBoxBase< ? > ) control ).show();
+            }
+        } );
+    }
+
+    /**
+     * Cancels the owner's edit when the control's pop-up closes without a
+     * choice having been made, as otherwise the cell would be left editing.
+     * <p>
+     * Choices commit the edit, which ends it, so this only cancels edits that
+     * are still going on once the pop-up has closed.
+     * <p>
+     * NOTE: Pop-ups may close in order to open a dialog, such as the custom
+     *  color dialog of a Color Picker, which takes the focus from the table's
+     *  window; the edit is kept open until the window gets the focus back, so
+     *  that a choice made in the dialog can still commit it.
+     *
+     * @since 1.0
+     */
+    void cancelEditOnHidden() {
+        final ComboBoxBase< ? > comboBox = ( ComboBoxBase< ? > ) control;
+        comboBox.setOnHidden( event -> {
+            final TableCell< ?, ? > hiddenOwner = owner;
+            if ( hiddenOwner != null ) {
+                Platform.runLater( () -> cancelAbandonedEdit( hiddenOwner ) );
+            }
+        } );
+    }
+
+    private void cancelAbandonedEdit( final TableCell< ?, ? > hiddenOwner ) {
+        if ( !isOwnedBy( hiddenOwner ) || !hiddenOwner.isEditing() 
+                || ( ( ComboBoxBase< ? > ) control ).isShowing() ) {
+            return;
+        }
+
+        final Scene scene = control.getScene();
+        final Window window = ( scene != null ) ? scene.getWindow() : null;
+        if ( ( window == null ) || window.isFocused() ) {
+            hiddenOwner.cancelEdit();
+            return;
+        }
+
+        window.focusedProperty().addListener( new InvalidationListener() {
+            @Override
+            public void invalidated( final Observable observable ) {
+                if ( window.isFocused() ) {
+                    window.focusedProperty().removeListener( this );
+                    Platform.runLater( () -> cancelAbandonedEdit( hiddenOwner ) );
+                }
+            }
+        } );
+    }
+}
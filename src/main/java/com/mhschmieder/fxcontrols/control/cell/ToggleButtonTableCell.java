@@ -31,7 +31,6 @@
 package com.mhschmieder.fxcontrols.control.cell;
 
 import com.mhschmieder.fxcontrols.control.ControlUtilities;
-import javafx.collections.ObservableList;
 import javafx.scene.control.ContentDisplay;
 import javafx.scene.control.TableRow;
 import javafx.scene.control.TableView;
@@ -162,14 +161,7 @@ public abstract class ToggleButtonTableCell< RT, VT > extends XCheckBoxTableCell
         // Save edits from the Toggle Button to the property bean.
         final TableView< RT > tableView = getTableView();
         final TableRow< RT > tableRow = getTableRow();
-        if ( tableRow != null ) {
-            final int selectedIndex = tableRow.getIndex();
-            final ObservableList< RT > items = tableView.getItems();
-            if ( !items.isEmpty() && ( selectedIndex >= 0 ) && ( selectedIndex < items.size() ) ) {
-                final RT selectedRecord = items.get( selectedIndex );
-                setBeanProperty( selectedRecord );
-            }
-        }
+        validateCellValue( tableView, tableRow );
     }
 
     @Override
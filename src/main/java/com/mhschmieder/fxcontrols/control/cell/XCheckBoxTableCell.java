@@ -49,4 +49,19 @@ public abstract class XCheckBoxTableCell< RT, VT >
         // NOTE: Generic check boxes may not need to validate selected values,
         //  so a default no-op implementation is provided in this base class.
     }
+
+    @Override
+    public Runnable prepareCommit( final RT selectedRecord ) {
+        // Capture the committed value now, as this cell may show another row
+        // by the time that a batched commit runs.
+        final Boolean committedValue = getItem();
+        return () -> setBeanProperty( selectedRecord, committedValue );
+    }
+
+    // Sets the bean property from the committed check box state, which is
+    // what batched commits call, as this cell may show another row by then.
+    protected void setBeanProperty( final RT selectedRecord, 
+                                    final Boolean committedValue ) {
+        setBeanProperty( selectedRecord );
+    }
 }
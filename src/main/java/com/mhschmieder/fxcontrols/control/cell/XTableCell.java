@@ -30,6 +30,7 @@
  */
 package com.mhschmieder.fxcontrols.control.cell;
 
+import com.mhschmieder.fxcontrols.control.XTableView;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableRow;
 import javafx.scene.control.TableView;
@@ -38,12 +39,23 @@ public abstract class XTableCell< RT, VT > extends TableCell< RT, VT >
     implements CellValidator< RT > {
 
     public void setValue( final VT editorValue ) {
+        // Commits are ignored once editing has ended, so are only recorded
+        // for undo and redo while still editing.
+        final boolean editing = isEditing();
+        final VT oldValue = getItem();
+
         // Commit the edited text to the table cell itself.
         commitEdit( editorValue );
 
         // Save edits from the table cell's controller to the property bean.
         final TableView< RT > tableView = getTableView();
         final TableRow< RT > tableRow = getTableRow();
+        if ( editing && ( tableView instanceof XTableView ) && ( tableRow != null ) ) {
+            ( ( XTableView< RT > ) tableView ).recordCellEdit( tableRow.getItem(),
+                                                              getTableColumn(),
+                                                              oldValue,
+                                                              editorValue );
+        }
         validateCellValue( tableView, tableRow );
     }
     
@@ -52,5 +64,30 @@ public abstract class XTableCell< RT, VT > extends TableCell< RT, VT >
         // NOTE: Generic cell editors may not need to validate edited values,
         //  so a default no-op implementation is provided in this base class.
     }
-}
 
+    @Override
+    public Runnable prepareCommit( final RT selectedRecord ) {
+        // Capture the committed value now, as this cell may show another row
+        // by the time that a batched commit runs.
+        final VT committedValue = getItem();
+        return () -> setBeanProperty( selectedRecord, committedValue );
+    }
+
+    /**
+     * Sets the observable property associated with this table cell, for the
+     * selected row, from the value that was committed to the cell.
+     * <p>
+     * NOTE: This is what batched commits call, so derived classes that read
+     *  the cell's value in {@link #setBeanProperty(Object)} should override
+     *  this to use the committed value instead, as by the time it is called
+     *  this cell may be showing another row. By default it simply calls
+     *  {@link #setBeanProperty(Object)}.
+     * 
+     * @param selectedRecord The record corresponding to the edited row
+     * @param committedValue The value that was committed to this cell
+     */
+    protected void setBeanProperty( final RT selectedRecord, 
+                                    final VT committedValue ) {
+        setBeanProperty( selectedRecord );
+    }
+}
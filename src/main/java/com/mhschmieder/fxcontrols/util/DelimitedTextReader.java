@@ -0,0 +1,210 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code DelimitedTextReader} reads rows of cells from CSV and related
+ * delimited text formats, one row at a time, so that large files can be
+ * consumed incrementally rather than being parsed into memory all at once.
+ * <p>
+ * Cells may be enclosed in double quotes, in which case they may contain the
+ * delimiter, line breaks, and doubled quotes that stand for a single quote.
+ * Lines may be terminated by LF, CR, or CR/LF.
+ * <p>
+ * NOTE: This class buffers its own input, so there is no benefit to wrapping
+ *  the supplied {@link Reader} in a {@link java.io.BufferedReader} first.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class DelimitedTextReader implements Closeable {
+
+    /**
+     * The size of the character buffer used to read ahead from the source.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The quote character used to enclose cells that contain special text.
+     */
+    private static final char QUOTE = '"';
+
+    /**
+     * The source of the delimited text.
+     */
+    private final Reader reader;
+
+    /**
+     * The character that separates the cells of a row.
+     */
+    private final char delimiter;
+
+    /**
+     * The read-ahead buffer, and the position and limit of its valid content.
+     */
+    private final char[] buffer;
+    private int bufferPosition;
+    private int bufferLimit;
+
+    /**
+     * The cell value that is currently being accumulated.
+     */
+    private final StringBuilder cellValue;
+
+    /**
+     * Constructs a {@link DelimitedTextReader} for the supplied source.
+     *
+     * @param pReader
+     *            The source of the delimited text
+     * @param pDelimiter
+     *            The character that separates the cells of a row
+     */
+    public DelimitedTextReader( final Reader pReader, final char pDelimiter ) {
+        reader = pReader;
+        delimiter = pDelimiter;
+
+        buffer = new char[ BUFFER_SIZE ];
+        bufferPosition = 0;
+        bufferLimit = 0;
+
+        cellValue = new StringBuilder( 64 );
+    }
+
+    /**
+     * Returns the next row of cells, or {@code null} at the end of the input.
+     *
+     * @return The next row of cells, or {@code null} at the end of the input
+     * @throws IOException
+     *             If the underlying source cannot be read
+     */
+    public List< String > readRow() throws IOException {
+        int c = read();
+        if ( c < 0 ) {
+            return null;
+        }
+
+        final List< String > row = new ArrayList<>();
+        cellValue.setLength( 0 );
+        boolean quoted = false;
+
+        while ( true ) {
+            if ( quoted ) {
+                if ( c < 0 ) {
+                    // Unterminated quotes run to the end of the input.
+                    row.add( cellValue.toString() );
+                    return row;
+                }
+
+                if ( c == QUOTE ) {
+                    // A doubled quote is an escaped quote; otherwise this
+                    // closes the quoted section and the next character is
+                    // processed as unquoted text.
+                    c = read();
+                    if ( c == QUOTE ) {
+                        cellValue.append( QUOTE );
+                        c = read();
+                    }
+                    else {
+                        quoted = false;
+                    }
+                    continue;
+                }
+
+                cellValue.append( ( char ) c );
+            }
+            else if ( ( c < 0 ) || ( c == '\n' ) ) {
+                row.add( cellValue.toString() );
+                return row;
+            }
+            else if ( c == '\r' ) {
+                // Swallow the LF of a CR/LF pair, but keep anything else.
+                if ( peek() == '\n' ) {
+                    bufferPosition++;
+                }
+                row.add( cellValue.toString() );
+                return row;
+            }
+            else if ( c == delimiter ) {
+                row.add( cellValue.toString() );
+                cellValue.setLength( 0 );
+            }
+            else if ( ( c == QUOTE ) && ( cellValue.length() == 0 ) ) {
+                quoted = true;
+            }
+            else {
+                cellValue.append( ( char ) c );
+            }
+
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if ( ( bufferPosition >= bufferLimit ) && !fill() ) {
+            return -1;
+        }
+
+        return buffer[ bufferPosition++ ];
+    }
+
+    private int peek() throws IOException {
+        if ( ( bufferPosition >= bufferLimit ) && !fill() ) {
+            return -1;
+        }
+
+        return buffer[ bufferPosition ];
+    }
+
+    private boolean fill() throws IOException {
+        int charsRead;
+        do {
+            charsRead = reader.read( buffer, 0, buffer.length );
+        }
+        while ( charsRead == 0 );
+
+        bufferPosition = 0;
+        bufferLimit = Math.max( 0, charsRead );
+
+        return charsRead > 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,328 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.List;
+
+/**
+ * {@code DelimitedTextWriter} writes rows of cells in CSV and related
+ * delimited text formats, one row at a time, directly to a byte channel, so
+ * that large tables can be exported without building the whole text first.
+ * <p>
+ * Cells that contain the delimiter, a quote, or a line break are enclosed in
+ * double quotes, with any quotes doubled, which is the format that {@link
+ * DelimitedTextReader} reads back in.
+ * <p>
+ * NOTE: This class buffers its own output, so the channel should be a plain
+ *  file channel or similar, rather than something that buffers again.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class DelimitedTextWriter implements Closeable {
+
+    /**
+     * The size of the buffers used to encode and write the text.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The quote character used to enclose cells that contain special text.
+     */
+    private static final char QUOTE = '"';
+
+    /**
+     * The destination of the delimited text.
+     */
+    private final WritableByteChannel channel;
+
+    /**
+     * The character that separates the cells of a row.
+     */
+    private final char delimiter;
+
+    /**
+     * The characters that end each row.
+     */
+    private final String lineSeparator;
+
+    /**
+     * The encoder for the character set of the delimited text.
+     */
+    private final CharsetEncoder encoder;
+
+    /**
+     * The text that is waiting to be encoded.
+     */
+    private final CharBuffer charBuffer;
+
+    /**
+     * The encoded text that is waiting to be written to the channel.
+     */
+    private final ByteBuffer byteBuffer;
+
+    /**
+     * Constructs a {@link DelimitedTextWriter} for the supplied destination,
+     * using the platform line separator.
+     *
+     * @param pChannel
+     *            The destination of the delimited text
+     * @param pDelimiter
+     *            The character that separates the cells of a row
+     * @param pCharset
+     *            The character set of the delimited text
+     */
+    public DelimitedTextWriter( final WritableByteChannel pChannel,
+                                final char pDelimiter,
+                                final Charset pCharset ) {
+        this( pChannel, pDelimiter, pCharset, System.lineSeparator() );
+    }
+
+    /**
+     * Constructs a {@link DelimitedTextWriter} for the supplied destination.
+     *
+     * @param pChannel
+     *            The destination of the delimited text
+     * @param pDelimiter
+     *            The character that separates the cells of a row
+     * @param pCharset
+     *            The character set of the delimited text
+     * @param pLineSeparator
+     *            The characters that end each row
+     */
+    public DelimitedTextWriter( final WritableByteChannel pChannel,
+                                final char pDelimiter,
+                                final Charset pCharset,
+                                final String pLineSeparator ) {
+        channel = pChannel;
+        delimiter = pDelimiter;
+        lineSeparator = pLineSeparator;
+
+        encoder = pCharset.newEncoder()
+                .onMalformedInput( CodingErrorAction.REPLACE )
+                .onUnmappableCharacter( CodingErrorAction.REPLACE );
+        charBuffer = CharBuffer.allocate( BUFFER_SIZE );
+        byteBuffer = ByteBuffer.allocateDirect( BUFFER_SIZE );
+    }
+
+    /**
+     * Writes the supplied row of cells, followed by the line separator.
+     *
+     * @param row
+     *            The cell values, in column order; {@code null} cells are
+     *            written as blank cells
+     * @throws IOException
+     *             If the underlying destination cannot be written
+     */
+    public void writeRow( final List< String > row ) throws IOException {
+        final int cellCount = row.size();
+        for ( int cellIndex = 0; cellIndex < cellCount; cellIndex++ ) {
+            if ( cellIndex > 0 ) {
+                write( delimiter );
+            }
+            writeCell( row.get( cellIndex ) );
+        }
+        write( lineSeparator );
+    }
+
+    /**
+     * Writes the supplied row of cells, followed by the line separator.
+     *
+     * @param row
+     *            The cell values, in column order; {@code null} cells are
+     *            written as blank cells
+     * @throws IOException
+     *             If the underlying destination cannot be written
+     */
+    public void writeRow( final String[] row ) throws IOException {
+        for ( int cellIndex = 0; cellIndex < row.length; cellIndex++ ) {
+            if ( cellIndex > 0 ) {
+                write( delimiter );
+            }
+            writeCell( row[ cellIndex ] );
+        }
+        write( lineSeparator );
+    }
+
+    /**
+     * Encodes and writes out any text that is still buffered, without closing
+     * the destination.
+     *
+     * @throws IOException
+     *             If the underlying destination cannot be written
+     */
+    public void flush() throws IOException {
+        encode( false );
+        drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            encode( true );
+            while ( encoder.flush( byteBuffer ).isOverflow() ) {
+                drain();
+            }
+            drain();
+        }
+        finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Appends the supplied cell value to the supplied text, enclosing it in
+     * double quotes if necessary, for callers that build delimited text in
+     * memory, such as for the clipboard.
+     *
+     * @param text
+     *            The text to append the cell value to
+     * @param cellValue
+     *            The cell value to append, or {@code null} for a blank cell
+     * @param delimiter
+     *            The character that separates the cells of a row
+     */
+    public static void appendCell( final StringBuilder text,
+                                   final String cellValue,
+                                   final char delimiter ) {
+        if ( ( cellValue == null ) || cellValue.isEmpty() ) {
+            return;
+        }
+
+        if ( !needsQuotes( cellValue, delimiter ) ) {
+            text.append( cellValue );
+            return;
+        }
+
+        text.append( QUOTE );
+        final int length = cellValue.length();
+        for ( int i = 0; i < length; i++ ) {
+            final char c = cellValue.charAt( i );
+            if ( c == QUOTE ) {
+                text.append( QUOTE );
+            }
+            text.append( c );
+        }
+        text.append( QUOTE );
+    }
+
+    private void writeCell( final String cellValue ) throws IOException {
+        if ( ( cellValue == null ) || cellValue.isEmpty() ) {
+            return;
+        }
+
+        if ( !needsQuotes( cellValue, delimiter ) ) {
+            write( cellValue );
+            return;
+        }
+
+        write( QUOTE );
+        final int length = cellValue.length();
+        for ( int i = 0; i < length; i++ ) {
+            final char c = cellValue.charAt( i );
+            if ( c == QUOTE ) {
+                write( QUOTE );
+            }
+            write( c );
+        }
+        write( QUOTE );
+    }
+
+    private static boolean needsQuotes( final String cellValue, final char delimiter ) {
+        final int length = cellValue.length();
+        for ( int i = 0; i < length; i++ ) {
+            final char c = cellValue.charAt( i );
+            if ( ( c == delimiter ) || ( c == QUOTE ) || ( c == '\n' ) || ( c == '\r' ) ) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void write( final char c ) throws IOException {
+        if ( !charBuffer.hasRemaining() ) {
+            encode( false );
+        }
+        charBuffer.put( c );
+    }
+
+    private void write( final String text ) throws IOException {
+        int offset = 0;
+        final int length = text.length();
+        while ( offset < length ) {
+            if ( !charBuffer.hasRemaining() ) {
+                encode( false );
+            }
+            final int count = Math.min( charBuffer.remaining(), length - offset );
+            charBuffer.put( text, offset, offset + count );
+            offset += count;
+        }
+    }
+
+    private void encode( final boolean endOfInput ) throws IOException {
+        charBuffer.flip();
+        while ( true ) {
+            final CoderResult result = encoder.encode( charBuffer, byteBuffer, endOfInput );
+            if ( result.isOverflow() ) {
+                drain();
+            }
+            else if ( result.isUnderflow() ) {
+                break;
+            }
+            else {
+                throw new CharacterCodingException();
+            }
+        }
+
+        // Keep any trailing high surrogate for the next round of encoding.
+        charBuffer.compact();
+    }
+
+    private void drain() throws IOException {
+        byteBuffer.flip();
+        while ( byteBuffer.hasRemaining() ) {
+            channel.write( byteBuffer );
+        }
+        byteBuffer.clear();
+    }
+}
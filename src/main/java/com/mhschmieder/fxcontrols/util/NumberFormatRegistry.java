@@ -0,0 +1,229 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.util;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@code NumberFormatRegistry} is a static registry of shared number
+ * formatting configurations, keyed by locale, pattern, fraction digits,
+ * grouping and measurement unit, so that the thousands of cells and editors
+ * in large tables don't each make and configure their own number formats.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class NumberFormatRegistry {
+
+    /**
+     * The fraction digits setting that leaves the locale's default in place.
+     */
+    public static final int DEFAULT_FRACTION_DIGITS = -1;
+
+    /**
+     * The shared formats, by their configuration.
+     */
+    private static final ConcurrentMap< FormatKey, SharedNumberFormat > SHARED_FORMATS = 
+            new ConcurrentHashMap<>();
+
+    /**
+     * The default constructor is disabled, as this is a static registry class.
+     */
+    private NumberFormatRegistry() {}
+
+    /**
+     * Returns the shared number format for the specified configuration.
+     *
+     * @param locale
+     *            The locale to format numbers for
+     * @param pattern
+     *            The decimal format pattern to apply, or {@code null} for the
+     *            locale's default number pattern
+     * @param minimumFractionDigits
+     *            The minimum number of fraction digits, or
+     *            {@link #DEFAULT_FRACTION_DIGITS} for the default
+     * @param maximumFractionDigits
+     *            The maximum number of fraction digits, or
+     *            {@link #DEFAULT_FRACTION_DIGITS} for the default
+     * @param groupingUsed
+     *            {@code true} if digits should be grouped (e.g. thousands)
+     * @param parseIntegerOnly
+     *            {@code true} if only integers should be parsed
+     * @param measurementUnit
+     *            The measurement unit to append to formatted numbers, which
+     *            can be blank
+     * @return The shared number format for the specified configuration
+     */
+    public static SharedNumberFormat getSharedNumberFormat( final Locale locale,
+                                                            final String pattern,
+                                                            final int minimumFractionDigits,
+                                                            final int maximumFractionDigits,
+                                                            final boolean groupingUsed,
+                                                            final boolean parseIntegerOnly,
+                                                            final String measurementUnit ) {
+        final FormatKey formatKey = new FormatKey( locale,
+                                                   pattern,
+                                                   minimumFractionDigits,
+                                                   maximumFractionDigits,
+                                                   groupingUsed,
+                                                   parseIntegerOnly,
+                                                   ( measurementUnit != null ) 
+                                                       ? measurementUnit 
+                                                       : "" ); //$NON-NLS-1$
+        return SHARED_FORMATS.computeIfAbsent( formatKey, NumberFormatRegistry::makeSharedNumberFormat );
+    }
+
+    /**
+     * Returns a new copy of the shared number format for the specified
+     * configuration, using the locale's default number pattern.
+     * <p>
+     * The returned format is owned by the caller, so can be modified; use
+     * {@link #getSharedNumberFormat} instead to share the format itself.
+     *
+     * @param locale
+     *            The locale to format numbers for
+     * @param minimumFractionDigits
+     *            The minimum number of fraction digits, or
+     *            {@link #DEFAULT_FRACTION_DIGITS} for the default
+     * @param maximumFractionDigits
+     *            The maximum number of fraction digits, or
+     *            {@link #DEFAULT_FRACTION_DIGITS} for the default
+     * @param groupingUsed
+     *            {@code true} if digits should be grouped (e.g. thousands)
+     * @param parseIntegerOnly
+     *            {@code true} if only integers should be parsed
+     * @return A new copy of the shared number format
+     */
+    public static NumberFormat getNumberFormat( final Locale locale,
+                                                final int minimumFractionDigits,
+                                                final int maximumFractionDigits,
+                                                final boolean groupingUsed,
+                                                final boolean parseIntegerOnly ) {
+        return getSharedNumberFormat( locale,
+                                      null,
+                                      minimumFractionDigits,
+                                      maximumFractionDigits,
+                                      groupingUsed,
+                                      parseIntegerOnly,
+                                      "" ).getNumberFormat(); //$NON-NLS-1$
+    }
+
+    private static SharedNumberFormat makeSharedNumberFormat( final FormatKey formatKey ) {
+        final NumberFormat numberFormat = NumberFormat.getNumberInstance( formatKey.locale );
+        if ( ( formatKey.pattern != null ) && ( numberFormat instanceof DecimalFormat ) ) {
+            ( ( DecimalFormat ) numberFormat ).applyPattern( formatKey.pattern );
+        }
+        if ( formatKey.minimumFractionDigits != DEFAULT_FRACTION_DIGITS ) {
+            numberFormat.setMinimumFractionDigits( formatKey.minimumFractionDigits );
+        }
+        if ( formatKey.maximumFractionDigits != DEFAULT_FRACTION_DIGITS ) {
+            numberFormat.setMaximumFractionDigits( formatKey.maximumFractionDigits );
+        }
+        numberFormat.setGroupingUsed( formatKey.groupingUsed );
+        numberFormat.setParseIntegerOnly( formatKey.parseIntegerOnly );
+
+        return new SharedNumberFormat( formatKey.locale, 
+                                       formatKey.measurementUnit, 
+                                       numberFormat );
+    }
+
+    /**
+     * The configuration that identifies a shared number format.
+     */
+    private static final class FormatKey {
+
+        private final Locale locale;
+
+        private final String pattern;
+
+        private final int minimumFractionDigits;
+
+        private final int maximumFractionDigits;
+
+        private final boolean groupingUsed;
+
+        private final boolean parseIntegerOnly;
+
+        private final String measurementUnit;
+
+        FormatKey( final Locale pLocale,
+                   final String pPattern,
+                   final int pMinimumFractionDigits,
+                   final int pMaximumFractionDigits,
+                   final boolean pGroupingUsed,
+                   final boolean pParseIntegerOnly,
+                   final String pMeasurementUnit ) {
+            locale = pLocale;
+            pattern = pPattern;
+            minimumFractionDigits = pMinimumFractionDigits;
+            maximumFractionDigits = pMaximumFractionDigits;
+            groupingUsed = pGroupingUsed;
+            parseIntegerOnly = pParseIntegerOnly;
+            measurementUnit = pMeasurementUnit;
+        }
+
+        @Override
+        public boolean equals( final Object other ) {
+            if ( this == other ) {
+                return true;
+            }
+            if ( !( other instanceof FormatKey ) ) {
+                return false;
+            }
+
+            final FormatKey otherKey = ( FormatKey ) other;
+            return locale.equals( otherKey.locale )
+                    && Objects.equals( pattern, otherKey.pattern )
+                    && ( minimumFractionDigits == otherKey.minimumFractionDigits )
+                    && ( maximumFractionDigits == otherKey.maximumFractionDigits )
+                    && ( groupingUsed == otherKey.groupingUsed )
+                    && ( parseIntegerOnly == otherKey.parseIntegerOnly )
+                    && measurementUnit.equals( otherKey.measurementUnit );
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash( locale,
+                                 pattern,
+                                 Integer.valueOf( minimumFractionDigits ),
+                                 Integer.valueOf( maximumFractionDigits ),
+                                 Boolean.valueOf( groupingUsed ),
+                                 Boolean.valueOf( parseIntegerOnly ),
+                                 measurementUnit );
+        }
+    }
+}
@@ -40,8 +40,37 @@ import javafx.scene.paint.LinearGradient;
 import javafx.scene.paint.Paint;
 import javafx.scene.paint.Stop;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
 public class RegionUtilities {
 
+    /**
+     * The maximum number of backgrounds that are kept in the shared cache.
+     */
+    private static final int MAXIMUM_CACHED_BACKGROUNDS = 256;
+
+    /**
+     * The shared backgrounds, by fill, corner radii and insets, in least
+     * recently used order.
+     * <p>
+     * NOTE: Backgrounds and their fills are immutable, so they can be shared
+     *  by any number of regions; this saves allocating new ones in methods
+     *  that are invoked on every cell update, such as while scrolling tables.
+     */
+    private static final Map< BackgroundKey, Background > BACKGROUNDS =
+            new LinkedHashMap< BackgroundKey, Background >(
+                    MAXIMUM_CACHED_BACKGROUNDS, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                        final Map.Entry< BackgroundKey, Background > eldest) {
+                    return size() > MAXIMUM_CACHED_BACKGROUNDS;
+                }
+            };
+
     /**
      * Returns a {@link Background} object designed to be passed to
      * {@code Region.setBackground()}
@@ -73,9 +102,7 @@ public class RegionUtilities {
      * {@code Region.setBackground()}
      */
     public static Background makeRegionBackground(final Paint fill, final CornerRadii radii) {
-        final BackgroundFill backgroundFill = new BackgroundFill(fill, radii, Insets.EMPTY);
-
-        return new Background(backgroundFill);
+        return makeRegionBackground(fill, radii, Insets.EMPTY);
     }
 
     /**
@@ -112,9 +139,17 @@ public class RegionUtilities {
     public static Background makeRegionBackground(final Paint fill,
                                                   final CornerRadii radii,
                                                   final Insets insets) {
-        final BackgroundFill backgroundFill = new BackgroundFill(fill, radii, insets);
+        final BackgroundKey backgroundKey = new BackgroundKey(fill, null, radii, insets);
+        synchronized (BACKGROUNDS) {
+            Background background = BACKGROUNDS.get(backgroundKey);
+            if (background == null) {
+                final BackgroundFill backgroundFill = new BackgroundFill(fill, radii, insets);
+                background = new Background(backgroundFill);
+                BACKGROUNDS.put(backgroundKey, background);
+            }
 
-        return new Background(backgroundFill);
+            return background;
+        }
     }
 
     /**
@@ -139,18 +174,7 @@ public class RegionUtilities {
      */
     public static Background makeRegionBackground(final Color backColor,
                                                   final Color gradientColor) {
-        final Stop[] stops = new Stop[]{
-                new Stop(0.0d, backColor),
-                new Stop(1.0d, gradientColor)};
-        final LinearGradient gradient = new LinearGradient(0.0d,
-                0.0d,
-                0.0d,
-                1.0d,
-                true,
-                CycleMethod.NO_CYCLE,
-                stops);
-
-        return makeRegionBackground(gradient);
+        return makeRegionBackground(backColor, gradientColor, CornerRadii.EMPTY, Insets.EMPTY);
     }
 
     /**
@@ -179,18 +203,32 @@ public class RegionUtilities {
                                                   final Color gradientColor,
                                                   final CornerRadii radii,
                                                   final Insets insets) {
-        final Stop[] stops = new Stop[]{
-                new Stop(0.0d, backColor),
-                new Stop(1.0d, gradientColor)};
-        final LinearGradient gradient = new LinearGradient(0.0d,
-                0.0d,
-                0.0d,
-                1.0d,
-                true,
-                CycleMethod.NO_CYCLE,
-                stops);
-
-        return makeRegionBackground(gradient, radii, insets);
+        // Look up the gradient by its colors, so that the gradient and its
+        // stops are only made the first time the combination is requested.
+        final BackgroundKey backgroundKey = new BackgroundKey(backColor,
+                gradientColor,
+                radii,
+                insets);
+        synchronized (BACKGROUNDS) {
+            Background background = BACKGROUNDS.get(backgroundKey);
+            if (background == null) {
+                final Stop[] stops = new Stop[]{
+                        new Stop(0.0d, backColor),
+                        new Stop(1.0d, gradientColor)};
+                final LinearGradient gradient = new LinearGradient(0.0d,
+                        0.0d,
+                        0.0d,
+                        1.0d,
+                        true,
+                        CycleMethod.NO_CYCLE,
+                        stops);
+                final BackgroundFill backgroundFill = new BackgroundFill(gradient, radii, insets);
+                background = new Background(backgroundFill);
+                BACKGROUNDS.put(backgroundKey, background);
+            }
+
+            return background;
+        }
     }
 
     /**
@@ -207,11 +245,60 @@ public class RegionUtilities {
      * @version 1.0
      */
     public static Background makeRegionBackground(final Color backColor) {
-        final BackgroundFill backgroundFill = new BackgroundFill(backColor,
-                CornerRadii.EMPTY,
-                Insets.EMPTY);
-        final Background background = new Background(backgroundFill);
+        return makeRegionBackground(backColor, CornerRadii.EMPTY, Insets.EMPTY);
+    }
+
+    /**
+     * Clears the shared cache of backgrounds, such as after a theme change
+     * that leaves most of the cached backgrounds unused.
+     */
+    public static void clearBackgroundCache() {
+        synchronized (BACKGROUNDS) {
+            BACKGROUNDS.clear();
+        }
+    }
+
+    /**
+     * The key for a shared background, which is either a plain fill or a
+     * vertical linear gradient from the fill to the gradient color, along with
+     * the corner radii and insets of the background.
+     */
+    private static final class BackgroundKey {
+
+        private final Paint fill;
+        private final Color gradientColor;
+        private final CornerRadii radii;
+        private final Insets insets;
+
+        BackgroundKey(final Paint pFill,
+                      final Color pGradientColor,
+                      final CornerRadii pRadii,
+                      final Insets pInsets) {
+            fill = pFill;
+            gradientColor = pGradientColor;
+            radii = pRadii;
+            insets = pInsets;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof BackgroundKey)) {
+                return false;
+            }
+
+            final BackgroundKey otherKey = (BackgroundKey) other;
+            return Objects.equals(fill, otherKey.fill)
+                    && Objects.equals(gradientColor, otherKey.gradientColor)
+                    && Objects.equals(radii, otherKey.radii)
+                    && Objects.equals(insets, otherKey.insets);
+        }
 
-        return background;
+        @Override
+        public int hashCode() {
+            return Objects.hash(fill, gradientColor, radii, insets);
+        }
     }
 }
@@ -0,0 +1,176 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.util;
+
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.Locale;
+
+/**
+ * {@code SharedNumberFormat} is one immutable number formatting configuration,
+ * as handed out by {@link NumberFormatRegistry}, that can be shared by any
+ * number of cells and editors.
+ * <p>
+ * As {@link NumberFormat} is neither immutable nor thread-safe, the configured
+ * format is kept as a private prototype, and each thread gets its own copy of
+ * it on first use, so formatting can also run off the JavaFX Application
+ * Thread safely.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class SharedNumberFormat {
+
+    /**
+     * The locale that the numbers are formatted for.
+     */
+    private final Locale locale;
+
+    /**
+     * The measurement unit to append to formatted numbers, which can be blank.
+     */
+    private final String measurementUnit;
+
+    /**
+     * The configured format, which is only ever copied, never used directly.
+     */
+    private final NumberFormat prototype;
+
+    /**
+     * The copy of the configured format for each thread that uses it.
+     */
+    private final ThreadLocal< NumberFormat > threadNumberFormat;
+
+    /**
+     * Constructs a {@link SharedNumberFormat} from a fully configured format.
+     *
+     * @param pLocale
+     *            The locale that the numbers are formatted for
+     * @param pMeasurementUnit
+     *            The measurement unit to append to formatted numbers, which can
+     *            be blank
+     * @param pPrototype
+     *            The configured format, which must not be modified afterwards
+     */
+    SharedNumberFormat( final Locale pLocale,
+                        final String pMeasurementUnit,
+                        final NumberFormat pPrototype ) {
+        locale = pLocale;
+        measurementUnit = pMeasurementUnit;
+        prototype = pPrototype;
+        threadNumberFormat = ThreadLocal
+                .withInitial( () -> ( NumberFormat ) prototype.clone() );
+    }
+
+    /**
+     * Returns the locale that the numbers are formatted for.
+     *
+     * @return The locale that the numbers are formatted for
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns the measurement unit to append to formatted numbers.
+     *
+     * @return The measurement unit to append to formatted numbers, which can be
+     *         blank
+     */
+    public String getMeasurementUnit() {
+        return measurementUnit;
+    }
+
+    /**
+     * Returns a new copy of the configured format, which the caller owns and
+     * can modify without affecting anything else that shares this format.
+     * <p>
+     * Use the formatting and parsing methods of this class directly wherever
+     * possible, as they don't make a copy per call.
+     *
+     * @return A new copy of the configured format
+     */
+    public NumberFormat getNumberFormat() {
+        return ( NumberFormat ) prototype.clone();
+    }
+
+    /**
+     * Returns the supplied number formatted per this configuration.
+     *
+     * @param number
+     *            The number to format
+     * @return The supplied number formatted per this configuration
+     */
+    public String format( final double number ) {
+        return threadNumberFormat.get().format( number );
+    }
+
+    /**
+     * Returns the supplied number formatted per this configuration.
+     *
+     * @param number
+     *            The number to format
+     * @return The supplied number formatted per this configuration
+     */
+    public String format( final long number ) {
+        return threadNumberFormat.get().format( number );
+    }
+
+    /**
+     * Returns the supplied number formatted per this configuration, followed
+     * by the measurement unit (if any).
+     *
+     * @param number
+     *            The number to format
+     * @return The supplied number formatted per this configuration, followed
+     *         by the measurement unit (if any)
+     */
+    public String formatWithUnit( final double number ) {
+        final String formattedNumber = format( number );
+        return measurementUnit.isEmpty() 
+            ? formattedNumber 
+            : formattedNumber + measurementUnit;
+    }
+
+    /**
+     * Returns the number parsed from the supplied text per this configuration.
+     *
+     * @param text
+     *            The text to parse
+     * @return The number parsed from the supplied text
+     * @throws ParseException
+     *             If the beginning of the text cannot be parsed
+     */
+    public Number parse( final String text ) throws ParseException {
+        return threadNumberFormat.get().parse( text );
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.util;
+
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code TextWidthCache} is a static cache of the rendered widths of strings,
+ * keyed by font and string, so that sizing code such as column auto-fit only
+ * pays for a full text layout the first time a given string is measured.
+ * <p>
+ * The widths are kept per font, in least recently used order, up to a bounded
+ * number of strings per font.
+ * <p>
+ * NOTE: Text layout is not thread safe, so this class must only be used on
+ *  the JavaFX Application Thread.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class TextWidthCache {
+
+    /**
+     * The maximum number of string widths that are kept per font.
+     */
+    private static final int MAXIMUM_CACHED_WIDTHS = 8192;
+
+    /**
+     * The cached string widths, by font and then by string.
+     */
+    private static final Map< Font, Map< String, Double > > TEXT_WIDTHS = new HashMap<>();
+
+    /**
+     * The text node that is used for measuring strings, made when first used.
+     */
+    private static Text textMeasurer;
+
+    /**
+     * The default constructor is disabled, as this is a static cache class.
+     */
+    private TextWidthCache() {}
+
+    /**
+     * Returns the width of the specified string when rendered in the specified
+     * font, measuring it only if it isn't already cached.
+     *
+     * @param font
+     *            The font that the string is rendered in
+     * @param text
+     *            The string to measure
+     * @return The width of the string in the font, in pixels
+     */
+    public static double getTextWidth( final Font font, final String text ) {
+        if ( ( text == null ) || text.isEmpty() ) {
+            return 0.0d;
+        }
+
+        final Map< String, Double > textWidths = TEXT_WIDTHS.computeIfAbsent( 
+                font, 
+                key -> new LinkedHashMap< String, Double >( 256, 0.75f, true ) {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected boolean removeEldestEntry( 
+                            final Map.Entry< String, Double > eldest ) {
+                        return size() > MAXIMUM_CACHED_WIDTHS;
+                    }
+                } );
+
+        final Double cachedWidth = textWidths.get( text );
+        if ( cachedWidth != null ) {
+            return cachedWidth.doubleValue();
+        }
+
+        if ( textMeasurer == null ) {
+            textMeasurer = new Text();
+        }
+        textMeasurer.setFont( font );
+        textMeasurer.setText( text );
+        final double textWidth = textMeasurer.getLayoutBounds().getWidth();
+
+        textWidths.put( text, Double.valueOf( textWidth ) );
+
+        return textWidth;
+    }
+
+    /**
+     * Discards all of the cached string widths, such as after a change of the
+     * fonts that are in use.
+     */
+    public static void clear() {
+        TEXT_WIDTHS.clear();
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javafx.application.Platform;
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.control.ScrollBar;
+
+/**
+ * Unit tests for {@link DataTablePane}, hosting a {@link DataTableView} along
+ * with its column scroll bar.
+ */
+final class DataTablePaneTest {
+
+    @BeforeAll
+    static void startToolkit() {
+        // Making the first JavaFX Panel starts the JavaFX Toolkit, which the
+        // table's controls need even though they are never shown.
+        new JFXPanel();
+    }
+
+    @Test
+    void hostsTheColumnScrollBarBelowTheTable() throws Exception {
+        runAndWait( () -> {
+            final DataTablePane dataTablePane = new DataTablePane();
+            final DataTableView tableView = dataTablePane.getDataTableView();
+            final ScrollBar columnScrollBar = tableView.getColumnScrollBar();
+
+            assertSame( tableView, dataTablePane.getCenter() );
+            assertSame( columnScrollBar, dataTablePane.getBottom() );
+            assertFalse( tableView.getChildrenUnmodifiable().contains( columnScrollBar ) );
+        } );
+    }
+
+    @Test
+    void onlyTakesUpRoomForTheColumnScrollBarWhileItIsShowing() throws Exception {
+        runAndWait( () -> {
+            final DataTablePane dataTablePane = new DataTablePane();
+            final ScrollBar columnScrollBar = dataTablePane.getDataTableView()
+                    .getColumnScrollBar();
+
+            columnScrollBar.setVisible( false );
+            assertFalse( columnScrollBar.isManaged() );
+
+            columnScrollBar.setVisible( true );
+            assertTrue( columnScrollBar.isManaged() );
+        } );
+    }
+
+    private static void runAndWait( final Runnable runnable ) throws Exception {
+        final CompletableFuture< Void > done = new CompletableFuture<>();
+        Platform.runLater( () -> {
+            try {
+                runnable.run();
+                done.complete( null );
+            }
+            catch ( final Throwable ex ) {
+                done.completeExceptionally( ex );
+            }
+        } );
+        done.get( 30L, TimeUnit.SECONDS );
+    }
+}
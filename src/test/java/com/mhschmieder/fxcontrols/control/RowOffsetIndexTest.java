@@ -0,0 +1,173 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link RowOffsetIndex}, including rows that span several
+ * blocks and the staleness checks on the persisted form.
+ */
+final class RowOffsetIndexTest {
+
+    // Enough rows to span several blocks of row offsets.
+    private static final int ROW_COUNT = 1000;
+
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    void startsEmpty() {
+        final RowOffsetIndex rowOffsetIndex = new RowOffsetIndex();
+
+        assertEquals( 0, rowOffsetIndex.getRowCount() );
+        assertEquals( 0, rowOffsetIndex.getColumnCount() );
+    }
+
+    @Test
+    void returnsRowBoundariesAcrossBlocks() throws IOException {
+        final RowOffsetIndex rowOffsetIndex = makeIndex();
+
+        assertEquals( ROW_COUNT, rowOffsetIndex.getRowCount() );
+        long rowStart = 0L;
+        for ( int rowIndex = 0; rowIndex < ROW_COUNT; rowIndex++ ) {
+            final long rowEnd = rowStart + getRowLength( rowIndex );
+            assertEquals( rowStart, rowOffsetIndex.getRowStart( rowIndex ) );
+            assertEquals( rowEnd, rowOffsetIndex.getRowEnd( rowIndex ) );
+            rowStart = rowEnd;
+        }
+    }
+
+    @Test
+    void keepsTheWidestColumnCount() {
+        final RowOffsetIndex rowOffsetIndex = new RowOffsetIndex();
+        rowOffsetIndex.updateColumnCount( 3 );
+        rowOffsetIndex.updateColumnCount( 7 );
+        rowOffsetIndex.updateColumnCount( 5 );
+
+        assertEquals( 7, rowOffsetIndex.getColumnCount() );
+    }
+
+    @Test
+    void rejectsBlocksThatAreTooLongToIndex() throws IOException {
+        final RowOffsetIndex rowOffsetIndex = new RowOffsetIndex();
+        rowOffsetIndex.addBoundary( 0L );
+
+        assertThrows( IOException.class, 
+                      () -> rowOffsetIndex.addBoundary( Integer.MAX_VALUE + 1L ) );
+    }
+
+    @Test
+    void readsBackWhatWasWritten() throws IOException {
+        final File dataFile = makeDataFile();
+        final File indexFile = tempDirectory.resolve( "data.idx" ).toFile(); //$NON-NLS-1$
+        final RowOffsetIndex rowOffsetIndex = makeIndex();
+        rowOffsetIndex.updateColumnCount( 4 );
+        rowOffsetIndex.write( indexFile, dataFile, ',' );
+
+        final RowOffsetIndex readIndex = RowOffsetIndex.read( indexFile, dataFile, ',' );
+
+        assertNotNull( readIndex );
+        assertEquals( ROW_COUNT, readIndex.getRowCount() );
+        assertEquals( 4, readIndex.getColumnCount() );
+        for ( int rowIndex = 0; rowIndex < ROW_COUNT; rowIndex++ ) {
+            assertEquals( rowOffsetIndex.getRowStart( rowIndex ), 
+                          readIndex.getRowStart( rowIndex ) );
+            assertEquals( rowOffsetIndex.getRowEnd( rowIndex ), 
+                          readIndex.getRowEnd( rowIndex ) );
+        }
+    }
+
+    @Test
+    void ignoresIndexForAnotherDelimiter() throws IOException {
+        final File dataFile = makeDataFile();
+        final File indexFile = tempDirectory.resolve( "data.idx" ).toFile(); //$NON-NLS-1$
+        makeIndex().write( indexFile, dataFile, ',' );
+
+        assertNull( RowOffsetIndex.read( indexFile, dataFile, '\t' ) );
+    }
+
+    @Test
+    void ignoresIndexOfModifiedDataFile() throws IOException {
+        final File dataFile = makeDataFile();
+        final File indexFile = tempDirectory.resolve( "data.idx" ).toFile(); //$NON-NLS-1$
+        makeIndex().write( indexFile, dataFile, ',' );
+
+        Files.write( dataFile.toPath(), 
+                     "more\n".getBytes( StandardCharsets.US_ASCII ), //$NON-NLS-1$
+                     StandardOpenOption.APPEND );
+
+        assertNull( RowOffsetIndex.read( indexFile, dataFile, ',' ) );
+    }
+
+    @Test
+    void ignoresMissingIndexFile() throws IOException {
+        final File indexFile = tempDirectory.resolve( "missing.idx" ).toFile(); //$NON-NLS-1$
+
+        assertNull( RowOffsetIndex.read( indexFile, makeDataFile(), ',' ) );
+    }
+
+    private static int getRowLength( final int rowIndex ) {
+        return ( rowIndex % 7 ) + 1;
+    }
+
+    private static RowOffsetIndex makeIndex() throws IOException {
+        final RowOffsetIndex rowOffsetIndex = new RowOffsetIndex();
+        long offset = 0L;
+        rowOffsetIndex.addBoundary( offset );
+        for ( int rowIndex = 0; rowIndex < ROW_COUNT; rowIndex++ ) {
+            offset += getRowLength( rowIndex );
+            rowOffsetIndex.addBoundary( offset );
+        }
+
+        return rowOffsetIndex;
+    }
+
+    private File makeDataFile() throws IOException {
+        final Path dataFile = tempDirectory.resolve( "data.csv" ); //$NON-NLS-1$
+        Files.write( dataFile, "a,b\nc,d\n".getBytes( StandardCharsets.US_ASCII ) ); //$NON-NLS-1$
+
+        return dataFile.toFile();
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.embed.swing.JFXPanel;
+
+/**
+ * Unit tests for {@link TableEditJournal}, driven through the row deletion of
+ * a {@link DynamicXTableView}, with rows that are not contiguous.
+ */
+final class TableEditJournalTest {
+
+    private final RowTableView tableView;
+    private final TableEditJournal< String > editJournal;
+
+    @BeforeAll
+    static void startToolkit() {
+        // Making the first JavaFX Panel starts the JavaFX Toolkit, which the
+        // table view needs even though it is never shown.
+        new JFXPanel();
+    }
+
+    TableEditJournalTest() {
+        tableView = new RowTableView();
+        tableView.setItems( FXCollections.observableArrayList( 
+                "a", "b", "c", "d", "e", "f" ) ); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+        editJournal = tableView.getEditJournal();
+    }
+
+    @Test
+    void historyIsOffUntilGivenABudget() {
+        final XTableView< String > plainTableView = new XTableView<>();
+        assertNull( plainTableView.getEditJournal() );
+        assertFalse( plainTableView.undoEdit() );
+
+        plainTableView.setEditHistoryBudget( 1024L );
+        assertEquals( 1024L, plainTableView.getEditHistoryBudget() );
+    }
+
+    @Test
+    void removesNonContiguousRowsInOneEdit() {
+        tableView.deleteTableRows( new int[] { 4, 1, 3 } );
+
+        assertItems( "a", "c", "f" ); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        assertTrue( editJournal.undoAvailableProperty().get() );
+    }
+
+    @Test
+    void undoPutsNonContiguousRowsBackInPlace() {
+        tableView.deleteTableRows( new int[] { 4, 1, 3 } );
+
+        assertTrue( editJournal.undo() );
+
+        assertItems( "a", "b", "c", "d", "e", "f" ); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+        assertFalse( editJournal.undoAvailableProperty().get() );
+        assertTrue( editJournal.redoAvailableProperty().get() );
+    }
+
+    @Test
+    void redoRemovesTheSameRowsAfterTheyWereSorted() {
+        tableView.deleteTableRows( new int[] { 1, 3 } );
+        editJournal.undo();
+        FXCollections.sort( tableView.getItems(), Collections.reverseOrder() );
+
+        assertTrue( editJournal.redo() );
+
+        assertItems( "f", "e", "c", "a" ); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+    }
+
+    @Test
+    void undoRestoresTheEditabilityOfRemovedRows() {
+        final TableEditabilityPolicy< String > editabilityPolicy = 
+                tableView.getEditabilityPolicy();
+        editabilityPolicy.setRowsEditable( 3, 4, false );
+
+        tableView.deleteTableRows( new int[] { 1, 3 } );
+        for ( int rowIndex = 0; rowIndex < tableView.getItems().size(); rowIndex++ ) {
+            assertTrue( editabilityPolicy.isEditable( rowIndex, null ) );
+        }
+
+        editJournal.undo();
+
+        assertTrue( editabilityPolicy.isEditable( 1, null ) );
+        assertFalse( editabilityPolicy.isEditable( 3, null ) );
+        assertTrue( editabilityPolicy.isEditable( 4, null ) );
+    }
+
+    @Test
+    void undoesAndRedoesRepeatedly() {
+        tableView.deleteTableRows( new int[] { 0, 2, 5 } );
+        editJournal.undo();
+        editJournal.redo();
+        editJournal.undo();
+
+        assertItems( "a", "b", "c", "d", "e", "f" ); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+    }
+
+    private void assertItems( final String... expectedItems ) {
+        assertEquals( Arrays.asList( expectedItems ), tableView.getItems() );
+    }
+
+    // A table of plain strings, which is only ever added to by undo.
+    private static final class RowTableView extends DynamicXTableView< String > {
+
+        @Override
+        protected int addItemAt( final int insertIndex,
+                                 final int minimumInsertIndex,
+                                 final int maximumInsertIndex,
+                                 final int maximumLastRowIndex ) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TableColumn;
+
+/**
+ * Unit tests for {@link TableEditabilityPolicy}, checking that the row flags
+ * stay with their rows as rows are inserted, removed, moved and sorted.
+ */
+final class TableEditabilityPolicyTest {
+
+    private final ObservableList< String > items;
+    private final TableEditabilityPolicy< String > policy;
+
+    TableEditabilityPolicyTest() {
+        items = FXCollections.observableArrayList( "a", "b", "c", "d", "e" ); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+        policy = new TableEditabilityPolicy<>();
+        items.addListener( policy::itemsChanged );
+    }
+
+    @Test
+    void shiftsFlagsDownWhenRowsAreInserted() {
+        policy.setRowsEditable( 1, 2, false );
+
+        items.add( 0, "z" ); //$NON-NLS-1$
+
+        assertUneditableRows( 2 );
+    }
+
+    @Test
+    void dropsFlagsOfRemovedRows() {
+        policy.setRowsEditable( Arrays.asList( 1, 3 ), false );
+
+        items.remove( 1 );
+
+        assertUneditableRows( 2 );
+    }
+
+    @Test
+    void keepsFlagsAcrossNonContiguousRemovals() {
+        policy.setRowsEditable( 2, 3, false );
+
+        items.removeAll( "b", "d" ); //$NON-NLS-1$ //$NON-NLS-2$
+
+        assertUneditableRows( 1 );
+    }
+
+    @Test
+    void movesFlagsWithSortedRows() {
+        policy.setRowsEditable( 1, 2, false );
+
+        FXCollections.sort( items, Collections.reverseOrder() );
+
+        assertUneditableRows( 3 );
+    }
+
+    @Test
+    void movesFlagsWithRowsThatAreReplacedInOneChange() {
+        policy.setRowsEditable( Arrays.asList( 1, 4 ), false );
+
+        // Moving a block of rows replaces the items in a single change.
+        items.setAll( "a", "c", "d", "b", "e" ); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+
+        assertUneditableRows( 3, 4 );
+    }
+
+    @Test
+    void movesColumnFlagsWithTheirRows() {
+        final TableColumn< String, String > column = new TableColumn<>();
+        final TableColumn< String, String > otherColumn = new TableColumn<>();
+        policy.setRowsEditable( column, 3, 4, false );
+
+        items.remove( 0 );
+
+        assertFalse( policy.isEditable( 2, column ) );
+        assertTrue( policy.isEditable( 2, otherColumn ) );
+        assertTrue( policy.isEditable( 3, column ) );
+    }
+
+    @Test
+    void restoresCopiedFlagsAtNewIndices() {
+        policy.setRowsEditable( 3, 4, false );
+
+        final TableEditabilityPolicy< String > rowFlags = policy.copyRowFlags( new int[] { 1, 3 } );
+        policy.clear();
+        policy.restoreRowFlags( rowFlags, new int[] { 0, 2 } );
+
+        assertUneditableRows( 2 );
+    }
+
+    @Test
+    void copiesNoFlagsForEditableRows() {
+        policy.setRowsEditable( 3, 4, false );
+
+        assertNull( policy.copyRowFlags( new int[] { 0, 1, -1 } ) );
+    }
+
+    private void assertUneditableRows( final int... uneditableRows ) {
+        final BitSet expectedRows = new BitSet();
+        for ( final int rowIndex : uneditableRows ) {
+            expectedRows.set( rowIndex );
+        }
+
+        for ( int rowIndex = 0; rowIndex < items.size(); rowIndex++ ) {
+            assertEquals( !expectedRows.get( rowIndex ),
+                          policy.isEditable( rowIndex, null ),
+                          "row " + rowIndex ); //$NON-NLS-1$
+        }
+    }
+}
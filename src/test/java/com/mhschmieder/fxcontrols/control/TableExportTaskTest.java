@@ -0,0 +1,135 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.embed.swing.JFXPanel;
+
+/**
+ * Unit tests for {@link TableExportTask}, exporting a {@link DataTableView}
+ * with and without its wide table mode.
+ */
+final class TableExportTaskTest {
+
+    // Far more columns than are materialized in wide table mode.
+    private static final int COLUMN_COUNT = 40;
+
+    private static final int ROW_COUNT = 3;
+
+    @TempDir
+    Path tempDirectory;
+
+    @BeforeAll
+    static void startToolkit() {
+        // Making the first JavaFX Panel starts the JavaFX Toolkit, which the
+        // export needs to gather the cell values.
+        new JFXPanel();
+    }
+
+    @Test
+    void exportsEveryVisibleColumn() throws Exception {
+        final DataTableView tableView = makeTableView();
+
+        assertEquals( makeExpectedLines(), export( tableView ) );
+    }
+
+    @Test
+    void exportsEveryDataColumnInWideTableMode() throws Exception {
+        final DataTableView tableView = makeTableView();
+        tableView.setWideTableMode( true, 1 );
+
+        assertEquals( makeExpectedLines(), export( tableView ) );
+    }
+
+    private List< String > export( final DataTableView tableView ) throws Exception {
+        final File file = tempDirectory.resolve( "export.csv" ).toFile(); //$NON-NLS-1$
+        final TableExportTask< ? > task = new TableExportTask<>( tableView,
+                                                                 file,
+                                                                 ',',
+                                                                 StandardCharsets.UTF_8,
+                                                                 true );
+        task.run();
+        assertEquals( ROW_COUNT, task.get().intValue() );
+
+        return readLines( file );
+    }
+
+    private static DataTableView makeTableView() {
+        final Collection< Collection< String > > dataRows = new ArrayList<>();
+        for ( int rowIndex = 0; rowIndex < ROW_COUNT; rowIndex++ ) {
+            final List< String > dataRow = new ArrayList<>();
+            for ( int columnIndex = 0; columnIndex < COLUMN_COUNT; columnIndex++ ) {
+                dataRow.add( "r" + rowIndex + "c" + columnIndex ); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            dataRows.add( dataRow );
+        }
+
+        final DataTableView tableView = new DataTableView();
+        tableView.updateTableView( dataRows );
+        return tableView;
+    }
+
+    private static List< String > makeExpectedLines() {
+        final List< String > lines = new ArrayList<>();
+        final StringBuilder line = new StringBuilder();
+        for ( int columnIndex = 0; columnIndex < COLUMN_COUNT; columnIndex++ ) {
+            line.append( ( columnIndex > 0 ) ? "," : "" ).append( columnIndex + 1 ); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        lines.add( line.toString() );
+        for ( int rowIndex = 0; rowIndex < ROW_COUNT; rowIndex++ ) {
+            line.setLength( 0 );
+            for ( int columnIndex = 0; columnIndex < COLUMN_COUNT; columnIndex++ ) {
+                line.append( ( columnIndex > 0 ) ? "," : "" ) //$NON-NLS-1$ //$NON-NLS-2$
+                        .append( "r" ).append( rowIndex ).append( "c" ).append( columnIndex ); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            lines.add( line.toString() );
+        }
+        return lines;
+    }
+
+    private static List< String > readLines( final File file ) throws IOException {
+        return Files.readAllLines( file.toPath(), StandardCharsets.UTF_8 );
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TableFilterIndex}, covering both the trigram search
+ * for longer queries and the scan for queries that are shorter than a trigram.
+ */
+final class TableFilterIndexTest {
+
+    private final TableFilterIndex filterIndex;
+
+    TableFilterIndexTest() {
+        filterIndex = new TableFilterIndex( new String[][] {
+            { "Alpha", "Beta", "Gamma", null }, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            { "one", "two", "three", "xalphxpha" } } ); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+    }
+
+    @Test
+    void matchesSubstringsIgnoringCase() {
+        assertArrayEquals( new int[] { 0, 3 }, filterIndex.query( "ALP" ) ); //$NON-NLS-1$
+        assertArrayEquals( new int[] { 1 }, filterIndex.query( "eta" ) ); //$NON-NLS-1$
+        assertArrayEquals( new int[] { 2 }, filterIndex.query( "gAm" ) ); //$NON-NLS-1$
+    }
+
+    @Test
+    void rejectsRowsThatOnlyContainTheTrigrams() {
+        // The last row has every trigram of "alpha", but not the whole word.
+        assertArrayEquals( new int[] { 0 }, filterIndex.query( "alpha" ) ); //$NON-NLS-1$
+    }
+
+    @Test
+    void scansForShortQueries() {
+        assertArrayEquals( new int[] { 1, 2 }, filterIndex.query( "t" ) ); //$NON-NLS-1$
+        assertArrayEquals( new int[] { 0, 3 }, filterIndex.query( "Ha" ) ); //$NON-NLS-1$
+        assertArrayEquals( new int[] { 0, 1, 2, 3 }, filterIndex.query( "" ) ); //$NON-NLS-1$
+    }
+
+    @Test
+    void restrictsQueriesToTheRequestedColumn() {
+        assertArrayEquals( new int[] { 2 }, filterIndex.query( "thr", 1 ) ); //$NON-NLS-1$
+        assertArrayEquals( new int[] {}, filterIndex.query( "thr", 0 ) ); //$NON-NLS-1$
+        assertArrayEquals( new int[] { 3 }, filterIndex.query( "lph", 1 ) ); //$NON-NLS-1$
+    }
+
+    @Test
+    void tracksRowPositionsAcrossInsertionsAndRemovals() {
+        filterIndex.insertRows( 1, new String[][] { { "Alphabet" }, { "four" } } ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( 5, filterIndex.getRowCount() );
+        assertArrayEquals( new int[] { 0, 1 }, filterIndex.query( "alph", 0 ) ); //$NON-NLS-1$
+        assertArrayEquals( new int[] { 3 }, filterIndex.query( "gam" ) ); //$NON-NLS-1$
+
+        filterIndex.removeRows( 0, 1 );
+        assertEquals( 4, filterIndex.getRowCount() );
+        assertArrayEquals( new int[] { 0 }, filterIndex.query( "alph", 0 ) ); //$NON-NLS-1$
+        assertArrayEquals( new int[] { 2 }, filterIndex.query( "gam" ) ); //$NON-NLS-1$
+        assertArrayEquals( new int[] { 0 }, filterIndex.query( "four" ) ); //$NON-NLS-1$
+    }
+
+    @Test
+    void reportsWhenMostRowsHaveBeenRemoved() {
+        filterIndex.removeRows( 2, 4 );
+        assertFalse( filterIndex.isMostlyRemoved() );
+
+        filterIndex.removeRows( 0, 1 );
+        assertTrue( filterIndex.isMostlyRemoved() );
+        assertArrayEquals( new int[] { 0 }, filterIndex.query( "two" ) ); //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.control;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TableRowDiff}, with each difference written as a
+ * script of run types and lengths, such as "K2 R1 I1" for two kept rows, one
+ * removed row and one inserted row.
+ */
+final class TableRowDiffTest {
+
+    @Test
+    void keepsIdenticalRows() {
+        final TableRowDiff rowDiff = diff( model( "a", "b", "c" ),
+                                           model( "a", "b", "c" ),
+                                           -1 );
+
+        assertTrue( rowDiff.isEmpty() );
+        assertEquals( "K3", script( rowDiff ) ); //$NON-NLS-1$
+    }
+
+    @Test
+    void pairsUnmatchedRowsInTheSameGapAsUpdates() {
+        final TableRowDiff rowDiff = diff( model( "a", "b", "c", "d" ),
+                                           model( "a", "x", "y", "z", "d" ),
+                                           -1 );
+
+        assertEquals( "K1 U2 I1 K1", script( rowDiff ) ); //$NON-NLS-1$
+        assertEquals( 3, rowDiff.getChangedRowCount() );
+    }
+
+    @Test
+    void updatesRowsWhoseKeyMatchesButContentsChanged() {
+        final TableRowDiff rowDiff = diff( model( "1,a", "2,b", "3,c" ),
+                                           model( "1,a", "2,B", "3,c" ),
+                                           0 );
+
+        assertEquals( "K1 U1 K1", script( rowDiff ) ); //$NON-NLS-1$
+        assertEquals( 1, rowDiff.getChangedRowCount() );
+    }
+
+    @Test
+    void removesAndInsertsRowsBetweenKeptRows() {
+        final TableRowDiff rowDiff = diff( model( "a", "b", "c", "d", "e" ),
+                                           model( "a", "c", "d", "f", "e" ),
+                                           -1 );
+
+        assertEquals( "K1 R1 K2 I1 K1", script( rowDiff ) ); //$NON-NLS-1$
+        assertEquals( 2, rowDiff.getChangedRowCount() );
+        assertEquals( 4, rowDiff.getNewRowIndex( 4 ) );
+    }
+
+    @Test
+    void keepsTheLongestRunOfOrderedMatchesWhenRowsMove() {
+        // Only the moved row falls outside the longest increasing run.
+        final TableRowDiff rowDiff = diff( model( "a", "b", "c", "d" ),
+                                           model( "b", "c", "d", "a" ),
+                                           -1 );
+
+        assertEquals( "R1 K3 I1", script( rowDiff ) ); //$NON-NLS-1$
+        assertEquals( 0, rowDiff.getNewRowIndex( 0 ) );
+        assertEquals( 1, rowDiff.getNewRowIndex( 2 ) );
+        assertEquals( 2, rowDiff.getNewRowIndex( 3 ) );
+    }
+
+    @Test
+    void matchesDuplicateRowsFirstComeFirstServed() {
+        final TableRowDiff rowDiff = diff( model( "x", "x", "y" ),
+                                           model( "x", "y" ),
+                                           -1 );
+
+        assertEquals( "K1 R1 K1", script( rowDiff ) ); //$NON-NLS-1$
+    }
+
+    @Test
+    void onlyComparesTheRequestedOldRows() {
+        final TextTableModel oldModel = model( "a", "b", "c" );
+        final TableRowDiff rowDiff = TableRowDiff.compute( oldModel,
+                                                           2,
+                                                           model( "a", "b" ),
+                                                           -1,
+                                                           () -> false );
+
+        assertNotNull( rowDiff );
+        assertTrue( rowDiff.isEmpty() );
+        assertEquals( 2, rowDiff.getOldRowCount() );
+    }
+
+    @Test
+    void returnsNullWhenCancelled() {
+        final TextTableModel oldModel = model( "a", "b" );
+        assertNull( TableRowDiff.compute( oldModel,
+                                          oldModel.getRowCount(),
+                                          model( "b", "a" ),
+                                          -1,
+                                          () -> true ) );
+    }
+
+    private static TableRowDiff diff( final TextTableModel oldModel,
+                                      final TextTableModel newModel,
+                                      final int keyColumn ) {
+        return TableRowDiff.compute( oldModel,
+                                     oldModel.getRowCount(),
+                                     newModel,
+                                     keyColumn,
+                                     () -> false );
+    }
+
+    private static String script( final TableRowDiff rowDiff ) {
+        final StringBuilder script = new StringBuilder();
+        for ( int runIndex = 0; runIndex < rowDiff.getRunCount(); runIndex++ ) {
+            if ( runIndex > 0 ) {
+                script.append( ' ' );
+            }
+            script.append( "KURI".charAt( rowDiff.getRunType( runIndex ) ) ); //$NON-NLS-1$
+            script.append( rowDiff.getRunLength( runIndex ) );
+        }
+
+        return script.toString();
+    }
+
+    // Makes a model from rows of comma-separated cells.
+    private static TextTableModel model( final String... rows ) {
+        final String[][] cells = new String[ rows.length ][];
+        for ( int rowIndex = 0; rowIndex < rows.length; rowIndex++ ) {
+            cells[ rowIndex ] = rows[ rowIndex ].split( "," ); //$NON-NLS-1$
+        }
+
+        return new TextTableModel() {
+            @Override
+            public int getRowCount() {
+                return cells.length;
+            }
+
+            @Override
+            public int getColumnCount() {
+                return ( cells.length > 0 ) ? cells[ 0 ].length : 0;
+            }
+
+            @Override
+            public String getCell( final int rowIndex, final int columnIndex ) {
+                return cells[ rowIndex ][ columnIndex ];
+            }
+        };
+    }
+}
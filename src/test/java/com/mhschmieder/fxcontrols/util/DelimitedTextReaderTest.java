@@ -0,0 +1,126 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link DelimitedTextReader}, mostly around quoting and the
+ * different line terminators.
+ */
+final class DelimitedTextReaderTest {
+
+    @Test
+    void splitsRowsOnAnyLineTerminator() throws IOException {
+        final DelimitedTextReader reader = reader( "a,b\r\nc,d\re,f\ng,h", ',' ); //$NON-NLS-1$
+
+        assertEquals( Arrays.asList( "a", "b" ), reader.readRow() ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( Arrays.asList( "c", "d" ), reader.readRow() ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( Arrays.asList( "e", "f" ), reader.readRow() ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( Arrays.asList( "g", "h" ), reader.readRow() ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertNull( reader.readRow() );
+    }
+
+    @Test
+    void keepsEmptyCellsAndRows() throws IOException {
+        final DelimitedTextReader reader = reader( ",,\n\nx\n", ',' ); //$NON-NLS-1$
+
+        assertEquals( Arrays.asList( "", "", "" ), reader.readRow() ); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        assertEquals( Collections.singletonList( "" ), reader.readRow() ); //$NON-NLS-1$
+        assertEquals( Collections.singletonList( "x" ), reader.readRow() ); //$NON-NLS-1$
+        assertNull( reader.readRow() );
+    }
+
+    @Test
+    void unquotesDelimitersQuotesAndLineBreaks() throws IOException {
+        final DelimitedTextReader reader = reader( 
+                "\"a,b\",\"say \"\"hi\"\"\",\"one\r\ntwo\"\nnext\n", ',' ); //$NON-NLS-1$
+
+        assertEquals( Arrays.asList( "a,b", "say \"hi\"", "one\r\ntwo" ), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                      reader.readRow() );
+        assertEquals( Collections.singletonList( "next" ), reader.readRow() ); //$NON-NLS-1$
+        assertNull( reader.readRow() );
+    }
+
+    @Test
+    void keepsQuotesInsideUnquotedCells() throws IOException {
+        final DelimitedTextReader reader = reader( "5\" pipe,\"\"\n", ',' ); //$NON-NLS-1$
+
+        assertEquals( Arrays.asList( "5\" pipe", "" ), reader.readRow() ); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Test
+    void runsUnterminatedQuotesToTheEndOfTheInput() throws IOException {
+        final DelimitedTextReader reader = reader( "a,\"b\nc", ',' ); //$NON-NLS-1$
+
+        assertEquals( Arrays.asList( "a", "b\nc" ), reader.readRow() ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertNull( reader.readRow() );
+    }
+
+    @Test
+    void usesTheSuppliedDelimiter() throws IOException {
+        final DelimitedTextReader reader = reader( "a,b\tc\n", '\t' ); //$NON-NLS-1$
+
+        assertEquals( Arrays.asList( "a,b", "c" ), reader.readRow() ); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Test
+    void readsQuotedCellsThatSpanSeveralBuffers() throws IOException {
+        final StringBuilder cellValue = new StringBuilder();
+        final StringBuilder text = new StringBuilder( "\"" ); //$NON-NLS-1$
+        for ( int i = 0; i < 20000; i++ ) {
+            final char c = ( ( i % 100 ) == 0 ) ? '"' : ( char ) ( 'a' + ( i % 26 ) );
+            cellValue.append( c );
+            text.append( c );
+            if ( c == '"' ) {
+                text.append( c );
+            }
+        }
+        text.append( "\",end\n" ); //$NON-NLS-1$
+
+        final DelimitedTextReader reader = reader( text.toString(), ',' );
+
+        assertEquals( Arrays.asList( cellValue.toString(), "end" ), reader.readRow() ); //$NON-NLS-1$
+        assertNull( reader.readRow() );
+    }
+
+    private static DelimitedTextReader reader( final String text, final char delimiter ) {
+        return new DelimitedTextReader( new StringReader( text ), delimiter );
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxGuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxGuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxguitoolkit
+ */
+package com.mhschmieder.fxcontrols.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link DelimitedTextWriter}, checking that cells are only
+ * quoted when they need to be, and that whatever is written reads back the
+ * same with {@link DelimitedTextReader}.
+ */
+final class DelimitedTextWriterTest {
+
+    @Test
+    void quotesOnlyCellsThatNeedIt() throws IOException {
+        final String text = write( ',', StandardCharsets.UTF_8, 
+                                   new String[] { "plain", //$NON-NLS-1$
+                                                  "a,b", //$NON-NLS-1$
+                                                  "say \"hi\"", //$NON-NLS-1$
+                                                  "one\ntwo", //$NON-NLS-1$
+                                                  "cr\r", //$NON-NLS-1$
+                                                  null,
+                                                  "" } ); //$NON-NLS-1$
+
+        assertEquals( "plain,\"a,b\",\"say \"\"hi\"\"\",\"one\ntwo\",\"cr\r\",,\n", text ); //$NON-NLS-1$
+    }
+
+    @Test
+    void onlyQuotesTheSuppliedDelimiter() throws IOException {
+        final String text = write( '\t', StandardCharsets.UTF_8, 
+                                   new String[] { "a,b", "c\td" } ); //$NON-NLS-1$ //$NON-NLS-2$
+
+        assertEquals( "a,b\t\"c\td\"\n", text ); //$NON-NLS-1$
+    }
+
+    @Test
+    void appendsCellsWithTheSameQuoting() {
+        final StringBuilder text = new StringBuilder();
+        DelimitedTextWriter.appendCell( text, "plain", ',' ); //$NON-NLS-1$
+        text.append( ',' );
+        DelimitedTextWriter.appendCell( text, "say \"hi\", then", ',' ); //$NON-NLS-1$
+        text.append( ',' );
+        DelimitedTextWriter.appendCell( text, null, ',' );
+
+        assertEquals( "plain,\"say \"\"hi\"\", then\",", text.toString() ); //$NON-NLS-1$
+    }
+
+    @Test
+    void readsBackWhatWasWritten() throws IOException {
+        // Write more than a buffer's worth, with multi-byte characters.
+        final List< String[] > rows = new ArrayList<>();
+        for ( int rowIndex = 0; rowIndex < 2000; rowIndex++ ) {
+            rows.add( new String[] { Integer.toString( rowIndex ),
+                                     "café, \"" + rowIndex + "\"", //$NON-NLS-1$ //$NON-NLS-2$
+                                     "line\r\nbreak", //$NON-NLS-1$
+                                     "" } ); //$NON-NLS-1$
+        }
+        final String text = write( ',', StandardCharsets.UTF_8, 
+                                   rows.toArray( new String[ rows.size() ][] ) );
+
+        final DelimitedTextReader reader = new DelimitedTextReader( new StringReader( text ), ',' );
+        for ( final String[] row : rows ) {
+            assertEquals( Arrays.asList( row ), reader.readRow() );
+        }
+        assertNull( reader.readRow() );
+    }
+
+    private static String write( final char delimiter,
+                                 final Charset charset,
+                                 final String[]... rows ) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try ( final DelimitedTextWriter writer = new DelimitedTextWriter( 
+                Channels.newChannel( outputStream ), delimiter, charset, "\n" ) ) { //$NON-NLS-1$
+            for ( final String[] row : rows ) {
+                writer.writeRow( row );
+            }
+        }
+
+        return new String( outputStream.toByteArray(), charset );
+    }
+}